@@ -80,7 +80,7 @@ abstract class AbstractListRecordingsSession implements Session
             return 0;
         }
 
-        final CatalogIndex catalogIndex = catalog.index();
+        final CatalogIndex catalogIndex = index(catalog);
         final int lastPosition = catalogIndex.lastPosition();
         final long[] index = catalogIndex.index();
         int position = CatalogIndex.find(index, recordingId, lastPosition);
@@ -145,5 +145,16 @@ abstract class AbstractListRecordingsSession implements Session
         controlSession.activeListing(null);
     }
 
+    /**
+     * Index of the recordings to be scanned, which by default is all recordings in the catalog.
+     *
+     * @param catalog containing the recordings.
+     * @return index of the recordings to be scanned.
+     */
+    CatalogIndex index(final Catalog catalog)
+    {
+        return catalog.index();
+    }
+
     abstract boolean acceptDescriptor(UnsafeBuffer descriptorBuffer);
 }
@@ -86,10 +86,16 @@ import java.util.function.Supplier;
 import static io.aeron.Aeron.NULL_VALUE;
 import static io.aeron.AeronCounters.ARCHIVE_CONTROL_SESSIONS_TYPE_ID;
 import static io.aeron.AeronCounters.ARCHIVE_ERROR_COUNT_TYPE_ID;
+import static io.aeron.AeronCounters.ARCHIVE_RECORDER_GROUP_COMMIT_BATCH_SIZE_TYPE_ID;
+import static io.aeron.AeronCounters.ARCHIVE_RECORDER_GROUP_COMMIT_MAX_TIME_TYPE_ID;
 import static io.aeron.AeronCounters.ARCHIVE_RECORDER_MAX_WRITE_TIME_TYPE_ID;
+import static io.aeron.AeronCounters.ARCHIVE_RECORDER_SEGMENT_FILE_NOT_READY_TYPE_ID;
 import static io.aeron.AeronCounters.ARCHIVE_RECORDER_TOTAL_WRITE_BYTES_TYPE_ID;
 import static io.aeron.AeronCounters.ARCHIVE_RECORDER_TOTAL_WRITE_TIME_TYPE_ID;
 import static io.aeron.AeronCounters.ARCHIVE_RECORDING_SESSION_COUNT_TYPE_ID;
+import static io.aeron.AeronCounters.ARCHIVE_REPLAYER_BLOCK_CACHE_EVICTIONS_TYPE_ID;
+import static io.aeron.AeronCounters.ARCHIVE_REPLAYER_BLOCK_CACHE_HITS_TYPE_ID;
+import static io.aeron.AeronCounters.ARCHIVE_REPLAYER_BLOCK_CACHE_MISSES_TYPE_ID;
 import static io.aeron.AeronCounters.ARCHIVE_REPLAYER_MAX_READ_TIME_TYPE_ID;
 import static io.aeron.AeronCounters.ARCHIVE_REPLAYER_TOTAL_READ_BYTES_TYPE_ID;
 import static io.aeron.AeronCounters.ARCHIVE_REPLAYER_TOTAL_READ_TIME_TYPE_ID;
@@ -375,6 +381,54 @@ public final class Archive implements AutoCloseable
         @Config
         public static final int CATALOG_FILE_SYNC_LEVEL_DEFAULT = FILE_SYNC_LEVEL_DEFAULT;
 
+        /**
+         * Interval at which the recorder syncs recording files to disk as a group commit when the
+         * {@link #FILE_SYNC_LEVEL_PROP_NAME} is greater than 0. Rather than syncing after each block is written,
+         * recording files written to since the last group commit are each synced once and the recording positions
+         * only advance after the sync completes. A value of 0 syncs after each block is written.
+         *
+         * @since 1.52.0
+         */
+        @Config
+        public static final String FILE_SYNC_GROUP_COMMIT_INTERVAL_PROP_NAME =
+            "aeron.archive.file.sync.group.commit.interval";
+
+        /**
+         * Default interval for group commit which is 0 so files are synced after each block is written.
+         *
+         * @since 1.52.0
+         */
+        @Config
+        public static final long FILE_SYNC_GROUP_COMMIT_INTERVAL_DEFAULT_NS = 0;
+
+        /**
+         * Number of bytes written by the recorder since the last group commit after which a group commit is made
+         * before the {@link #FILE_SYNC_GROUP_COMMIT_INTERVAL_PROP_NAME} has elapsed. A value of 0 only uses the
+         * interval.
+         *
+         * @since 1.52.0
+         */
+        @Config
+        public static final String FILE_SYNC_GROUP_COMMIT_THRESHOLD_PROP_NAME =
+            "aeron.archive.file.sync.group.commit.threshold";
+
+        /**
+         * Default threshold in bytes for group commit which is 0 so only the interval is used.
+         *
+         * @since 1.52.0
+         */
+        @Config
+        public static final int FILE_SYNC_GROUP_COMMIT_THRESHOLD_DEFAULT = 0;
+
+        /**
+         * What {@link SegmentFilePreparation} should be used to prepare the next segment file of active recordings
+         * in the background so rolling over to it is a handoff on the recorder thread.
+         *
+         * @since 1.52.0
+         */
+        @Config(defaultType = DefaultType.STRING, defaultString = "NONE")
+        public static final String SEGMENT_FILE_PREPARATION_PROP_NAME = "aeron.archive.segment.file.preparation";
+
         /**
          * What {@link ArchiveThreadingMode} should be used.
          */
@@ -439,6 +493,46 @@ public final class Archive implements AutoCloseable
         @Config
         public static final int MAX_CONCURRENT_REPLAYS_DEFAULT = 20;
 
+        /**
+         * Budget in bytes of recording segment files the replayer may keep memory-mapped so replays offer blocks
+         * straight from the mapping rather than copying each block via a read into the replay buffer. Mappings are
+         * reused across replays of the same segment and those not in use are unmapped, least recently used first,
+         * to stay within the budget. A value of 0 disables mapping so replays read via file IO.
+         *
+         * @since 1.52.0
+         */
+        @Config
+        public static final String REPLAY_SEGMENT_MAPPING_BUDGET_PROP_NAME =
+            "aeron.archive.replay.segment.mapping.budget";
+
+        /**
+         * Default budget in bytes of recording segment files the replayer may keep memory-mapped, which is 0 so
+         * replays read via file IO.
+         *
+         * @since 1.52.0
+         */
+        @Config
+        public static final long REPLAY_SEGMENT_MAPPING_BUDGET_DEFAULT = 0;
+
+        /**
+         * Capacity in bytes of an off-heap cache of blocks of recording segments which is shared by replays, so
+         * concurrent replays of the same range of a recording read it from storage once. Blocks are evicted by a
+         * scan resistant segmented LRU policy. The capacity is rounded down to a multiple of the 64 KB block length.
+         * A value of 0 disables the cache.
+         *
+         * @since 1.52.0
+         */
+        @Config
+        public static final String REPLAY_BLOCK_CACHE_CAPACITY_PROP_NAME = "aeron.archive.replay.block.cache.capacity";
+
+        /**
+         * Default capacity in bytes of the replay block cache, which is 0 so the cache is disabled.
+         *
+         * @since 1.52.0
+         */
+        @Config
+        public static final int REPLAY_BLOCK_CACHE_CAPACITY_DEFAULT = 0;
+
         /**
          * Maximum number of entries for the archive {@link Catalog}. Increasing this limit will require use of the
          * {@link CatalogTool}. The number of entries can be reduced by extending existing recordings rather than
@@ -744,6 +838,44 @@ public final class Archive implements AutoCloseable
             return Integer.getInteger(CATALOG_FILE_SYNC_LEVEL_PROP_NAME, CATALOG_FILE_SYNC_LEVEL_DEFAULT);
         }
 
+        /**
+         * The interval at which the recorder syncs recording files as a group commit.
+         *
+         * @return interval in nanoseconds at which the recorder syncs recording files, 0 to sync each block.
+         * @see #FILE_SYNC_GROUP_COMMIT_INTERVAL_PROP_NAME
+         * @since 1.52.0
+         */
+        public static long fileSyncGroupCommitIntervalNs()
+        {
+            return getDurationInNanos(
+                FILE_SYNC_GROUP_COMMIT_INTERVAL_PROP_NAME, FILE_SYNC_GROUP_COMMIT_INTERVAL_DEFAULT_NS);
+        }
+
+        /**
+         * The number of bytes written since the last group commit after which a group commit is made early.
+         *
+         * @return threshold in bytes after which a group commit is made early, 0 to only use the interval.
+         * @see #FILE_SYNC_GROUP_COMMIT_THRESHOLD_PROP_NAME
+         * @since 1.52.0
+         */
+        public static int fileSyncGroupCommitThreshold()
+        {
+            return getSizeAsInt(FILE_SYNC_GROUP_COMMIT_THRESHOLD_PROP_NAME, FILE_SYNC_GROUP_COMMIT_THRESHOLD_DEFAULT);
+        }
+
+        /**
+         * How the next segment file of active recordings should be prepared in the background.
+         *
+         * @return how the next segment file of active recordings should be prepared in the background.
+         * @see #SEGMENT_FILE_PREPARATION_PROP_NAME
+         * @since 1.52.0
+         */
+        public static SegmentFilePreparation segmentFilePreparation()
+        {
+            return SegmentFilePreparation.valueOf(
+                System.getProperty(SEGMENT_FILE_PREPARATION_PROP_NAME, SegmentFilePreparation.NONE.name()));
+        }
+
         /**
          * The threading mode to be employed by the archive.
          *
@@ -816,6 +948,30 @@ public final class Archive implements AutoCloseable
             return Integer.getInteger(MAX_CONCURRENT_RECORDINGS_PROP_NAME, MAX_CONCURRENT_RECORDINGS_DEFAULT);
         }
 
+        /**
+         * The budget in bytes of recording segment files the replayer may keep memory-mapped.
+         *
+         * @return budget in bytes of recording segment files the replayer may keep memory-mapped, 0 if disabled.
+         * @see #REPLAY_SEGMENT_MAPPING_BUDGET_PROP_NAME
+         * @since 1.52.0
+         */
+        public static long replaySegmentMappingBudget()
+        {
+            return getSizeAsLong(REPLAY_SEGMENT_MAPPING_BUDGET_PROP_NAME, REPLAY_SEGMENT_MAPPING_BUDGET_DEFAULT);
+        }
+
+        /**
+         * The capacity in bytes of the replay block cache.
+         *
+         * @return capacity in bytes of the replay block cache, 0 if disabled.
+         * @see #REPLAY_BLOCK_CACHE_CAPACITY_PROP_NAME
+         * @since 1.52.0
+         */
+        public static int replayBlockCacheCapacity()
+        {
+            return getSizeAsInt(REPLAY_BLOCK_CACHE_CAPACITY_PROP_NAME, REPLAY_BLOCK_CACHE_CAPACITY_DEFAULT);
+        }
+
         /**
          * The maximum number of replays that can operate concurrently after which new requests will be rejected.
          *
@@ -1108,10 +1264,15 @@ public final class Archive implements AutoCloseable
         private long lowStorageSpaceThreshold = Configuration.lowStorageSpaceThreshold();
         private int segmentFileLength = Configuration.segmentFileLength();
         private int fileSyncLevel = Configuration.fileSyncLevel();
+        private long fileSyncGroupCommitIntervalNs = Configuration.fileSyncGroupCommitIntervalNs();
+        private int fileSyncGroupCommitThreshold = Configuration.fileSyncGroupCommitThreshold();
+        private SegmentFilePreparation segmentFilePreparation = Configuration.segmentFilePreparation();
         private int catalogFileSyncLevel = Configuration.catalogFileSyncLevel();
         private int maxConcurrentRecordings = Configuration.maxConcurrentRecordings();
         private int maxConcurrentReplays = Configuration.maxConcurrentReplays();
         private int fileIoMaxLength = Configuration.fileIoMaxLength();
+        private long replaySegmentMappingBudget = Configuration.replaySegmentMappingBudget();
+        private int replayBlockCacheCapacity = Configuration.replayBlockCacheCapacity();
         private long archiveId = Configuration.archiveId();
         private ArchiveThreadingMode threadingMode = Configuration.threadingMode();
         private ThreadFactory threadFactory;
@@ -1150,6 +1311,12 @@ public final class Archive implements AutoCloseable
         private Counter totalReadBytesCounter;
         private Counter totalReadTimeCounter;
         private Counter maxReadTimeCounter;
+        private Counter replayBlockCacheHitsCounter;
+        private Counter replayBlockCacheMissesCounter;
+        private Counter replayBlockCacheEvictionsCounter;
+        private Counter segmentFileNotReadyCounter;
+        private Counter groupCommitBatchSizeCounter;
+        private Counter groupCommitMaxTimeCounter;
         private String secureRandomAlgorithm = CommonContext.getSecureRandomAlgorithm();
 
         /**
@@ -1198,6 +1365,37 @@ public final class Archive implements AutoCloseable
                 throw new ConfigurationException("invalid fileIoMaxLength=" + fileIoMaxLength);
             }
 
+            if (replaySegmentMappingBudget < 0)
+            {
+                throw new ConfigurationException("invalid replaySegmentMappingBudget=" + replaySegmentMappingBudget);
+            }
+
+            if (replayBlockCacheCapacity < 0 ||
+                (replayBlockCacheCapacity > 0 && replayBlockCacheCapacity < ReplayBlockCache.BLOCK_LENGTH))
+            {
+                throw new ConfigurationException("invalid replayBlockCacheCapacity=" + replayBlockCacheCapacity +
+                    ", must be 0 or >= " + ReplayBlockCache.BLOCK_LENGTH);
+            }
+
+            if (fileSyncGroupCommitIntervalNs < 0)
+            {
+                throw new ConfigurationException(
+                    "invalid fileSyncGroupCommitIntervalNs=" + fileSyncGroupCommitIntervalNs);
+            }
+
+            if (fileSyncGroupCommitThreshold < 0)
+            {
+                throw new ConfigurationException(
+                    "invalid fileSyncGroupCommitThreshold=" + fileSyncGroupCommitThreshold);
+            }
+
+            if (SegmentFilePreparation.NONE != segmentFilePreparation && ArchiveThreadingMode.INVOKER == threadingMode)
+            {
+                throw new ConfigurationException(
+                    "segmentFilePreparation=" + segmentFilePreparation + " requires a thread so is not supported " +
+                    "with ArchiveThreadingMode.INVOKER");
+            }
+
             io.aeron.driver.Configuration.validateMtuLength(controlMtuLength);
             checkTermLength(controlTermBufferLength);
 
@@ -1646,6 +1844,85 @@ public final class Archive implements AutoCloseable
             }
             validateCounterTypeId(aeron, totalReadTimeCounter, ARCHIVE_REPLAYER_TOTAL_READ_TIME_TYPE_ID);
 
+            if (replayBlockCacheCapacity > 0)
+            {
+                if (null == replayBlockCacheHitsCounter)
+                {
+                    replayBlockCacheHitsCounter = ArchiveCounters.allocate(
+                        aeron,
+                        tempBuffer,
+                        ARCHIVE_REPLAYER_BLOCK_CACHE_HITS_TYPE_ID,
+                        "archive-replayer block cache hits",
+                        archiveId);
+                }
+                validateCounterTypeId(aeron, replayBlockCacheHitsCounter, ARCHIVE_REPLAYER_BLOCK_CACHE_HITS_TYPE_ID);
+
+                if (null == replayBlockCacheMissesCounter)
+                {
+                    replayBlockCacheMissesCounter = ArchiveCounters.allocate(
+                        aeron,
+                        tempBuffer,
+                        ARCHIVE_REPLAYER_BLOCK_CACHE_MISSES_TYPE_ID,
+                        "archive-replayer block cache misses",
+                        archiveId);
+                }
+                validateCounterTypeId(
+                    aeron, replayBlockCacheMissesCounter, ARCHIVE_REPLAYER_BLOCK_CACHE_MISSES_TYPE_ID);
+
+                if (null == replayBlockCacheEvictionsCounter)
+                {
+                    replayBlockCacheEvictionsCounter = ArchiveCounters.allocate(
+                        aeron,
+                        tempBuffer,
+                        ARCHIVE_REPLAYER_BLOCK_CACHE_EVICTIONS_TYPE_ID,
+                        "archive-replayer block cache evictions",
+                        archiveId);
+                }
+                validateCounterTypeId(
+                    aeron, replayBlockCacheEvictionsCounter, ARCHIVE_REPLAYER_BLOCK_CACHE_EVICTIONS_TYPE_ID);
+            }
+
+            if (SegmentFilePreparation.NONE != segmentFilePreparation)
+            {
+                if (null == segmentFileNotReadyCounter)
+                {
+                    segmentFileNotReadyCounter = ArchiveCounters.allocate(
+                        aeron,
+                        tempBuffer,
+                        ARCHIVE_RECORDER_SEGMENT_FILE_NOT_READY_TYPE_ID,
+                        "archive-recorder segment file not ready count",
+                        archiveId);
+                }
+                validateCounterTypeId(
+                    aeron, segmentFileNotReadyCounter, ARCHIVE_RECORDER_SEGMENT_FILE_NOT_READY_TYPE_ID);
+            }
+
+            if (isFileSyncGroupCommit())
+            {
+                if (null == groupCommitBatchSizeCounter)
+                {
+                    groupCommitBatchSizeCounter = ArchiveCounters.allocate(
+                        aeron,
+                        tempBuffer,
+                        ARCHIVE_RECORDER_GROUP_COMMIT_BATCH_SIZE_TYPE_ID,
+                        "archive-recorder group commit batch size",
+                        archiveId);
+                }
+                validateCounterTypeId(
+                    aeron, groupCommitBatchSizeCounter, ARCHIVE_RECORDER_GROUP_COMMIT_BATCH_SIZE_TYPE_ID);
+
+                if (null == groupCommitMaxTimeCounter)
+                {
+                    groupCommitMaxTimeCounter = ArchiveCounters.allocate(
+                        aeron,
+                        tempBuffer,
+                        ARCHIVE_RECORDER_GROUP_COMMIT_MAX_TIME_TYPE_ID,
+                        "archive-recorder group commit max time in ns",
+                        archiveId);
+                }
+                validateCounterTypeId(aeron, groupCommitMaxTimeCounter, ARCHIVE_RECORDER_GROUP_COMMIT_MAX_TIME_TYPE_ID);
+            }
+
             int expectedCount = DEDICATED == threadingMode ? 2 : 0;
             expectedCount += aeron.conductorAgentInvoker() == null ? 1 : 0;
             abortLatch = new CountDownLatch(expectedCount);
@@ -2584,6 +2861,98 @@ public final class Archive implements AutoCloseable
             return this;
         }
 
+        /**
+         * Get the interval at which the recorder syncs recording files as a group commit.
+         *
+         * @return interval in nanoseconds at which the recorder syncs recording files, 0 to sync each block.
+         * @see Configuration#FILE_SYNC_GROUP_COMMIT_INTERVAL_PROP_NAME
+         * @since 1.52.0
+         */
+        @Config
+        public long fileSyncGroupCommitIntervalNs()
+        {
+            return fileSyncGroupCommitIntervalNs;
+        }
+
+        /**
+         * Set the interval at which the recorder syncs recording files as a group commit when the
+         * {@link #fileSyncLevel()} is greater than 0. Rather than syncing after each block is written, each
+         * recording file written to since the last group commit is synced once per interval, or sooner if the
+         * {@link #fileSyncGroupCommitThreshold(int)} is reached, and the recording position counters, which are the
+         * positions reported as recorded, only advance after the sync completes. This trades latency to durability
+         * for fewer syncs when there are many concurrent recordings.
+         *
+         * @param intervalNs at which the recorder syncs recording files, 0 to sync each block.
+         * @return this for a fluent API.
+         * @see Configuration#FILE_SYNC_GROUP_COMMIT_INTERVAL_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context fileSyncGroupCommitIntervalNs(final long intervalNs)
+        {
+            this.fileSyncGroupCommitIntervalNs = intervalNs;
+            return this;
+        }
+
+        /**
+         * Get the number of bytes written since the last group commit after which a group commit is made early.
+         *
+         * @return threshold in bytes after which a group commit is made early, 0 to only use the interval.
+         * @see Configuration#FILE_SYNC_GROUP_COMMIT_THRESHOLD_PROP_NAME
+         * @since 1.52.0
+         */
+        @Config
+        public int fileSyncGroupCommitThreshold()
+        {
+            return fileSyncGroupCommitThreshold;
+        }
+
+        /**
+         * Set the number of bytes written by the recorder since the last group commit after which a group commit is
+         * made before the {@link #fileSyncGroupCommitIntervalNs()} has elapsed.
+         *
+         * @param threshold in bytes after which a group commit is made early, 0 to only use the interval.
+         * @return this for a fluent API.
+         * @see Configuration#FILE_SYNC_GROUP_COMMIT_THRESHOLD_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context fileSyncGroupCommitThreshold(final int threshold)
+        {
+            this.fileSyncGroupCommitThreshold = threshold;
+            return this;
+        }
+
+        /**
+         * Get how the next segment file of active recordings is prepared in the background.
+         *
+         * @return how the next segment file of active recordings is prepared in the background.
+         * @see Configuration#SEGMENT_FILE_PREPARATION_PROP_NAME
+         * @since 1.52.0
+         */
+        @Config
+        public SegmentFilePreparation segmentFilePreparation()
+        {
+            return segmentFilePreparation;
+        }
+
+        /**
+         * Set how the next segment file of active recordings is prepared in the background. When not
+         * {@link SegmentFilePreparation#NONE} a thread from the {@link #threadFactory()} creates the next segment
+         * file of each recording under a temporary name, sizes or zero fills it, and syncs the archive directory
+         * ahead of time so rolling over to it only requires a rename on the recorder thread. Roll-overs for which
+         * the file was not ready in time fall back to creating it on the recorder thread and are counted by the
+         * {@link #segmentFileNotReadyCounter()}. Not supported with {@link ArchiveThreadingMode#INVOKER}.
+         *
+         * @param segmentFilePreparation to be applied to the next segment file of active recordings.
+         * @return this for a fluent API.
+         * @see Configuration#SEGMENT_FILE_PREPARATION_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context segmentFilePreparation(final SegmentFilePreparation segmentFilePreparation)
+        {
+            this.segmentFilePreparation = segmentFilePreparation;
+            return this;
+        }
+
         /**
          * Get level at which the catalog file should be sync'ed to disk.
          * <ul>
@@ -3032,6 +3401,165 @@ public final class Archive implements AutoCloseable
             return this;
         }
 
+        /**
+         * Get the counter used to track the number of reads by the replayer served from the replay block cache.
+         *
+         * @return the counter used to track the number of reads by the replayer served from the replay block cache.
+         * @since 1.52.0
+         */
+        public Counter replayBlockCacheHitsCounter()
+        {
+            return replayBlockCacheHitsCounter;
+        }
+
+        /**
+         * Set the counter used to track the number of reads by the replayer served from the replay block cache.
+         *
+         * @param counter used to track the number of reads by the replayer served from the replay block cache.
+         * @return this for a fluent API.
+         * @since 1.52.0
+         */
+        public Context replayBlockCacheHitsCounter(final Counter counter)
+        {
+            this.replayBlockCacheHitsCounter = counter;
+            return this;
+        }
+
+        /**
+         * Get the counter used to track the number of blocks the replayer read from storage into the replay block
+         * cache.
+         *
+         * @return the counter used to track the number of blocks read from storage into the replay block cache.
+         * @since 1.52.0
+         */
+        public Counter replayBlockCacheMissesCounter()
+        {
+            return replayBlockCacheMissesCounter;
+        }
+
+        /**
+         * Set the counter used to track the number of blocks the replayer read from storage into the replay block
+         * cache.
+         *
+         * @param counter used to track the number of blocks read from storage into the replay block cache.
+         * @return this for a fluent API.
+         * @since 1.52.0
+         */
+        public Context replayBlockCacheMissesCounter(final Counter counter)
+        {
+            this.replayBlockCacheMissesCounter = counter;
+            return this;
+        }
+
+        /**
+         * Get the counter used to track the number of blocks evicted from the replay block cache.
+         *
+         * @return the counter used to track the number of blocks evicted from the replay block cache.
+         * @since 1.52.0
+         */
+        public Counter replayBlockCacheEvictionsCounter()
+        {
+            return replayBlockCacheEvictionsCounter;
+        }
+
+        /**
+         * Set the counter used to track the number of blocks evicted from the replay block cache.
+         *
+         * @param counter used to track the number of blocks evicted from the replay block cache.
+         * @return this for a fluent API.
+         * @since 1.52.0
+         */
+        public Context replayBlockCacheEvictionsCounter(final Counter counter)
+        {
+            this.replayBlockCacheEvictionsCounter = counter;
+            return this;
+        }
+
+        /**
+         * Get the counter used to track the number of segment file roll-overs for which the next segment file had
+         * not been prepared in the background in time.
+         *
+         * @return the counter used to track the number of segment files which were not prepared in time.
+         * @see #segmentFilePreparation()
+         * @since 1.52.0
+         */
+        public Counter segmentFileNotReadyCounter()
+        {
+            return segmentFileNotReadyCounter;
+        }
+
+        /**
+         * Set the counter used to track the number of segment file roll-overs for which the next segment file had
+         * not been prepared in the background in time.
+         *
+         * @param counter used to track the number of segment files which were not prepared in time.
+         * @return this for a fluent API.
+         * @see #segmentFilePreparation(SegmentFilePreparation)
+         * @since 1.52.0
+         */
+        public Context segmentFileNotReadyCounter(final Counter counter)
+        {
+            this.segmentFileNotReadyCounter = counter;
+            return this;
+        }
+
+        /**
+         * Get the counter used to track the number of recording files synced by the most recent group commit.
+         *
+         * @return the counter used to track the number of recording files synced by the most recent group commit.
+         * @see #fileSyncGroupCommitIntervalNs()
+         * @since 1.52.0
+         */
+        public Counter groupCommitBatchSizeCounter()
+        {
+            return groupCommitBatchSizeCounter;
+        }
+
+        /**
+         * Set the counter used to track the number of recording files synced by the most recent group commit.
+         *
+         * @param counter used to track the number of recording files synced by the most recent group commit.
+         * @return this for a fluent API.
+         * @see #fileSyncGroupCommitIntervalNs(long)
+         * @since 1.52.0
+         */
+        public Context groupCommitBatchSizeCounter(final Counter counter)
+        {
+            this.groupCommitBatchSizeCounter = counter;
+            return this;
+        }
+
+        /**
+         * Get the counter used to track the max time taken by a group commit to sync recording files.
+         *
+         * @return the counter used to track the max time taken by a group commit to sync recording files.
+         * @see #fileSyncGroupCommitIntervalNs()
+         * @since 1.52.0
+         */
+        public Counter groupCommitMaxTimeCounter()
+        {
+            return groupCommitMaxTimeCounter;
+        }
+
+        /**
+         * Set the counter used to track the max time taken by a group commit to sync recording files.
+         *
+         * @param counter used to track the max time taken by a group commit to sync recording files.
+         * @return this for a fluent API.
+         * @see #fileSyncGroupCommitIntervalNs(long)
+         * @since 1.52.0
+         */
+        public Context groupCommitMaxTimeCounter(final Counter counter)
+        {
+            this.groupCommitMaxTimeCounter = counter;
+            return this;
+        }
+
+        boolean isFileSyncGroupCommit()
+        {
+            return fileSyncLevel > 0 && fileSyncGroupCommitIntervalNs > 0;
+        }
+
         /**
          * Get the counter used to track the max time used by the replayer to read a block of data.
          *
@@ -3129,6 +3657,70 @@ public final class Archive implements AutoCloseable
             return this;
         }
 
+        /**
+         * Get the budget in bytes of recording segment files the replayer may keep memory-mapped.
+         *
+         * @return budget in bytes of recording segment files the replayer may keep memory-mapped, 0 if disabled.
+         * @see Configuration#REPLAY_SEGMENT_MAPPING_BUDGET_PROP_NAME
+         * @since 1.52.0
+         */
+        @Config
+        public long replaySegmentMappingBudget()
+        {
+            return replaySegmentMappingBudget;
+        }
+
+        /**
+         * Set the budget in bytes of recording segment files the replayer may keep memory-mapped. When greater than 0
+         * replays map segment files read-only and offer blocks straight from the mapping, avoiding a read into the
+         * replay buffer. Mappings are reused across replays of the same segment and those not in use are unmapped,
+         * least recently used first, to stay within the budget. Replays fall back to file IO when a segment cannot be
+         * mapped within the budget.
+         *
+         * @param replaySegmentMappingBudget in bytes of recording segment files which may be mapped, 0 to disable.
+         * @return this for a fluent API.
+         * @see Configuration#REPLAY_SEGMENT_MAPPING_BUDGET_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context replaySegmentMappingBudget(final long replaySegmentMappingBudget)
+        {
+            this.replaySegmentMappingBudget = replaySegmentMappingBudget;
+            return this;
+        }
+
+        /**
+         * Get the capacity in bytes of the replay block cache.
+         *
+         * @return capacity in bytes of the replay block cache, 0 if disabled.
+         * @see Configuration#REPLAY_BLOCK_CACHE_CAPACITY_PROP_NAME
+         * @since 1.52.0
+         */
+        @Config
+        public int replayBlockCacheCapacity()
+        {
+            return replayBlockCacheCapacity;
+        }
+
+        /**
+         * Set the capacity in bytes of an off-heap cache of blocks of recording segments shared by replays. When
+         * greater than 0 replays which read via file IO read through the cache, so concurrent replays of the same
+         * range of a recording, e.g. when clients reconnect after a failover, read it from storage once. Blocks are
+         * evicted by a scan resistant segmented LRU policy so a single large replay does not flush blocks which are
+         * in use by several replays. Replays of memory-mapped segments do not use the cache.
+         *
+         * @param replayBlockCacheCapacity in bytes which is rounded down to a multiple of the 64 KB block length, or
+         *                                 0 to disable.
+         * @return this for a fluent API.
+         * @see Configuration#REPLAY_BLOCK_CACHE_CAPACITY_PROP_NAME
+         * @see #replaySegmentMappingBudget(long)
+         * @since 1.52.0
+         */
+        public Context replayBlockCacheCapacity(final int replayBlockCacheCapacity)
+        {
+            this.replayBlockCacheCapacity = replayBlockCacheCapacity;
+            return this;
+        }
+
         /**
          * Threshold below which the archive will reject new recording requests.
          *
@@ -3761,6 +4353,12 @@ public final class Archive implements AutoCloseable
                 CloseHelper.close(countedErrorHandler, totalReadBytesCounter);
                 CloseHelper.close(countedErrorHandler, totalReadTimeCounter);
                 CloseHelper.close(countedErrorHandler, maxReadTimeCounter);
+                CloseHelper.close(countedErrorHandler, replayBlockCacheHitsCounter);
+                CloseHelper.close(countedErrorHandler, replayBlockCacheMissesCounter);
+                CloseHelper.close(countedErrorHandler, replayBlockCacheEvictionsCounter);
+                CloseHelper.close(countedErrorHandler, segmentFileNotReadyCounter);
+                CloseHelper.close(countedErrorHandler, groupCommitBatchSizeCounter);
+                CloseHelper.close(countedErrorHandler, groupCommitMaxTimeCounter);
                 closeDutyCycleCounters(conductorDutyCycleTracker);
                 closeDutyCycleCounters(recorderDutyCycleTracker);
                 closeDutyCycleCounters(replayerDutyCycleTracker);
@@ -3840,10 +4438,15 @@ public final class Archive implements AutoCloseable
                 "\n    lowStorageSpaceThreshold=" + lowStorageSpaceThreshold +
                 "\n    segmentFileLength=" + segmentFileLength +
                 "\n    fileSyncLevel=" + fileSyncLevel +
+                "\n    fileSyncGroupCommitIntervalNs=" + fileSyncGroupCommitIntervalNs +
+                "\n    fileSyncGroupCommitThreshold=" + fileSyncGroupCommitThreshold +
+                "\n    segmentFilePreparation=" + segmentFilePreparation +
                 "\n    catalogFileSyncLevel=" + catalogFileSyncLevel +
                 "\n    maxConcurrentRecordings=" + maxConcurrentRecordings +
                 "\n    maxConcurrentReplays=" + maxConcurrentReplays +
                 "\n    fileIoMaxLength=" + fileIoMaxLength +
+                "\n    replaySegmentMappingBudget=" + replaySegmentMappingBudget +
+                "\n    replayBlockCacheCapacity=" + replayBlockCacheCapacity +
                 "\n    threadingMode=" + threadingMode +
                 "\n    threadFactory=" + threadFactory +
                 "\n    abortLatch=" + abortLatch +
@@ -3875,6 +4478,12 @@ public final class Archive implements AutoCloseable
                 "\n    maxWriteTimeCounter=" + maxWriteTimeCounter +
                 "\n    totalReadBytesCounter=" + totalReadBytesCounter +
                 "\n    totalReadTimeCounter=" + totalReadTimeCounter +
+                "\n    replayBlockCacheHitsCounter=" + replayBlockCacheHitsCounter +
+                "\n    replayBlockCacheMissesCounter=" + replayBlockCacheMissesCounter +
+                "\n    replayBlockCacheEvictionsCounter=" + replayBlockCacheEvictionsCounter +
+                "\n    segmentFileNotReadyCounter=" + segmentFileNotReadyCounter +
+                "\n    groupCommitBatchSizeCounter=" + groupCommitBatchSizeCounter +
+                "\n    groupCommitMaxTimeCounter=" + groupCommitMaxTimeCounter +
                 "\n    maxReadTimeCounter=" + maxReadTimeCounter +
                 "\n}";
         }
@@ -58,6 +58,7 @@ import org.agrona.concurrent.CachedEpochClock;
 import org.agrona.concurrent.CountedErrorHandler;
 import org.agrona.concurrent.EpochClock;
 import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.SleepingMillisIdleStrategy;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.CountersReader;
 
@@ -67,9 +68,11 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.Random;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -850,8 +853,9 @@ abstract class ArchiveConductor
 
         final DeleteSegmentsSession deleteSegmentsSession = deleteSegmentsSessionByIdMap.get(recordingId);
         if (null != deleteSegmentsSession &&
-            deleteSegmentsSession.maxDeletePosition() > recordingSummary.stopPosition &&
-            stopPosition > recordingSummary.stopPosition)
+            (deleteSegmentsSession.hasPendingErase() ||
+            (deleteSegmentsSession.maxDeletePosition() > recordingSummary.stopPosition &&
+            stopPosition > recordingSummary.stopPosition)))
         {
             final String msg = "cannot start replay of recording " + recordingId +
                 " due to an outstanding delete operation";
@@ -1168,9 +1172,8 @@ abstract class ArchiveConductor
                 startPosition, position, termLength, segmentLength);
             final int segmentOffset = (int)(position - segmentBasePosition);
 
-            catalog.stopPosition(recordingId, position);
-
             final ArrayDeque<String> files = new ArrayDeque<>();
+            File eraseFile = null;
             if (startPosition == position)
             {
                 listSegmentFiles(recordingId, files::addLast);
@@ -1182,11 +1185,11 @@ abstract class ArchiveConductor
                     if (stopPosition != position)
                     {
                         final File file = new File(archiveDir, segmentFileName(recordingId, segmentBasePosition));
-                        if (!eraseRemainingSegment(
-                            correlationId, controlSession, position, segmentLength, segmentOffset, termLength, file))
+                        if (!isHeaderAligned(correlationId, controlSession, position, segmentOffset, termLength, file))
                         {
                             return;
                         }
+                        eraseFile = file;
                     }
                 }
                 else
@@ -1200,8 +1203,11 @@ abstract class ArchiveConductor
                 }
             }
 
+            catalog.stopPosition(recordingId, position);
+            invalidateReplayCaches();
             stopAllReplays(recordingId);
-            deleteSegments(correlationId, recordingId, controlSession, files, true);
+            deleteSegments(
+                correlationId, recordingId, controlSession, files, eraseFile, segmentOffset, segmentLength, true);
         }
     }
 
@@ -1212,6 +1218,7 @@ abstract class ArchiveConductor
             isDeleteAllowed(recordingId, correlationId, controlSession))
         {
             catalog.changeState(recordingId, DELETED);
+            invalidateReplayCaches();
 
             final ArrayDeque<String> files = new ArrayDeque<>();
             listSegmentFiles(recordingId, files::addLast);
@@ -1487,6 +1494,7 @@ abstract class ArchiveConductor
             {
                 findDetachedSegments(recordingId, files, minPosition.get());
             }
+            invalidateReplayCaches();
             deleteSegments(correlationId, recordingId, controlSession, files, false);
         }
     }
@@ -1508,6 +1516,7 @@ abstract class ArchiveConductor
 
             final ArrayDeque<String> files = new ArrayDeque<>();
             findDetachedSegments(recordingId, files, oldStartPosition);
+            invalidateReplayCaches();
             deleteSegments(correlationId, recordingId, controlSession, files, false);
         }
     }
@@ -1629,11 +1638,12 @@ abstract class ArchiveConductor
                 dstRecordingId,
                 srcSummary,
                 emptyFollowingSrcSegment);
+            invalidateReplayCaches();
 
             if (movedSegmentCount >= 0)
             {
                 final int toBeDeletedSegmentCount = addDeleteSegmentsSession(
-                    correlationId, srcRecordingId, controlSession, emptyFollowingSrcSegment, false);
+                    correlationId, srcRecordingId, controlSession, emptyFollowingSrcSegment, null, 0, 0, false);
 
                 if (toBeDeletedSegmentCount >= 0)
                 {
@@ -1671,6 +1681,14 @@ abstract class ArchiveConductor
         deleteSegmentsSessionByIdMap.remove(deleteSegmentsSession.sessionId());
     }
 
+    void invalidateReplayCaches()
+    {
+        if (null != replayer)
+        {
+            replayer.invalidateCaches();
+        }
+    }
+
     private void findDetachedSegments(
         final long recordingId, final ArrayDeque<String> files, final long prevStartPosition)
     {
@@ -1701,9 +1719,12 @@ abstract class ArchiveConductor
         final long recordingId,
         final ControlSession controlSession,
         final ArrayDeque<String> files,
+        final File eraseFile,
+        final int eraseOffset,
+        final int segmentLength,
         final boolean awaitReplaysStop)
     {
-        if (files.isEmpty())
+        if (files.isEmpty() && null == eraseFile)
         {
             return 0;
         }
@@ -1715,7 +1736,15 @@ abstract class ArchiveConductor
         }
 
         final DeleteSegmentsSession session = new DeleteSegmentsSession(
-            recordingId, correlationId, deleteList, controlSession, errorHandler, awaitReplaysStop);
+            recordingId,
+            correlationId,
+            deleteList,
+            eraseFile,
+            eraseOffset,
+            segmentLength,
+            controlSession,
+            errorHandler,
+            awaitReplaysStop);
         addSession(session);
         deleteSegmentsSessionByIdMap.put(session.sessionId(), session);
 
@@ -2488,11 +2517,10 @@ abstract class ArchiveConductor
         return attachedSegmentCount;
     }
 
-    private boolean eraseRemainingSegment(
+    private boolean isHeaderAligned(
         final long correlationId,
         final ControlSession controlSession,
         final long position,
-        final int segmentLength,
         final int segmentOffset,
         final int termLength,
         final File file)
@@ -2502,27 +2530,14 @@ abstract class ArchiveConductor
             final int termOffset = (int)(position & (termLength - 1));
             final int termCount = (int)(position >> LogBufferDescriptor.positionBitsToShift(termLength));
             final int termId = recordingSummary.initialTermId + termCount;
-            final UnsafeBuffer dataBuffer = ctx.dataBuffer();
 
             if (ReplaySession.notHeaderAligned(
-                channel, dataBuffer, segmentOffset, termOffset, termId, recordingSummary.streamId))
+                channel, ctx.dataBuffer(), segmentOffset, termOffset, termId, recordingSummary.streamId))
             {
                 final String msg = position + " position not aligned to a data header";
                 controlSession.sendErrorResponse(correlationId, msg);
                 return false;
             }
-
-            channel.truncate(segmentOffset);
-            dataBuffer.byteBuffer().put(0, (byte)0).limit(1).position(0);
-
-            while (true)
-            {
-                final int written = channel.write(dataBuffer.byteBuffer(), segmentLength - 1);
-                if (1 == written)
-                {
-                    break;
-                }
-            }
         }
         catch (final IOException ex)
         {
@@ -2579,12 +2594,26 @@ abstract class ArchiveConductor
         final ArrayDeque<String> files,
         final boolean awaitReplaysStop)
     {
-        final int count = addDeleteSegmentsSession(correlationId, recordingId, controlSession, files, awaitReplaysStop);
+        deleteSegments(correlationId, recordingId, controlSession, files, null, 0, 0, awaitReplaysStop);
+    }
+
+    private void deleteSegments(
+        final long correlationId,
+        final long recordingId,
+        final ControlSession controlSession,
+        final ArrayDeque<String> files,
+        final File eraseFile,
+        final int eraseOffset,
+        final int segmentLength,
+        final boolean awaitReplaysStop)
+    {
+        final int count = addDeleteSegmentsSession(
+            correlationId, recordingId, controlSession, files, eraseFile, eraseOffset, segmentLength, awaitReplaysStop);
         if (count >= 0)
         {
             controlSession.sendOkResponse(correlationId, count);
 
-            if (0 == count)
+            if (0 == count && null == eraseFile)
             {
                 controlSession.sendSignal(
                     correlationId, recordingId, Aeron.NULL_VALUE, Aeron.NULL_VALUE, RecordingSignal.DELETE);
@@ -2660,6 +2689,18 @@ abstract class ArchiveConductor
         private final Counter totalWriteBytesCounter;
         private final Counter totalWriteTimeCounter;
         private final Counter maxWriteTimeCounter;
+        private final long groupCommitIntervalNs;
+        private final long groupCommitThreshold;
+        private final Counter groupCommitBatchSizeCounter;
+        private final Counter groupCommitMaxTimeCounter;
+        private final NanoClock nanoClock;
+        private final ArrayList<RecordingSession> groupCommitSessions = new ArrayList<>();
+        private long groupCommitDeadlineNs;
+        private long groupCommitWriteBytes;
+        private long maxGroupCommitTimeNs;
+        private final SegmentFilePreparer segmentFilePreparer;
+        private final AgentRunner segmentFilePreparerRunner;
+        private final ThreadFactory segmentFilePreparerThreadFactory;
 
         Recorder(final CountedErrorHandler errorHandler, final Archive.Context context)
         {
@@ -2667,6 +2708,60 @@ abstract class ArchiveConductor
             totalWriteBytesCounter = context.totalWriteBytesCounter();
             totalWriteTimeCounter = context.totalWriteTimeCounter();
             maxWriteTimeCounter = context.maxWriteTimeCounter();
+            groupCommitIntervalNs = context.isFileSyncGroupCommit() ? context.fileSyncGroupCommitIntervalNs() : 0;
+            groupCommitThreshold = context.fileSyncGroupCommitThreshold();
+            groupCommitBatchSizeCounter = context.groupCommitBatchSizeCounter();
+            groupCommitMaxTimeCounter = context.groupCommitMaxTimeCounter();
+            nanoClock = context.nanoClock();
+
+            if (SegmentFilePreparation.NONE != context.segmentFilePreparation())
+            {
+                segmentFilePreparer = new SegmentFilePreparer(
+                    context.archiveDir(),
+                    context.archiveDirChannel(),
+                    context.segmentFilePreparation(),
+                    context.fileSyncLevel(),
+                    context.segmentFileNotReadyCounter(),
+                    errorHandler);
+                segmentFilePreparerRunner = new AgentRunner(
+                    new SleepingMillisIdleStrategy(), errorHandler, context.errorCounter(), segmentFilePreparer);
+                segmentFilePreparerThreadFactory = context.threadFactory();
+            }
+            else
+            {
+                segmentFilePreparer = null;
+                segmentFilePreparerRunner = null;
+                segmentFilePreparerThreadFactory = null;
+            }
+        }
+
+        final SegmentFilePreparer segmentFilePreparer()
+        {
+            return segmentFilePreparer;
+        }
+
+        final void addToGroupCommit(final RecordingSession session)
+        {
+            groupCommitSessions.add(session);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public void onStart()
+        {
+            if (null != segmentFilePreparerRunner)
+            {
+                AgentRunner.startOnThread(segmentFilePreparerRunner, segmentFilePreparerThreadFactory);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        protected void postSessionsClose()
+        {
+            CloseHelper.close(errorHandler, segmentFilePreparerRunner);
         }
 
         final void bytesWritten(final long bytes)
@@ -2686,7 +2781,12 @@ abstract class ArchiveConductor
 
         public int doWork()
         {
-            final int workCount = super.doWork();
+            int workCount = super.doWork();
+            if (groupCommitIntervalNs > 0)
+            {
+                workCount += groupCommit();
+            }
+
             if (workCount > 0)
             {
                 totalWriteBytesCounter.setRelease(totalWriteBytes);
@@ -2696,6 +2796,43 @@ abstract class ArchiveConductor
 
             return workCount;
         }
+
+        private int groupCommit()
+        {
+            final ArrayList<RecordingSession> sessions = groupCommitSessions;
+            if (sessions.isEmpty())
+            {
+                return 0;
+            }
+
+            final long nowNs = nanoClock.nanoTime();
+            if (nowNs - groupCommitDeadlineNs < 0 &&
+                (0 == groupCommitThreshold || totalWriteBytes - groupCommitWriteBytes < groupCommitThreshold))
+            {
+                return 0;
+            }
+
+            int syncCount = 0;
+            for (int i = 0, size = sessions.size(); i < size; i++)
+            {
+                syncCount += sessions.get(i).sync();
+            }
+            sessions.clear();
+
+            final long endNs = nanoClock.nanoTime();
+            groupCommitDeadlineNs = endNs + groupCommitIntervalNs;
+            groupCommitWriteBytes = totalWriteBytes;
+
+            final long groupCommitTimeNs = endNs - nowNs;
+            if (groupCommitTimeNs > maxGroupCommitTimeNs)
+            {
+                maxGroupCommitTimeNs = groupCommitTimeNs;
+                groupCommitMaxTimeCounter.setRelease(groupCommitTimeNs);
+            }
+            groupCommitBatchSizeCounter.setRelease(syncCount);
+
+            return syncCount;
+        }
     }
 
     abstract static class Replayer extends SessionWorker<ReplaySession>
@@ -2706,6 +2843,8 @@ abstract class ArchiveConductor
         private final Counter totalReadBytesCounter;
         private final Counter totalReadTimeCounter;
         private final Counter maxReadTimeCounter;
+        private final ReplaySegmentMappings segmentMappings;
+        private final ReplayBlockCache blockCache;
 
         Replayer(final CountedErrorHandler errorHandler, final Archive.Context context)
         {
@@ -2713,6 +2852,37 @@ abstract class ArchiveConductor
             totalReadBytesCounter = context.totalReadBytesCounter();
             totalReadTimeCounter = context.totalReadTimeCounter();
             maxReadTimeCounter = context.maxReadTimeCounter();
+            segmentMappings = context.replaySegmentMappingBudget() > 0 ?
+                new ReplaySegmentMappings(context.replaySegmentMappingBudget()) : null;
+            blockCache = context.replayBlockCacheCapacity() > 0 ?
+                new ReplayBlockCache(
+                    context.replayBlockCacheCapacity(),
+                    context.replayBlockCacheHitsCounter(),
+                    context.replayBlockCacheMissesCounter(),
+                    context.replayBlockCacheEvictionsCounter()) : null;
+        }
+
+        final ReplaySegmentMappings segmentMappings()
+        {
+            return segmentMappings;
+        }
+
+        final ReplayBlockCache blockCache()
+        {
+            return blockCache;
+        }
+
+        final void invalidateCaches()
+        {
+            if (null != segmentMappings)
+            {
+                segmentMappings.invalidate();
+            }
+
+            if (null != blockCache)
+            {
+                blockCache.invalidate();
+            }
         }
 
         final void bytesRead(final long bytes)
@@ -2732,7 +2902,12 @@ abstract class ArchiveConductor
 
         public int doWork()
         {
-            final int workCount = super.doWork();
+            int workCount = super.doWork();
+            if (null != segmentMappings)
+            {
+                workCount += segmentMappings.checkInvalidation();
+            }
+
             if (workCount > 0)
             {
                 totalReadBytesCounter.setRelease(totalReadBytes);
@@ -2742,6 +2917,15 @@ abstract class ArchiveConductor
 
             return workCount;
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        protected void postSessionsClose()
+        {
+            CloseHelper.close(errorHandler, segmentMappings);
+            CloseHelper.close(errorHandler, blockCache);
+        }
     }
 
     private static final class SessionForReplay
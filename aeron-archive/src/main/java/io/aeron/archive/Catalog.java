@@ -20,7 +20,9 @@ import io.aeron.archive.checksum.Checksum;
 import io.aeron.archive.client.ArchiveException;
 import io.aeron.archive.codecs.*;
 import org.agrona.*;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.concurrent.EpochClock;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -31,6 +33,7 @@ import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.IntConsumer;
 import java.util.function.Predicate;
@@ -46,6 +49,7 @@ import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
 import static java.nio.ByteOrder.nativeOrder;
+import static java.nio.charset.StandardCharsets.US_ASCII;
 import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
 import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
 import static java.nio.file.StandardOpenOption.*;
@@ -106,6 +110,27 @@ final class Catalog implements AutoCloseable
             RecordingDescriptorDecoder descriptorDecoder);
     }
 
+    /**
+     * Valid recordings of a stream which share a stripped channel, and the original channel they were made with when
+     * all of them share it, so a channel fragment can be checked once for all the recordings.
+     */
+    static final class ChannelIndex
+    {
+        final CatalogIndex index = new CatalogIndex();
+        final String originalChannel;
+        boolean hasMixedOriginalChannels;
+
+        ChannelIndex(final String originalChannel)
+        {
+            this.originalChannel = originalChannel;
+        }
+
+        boolean canMatch(final String channelFragment)
+        {
+            return hasMixedOriginalChannels || originalChannel.contains(channelFragment);
+        }
+    }
+
     static final int PAGE_SIZE = 4096;
     static final int NULL_RECORD_ID = Aeron.NULL_VALUE;
 
@@ -117,6 +142,8 @@ final class Catalog implements AutoCloseable
     static final long DEFAULT_CAPACITY = 1024 * 1024;
     static final long MIN_CAPACITY = CatalogHeaderDecoder.BLOCK_LENGTH;
 
+    private static final CatalogIndex EMPTY_INDEX = new CatalogIndex();
+
     private final CatalogHeaderDecoder catalogHeaderDecoder = new CatalogHeaderDecoder();
     private final CatalogHeaderEncoder catalogHeaderEncoder = new CatalogHeaderEncoder();
 
@@ -134,6 +161,9 @@ final class Catalog implements AutoCloseable
     private final EpochClock epochClock;
     private final Checksum checksum;
     private final CatalogIndex catalogIndex = new CatalogIndex();
+    private final Int2ObjectHashMap<CatalogIndex> streamIdIndex = new Int2ObjectHashMap<>();
+    private final Int2ObjectHashMap<Object2ObjectHashMap<String, ChannelIndex>> channelIndexByStreamId =
+        new Int2ObjectHashMap<>();
     private final int alignment;
     private final int firstRecordingDescriptorOffset;
 
@@ -360,6 +390,56 @@ final class Catalog implements AutoCloseable
         return catalogIndex;
     }
 
+    /**
+     * Secondary index of the valid recordings for a stream id, which maps recording id to its position in the
+     * catalog file in the same way as {@link #index()}, so queries by stream id only visit recordings of the stream.
+     *
+     * @param streamId of the recordings.
+     * @return index of the recordings for the stream id which is empty if there are none.
+     */
+    CatalogIndex streamIdIndex(final int streamId)
+    {
+        final CatalogIndex index = streamIdIndex.get(streamId);
+        return null != index ? index : EMPTY_INDEX;
+    }
+
+    /**
+     * Secondary index of the valid recordings for a stream id which can have an original channel containing the
+     * channel fragment. Recordings are grouped by stripped channel so a group is skipped with a single check when all
+     * its recordings share an original channel which does not contain the fragment. When more than one group can
+     * match then the index for the stream id is returned. Recordings in the returned index must still be checked
+     * against the channel fragment.
+     *
+     * @param streamId        of the recordings.
+     * @param channelFragment to be contained in the original channel of the recordings.
+     * @return index of the recordings which can match which is empty if there are none.
+     */
+    CatalogIndex channelFragmentIndex(final int streamId, final String channelFragment)
+    {
+        final Object2ObjectHashMap<String, ChannelIndex> channelIndexByStrippedChannel =
+            channelIndexByStreamId.get(streamId);
+        if (null == channelIndexByStrippedChannel)
+        {
+            return EMPTY_INDEX;
+        }
+
+        CatalogIndex matchingIndex = EMPTY_INDEX;
+        for (final ChannelIndex channelIndex : channelIndexByStrippedChannel.values())
+        {
+            if (channelIndex.canMatch(channelFragment))
+            {
+                if (EMPTY_INDEX != matchingIndex)
+                {
+                    return streamIdIndex(streamId);
+                }
+
+                matchingIndex = channelIndex.index;
+            }
+        }
+
+        return matchingIndex;
+    }
+
     int version()
     {
         return catalogHeaderDecoder.version();
@@ -427,6 +507,8 @@ final class Catalog implements AutoCloseable
         nextRecordingId = recordingId + 1;
         nextRecordingDescriptorOffset = recordingDescriptorOffset + frameLength;
         catalogIndex.add(recordingId, recordingDescriptorOffset);
+        addToStreamIdIndex(streamId, recordingId, recordingDescriptorOffset);
+        addToChannelIndex(streamId, strippedChannel, originalChannel, recordingId, recordingDescriptorOffset);
 
         return recordingId;
     }
@@ -547,6 +629,43 @@ final class Catalog implements AutoCloseable
             return NULL_RECORD_ID;
         }
 
+        final Object2ObjectHashMap<String, ChannelIndex> channelIndexByStrippedChannel =
+            channelIndexByStreamId.get(streamId);
+        if (null == channelIndexByStrippedChannel)
+        {
+            return NULL_RECORD_ID;
+        }
+
+        final String fragment = new String(channelFragment, US_ASCII);
+        long lastRecordingId = NULL_RECORD_ID;
+        for (final ChannelIndex channelIndex : channelIndexByStrippedChannel.values())
+        {
+            if (channelIndex.canMatch(fragment))
+            {
+                final long recordingId = findLast(
+                    channelIndex.index,
+                    max(minRecordingId, lastRecordingId + 1),
+                    sessionId,
+                    streamId,
+                    channelFragment);
+
+                if (NULL_RECORD_ID != recordingId)
+                {
+                    lastRecordingId = recordingId;
+                }
+            }
+        }
+
+        return lastRecordingId;
+    }
+
+    private long findLast(
+        final CatalogIndex catalogIndex,
+        final long minRecordingId,
+        final int sessionId,
+        final int streamId,
+        final byte[] channelFragment)
+    {
         final long[] index = catalogIndex.index();
         final int lastPosition = catalogIndex.lastPosition();
         for (int i = lastPosition; i >= 0; i -= 2)
@@ -742,6 +861,8 @@ final class Catalog implements AutoCloseable
             .state(VALID);
 
         forceWrites(catalogChannel);
+
+        rebuildSecondaryIndexes();
     }
 
     long startPosition(final long recordingId)
@@ -782,6 +903,14 @@ final class Catalog implements AutoCloseable
             final long offset = catalogIndex.remove(recordingId);
             if (CatalogIndex.NULL_VALUE != offset)
             {
+                final int streamId = streamId((int)offset);
+                final CatalogIndex streamIndex = streamIdIndex.get(streamId);
+                if (null != streamIndex)
+                {
+                    streamIndex.remove(recordingId);
+                }
+                removeFromChannelIndex(streamId, recordingId);
+
                 fieldAccessBuffer.putInt(
                     (int)offset + RecordingDescriptorHeaderEncoder.stateEncodingOffset(),
                     newState.value(),
@@ -959,6 +1088,7 @@ final class Catalog implements AutoCloseable
             if (isValidDescriptor(catalogBuffer))
             {
                 catalogIndex.add(recordingId, offset);
+                addToSecondaryIndexes(recordingId, offset);
             }
 
             offset += frameLength;
@@ -977,6 +1107,109 @@ final class Catalog implements AutoCloseable
         }
     }
 
+    private int streamId(final int recordingDescriptorOffset)
+    {
+        return fieldAccessBuffer.getInt(
+            recordingDescriptorOffset + DESCRIPTOR_HEADER_LENGTH + streamIdEncodingOffset(), BYTE_ORDER);
+    }
+
+    private void addToStreamIdIndex(final int streamId, final long recordingId, final long recordingDescriptorOffset)
+    {
+        CatalogIndex streamIndex = streamIdIndex.get(streamId);
+        if (null == streamIndex)
+        {
+            streamIndex = new CatalogIndex();
+            streamIdIndex.put(streamId, streamIndex);
+        }
+
+        streamIndex.add(recordingId, recordingDescriptorOffset);
+    }
+
+    private void addToChannelIndex(
+        final int streamId,
+        final String strippedChannel,
+        final String originalChannel,
+        final long recordingId,
+        final long recordingDescriptorOffset)
+    {
+        Object2ObjectHashMap<String, ChannelIndex> channelIndexByStrippedChannel = channelIndexByStreamId.get(streamId);
+        if (null == channelIndexByStrippedChannel)
+        {
+            channelIndexByStrippedChannel = new Object2ObjectHashMap<>();
+            channelIndexByStreamId.put(streamId, channelIndexByStrippedChannel);
+        }
+
+        ChannelIndex channelIndex = channelIndexByStrippedChannel.get(strippedChannel);
+        if (null == channelIndex)
+        {
+            channelIndex = new ChannelIndex(originalChannel);
+            channelIndexByStrippedChannel.put(strippedChannel, channelIndex);
+        }
+        else if (!channelIndex.hasMixedOriginalChannels && !channelIndex.originalChannel.equals(originalChannel))
+        {
+            channelIndex.hasMixedOriginalChannels = true;
+        }
+
+        channelIndex.index.add(recordingId, recordingDescriptorOffset);
+    }
+
+    private void removeFromChannelIndex(final int streamId, final long recordingId)
+    {
+        final Object2ObjectHashMap<String, ChannelIndex> channelIndexByStrippedChannel =
+            channelIndexByStreamId.get(streamId);
+        if (null != channelIndexByStrippedChannel)
+        {
+            final Iterator<ChannelIndex> iterator = channelIndexByStrippedChannel.values().iterator();
+            while (iterator.hasNext())
+            {
+                final CatalogIndex index = iterator.next().index;
+                if (CatalogIndex.NULL_VALUE != index.remove(recordingId))
+                {
+                    if (0 == index.size())
+                    {
+                        iterator.remove();
+                    }
+                    break;
+                }
+            }
+
+            if (channelIndexByStrippedChannel.isEmpty())
+            {
+                channelIndexByStreamId.remove(streamId);
+            }
+        }
+    }
+
+    private void addToSecondaryIndexes(final long recordingId, final int recordingDescriptorOffset)
+    {
+        wrapDescriptorAtOffset(catalogBuffer, recordingDescriptorOffset);
+        descriptorDecoder.wrap(
+            catalogBuffer,
+            DESCRIPTOR_HEADER_LENGTH,
+            RecordingDescriptorDecoder.BLOCK_LENGTH,
+            RecordingDescriptorDecoder.SCHEMA_VERSION);
+
+        final int streamId = descriptorDecoder.streamId();
+        final String strippedChannel = descriptorDecoder.strippedChannel();
+        final String originalChannel = descriptorDecoder.originalChannel();
+
+        addToStreamIdIndex(streamId, recordingId, recordingDescriptorOffset);
+        addToChannelIndex(streamId, strippedChannel, originalChannel, recordingId, recordingDescriptorOffset);
+    }
+
+    private void rebuildSecondaryIndexes()
+    {
+        streamIdIndex.clear();
+        channelIndexByStreamId.clear();
+
+        final long[] index = catalogIndex.index();
+        final int lastPosition = catalogIndex.lastPosition();
+        for (int i = 0; i <= lastPosition; i += 2)
+        {
+            addToSecondaryIndexes(index[i], (int)index[i + 1]);
+        }
+    }
+
     private void invokeEntryProcessor(final int recordingDescriptorOffset, final CatalogEntryProcessor consumer)
     {
         descriptorHeaderDecoder.wrap(
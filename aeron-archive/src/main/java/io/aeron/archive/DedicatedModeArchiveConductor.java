@@ -224,6 +224,7 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
          */
         protected void postSessionsClose()
         {
+            super.postSessionsClose();
             if (isAbort)
             {
                 abortLatch.countDown();
@@ -363,6 +364,7 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
          */
         protected void postSessionsClose()
         {
+            super.postSessionsClose();
             if (isAbort)
             {
                 abortLatch.countDown();
@@ -20,6 +20,10 @@ import io.aeron.archive.client.ArchiveException;
 import org.agrona.ErrorHandler;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayDeque;
 
 import static io.aeron.Aeron.NULL_VALUE;
@@ -36,10 +40,13 @@ class DeleteSegmentsSession implements Session
     private final ArrayDeque<File> files;
     private final ControlSession controlSession;
     private final ErrorHandler errorHandler;
+    private File eraseFile;
+    private final int eraseOffset;
+    private final int segmentLength;
 
     enum State
     {
-        AWAIT_REPLAYS_STOP, DELETE_FILES, DONE
+        AWAIT_REPLAYS_STOP, ERASE_SEGMENT, DELETE_FILES, DONE
     }
 
     private State state;
@@ -48,6 +55,9 @@ class DeleteSegmentsSession implements Session
         final long recordingId,
         final long correlationId,
         final ArrayDeque<File> files,
+        final File eraseFile,
+        final int eraseOffset,
+        final int segmentLength,
         final ControlSession controlSession,
         final ErrorHandler errorHandler,
         final boolean awaitReplaysStop)
@@ -55,6 +65,9 @@ class DeleteSegmentsSession implements Session
         this.recordingId = recordingId;
         this.correlationId = correlationId;
         this.files = files;
+        this.eraseFile = eraseFile;
+        this.eraseOffset = eraseOffset;
+        this.segmentLength = segmentLength;
         this.controlSession = controlSession;
         this.errorHandler = errorHandler;
 
@@ -62,14 +75,16 @@ class DeleteSegmentsSession implements Session
         final int prefixLength = digitCount(recordingId) + 1;
         for (final File file : files)
         {
-            final String name = file.getName();
-            final int dotIndex = name.indexOf('.');
-            maxSegmentPosition = Math.max(
-                maxSegmentPosition, parseLongAscii(name, prefixLength, dotIndex - prefixLength));
+            maxSegmentPosition = Math.max(maxSegmentPosition, segmentPosition(file, prefixLength));
+        }
+
+        if (null != eraseFile)
+        {
+            maxSegmentPosition = Math.max(maxSegmentPosition, segmentPosition(eraseFile, prefixLength));
         }
         maxDeletePosition = maxSegmentPosition;
 
-        state = awaitReplaysStop ? State.AWAIT_REPLAYS_STOP : State.DELETE_FILES;
+        state = awaitReplaysStop ? State.AWAIT_REPLAYS_STOP : nextStateAfterReplaysStop();
     }
 
     long maxDeletePosition()
@@ -77,6 +92,17 @@ class DeleteSegmentsSession implements Session
         return maxDeletePosition;
     }
 
+    /**
+     * Is the remainder of a segment file still to be erased. Replays of the recording must not be started while this
+     * is the case as the segment file is truncated before being extended again to its full length.
+     *
+     * @return true if the remainder of a segment file is still to be erased.
+     */
+    boolean hasPendingErase()
+    {
+        return null != eraseFile;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -98,7 +124,7 @@ class DeleteSegmentsSession implements Session
      */
     public boolean isDone()
     {
-        return files.isEmpty();
+        return files.isEmpty() && null == eraseFile;
     }
 
     /**
@@ -117,6 +143,7 @@ class DeleteSegmentsSession implements Session
         return switch (state)
         {
             case AWAIT_REPLAYS_STOP -> doAwaitReplaysStop();
+            case ERASE_SEGMENT -> doEraseSegment();
             case DELETE_FILES -> doDeleteFiles();
             case DONE -> 0;
         };
@@ -129,8 +156,44 @@ class DeleteSegmentsSession implements Session
             return 0;
         }
 
+        state = nextStateAfterReplaysStop();
+
+        return 1;
+    }
+
+    private State nextStateAfterReplaysStop()
+    {
+        return null != eraseFile ? State.ERASE_SEGMENT : State.DELETE_FILES;
+    }
+
+    private int doEraseSegment()
+    {
+        final File file = eraseFile;
+        eraseFile = null;
         state = State.DELETE_FILES;
 
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE))
+        {
+            channel.truncate(eraseOffset);
+            final ByteBuffer byteBuffer = ByteBuffer.allocate(1);
+            while (true)
+            {
+                final int written = channel.write(byteBuffer, segmentLength - 1);
+                if (1 == written)
+                {
+                    break;
+                }
+            }
+        }
+        catch (final IOException ex)
+        {
+            final String errorMessage = "unable to erase segment file: " + file + " " + ex.getMessage();
+            controlSession.sendErrorResponse(correlationId, ArchiveException.GENERIC, errorMessage);
+            errorHandler.onError(new ArchiveEvent(errorMessage));
+        }
+
+        controlSession.archiveConductor().invalidateReplayCaches();
+
         return 1;
     }
 
@@ -163,6 +226,14 @@ class DeleteSegmentsSession implements Session
         return workCount;
     }
 
+    private static long segmentPosition(final File file, final int prefixLength)
+    {
+        final String name = file.getName();
+        final int dotIndex = name.indexOf('.');
+
+        return parseLongAscii(name, prefixLength, dotIndex - prefixLength);
+    }
+
     private void onDeleteError(final File file)
     {
         final String errorMessage = "unable to delete segment file: " + file;
@@ -19,10 +19,13 @@ import io.aeron.archive.codecs.RecordingDescriptorDecoder;
 import io.aeron.archive.codecs.RecordingDescriptorHeaderDecoder;
 import org.agrona.concurrent.UnsafeBuffer;
 
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
 class ListRecordingsForUriSession extends AbstractListRecordingsSession
 {
     private final int streamId;
     private final byte[] channelFragment;
+    private final String channelFragmentString;
     private final RecordingDescriptorDecoder descriptorDecoder;
 
     ListRecordingsForUriSession(
@@ -46,9 +49,15 @@ class ListRecordingsForUriSession extends AbstractListRecordingsSession
 
         this.streamId = streamId;
         this.channelFragment = channelFragment;
+        channelFragmentString = new String(channelFragment, US_ASCII);
         descriptorDecoder = recordingDescriptorDecoder;
     }
 
+    CatalogIndex index(final Catalog catalog)
+    {
+        return catalog.channelFragmentIndex(streamId, channelFragmentString);
+    }
+
     boolean acceptDescriptor(final UnsafeBuffer descriptorBuffer)
     {
         descriptorDecoder.wrap(
@@ -47,7 +47,9 @@ class RecordingSession implements Session
     private final String originalChannel;
     private final ControlSession controlSession;
     private final CountedErrorHandler countedErrorHandler;
+    private final ArchiveConductor.Recorder recorder;
     private State state = State.INIT;
+    private boolean isPendingGroupCommit;
     private String errorMessage;
     private String abortReason;
     private int errorCode = ArchiveException.GENERIC;
@@ -76,6 +78,7 @@ class RecordingSession implements Session
         this.isAutoStop = isAutoStop;
         this.countedErrorHandler = ctx.countedErrorHandler();
         this.progressEventPosition = image.joinPosition();
+        this.recorder = recorder;
 
         blockLengthLimit = Math.min(image.termBufferLength(), ctx.fileIoMaxLength());
         recordingWriter = new RecordingWriter(recordingId, startPosition, segmentLength, image, ctx, recorder);
@@ -140,6 +143,17 @@ class RecordingSession implements Session
         if (State.INACTIVE == state)
         {
             state(State.STOPPED, "");
+            if (recordingWriter.isGroupCommit())
+            {
+                try
+                {
+                    syncWriter();
+                }
+                catch (final Exception ex)
+                {
+                    countedErrorHandler.onError(ex);
+                }
+            }
             recordingWriter.close();
             workCount++;
 
@@ -152,6 +166,41 @@ class RecordingSession implements Session
         return workCount;
     }
 
+    /**
+     * Sync the recording as part of a group commit by the recorder and advance the recording position to what has
+     * been synced.
+     *
+     * @return 1 if the recording file was synced otherwise 0.
+     */
+    int sync()
+    {
+        isPendingGroupCommit = false;
+        if (State.RECORDING != state)
+        {
+            return 0;
+        }
+
+        try
+        {
+            return syncWriter();
+        }
+        catch (final ArchiveException ex)
+        {
+            countedErrorHandler.onError(ex);
+            errorMessage = ex.getMessage();
+            errorCode = ex.errorCode();
+            state(State.INACTIVE, errorMessage);
+        }
+        catch (final Exception ex)
+        {
+            countedErrorHandler.onError(ex);
+            errorMessage = ex.getClass().getName() + ": " + ex.getMessage();
+            state(State.INACTIVE, errorMessage);
+        }
+
+        return 0;
+    }
+
     void abortClose()
     {
         recordingWriter.close();
@@ -236,7 +285,15 @@ class RecordingSession implements Session
             final int workCount = image.blockPoll(recordingWriter, blockLengthLimit);
             if (workCount > 0)
             {
-                this.position.setRelease(recordingWriter.position());
+                if (!recordingWriter.isGroupCommit())
+                {
+                    this.position.setRelease(recordingWriter.position());
+                }
+                else if (!isPendingGroupCommit)
+                {
+                    isPendingGroupCommit = true;
+                    recorder.addToGroupCommit(this);
+                }
             }
             else if (image.isEndOfStream() || image.isClosed())
             {
@@ -247,7 +304,7 @@ class RecordingSession implements Session
 
             if (null != recordingEventsProxy)
             {
-                final long recordedPosition = recordingWriter.position();
+                final long recordedPosition = recordingWriter.syncedPosition();
                 if (progressEventPosition < recordedPosition)
                 {
                     if (recordingEventsProxy.progress(recordingId, image.joinPosition(), recordedPosition))
@@ -276,6 +333,18 @@ class RecordingSession implements Session
         return 1;
     }
 
+    private int syncWriter()
+    {
+        final int syncCount = recordingWriter.sync() ? 1 : 0;
+        final long syncedPosition = recordingWriter.syncedPosition();
+        if (syncedPosition > position.getPlain())
+        {
+            position.setRelease(syncedPosition);
+        }
+
+        return syncCount;
+    }
+
     private void state(final State newState, final String reason)
     {
         logStateChange(
@@ -56,6 +56,7 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
     private final int segmentLength;
     private final boolean forceWrites;
     private final boolean forceMetadata;
+    private final boolean isGroupCommit;
     private final UnsafeBuffer checksumBuffer;
     private final Checksum checksum;
     private final FileChannel archiveDirChannel;
@@ -65,10 +66,14 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
     private final Archive.Context ctx;
 
     private final ArchiveConductor.Recorder recorder;
+    private final SegmentFilePreparer segmentFilePreparer;
 
     private long segmentBasePosition;
+    private long syncedPosition;
     private int segmentOffset;
+    private boolean hasUnsyncedWrites;
     private FileChannel recordingFileChannel;
+    private SegmentFilePreparer.PreparedSegmentFile nextSegmentFile;
 
     private boolean isClosed = false;
 
@@ -87,6 +92,7 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
         archiveDir = ctx.archiveDir();
         forceWrites = ctx.fileSyncLevel() > 0;
         forceMetadata = ctx.fileSyncLevel() > 1;
+        isGroupCommit = ctx.isFileSyncGroupCommit();
 
         countedErrorHandler = ctx.countedErrorHandler();
         checksumBuffer = ctx.recordChecksumBuffer();
@@ -94,11 +100,13 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
         nanoClock = ctx.nanoClock();
         this.ctx = ctx;
         this.recorder = recorder;
+        segmentFilePreparer = null != recorder ? recorder.segmentFilePreparer() : null;
 
         final int termLength = image.termBufferLength();
         final long joinPosition = image.joinPosition();
         segmentBasePosition = segmentFileBasePosition(startPosition, joinPosition, termLength, segmentLength);
         segmentOffset = (int)(joinPosition - segmentBasePosition);
+        syncedPosition = joinPosition;
     }
 
     /**
@@ -134,7 +142,11 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
             }
             while (byteBuffer.remaining() > 0);
 
-            if (forceWrites)
+            if (isGroupCommit)
+            {
+                hasUnsyncedWrites = true;
+            }
+            else if (forceWrites)
             {
                 recordingFileChannel.force(forceMetadata);
             }
@@ -175,6 +187,12 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
         {
             isClosed = true;
             CloseHelper.close(countedErrorHandler, recordingFileChannel);
+
+            if (null != nextSegmentFile)
+            {
+                segmentFilePreparer.cancel(nextSegmentFile);
+                nextSegmentFile = null;
+            }
         }
     }
 
@@ -183,6 +201,54 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
         return segmentBasePosition + segmentOffset;
     }
 
+    /**
+     * Position up to which the recording has been synced to disk when using group commit, otherwise the position
+     * written to which was synced by the write when required.
+     *
+     * @return position up to which the recording is durable.
+     */
+    long syncedPosition()
+    {
+        return isGroupCommit ? syncedPosition : position();
+    }
+
+    boolean isGroupCommit()
+    {
+        return isGroupCommit;
+    }
+
+    /**
+     * Sync writes made since the last sync when using group commit.
+     *
+     * @return true if writes were synced otherwise false if there was nothing to sync.
+     */
+    boolean sync()
+    {
+        if (isClosed || !hasUnsyncedWrites)
+        {
+            return false;
+        }
+
+        try
+        {
+            recordingFileChannel.force(forceMetadata);
+            hasUnsyncedWrites = false;
+            syncedPosition = position();
+        }
+        catch (final ClosedByInterruptException ex)
+        {
+            close();
+            throw new ArchiveException("file closed by interrupt, recording aborted", ex, ArchiveException.GENERIC);
+        }
+        catch (final IOException ex)
+        {
+            close();
+            checkErrorType(ex, 0);
+        }
+
+        return true;
+    }
+
     void init() throws IOException
     {
         openRecordingSegmentFile(new File(archiveDir, Archive.segmentFileName(recordingId, segmentBasePosition)));
@@ -213,13 +279,31 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
         RandomAccessFile recordingFile = null;
         try
         {
-            recordingFile = new RandomAccessFile(segmentFile, "rw");
-            recordingFile.setLength(segmentLength);
-            recordingFileChannel = recordingFile.getChannel();
+            final FileChannel preparedFileChannel = null != nextSegmentFile ?
+                segmentFilePreparer.take(nextSegmentFile, segmentFile) : null;
+            nextSegmentFile = null;
+
+            if (null != preparedFileChannel)
+            {
+                recordingFileChannel = preparedFileChannel;
+            }
+            else
+            {
+                recordingFile = new RandomAccessFile(segmentFile, "rw");
+                recordingFile.setLength(segmentLength);
+                recordingFileChannel = recordingFile.getChannel();
+            }
+
             if (forceWrites && null != archiveDirChannel)
             {
                 archiveDirChannel.force(forceMetadata);
             }
+
+            if (null != segmentFilePreparer)
+            {
+                nextSegmentFile = segmentFilePreparer.prepare(
+                    recordingId, segmentBasePosition + segmentLength, segmentLength);
+            }
         }
         catch (final IOException ex)
         {
@@ -229,8 +313,15 @@ final class RecordingWriter implements BlockHandler, AutoCloseable
         }
     }
 
-    private void onFileRollOver()
+    private void onFileRollOver() throws IOException
     {
+        if (hasUnsyncedWrites)
+        {
+            recordingFileChannel.force(forceMetadata);
+            hasUnsyncedWrites = false;
+            syncedPosition = segmentBasePosition + segmentLength;
+        }
+
         CloseHelper.close(recordingFileChannel);
         segmentOffset = 0;
         segmentBasePosition += segmentLength;
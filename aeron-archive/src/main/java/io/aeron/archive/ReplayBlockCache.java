@@ -0,0 +1,437 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Counter;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.agrona.BitUtil.findNextPositivePowerOfTwo;
+
+/**
+ * Bounded off-heap cache of fixed length blocks of recording segment files which is shared by the replay sessions
+ * of a replayer so concurrent replays of the same range of a recording, e.g. when many clients reconnect after a
+ * failover, read the segment from storage once.
+ * <p>
+ * Blocks are keyed by recording id and the position of the block in the recording. Eviction is by segmented LRU so
+ * a single pass over a range, such as a large catch up replay, only churns the probationary segment while blocks
+ * read more than once are protected. A block of an active recording only holds the bytes recorded when it was read
+ * and is read again when a replay needs more.
+ * <p>
+ * The cache is not thread safe and is expected to be used from the replayer thread except for {@link #invalidate()}
+ * which can be called from any thread when recorded data is changed by a truncation, purge, or migration.
+ */
+final class ReplayBlockCache implements AutoCloseable
+{
+    /**
+     * Length of a block in the cache which is the minimum term length so blocks never span segment files.
+     */
+    static final int BLOCK_LENGTH = 64 * 1024;
+
+    private static final int NULL_INDEX = -1;
+    private static final byte PROBATION = 0;
+    private static final byte PROTECTED = 1;
+
+    private final int blockCount;
+    private final int protectedCapacity;
+    private final int tableMask;
+    private final ByteBuffer cacheByteBuffer;
+    private final ByteBuffer readByteBuffer;
+    private final UnsafeBuffer cacheBuffer;
+    private final long[] recordingIds;
+    private final long[] blockPositions;
+    private final int[] validLengths;
+    private final int[] previous;
+    private final int[] next;
+    private final byte[] listTypes;
+    private final int[] table;
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+    private final Counter evictionsCounter;
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private long observedInvalidationCount;
+    private int usedBlockCount;
+    private int protectedSize;
+    private int probationHead = NULL_INDEX;
+    private int probationTail = NULL_INDEX;
+    private int protectedHead = NULL_INDEX;
+    private int protectedTail = NULL_INDEX;
+
+    ReplayBlockCache(
+        final int capacity, final Counter hitsCounter, final Counter missesCounter, final Counter evictionsCounter)
+    {
+        blockCount = capacity / BLOCK_LENGTH;
+        if (blockCount < 1)
+        {
+            throw new IllegalArgumentException("capacity less than block length: " + capacity);
+        }
+
+        protectedCapacity = Math.max(1, (blockCount * 4) / 5);
+        cacheByteBuffer = BufferUtil.allocateDirectAligned(blockCount * BLOCK_LENGTH, BLOCK_LENGTH);
+        readByteBuffer = cacheByteBuffer.duplicate();
+        cacheBuffer = new UnsafeBuffer(cacheByteBuffer);
+        recordingIds = new long[blockCount];
+        blockPositions = new long[blockCount];
+        validLengths = new int[blockCount];
+        previous = new int[blockCount];
+        next = new int[blockCount];
+        listTypes = new byte[blockCount];
+        table = new int[findNextPositivePowerOfTwo(blockCount * 2)];
+        tableMask = table.length - 1;
+        this.hitsCounter = hitsCounter;
+        this.missesCounter = missesCounter;
+        this.evictionsCounter = evictionsCounter;
+    }
+
+    /**
+     * Read a range of a segment file via the cache into a buffer.
+     *
+     * @param recordingId             of the recording to which the segment belongs.
+     * @param segmentFileBasePosition of the segment within the recording.
+     * @param fileChannel             open on the segment file for reading blocks not in the cache.
+     * @param segmentOffset           within the segment file at which to begin reading.
+     * @param recordedLength          of the segment file which has been recorded and can be cached.
+     * @param buffer                  into which the range is copied from offset 0.
+     * @param length                  of the range to be read.
+     * @return the number of bytes copied into the buffer.
+     * @throws IOException if reading a block from the segment file fails.
+     */
+    int read(
+        final long recordingId,
+        final long segmentFileBasePosition,
+        final FileChannel fileChannel,
+        final int segmentOffset,
+        final int recordedLength,
+        final UnsafeBuffer buffer,
+        final int length) throws IOException
+    {
+        checkInvalidation();
+
+        int bytesCopied = 0;
+        while (bytesCopied < length)
+        {
+            final int offset = segmentOffset + bytesCopied;
+            final int blockOffset = offset & -BLOCK_LENGTH;
+            final int offsetInBlock = offset - blockOffset;
+            final int chunkLength = Math.min(length - bytesCopied, BLOCK_LENGTH - offsetInBlock);
+
+            final int index = block(
+                recordingId,
+                segmentFileBasePosition + blockOffset,
+                fileChannel,
+                blockOffset,
+                offsetInBlock + chunkLength,
+                Math.min(BLOCK_LENGTH, recordedLength - blockOffset));
+
+            final int available = Math.min(chunkLength, validLengths[index] - offsetInBlock);
+            if (available <= 0)
+            {
+                break;
+            }
+
+            buffer.putBytes(bytesCopied, cacheBuffer, (index * BLOCK_LENGTH) + offsetInBlock, available);
+            bytesCopied += available;
+
+            if (available < chunkLength)
+            {
+                break;
+            }
+        }
+
+        return bytesCopied;
+    }
+
+    /**
+     * Invalidate all the blocks in the cache. Can be called from any thread with the blocks discarded by the
+     * replayer thread on its next read.
+     */
+    void invalidate()
+    {
+        invalidationCount.incrementAndGet();
+    }
+
+    /**
+     * Number of blocks which are in use in the cache.
+     *
+     * @return number of blocks which are in use in the cache.
+     */
+    int usedBlockCount()
+    {
+        return usedBlockCount;
+    }
+
+    /**
+     * Free the memory of the cache.
+     */
+    public void close()
+    {
+        BufferUtil.free(cacheByteBuffer);
+    }
+
+    private int block(
+        final long recordingId,
+        final long blockPosition,
+        final FileChannel fileChannel,
+        final int blockOffset,
+        final int requiredLength,
+        final int fillLength) throws IOException
+    {
+        int index = find(recordingId, blockPosition);
+        if (NULL_INDEX != index)
+        {
+            onAccess(index);
+            if (validLengths[index] >= requiredLength)
+            {
+                increment(hitsCounter);
+                return index;
+            }
+        }
+        else
+        {
+            index = allocate();
+            recordingIds[index] = recordingId;
+            blockPositions[index] = blockPosition;
+            insert(index);
+            pushHead(PROBATION, index);
+        }
+
+        increment(missesCounter);
+        validLengths[index] = readBlock(fileChannel, index, blockOffset, fillLength);
+
+        return index;
+    }
+
+    private int readBlock(
+        final FileChannel fileChannel, final int index, final int blockOffset, final int length) throws IOException
+    {
+        final ByteBuffer byteBuffer = readByteBuffer;
+        final int bufferOffset = index * BLOCK_LENGTH;
+        byteBuffer.limit(bufferOffset + Math.max(0, length)).position(bufferOffset);
+
+        long filePosition = blockOffset;
+        while (byteBuffer.remaining() > 0)
+        {
+            final int bytesRead = fileChannel.read(byteBuffer, filePosition);
+            if (bytesRead <= 0)
+            {
+                break;
+            }
+
+            filePosition += bytesRead;
+        }
+
+        return byteBuffer.position() - bufferOffset;
+    }
+
+    private void onAccess(final int index)
+    {
+        if (PROBATION == listTypes[index])
+        {
+            unlink(index);
+            pushHead(PROTECTED, index);
+
+            if (protectedSize > protectedCapacity)
+            {
+                final int demoted = protectedTail;
+                unlink(demoted);
+                pushHead(PROBATION, demoted);
+            }
+        }
+        else if (protectedHead != index)
+        {
+            unlink(index);
+            pushHead(PROTECTED, index);
+        }
+    }
+
+    private int allocate()
+    {
+        if (usedBlockCount < blockCount)
+        {
+            return usedBlockCount++;
+        }
+
+        final int victim = NULL_INDEX != probationTail ? probationTail : protectedTail;
+        unlink(victim);
+        remove(victim);
+        increment(evictionsCounter);
+
+        return victim;
+    }
+
+    private void pushHead(final byte listType, final int index)
+    {
+        listTypes[index] = listType;
+        previous[index] = NULL_INDEX;
+
+        if (PROBATION == listType)
+        {
+            next[index] = probationHead;
+            if (NULL_INDEX != probationHead)
+            {
+                previous[probationHead] = index;
+            }
+            else
+            {
+                probationTail = index;
+            }
+            probationHead = index;
+        }
+        else
+        {
+            next[index] = protectedHead;
+            if (NULL_INDEX != protectedHead)
+            {
+                previous[protectedHead] = index;
+            }
+            else
+            {
+                protectedTail = index;
+            }
+            protectedHead = index;
+            protectedSize++;
+        }
+    }
+
+    private void unlink(final int index)
+    {
+        final int previousIndex = previous[index];
+        final int nextIndex = next[index];
+        final boolean isProbation = PROBATION == listTypes[index];
+
+        if (NULL_INDEX != previousIndex)
+        {
+            next[previousIndex] = nextIndex;
+        }
+        else if (isProbation)
+        {
+            probationHead = nextIndex;
+        }
+        else
+        {
+            protectedHead = nextIndex;
+        }
+
+        if (NULL_INDEX != nextIndex)
+        {
+            previous[nextIndex] = previousIndex;
+        }
+        else if (isProbation)
+        {
+            probationTail = previousIndex;
+        }
+        else
+        {
+            protectedTail = previousIndex;
+        }
+
+        if (!isProbation)
+        {
+            protectedSize--;
+        }
+    }
+
+    private int find(final long recordingId, final long blockPosition)
+    {
+        int slot = slot(recordingId, blockPosition);
+        int entry;
+        while (0 != (entry = table[slot]))
+        {
+            final int index = entry - 1;
+            if (recordingIds[index] == recordingId && blockPositions[index] == blockPosition)
+            {
+                return index;
+            }
+
+            slot = (slot + 1) & tableMask;
+        }
+
+        return NULL_INDEX;
+    }
+
+    private void insert(final int index)
+    {
+        int slot = slot(recordingIds[index], blockPositions[index]);
+        while (0 != table[slot])
+        {
+            slot = (slot + 1) & tableMask;
+        }
+
+        table[slot] = index + 1;
+    }
+
+    private void remove(final int index)
+    {
+        int slot = slot(recordingIds[index], blockPositions[index]);
+        while (table[slot] != index + 1)
+        {
+            slot = (slot + 1) & tableMask;
+        }
+
+        table[slot] = 0;
+
+        int nextSlot = (slot + 1) & tableMask;
+        int entry;
+        while (0 != (entry = table[nextSlot]))
+        {
+            final int home = slot(recordingIds[entry - 1], blockPositions[entry - 1]);
+            if (((nextSlot - home) & tableMask) >= ((nextSlot - slot) & tableMask))
+            {
+                table[slot] = entry;
+                table[nextSlot] = 0;
+                slot = nextSlot;
+            }
+
+            nextSlot = (nextSlot + 1) & tableMask;
+        }
+    }
+
+    private int slot(final long recordingId, final long blockPosition)
+    {
+        final long hash = (recordingId * 0x9E3779B97F4A7C15L) ^ ((blockPosition / BLOCK_LENGTH) * 0xC2B2AE3D27D4EB4FL);
+        return (int)(hash ^ (hash >>> 32)) & tableMask;
+    }
+
+    private void checkInvalidation()
+    {
+        final long invalidationCount = this.invalidationCount.get();
+        if (invalidationCount != observedInvalidationCount)
+        {
+            observedInvalidationCount = invalidationCount;
+            Arrays.fill(table, 0);
+            usedBlockCount = 0;
+            protectedSize = 0;
+            probationHead = NULL_INDEX;
+            probationTail = NULL_INDEX;
+            protectedHead = NULL_INDEX;
+            protectedTail = NULL_INDEX;
+        }
+    }
+
+    private static void increment(final Counter counter)
+    {
+        if (null != counter)
+        {
+            counter.incrementRelease();
+        }
+    }
+}
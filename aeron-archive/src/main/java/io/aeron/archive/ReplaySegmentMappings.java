@@ -0,0 +1,242 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import org.agrona.BufferUtil;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-only memory mappings of recording segment files which are shared by replays of the same segment and kept
+ * mapped after use within a budget of mapped bytes, unmapping those not in use least recently used first.
+ * <p>
+ * Segment files are allocated to their full length when created. When a recording is truncated within a segment the
+ * replays of the recording are stopped, and the remainder of the segment is only erased, by truncating the file and
+ * extending it again, once those replays are closed and have released their mappings. New replays of the recording are
+ * rejected until the erase is complete, so a mapping of the full segment length remains valid while in use. A mapping
+ * which is not in use may remain mapped over the erase as it is not accessed before being acquired again, and the
+ * conductor invalidates the mappings once the erase is complete. A mapping is only reused if the file it maps is still
+ * the file of the segment, so segments which have been deleted and recreated are mapped again. The mappings are not
+ * thread safe and are expected to be used from the replayer thread, except for {@link #invalidate()} which the
+ * conductor calls when segment files are truncated, purged, deleted, or migrated so that the mappings are dropped and
+ * the disk space of deleted files is not held by a mapping.
+ */
+final class ReplaySegmentMappings implements AutoCloseable
+{
+    static final class Mapping
+    {
+        final long recordingId;
+        final long segmentFileBasePosition;
+        final Object fileKey;
+        final MappedByteBuffer mappedByteBuffer;
+        final UnsafeBuffer buffer;
+        int referenceCount;
+        boolean isStale;
+
+        Mapping(
+            final long recordingId,
+            final long segmentFileBasePosition,
+            final Object fileKey,
+            final MappedByteBuffer mappedByteBuffer)
+        {
+            this.recordingId = recordingId;
+            this.segmentFileBasePosition = segmentFileBasePosition;
+            this.fileKey = fileKey;
+            this.mappedByteBuffer = mappedByteBuffer;
+            this.buffer = new UnsafeBuffer(BufferUtil.address(mappedByteBuffer), mappedByteBuffer.capacity());
+        }
+    }
+
+    private final long budget;
+    private long mappedBytes;
+    private final ArrayList<Mapping> mappings = new ArrayList<>();
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private long observedInvalidationCount;
+
+    ReplaySegmentMappings(final long budget)
+    {
+        this.budget = budget;
+    }
+
+    /**
+     * Acquire a read-only mapping of a segment file, reusing an existing mapping of the file if available.
+     *
+     * @param recordingId             of the recording to which the segment belongs.
+     * @param segmentFileBasePosition of the segment within the recording.
+     * @param segmentFile             to be mapped.
+     * @param fileChannel             open on the segment file.
+     * @param segmentLength           of the segment file.
+     * @return the mapping of the segment or null if it could not be mapped within the budget.
+     * @throws IOException if the file cannot be mapped.
+     */
+    Mapping acquire(
+        final long recordingId,
+        final long segmentFileBasePosition,
+        final File segmentFile,
+        final FileChannel fileChannel,
+        final int segmentLength) throws IOException
+    {
+        checkInvalidation();
+
+        final Object fileKey = Files.readAttributes(segmentFile.toPath(), BasicFileAttributes.class).fileKey();
+
+        for (int i = 0, size = mappings.size(); i < size; i++)
+        {
+            final Mapping mapping = mappings.get(i);
+            if (mapping.recordingId == recordingId && mapping.segmentFileBasePosition == segmentFileBasePosition)
+            {
+                mappings.remove(i);
+                if (null != fileKey && fileKey.equals(mapping.fileKey) && mapping.buffer.capacity() == segmentLength)
+                {
+                    mapping.referenceCount++;
+                    mappings.add(mapping);
+                    return mapping;
+                }
+
+                mapping.isStale = true;
+                if (0 == mapping.referenceCount)
+                {
+                    unmap(mapping);
+                }
+                break;
+            }
+        }
+
+        if (segmentLength > budget || fileChannel.size() < segmentLength || !evictToFit(segmentLength))
+        {
+            return null;
+        }
+
+        final MappedByteBuffer mappedByteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, segmentLength);
+        final Mapping mapping = new Mapping(recordingId, segmentFileBasePosition, fileKey, mappedByteBuffer);
+        mapping.referenceCount = 1;
+        mappedBytes += segmentLength;
+        mappings.add(mapping);
+
+        return mapping;
+    }
+
+    /**
+     * Release a mapping acquired by {@link #acquire(long, long, File, FileChannel, int)} so it can be unmapped when
+     * no longer in use.
+     *
+     * @param mapping to be released.
+     */
+    void release(final Mapping mapping)
+    {
+        if (0 == --mapping.referenceCount && mapping.isStale)
+        {
+            unmap(mapping);
+        }
+    }
+
+    /**
+     * Invalidate all the mappings. Can be called from any thread with the mappings dropped by the replayer thread
+     * on its next call to {@link #checkInvalidation()}, or {@link #acquire(long, long, File, FileChannel, int)}.
+     * Mappings which are in use are unmapped when released.
+     */
+    void invalidate()
+    {
+        invalidationCount.incrementAndGet();
+    }
+
+    /**
+     * Drop all the mappings if they have been invalidated since the last check.
+     *
+     * @return the number of mappings dropped.
+     */
+    int checkInvalidation()
+    {
+        final long invalidationCount = this.invalidationCount.get();
+        if (invalidationCount == observedInvalidationCount)
+        {
+            return 0;
+        }
+
+        observedInvalidationCount = invalidationCount;
+        final int size = mappings.size();
+        for (int i = 0; i < size; i++)
+        {
+            final Mapping mapping = mappings.get(i);
+            mapping.isStale = true;
+            if (0 == mapping.referenceCount)
+            {
+                unmap(mapping);
+            }
+        }
+        mappings.clear();
+
+        return size;
+    }
+
+    /**
+     * Number of bytes currently mapped.
+     *
+     * @return number of bytes currently mapped.
+     */
+    long mappedBytes()
+    {
+        return mappedBytes;
+    }
+
+    /**
+     * Unmap all the mappings.
+     */
+    public void close()
+    {
+        for (int i = 0, size = mappings.size(); i < size; i++)
+        {
+            unmap(mappings.get(i));
+        }
+
+        mappings.clear();
+    }
+
+    private boolean evictToFit(final int length)
+    {
+        int i = 0;
+        while (i < mappings.size() && mappedBytes + length > budget)
+        {
+            final Mapping mapping = mappings.get(i);
+            if (0 == mapping.referenceCount)
+            {
+                mappings.remove(i);
+                unmap(mapping);
+            }
+            else
+            {
+                i++;
+            }
+        }
+
+        return mappedBytes + length <= budget;
+    }
+
+    private void unmap(final Mapping mapping)
+    {
+        mappedBytes -= mapping.buffer.capacity();
+        IoUtil.unmap(mapping.mappedByteBuffer);
+    }
+}
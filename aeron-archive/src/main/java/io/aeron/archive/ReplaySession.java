@@ -94,7 +94,6 @@ class ReplaySession implements Session, AutoCloseable
     private final int termLength;
     private final int segmentLength;
 
-    private final long replayBufferAddress;
     private final Checksum checksum;
 
     private final ExclusivePublication publication;
@@ -107,6 +106,9 @@ class ReplaySession implements Session, AutoCloseable
     private final CountersReader countersReader;
     private final Counter limitPosition;
     private final UnsafeBuffer replayBuffer;
+    private final ReplaySegmentMappings segmentMappings;
+    private final ReplayBlockCache blockCache;
+    private ReplaySegmentMappings.Mapping segmentMapping;
     private FileChannel fileChannel;
     private File segmentFile;
     private State state = State.INIT;
@@ -152,11 +154,12 @@ class ReplaySession implements Session, AutoCloseable
         this.countersReader = countersReader;
         this.limitPosition = replayLimitPosition;
         this.replayBuffer = replayBuffer;
-        this.replayBufferAddress = replayBuffer.addressOffset();
         this.checksum = checksum;
         this.startPosition = startPosition;
         this.stopPosition = stopPosition;
         this.replayer = replayer;
+        this.segmentMappings = replayer.segmentMappings();
+        this.blockCache = replayer.blockCache();
 
         segmentFileBasePosition = AeronArchive.segmentFileBasePosition(
             startPosition, replayPosition, termLength, segmentLength);
@@ -379,7 +382,24 @@ class ReplaySession implements Session, AutoCloseable
         if (publication.availableWindow() > 0)
         {
             final long startNs = nanoClock.nanoTime();
-            final int bytesRead = readRecording(stopPosition - replayPosition);
+            final ReplaySegmentMappings.Mapping segmentMapping = this.segmentMapping;
+            final UnsafeBuffer blockBuffer;
+            final int blockOffset;
+            final int bytesRead;
+
+            if (null != segmentMapping)
+            {
+                blockBuffer = segmentMapping.buffer;
+                blockOffset = termBaseSegmentOffset + termOffset;
+                bytesRead = blockLength(stopPosition - replayPosition);
+            }
+            else
+            {
+                blockBuffer = replayBuffer;
+                blockOffset = 0;
+                bytesRead = readRecording(stopPosition - replayPosition);
+            }
+
             if (bytesRead > 0)
             {
                 final int sessionId = publication.sessionId();
@@ -390,14 +410,15 @@ class ReplaySession implements Session, AutoCloseable
 
                 while (batchOffset < bytesRead && batchOffset < remaining)
                 {
-                    final int frameLength = frameLength(replayBuffer, batchOffset);
+                    final int frameOffset = blockOffset + batchOffset;
+                    final int frameLength = frameLength(blockBuffer, frameOffset);
                     if (frameLength <= 0)
                     {
                         raiseError("unexpected end of recording at position=" + framePosition(batchOffset),
                             ArchiveException.GENERIC, null);
                     }
 
-                    final int frameType = frameType(replayBuffer, batchOffset);
+                    final int frameType = frameType(blockBuffer, frameOffset);
                     final int alignedLength = align(frameLength, FRAME_ALIGNMENT);
 
                     if (HDR_TYPE_DATA == frameType)
@@ -409,11 +430,15 @@ class ReplaySession implements Session, AutoCloseable
 
                         if (null != checksum)
                         {
-                            verifyChecksum(checksum, batchOffset, alignedLength);
+                            verifyChecksum(checksum, blockBuffer, blockOffset, batchOffset, alignedLength);
+                        }
+
+                        if (null == segmentMapping)
+                        {
+                            replayBuffer.putInt(batchOffset + SESSION_ID_FIELD_OFFSET, sessionId, LITTLE_ENDIAN);
+                            replayBuffer.putInt(batchOffset + STREAM_ID_FIELD_OFFSET, streamId, LITTLE_ENDIAN);
                         }
 
-                        replayBuffer.putInt(batchOffset + SESSION_ID_FIELD_OFFSET, sessionId, LITTLE_ENDIAN);
-                        replayBuffer.putInt(batchOffset + STREAM_ID_FIELD_OFFSET, streamId, LITTLE_ENDIAN);
                         batchOffset += alignedLength;
                     }
                     else if (HDR_TYPE_PAD == frameType)
@@ -429,7 +454,9 @@ class ReplaySession implements Session, AutoCloseable
 
                 if (batchOffset > 0)
                 {
-                    final long position = publication.offerBlock(replayBuffer, 0, batchOffset);
+                    final long position = null != segmentMapping ?
+                        publication.offerRecordedBlock(blockBuffer, blockOffset, batchOffset) :
+                        publication.offerBlock(replayBuffer, 0, batchOffset);
                     if (hasPublicationAdvanced(position, batchOffset))
                     {
                         workCount++;
@@ -487,27 +514,67 @@ class ReplaySession implements Session, AutoCloseable
         return false;
     }
 
-    private void verifyChecksum(final Checksum checksum, final int frameOffset, final int alignedLength)
+    private void verifyChecksum(
+        final Checksum checksum,
+        final UnsafeBuffer buffer,
+        final int blockOffset,
+        final int batchOffset,
+        final int alignedLength)
     {
+        final int frameOffset = blockOffset + batchOffset;
         final int computedChecksum = checksum.compute(
-            replayBufferAddress, frameOffset + HEADER_LENGTH, alignedLength - HEADER_LENGTH);
-        final int recordedChecksum = frameSessionId(replayBuffer, frameOffset);
+            buffer.addressOffset(), frameOffset + HEADER_LENGTH, alignedLength - HEADER_LENGTH);
+        final int recordedChecksum = frameSessionId(buffer, frameOffset);
 
         if (computedChecksum != recordedChecksum)
         {
-            final String message = "CRC checksum mismatch at position=" + framePosition(frameOffset) +
+            final String message = "CRC checksum mismatch at position=" + framePosition(batchOffset) +
                 ": recorded checksum=" + recordedChecksum + ", computed checksum=" + computedChecksum;
             raiseError(message, ArchiveException.GENERIC, null);
         }
     }
 
+    private int blockLength(final long availableReplay)
+    {
+        return min((int)min(availableReplay, replayBuffer.capacity()), termLength - termOffset);
+    }
+
     private int readRecording(final long availableReplay) throws IOException
     {
-        final int limit = min((int)min(availableReplay, replayBuffer.capacity()), termLength - termOffset);
+        final int limit = blockLength(availableReplay);
+        final int segmentOffset = termBaseSegmentOffset + termOffset;
+
+        if (null != blockCache)
+        {
+            readFromBlockCache(segmentOffset, limit);
+        }
+        else
+        {
+            readFromSegmentFile(segmentOffset, limit);
+        }
+
+        return limit;
+    }
+
+    private void readFromBlockCache(final int segmentOffset, final int length) throws IOException
+    {
+        final int recordedLength = (int)min(segmentLength, stopPosition - segmentFileBasePosition);
+        blockCache.read(
+            recordingId,
+            segmentFileBasePosition,
+            fileChannel,
+            segmentOffset,
+            recordedLength,
+            replayBuffer,
+            length);
+    }
+
+    private void readFromSegmentFile(final int segmentOffset, final int length) throws IOException
+    {
         final ByteBuffer byteBuffer = replayBuffer.byteBuffer();
-        byteBuffer.clear().limit(limit);
+        byteBuffer.clear().limit(length);
 
-        int position = termBaseSegmentOffset + termOffset;
+        int position = segmentOffset;
         do
         {
             final int bytesRead = fileChannel.read(byteBuffer, position);
@@ -519,8 +586,6 @@ class ReplaySession implements Session, AutoCloseable
             position += bytesRead;
         }
         while (byteBuffer.remaining() > 0);
-
-        return limit;
     }
 
     private void raiseError(final String errorMessage, final int errorCode, final Throwable cause)
@@ -587,6 +652,12 @@ class ReplaySession implements Session, AutoCloseable
 
     private void closeRecordingSegment()
     {
+        if (null != segmentMapping)
+        {
+            segmentMappings.release(segmentMapping);
+            segmentMapping = null;
+        }
+
         CloseHelper.close(fileChannel);
         fileChannel = null;
         segmentFile = null;
@@ -607,6 +678,12 @@ class ReplaySession implements Session, AutoCloseable
         }
 
         fileChannel = FileChannel.open(segmentFile.toPath(), FILE_OPTIONS);
+
+        if (null != segmentMappings)
+        {
+            segmentMapping = segmentMappings.acquire(
+                recordingId, segmentFileBasePosition, segmentFile, fileChannel, segmentLength);
+        }
     }
 
     static boolean notHeaderAligned(
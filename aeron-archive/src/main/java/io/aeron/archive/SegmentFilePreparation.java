@@ -0,0 +1,42 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+/**
+ * How the {@link Archive} prepares the next segment file of an active recording in the background so that rolling
+ * over to it does not create, size, and sync a file on the recorder thread.
+ *
+ * @since 1.52.0
+ */
+public enum SegmentFilePreparation
+{
+    /**
+     * Segment files are created by the recorder when it rolls over to them and nothing is prepared in advance.
+     */
+    NONE,
+
+    /**
+     * The next segment file is created and its length set in advance, which may result in a sparse file depending
+     * on the file system.
+     */
+    ALLOCATE,
+
+    /**
+     * The next segment file is created and filled with zeros in advance so its blocks are allocated by the file
+     * system before the recorder writes to them.
+     */
+    ZERO_FILL
+}
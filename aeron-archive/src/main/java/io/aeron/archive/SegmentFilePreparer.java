@@ -0,0 +1,301 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Counter;
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+
+/**
+ * Prepares the next segment file of active recordings in the background so rolling over to a new segment file is
+ * a handoff of an open file on the recorder thread rather than creating, sizing, and syncing it.
+ * <p>
+ * Files are prepared under a temporary name with the {@link #PREPARED_SUFFIX} so they are not seen as segments of
+ * the recording, e.g. by crash recovery of the {@link Catalog}, until they are renamed when taken at roll-over.
+ * <p>
+ * {@link #prepare(long, long, int)}, {@link #take(PreparedSegmentFile, File)}, and
+ * {@link #cancel(PreparedSegmentFile)} can be called from any thread while the agent runs on its own thread.
+ */
+final class SegmentFilePreparer implements Agent
+{
+    /**
+     * Suffix added to the name of a segment file while it is prepared.
+     */
+    static final String PREPARED_SUFFIX = ".prep";
+
+    private static final int ZERO_FILL_CHUNK_LENGTH = 64 * 1024;
+
+    private final File archiveDir;
+    private final FileChannel archiveDirChannel;
+    private final SegmentFilePreparation preparation;
+    private final boolean forceWrites;
+    private final boolean forceMetadata;
+    private final Counter notReadyCounter;
+    private final ErrorHandler errorHandler;
+    private final ManyToOneConcurrentLinkedQueue<PreparedSegmentFile> preparationQueue =
+        new ManyToOneConcurrentLinkedQueue<>();
+    private ByteBuffer zeroBuffer;
+
+    SegmentFilePreparer(
+        final File archiveDir,
+        final FileChannel archiveDirChannel,
+        final SegmentFilePreparation preparation,
+        final int fileSyncLevel,
+        final Counter notReadyCounter,
+        final ErrorHandler errorHandler)
+    {
+        this.archiveDir = archiveDir;
+        this.archiveDirChannel = archiveDirChannel;
+        this.preparation = preparation;
+        this.forceWrites = fileSyncLevel > 0;
+        this.forceMetadata = fileSyncLevel > 1;
+        this.notReadyCounter = notReadyCounter;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String roleName()
+    {
+        return "archive-segment-file-preparer";
+    }
+
+    /**
+     * Delete files left prepared but not taken from a previous run of the archive.
+     */
+    public void onStart()
+    {
+        final String[] names = archiveDir.list();
+        if (null != names)
+        {
+            for (final String name : names)
+            {
+                if (name.endsWith(PREPARED_SUFFIX))
+                {
+                    IoUtil.delete(new File(archiveDir, name), true);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int doWork()
+    {
+        int workCount = 0;
+        PreparedSegmentFile preparedSegmentFile;
+
+        while (null != (preparedSegmentFile = preparationQueue.poll()))
+        {
+            if (PreparedSegmentFile.PENDING == preparedSegmentFile.state.get())
+            {
+                prepare(preparedSegmentFile);
+                workCount++;
+            }
+        }
+
+        return workCount;
+    }
+
+    /**
+     * Cancel files which have not yet been prepared.
+     */
+    public void onClose()
+    {
+        PreparedSegmentFile preparedSegmentFile;
+        while (null != (preparedSegmentFile = preparationQueue.poll()))
+        {
+            preparedSegmentFile.state.compareAndSet(PreparedSegmentFile.PENDING, PreparedSegmentFile.CANCELLED);
+        }
+    }
+
+    /**
+     * Request the segment file of a recording starting at a base position be prepared in the background.
+     *
+     * @param recordingId         of the recording.
+     * @param segmentBasePosition of the segment file.
+     * @param segmentLength       of the segment file.
+     * @return the handle to be used to take or cancel the prepared file.
+     */
+    PreparedSegmentFile prepare(final long recordingId, final long segmentBasePosition, final int segmentLength)
+    {
+        final File file = new File(
+            archiveDir, Archive.segmentFileName(recordingId, segmentBasePosition) + PREPARED_SUFFIX);
+        final PreparedSegmentFile preparedSegmentFile = new PreparedSegmentFile(file, segmentLength);
+        preparationQueue.offer(preparedSegmentFile);
+
+        return preparedSegmentFile;
+    }
+
+    /**
+     * Take a prepared file by renaming it to be the segment file. If the file is not yet prepared then its
+     * preparation is cancelled, the not ready counter is incremented, and the caller should create the segment file.
+     *
+     * @param preparedSegmentFile to be taken.
+     * @param segmentFile         to which the prepared file should be renamed.
+     * @return the open channel for the segment file or null if the file was not ready.
+     */
+    FileChannel take(final PreparedSegmentFile preparedSegmentFile, final File segmentFile)
+    {
+        if (preparedSegmentFile.state.compareAndSet(PreparedSegmentFile.READY, PreparedSegmentFile.TAKEN))
+        {
+            try
+            {
+                Files.move(preparedSegmentFile.file.toPath(), segmentFile.toPath(), ATOMIC_MOVE);
+                return preparedSegmentFile.randomAccessFile.getChannel();
+            }
+            catch (final IOException ex)
+            {
+                preparedSegmentFile.discard();
+                errorHandler.onError(ex);
+            }
+        }
+        else
+        {
+            preparedSegmentFile.state.compareAndSet(PreparedSegmentFile.PENDING, PreparedSegmentFile.CANCELLED);
+        }
+
+        if (null != notReadyCounter)
+        {
+            notReadyCounter.incrementRelease();
+        }
+
+        return null;
+    }
+
+    /**
+     * Cancel the preparation of a file which will not be taken and delete it if already prepared.
+     *
+     * @param preparedSegmentFile to be cancelled.
+     */
+    void cancel(final PreparedSegmentFile preparedSegmentFile)
+    {
+        if (preparedSegmentFile.state.compareAndSet(PreparedSegmentFile.READY, PreparedSegmentFile.CANCELLED))
+        {
+            preparedSegmentFile.discard();
+        }
+        else
+        {
+            preparedSegmentFile.state.compareAndSet(PreparedSegmentFile.PENDING, PreparedSegmentFile.CANCELLED);
+        }
+    }
+
+    private void prepare(final PreparedSegmentFile preparedSegmentFile)
+    {
+        RandomAccessFile randomAccessFile = null;
+        try
+        {
+            randomAccessFile = new RandomAccessFile(preparedSegmentFile.file, "rw");
+            randomAccessFile.setLength(preparedSegmentFile.segmentLength);
+
+            if (SegmentFilePreparation.ZERO_FILL == preparation)
+            {
+                zeroFill(randomAccessFile.getChannel(), preparedSegmentFile.segmentLength);
+            }
+
+            if (forceWrites && null != archiveDirChannel)
+            {
+                archiveDirChannel.force(forceMetadata);
+            }
+
+            preparedSegmentFile.randomAccessFile = randomAccessFile;
+            if (!preparedSegmentFile.state.compareAndSet(PreparedSegmentFile.PENDING, PreparedSegmentFile.READY))
+            {
+                preparedSegmentFile.discard();
+            }
+        }
+        catch (final IOException ex)
+        {
+            CloseHelper.close(randomAccessFile);
+            IoUtil.delete(preparedSegmentFile.file, true);
+            preparedSegmentFile.state.set(PreparedSegmentFile.FAILED);
+            errorHandler.onError(ex);
+        }
+    }
+
+    private void zeroFill(final FileChannel fileChannel, final int segmentLength) throws IOException
+    {
+        if (null == zeroBuffer)
+        {
+            zeroBuffer = ByteBuffer.allocateDirect(ZERO_FILL_CHUNK_LENGTH);
+        }
+
+        long position = 0;
+        while (position < segmentLength)
+        {
+            zeroBuffer.clear().limit((int)Math.min(ZERO_FILL_CHUNK_LENGTH, segmentLength - position));
+            do
+            {
+                position += fileChannel.write(zeroBuffer, position);
+            }
+            while (zeroBuffer.remaining() > 0);
+        }
+
+        if (forceWrites)
+        {
+            fileChannel.force(false);
+        }
+    }
+
+    /**
+     * Handle to a segment file which has been requested to be prepared.
+     */
+    static final class PreparedSegmentFile
+    {
+        static final int PENDING = 0;
+        static final int READY = 1;
+        static final int TAKEN = 2;
+        static final int CANCELLED = 3;
+        static final int FAILED = 4;
+
+        final AtomicInteger state = new AtomicInteger(PENDING);
+        final File file;
+        final int segmentLength;
+        RandomAccessFile randomAccessFile;
+
+        PreparedSegmentFile(final File file, final int segmentLength)
+        {
+            this.file = file;
+            this.segmentLength = segmentLength;
+        }
+
+        boolean isReady()
+        {
+            return READY == state.get();
+        }
+
+        void discard()
+        {
+            CloseHelper.quietClose(randomAccessFile);
+            IoUtil.delete(file, true);
+        }
+    }
+}
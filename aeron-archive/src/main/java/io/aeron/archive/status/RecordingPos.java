@@ -20,8 +20,10 @@ import io.aeron.AeronCounters;
 import io.aeron.Counter;
 import io.aeron.Image;
 import io.aeron.archive.ArchiveCounters;
+import io.aeron.status.CountersIndex;
 import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.IntArrayList;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.CountersReader;
 
@@ -77,6 +79,11 @@ public final class RecordingPos
     static final int SOURCE_IDENTITY_LENGTH_OFFSET = SESSION_ID_OFFSET + SIZE_OF_INT;
     static final int SOURCE_IDENTITY_OFFSET = SOURCE_IDENTITY_LENGTH_OFFSET + SIZE_OF_INT;
 
+    private static final CountersIndex.Field RECORDING_ID_FIELD =
+        new CountersIndex.Field(RECORDING_POSITION_TYPE_ID, RECORDING_ID_OFFSET, SIZE_OF_LONG);
+    private static final CountersIndex.Field SESSION_ID_FIELD =
+        new CountersIndex.Field(RECORDING_POSITION_TYPE_ID, SESSION_ID_OFFSET, SIZE_OF_INT);
+
     /**
      * Allocated a recording position counter and populate the metadata.
      *
@@ -187,6 +194,22 @@ public final class RecordingPos
         return NULL_COUNTER_ID;
     }
 
+    /**
+     * Find the active counter id for a stream based on the recording id and archive id using an index held by the
+     * owner of the counters reader so repeated finds do not scan all the counters.
+     *
+     * @param countersIndex of the counters to search within.
+     * @param recordingId   for the active recording.
+     * @param archiveId     to target specific Archive. Use {@link Aeron#NULL_VALUE} to emulate old behavior.
+     * @return the counter id if found otherwise {@link CountersReader#NULL_COUNTER_ID}.
+     * @since 1.52.0
+     */
+    public static int findCounterIdByRecording(
+        final CountersIndex countersIndex, final long recordingId, final long archiveId)
+    {
+        return findCounterId(countersIndex, RECORDING_ID_FIELD, recordingId, archiveId);
+    }
+
     /**
      * Find the active counter id for a stream based on the session id.
      *
@@ -243,6 +266,22 @@ public final class RecordingPos
         return NULL_COUNTER_ID;
     }
 
+    /**
+     * Find the active counter id for a stream based on the session id and archive id using an index held by the
+     * owner of the counters reader so repeated finds do not scan all the counters.
+     *
+     * @param countersIndex of the counters to search within.
+     * @param sessionId     for the active recording.
+     * @param archiveId     to target specific Archive. Use {@link Aeron#NULL_VALUE} to emulate old behavior.
+     * @return the counter id if found otherwise {@link CountersReader#NULL_COUNTER_ID}.
+     * @since 1.52.0
+     */
+    public static int findCounterIdBySession(
+        final CountersIndex countersIndex, final int sessionId, final long archiveId)
+    {
+        return findCounterId(countersIndex, SESSION_ID_FIELD, sessionId, archiveId);
+    }
+
     /**
      * Get the recording id for a given counter id.
      *
@@ -296,4 +335,49 @@ public final class RecordingPos
             counters.getCounterTypeId(counterId) == RECORDING_POSITION_TYPE_ID &&
             counters.metaDataBuffer().getLong(recordingIdOffset) == recordingId;
     }
+
+    private static int findCounterId(
+        final CountersIndex index, final CountersIndex.Field field, final long value, final long archiveId)
+    {
+        final CountersReader countersReader = index.countersReader();
+        int counterId = findCounterId(countersReader, index.counterIds(field, value), field, value, archiveId);
+
+        if (NULL_COUNTER_ID == counterId)
+        {
+            index.rebuild();
+            counterId = findCounterId(countersReader, index.counterIds(field, value), field, value, archiveId);
+        }
+
+        return counterId;
+    }
+
+    private static int findCounterId(
+        final CountersReader countersReader,
+        final IntArrayList counterIds,
+        final CountersIndex.Field field,
+        final long value,
+        final long archiveId)
+    {
+        if (null != counterIds)
+        {
+            final DirectBuffer buffer = countersReader.metaDataBuffer();
+
+            for (int i = 0, size = counterIds.size(); i < size; i++)
+            {
+                final int counterId = counterIds.getInt(i);
+                if (CountersIndex.isMatch(countersReader, counterId, RECORDING_POSITION_TYPE_ID, field, value))
+                {
+                    final int keyOffset = metaDataOffset(counterId) + KEY_OFFSET;
+                    final int sourceIdentityLength = buffer.getInt(keyOffset + SOURCE_IDENTITY_LENGTH_OFFSET);
+                    final int archiveIdOffset = keyOffset + SOURCE_IDENTITY_OFFSET + sourceIdentityLength;
+                    if (Aeron.NULL_VALUE == archiveId || buffer.getLong(archiveIdOffset) == archiveId)
+                    {
+                        return counterId;
+                    }
+                }
+            }
+        }
+
+        return NULL_COUNTER_ID;
+    }
 }
@@ -798,6 +798,107 @@ class CatalogTest
         }
     }
 
+    @Test
+    void streamIdIndexIsMaintainedOnLoadAddChangeStateAndReplace()
+    {
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            assertEquals(1, catalog.streamIdIndex(1).size());
+            assertEquals(1, catalog.streamIdIndex(2).size());
+            assertEquals(0, catalog.streamIdIndex(99).size());
+            assertEquals(
+                catalog.index().recordingOffset(recordingTwoId),
+                catalog.streamIdIndex(2).recordingOffset(recordingTwoId));
+
+            final long recordingFourId = catalog.addNewRecording(
+                0L, 0L, 0, SEGMENT_LENGTH, TERM_LENGTH, MTU_LENGTH, 9, 2, "channelJ", "channelJ?tag=f", "sourceB");
+            assertEquals(2, catalog.streamIdIndex(2).size());
+
+            assertTrue(catalog.changeState(recordingTwoId, DELETED));
+            assertEquals(1, catalog.streamIdIndex(2).size());
+            assertEquals(CatalogIndex.NULL_VALUE, catalog.streamIdIndex(2).recordingOffset(recordingTwoId));
+
+            catalog.replaceRecording(
+                recordingOneId,
+                0L,
+                NULL_POSITION,
+                0L,
+                NULL_TIMESTAMP,
+                0,
+                SEGMENT_LENGTH,
+                TERM_LENGTH,
+                MTU_LENGTH,
+                6,
+                3,
+                "a stripped channel which is long enough to no longer fit the space of the original descriptor",
+                "an original channel which is long enough to no longer fit the space of the original descriptor",
+                "sourceA");
+
+            assertEquals(0, catalog.streamIdIndex(1).size());
+            final CatalogIndex streamIndex = catalog.streamIdIndex(3);
+            assertEquals(2, streamIndex.size());
+            assertEquals(
+                catalog.index().recordingOffset(recordingOneId), streamIndex.recordingOffset(recordingOneId));
+            assertEquals(
+                catalog.index().recordingOffset(recordingThreeId), streamIndex.recordingOffset(recordingThreeId));
+            assertEquals(
+                catalog.index().recordingOffset(recordingFourId),
+                catalog.streamIdIndex(2).recordingOffset(recordingFourId));
+        }
+    }
+
+    @Test
+    void channelIndexIsRebuiltOnLoad()
+    {
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            catalog.addNewRecording(
+                0L, 0L, 0, SEGMENT_LENGTH, TERM_LENGTH, MTU_LENGTH, 9, 1, "channelK", "channelK?tag=g", "sourceB");
+        }
+
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            final CatalogIndex channelIndex = catalog.channelFragmentIndex(1, "channelG");
+            assertEquals(1, channelIndex.size());
+            assertEquals(
+                catalog.index().recordingOffset(recordingOneId), channelIndex.recordingOffset(recordingOneId));
+            assertEquals(0, catalog.channelFragmentIndex(1, "channelH").size());
+            assertEquals(0, catalog.channelFragmentIndex(99, "channelG").size());
+            assertSame(catalog.streamIdIndex(1), catalog.channelFragmentIndex(1, "tag="));
+            assertSame(catalog.streamIdIndex(1), catalog.channelFragmentIndex(1, ""));
+        }
+    }
+
+    @Test
+    void channelIndexIsUpdatedOnAddAndChangeState()
+    {
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, CAPACITY, clock, null, segmentFileBuffer))
+        {
+            final long recordingFourId = catalog.addNewRecording(
+                0L, 0L, 0, SEGMENT_LENGTH, TERM_LENGTH, MTU_LENGTH, 9, 1, "channelK", "channelK?tag=g", "sourceB");
+            final long recordingFiveId = catalog.addNewRecording(
+                0L, 0L, 0, SEGMENT_LENGTH, TERM_LENGTH, MTU_LENGTH, 10, 1, "channelK", "channelK?alias=k", "sourceB");
+
+            final CatalogIndex channelIndex = catalog.channelFragmentIndex(1, "alias=k");
+            assertEquals(2, channelIndex.size());
+            assertEquals(
+                catalog.index().recordingOffset(recordingFourId), channelIndex.recordingOffset(recordingFourId));
+            assertEquals(
+                catalog.index().recordingOffset(recordingFiveId), channelIndex.recordingOffset(recordingFiveId));
+            assertEquals(recordingFiveId, catalog.findLast(0, 10, 1, "alias=k".getBytes(US_ASCII)));
+            assertEquals(recordingFourId, catalog.findLast(0, 9, 1, "tag=g".getBytes(US_ASCII)));
+            assertEquals(NULL_RECORD_ID, catalog.findLast(0, 6, 1, "alias=k".getBytes(US_ASCII)));
+
+            assertTrue(catalog.changeState(recordingFourId, INVALID));
+            assertEquals(1, catalog.channelFragmentIndex(1, "channelK").size());
+            assertEquals(NULL_RECORD_ID, catalog.findLast(0, 9, 1, "tag=g".getBytes(US_ASCII)));
+
+            assertTrue(catalog.changeState(recordingFiveId, DELETED));
+            assertEquals(0, catalog.channelFragmentIndex(1, "channelK").size());
+            assertEquals(recordingOneId, catalog.findLast(0, 6, 1, "channel".getBytes(US_ASCII)));
+        }
+    }
+
     @Test
     void findLastReturnsNullRecordingIdIfRecordingIsInTheInvalidState()
     {
@@ -17,16 +17,24 @@ package io.aeron.archive;
 
 import org.agrona.ErrorHandler;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InOrder;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.List;
 
 import static io.aeron.Aeron.NULL_VALUE;
 import static io.aeron.archive.Archive.segmentFileName;
 import static io.aeron.archive.codecs.RecordingSignal.DELETE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 class DeleteSegmentsSessionTest
@@ -48,7 +56,7 @@ class DeleteSegmentsSessionTest
             new File(segmentFileName(recordingId, 56678))));
 
         final DeleteSegmentsSession deleteSegmentsSession = new DeleteSegmentsSession(
-            recordingId, correlationId, files, controlSession, errorHandler, false);
+            recordingId, correlationId, files, null, 0, 0, controlSession, errorHandler, false);
 
         assertEquals(12345000000L, deleteSegmentsSession.maxDeletePosition());
     }
@@ -63,7 +71,7 @@ class DeleteSegmentsSessionTest
         when(controlSession.archiveConductor()).thenReturn(conductor);
 
         final DeleteSegmentsSession deleteSegmentsSession = new DeleteSegmentsSession(
-            recordingId, correlationId, files, controlSession, errorHandler, false);
+            recordingId, correlationId, files, null, 0, 0, controlSession, errorHandler, false);
 
         deleteSegmentsSession.close();
 
@@ -86,7 +94,7 @@ class DeleteSegmentsSessionTest
         when(conductor.hasInProgressReplays(recordingId)).thenReturn(true);
 
         final DeleteSegmentsSession session = new DeleteSegmentsSession(
-            recordingId, correlationId, files, controlSession, errorHandler, true);
+            recordingId, correlationId, files, null, 0, 0, controlSession, errorHandler, true);
 
         assertEquals(0, session.doWork());
         assertEquals(0, session.doWork());
@@ -106,11 +114,60 @@ class DeleteSegmentsSessionTest
         when(conductor.hasInProgressReplays(recordingId)).thenReturn(true, false);
 
         final DeleteSegmentsSession session = new DeleteSegmentsSession(
-            recordingId, correlationId, files, controlSession, errorHandler, true);
+            recordingId, correlationId, files, null, 0, 0, controlSession, errorHandler, true);
 
         assertEquals(0, session.doWork()); // replays in progress, no work
         assertEquals(1, session.doWork()); // replays done, transitions to DELETE_FILES
         assertEquals(1, session.doWork()); // DELETE_FILES, deletes file
         assertEquals(0, files.size());
     }
+
+    @Test
+    void shouldEraseRemainderOfSegmentOnlyOnceReplaysStop(final @TempDir Path tempDir) throws IOException
+    {
+        final long recordingId = 7;
+        final long correlationId = 200;
+        final int segmentLength = 64 * 1024;
+        final int eraseOffset = 4096;
+        final byte[] segmentData = new byte[segmentLength];
+        Arrays.fill(segmentData, (byte)1);
+        final File eraseFile = tempDir.resolve(segmentFileName(recordingId, segmentLength)).toFile();
+        Files.write(eraseFile.toPath(), segmentData);
+
+        final ArrayDeque<File> files = new ArrayDeque<>();
+        final ArchiveConductor conductor = mock(ArchiveConductor.class);
+        when(controlSession.archiveConductor()).thenReturn(conductor);
+        when(conductor.hasInProgressReplays(recordingId)).thenReturn(true, false);
+
+        final DeleteSegmentsSession session = new DeleteSegmentsSession(
+            recordingId,
+            correlationId,
+            files,
+            eraseFile,
+            eraseOffset,
+            segmentLength,
+            controlSession,
+            errorHandler,
+            true);
+
+        assertEquals(segmentLength, session.maxDeletePosition());
+        assertTrue(session.hasPendingErase());
+        assertFalse(session.isDone());
+
+        assertEquals(0, session.doWork());
+        assertArrayEquals(segmentData, Files.readAllBytes(eraseFile.toPath()));
+        verify(conductor, never()).invalidateReplayCaches();
+
+        assertEquals(1, session.doWork());
+        assertEquals(1, session.doWork());
+        assertFalse(session.hasPendingErase());
+        assertTrue(session.isDone());
+        verify(conductor).invalidateReplayCaches();
+
+        final byte[] erasedData = Files.readAllBytes(eraseFile.toPath());
+        assertEquals(segmentLength, erasedData.length);
+        Arrays.fill(segmentData, eraseOffset, segmentLength, (byte)0);
+        assertArrayEquals(segmentData, erasedData);
+        verifyNoInteractions(errorHandler);
+    }
 }
@@ -211,6 +211,56 @@ class RecordingSessionTest
         session.close();
     }
 
+    @Test
+    void shouldOnlyAdvancePositionWhenSyncedByGroupCommit()
+    {
+        context.fileSyncLevel(1).fileSyncGroupCommitIntervalNs(1_000_000);
+        final ArchiveConductor.Recorder recorder = mock(ArchiveConductor.Recorder.class);
+        final RecordingSession session = new RecordingSession(
+            NULL_VALUE,
+            RECORDING_ID,
+            START_POSITION,
+            SEGMENT_LENGTH,
+            CHANNEL,
+            recordingEventsProxy,
+            image,
+            mockPosition,
+            context,
+            CONTROL_SESSION,
+            false,
+            recorder);
+
+        session.doWork();
+
+        when(image.blockPoll(any(), anyInt())).thenAnswer(
+            (invocation) ->
+            {
+                final BlockHandler handle = invocation.getArgument(0);
+                handle.onBlock(mockLogBufferMapped, TERM_OFFSET, RECORDED_BLOCK_LENGTH, SESSION_ID, 0);
+
+                return RECORDED_BLOCK_LENGTH;
+            });
+
+        session.doWork();
+        session.doWork();
+        verify(recorder, times(1)).addToGroupCommit(session);
+        assertEquals(0, positionLong);
+
+        assertEquals(1, session.sync());
+        assertEquals(START_POSITION + 2 * RECORDED_BLOCK_LENGTH, positionLong);
+        assertEquals(0, session.sync());
+
+        session.doWork();
+        verify(recorder, times(2)).addToGroupCommit(session);
+
+        when(image.blockPoll(any(), anyInt())).thenReturn(0);
+        when(image.isClosed()).thenReturn(true);
+        session.doWork();
+        assertTrue(session.isDone());
+        assertEquals(START_POSITION + 3 * RECORDED_BLOCK_LENGTH, positionLong);
+        session.close();
+    }
+
     private static Subscription mockSubscription()
     {
         final Subscription subscription = mock(Subscription.class);
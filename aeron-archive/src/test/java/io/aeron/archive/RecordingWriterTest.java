@@ -15,11 +15,13 @@
  */
 package io.aeron.archive;
 
+import io.aeron.Counter;
 import io.aeron.Image;
 import io.aeron.archive.Archive.Context;
 import io.aeron.archive.client.ArchiveException;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import org.agrona.BitUtil;
+import org.agrona.ErrorHandler;
 import org.agrona.IoUtil;
 import org.agrona.collections.MutableLong;
 import org.agrona.concurrent.NanoClock;
@@ -301,6 +303,87 @@ class RecordingWriterTest
         assertArrayEquals(data2, fileBytes);
     }
 
+    @Test
+    void onBlockShouldRollOverToThePreparedSegmentFile() throws IOException
+    {
+        final Image image = mockImage(0L);
+        final Counter notReadyCounter = mock(Counter.class);
+        final SegmentFilePreparer segmentFilePreparer = new SegmentFilePreparer(
+            archiveDir, null, SegmentFilePreparation.ZERO_FILL, 0, notReadyCounter, mock(ErrorHandler.class));
+        final ArchiveConductor.Recorder mockRecorder = mock(ArchiveConductor.Recorder.class);
+        when(mockRecorder.segmentFilePreparer()).thenReturn(segmentFilePreparer);
+        final RecordingWriter recordingWriter = new RecordingWriter(
+            13, 0, SEGMENT_LENGTH, image, new Context().archiveDir(archiveDir), mockRecorder);
+        recordingWriter.init();
+
+        final File segmentFile2 = segmentFile(13, SEGMENT_LENGTH);
+        final File preparedFile2 = new File(
+            archiveDir, segmentFileName(13, SEGMENT_LENGTH) + SegmentFilePreparer.PREPARED_SUFFIX);
+        assertEquals(1, segmentFilePreparer.doWork());
+        assertTrue(preparedFile2.exists());
+        assertFalse(segmentFile2.exists());
+
+        final UnsafeBuffer termBuffer = new UnsafeBuffer(allocate(TERM_LENGTH));
+        frameType(termBuffer, 0, HDR_TYPE_DATA);
+        frameLengthOrdered(termBuffer, 0, 1024);
+        for (int i = 0; i < SEGMENT_LENGTH / 1024; i++)
+        {
+            recordingWriter.onBlock(termBuffer, 0, 1024, -1, -1);
+        }
+
+        frameLengthOrdered(termBuffer, 0, 192);
+        recordingWriter.onBlock(termBuffer, 0, 192, -1, -1);
+        recordingWriter.close();
+
+        assertFalse(preparedFile2.exists());
+        assertTrue(segmentFile2.exists());
+        assertEquals(SEGMENT_LENGTH, segmentFile2.length());
+        final UnsafeBuffer fileBuffer = new UnsafeBuffer(readAllBytes(segmentFile2.toPath()));
+        assertEquals(HDR_TYPE_DATA, frameType(fileBuffer, 0));
+        assertEquals(192, frameLength(fileBuffer, 0));
+
+        assertEquals(0, segmentFilePreparer.doWork());
+        assertFalse(new File(
+            archiveDir, segmentFileName(13, SEGMENT_LENGTH * 2) + SegmentFilePreparer.PREPARED_SUFFIX).exists());
+        verifyNoInteractions(notReadyCounter);
+    }
+
+    @Test
+    void onBlockShouldDeferSyncToGroupCommit() throws IOException
+    {
+        final Image image = mockImage(0L);
+        final RecordingWriter recordingWriter = new RecordingWriter(
+            1,
+            0,
+            SEGMENT_LENGTH,
+            image,
+            new Context().archiveDir(archiveDir).fileSyncLevel(1).fileSyncGroupCommitIntervalNs(1_000_000),
+            mock(ArchiveConductor.Recorder.class));
+        recordingWriter.init();
+        assertTrue(recordingWriter.isGroupCommit());
+
+        final UnsafeBuffer termBuffer = new UnsafeBuffer(allocate(TERM_LENGTH));
+        frameType(termBuffer, 0, HDR_TYPE_DATA);
+        frameLengthOrdered(termBuffer, 0, 1024);
+        recordingWriter.onBlock(termBuffer, 0, 1024, -1, -1);
+        assertEquals(1024, recordingWriter.position());
+        assertEquals(0, recordingWriter.syncedPosition());
+
+        assertTrue(recordingWriter.sync());
+        assertEquals(1024, recordingWriter.syncedPosition());
+        assertFalse(recordingWriter.sync());
+
+        for (int i = 1; i < SEGMENT_LENGTH / 1024; i++)
+        {
+            recordingWriter.onBlock(termBuffer, 0, 1024, -1, -1);
+        }
+        assertEquals(SEGMENT_LENGTH, recordingWriter.syncedPosition());
+        assertFalse(recordingWriter.sync());
+
+        recordingWriter.close();
+        assertFalse(recordingWriter.sync());
+    }
+
     @Test
     void onBlockShouldComputeCrcUsingTheChecksumBuffer() throws IOException
     {
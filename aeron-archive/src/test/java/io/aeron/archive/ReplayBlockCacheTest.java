@@ -0,0 +1,147 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Counter;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import static io.aeron.archive.ReplayBlockCache.BLOCK_LENGTH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ReplayBlockCacheTest
+{
+    private static final int RECORDING_ID = 7;
+    private static final int BLOCK_COUNT = 16;
+    private static final int SEGMENT_LENGTH = BLOCK_COUNT * BLOCK_LENGTH;
+
+    private final Counter hits = mock(Counter.class);
+    private final Counter misses = mock(Counter.class);
+    private final Counter evictions = mock(Counter.class);
+    private final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(BLOCK_LENGTH));
+    private FileChannel fileChannel;
+
+    @TempDir
+    private File tempDir;
+
+    @BeforeEach
+    void before() throws IOException
+    {
+        final byte[] bytes = new byte[SEGMENT_LENGTH];
+        for (int i = 0; i < bytes.length; i++)
+        {
+            bytes[i] = (byte)(i / BLOCK_LENGTH);
+        }
+
+        final File file = new File(tempDir, RECORDING_ID + "-0.rec");
+        Files.write(file.toPath(), bytes);
+        fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    }
+
+    @AfterEach
+    void after() throws IOException
+    {
+        fileChannel.close();
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() throws IOException
+    {
+        try (ReplayBlockCache cache = new ReplayBlockCache(4 * BLOCK_LENGTH, hits, misses, evictions))
+        {
+            final int offset = BLOCK_LENGTH - 64;
+
+            assertEquals(128, read(cache, offset, SEGMENT_LENGTH, 128));
+            assertEquals(128, read(cache, offset, SEGMENT_LENGTH, 128));
+
+            assertEquals(0, buffer.getByte(63));
+            assertEquals(1, buffer.getByte(64));
+            verify(misses, times(2)).incrementRelease();
+            verify(hits, times(2)).incrementRelease();
+            assertEquals(2, cache.usedBlockCount());
+        }
+    }
+
+    @Test
+    void shouldKeepBlocksReadMoreThanOnceDuringScan() throws IOException
+    {
+        try (ReplayBlockCache cache = new ReplayBlockCache(4 * BLOCK_LENGTH, hits, misses, evictions))
+        {
+            read(cache, 0, SEGMENT_LENGTH, 64);
+            read(cache, 0, SEGMENT_LENGTH, 64);
+
+            for (int i = 1; i < BLOCK_COUNT; i++)
+            {
+                read(cache, i * BLOCK_LENGTH, SEGMENT_LENGTH, 64);
+            }
+
+            read(cache, 0, SEGMENT_LENGTH, 64);
+
+            assertEquals(0, buffer.getByte(0));
+            verify(hits, times(2)).incrementRelease();
+            verify(misses, times(BLOCK_COUNT)).incrementRelease();
+            verify(evictions, times(BLOCK_COUNT - 4)).incrementRelease();
+        }
+    }
+
+    @Test
+    void shouldReadBlockAgainWhenMoreHasBeenRecorded() throws IOException
+    {
+        try (ReplayBlockCache cache = new ReplayBlockCache(4 * BLOCK_LENGTH, hits, misses, evictions))
+        {
+            assertEquals(256, read(cache, 0, 256, 1024));
+            assertEquals(1024, read(cache, 0, SEGMENT_LENGTH, 1024));
+
+            verify(misses, times(2)).incrementRelease();
+            verify(hits, never()).incrementRelease();
+        }
+    }
+
+    @Test
+    void shouldDiscardBlocksWhenInvalidated() throws IOException
+    {
+        try (ReplayBlockCache cache = new ReplayBlockCache(4 * BLOCK_LENGTH, hits, misses, evictions))
+        {
+            read(cache, 0, SEGMENT_LENGTH, 64);
+            cache.invalidate();
+            read(cache, 0, SEGMENT_LENGTH, 64);
+
+            verify(misses, times(2)).incrementRelease();
+            assertEquals(1, cache.usedBlockCount());
+        }
+    }
+
+    private int read(
+        final ReplayBlockCache cache, final int segmentOffset, final int recordedLength, final int length)
+        throws IOException
+    {
+        return cache.read(RECORDING_ID, 0, fileChannel, segmentOffset, recordedLength, buffer, length);
+    }
+}
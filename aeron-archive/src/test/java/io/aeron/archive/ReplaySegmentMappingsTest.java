@@ -0,0 +1,131 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplaySegmentMappingsTest
+{
+    private static final int SEGMENT_LENGTH = 64 * 1024;
+
+    @TempDir
+    private File tempDir;
+
+    @Test
+    void shouldReuseMappingOfSameSegment() throws IOException
+    {
+        final File file = newSegmentFile("0-0.rec");
+
+        try (ReplaySegmentMappings mappings = new ReplaySegmentMappings(SEGMENT_LENGTH);
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            final ReplaySegmentMappings.Mapping mapping = mappings.acquire(0, 0, file, channel, SEGMENT_LENGTH);
+            assertNotNull(mapping);
+            assertSame(mapping, mappings.acquire(0, 0, file, channel, SEGMENT_LENGTH));
+
+            mappings.release(mapping);
+            mappings.release(mapping);
+            assertSame(mapping, mappings.acquire(0, 0, file, channel, SEGMENT_LENGTH));
+            assertEquals(SEGMENT_LENGTH, mappings.mappedBytes());
+        }
+    }
+
+    @Test
+    void shouldEvictUnusedMappingsToStayWithinBudget() throws IOException
+    {
+        final File file0 = newSegmentFile("0-0.rec");
+        final File file1 = newSegmentFile("1-0.rec");
+
+        try (ReplaySegmentMappings mappings = new ReplaySegmentMappings(SEGMENT_LENGTH);
+            FileChannel channel0 = FileChannel.open(file0.toPath(), StandardOpenOption.READ);
+            FileChannel channel1 = FileChannel.open(file1.toPath(), StandardOpenOption.READ))
+        {
+            final ReplaySegmentMappings.Mapping mapping0 = mappings.acquire(0, 0, file0, channel0, SEGMENT_LENGTH);
+            assertNotNull(mapping0);
+            assertNull(mappings.acquire(1, 0, file1, channel1, SEGMENT_LENGTH));
+
+            mappings.release(mapping0);
+            assertNotNull(mappings.acquire(1, 0, file1, channel1, SEGMENT_LENGTH));
+            assertEquals(SEGMENT_LENGTH, mappings.mappedBytes());
+        }
+    }
+
+    @Test
+    void shouldDropMappingsWhenInvalidatedAndUnmapThoseInUseOnRelease() throws IOException
+    {
+        final File file0 = newSegmentFile("0-0.rec");
+        final File file1 = newSegmentFile("1-0.rec");
+
+        try (ReplaySegmentMappings mappings = new ReplaySegmentMappings(2 * SEGMENT_LENGTH);
+            FileChannel channel0 = FileChannel.open(file0.toPath(), StandardOpenOption.READ);
+            FileChannel channel1 = FileChannel.open(file1.toPath(), StandardOpenOption.READ))
+        {
+            final ReplaySegmentMappings.Mapping mapping0 = mappings.acquire(0, 0, file0, channel0, SEGMENT_LENGTH);
+            final ReplaySegmentMappings.Mapping mapping1 = mappings.acquire(1, 0, file1, channel1, SEGMENT_LENGTH);
+            assertNotNull(mapping0);
+            assertNotNull(mapping1);
+            mappings.release(mapping1);
+            assertEquals(0, mappings.checkInvalidation());
+
+            mappings.invalidate();
+            assertEquals(2, mappings.checkInvalidation());
+            assertEquals(SEGMENT_LENGTH, mappings.mappedBytes());
+
+            mappings.release(mapping0);
+            assertEquals(0, mappings.mappedBytes());
+
+            final ReplaySegmentMappings.Mapping remapping0 = mappings.acquire(0, 0, file0, channel0, SEGMENT_LENGTH);
+            assertNotNull(remapping0);
+            assertNotSame(mapping0, remapping0);
+            mappings.release(remapping0);
+        }
+    }
+
+    @Test
+    void shouldNotMapSegmentWhichIsNotFullyAllocated() throws IOException
+    {
+        final File file = new File(tempDir, "0-0.rec");
+        Files.write(file.toPath(), new byte[SEGMENT_LENGTH / 2]);
+
+        try (ReplaySegmentMappings mappings = new ReplaySegmentMappings(SEGMENT_LENGTH);
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            assertNull(mappings.acquire(0, 0, file, channel, SEGMENT_LENGTH));
+            assertEquals(0, mappings.mappedBytes());
+        }
+    }
+
+    private File newSegmentFile(final String name) throws IOException
+    {
+        final File file = new File(tempDir, name);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw"))
+        {
+            randomAccessFile.setLength(SEGMENT_LENGTH);
+        }
+
+        return file;
+    }
+}
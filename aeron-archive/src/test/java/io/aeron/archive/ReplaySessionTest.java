@@ -27,6 +27,7 @@ import io.aeron.logbuffer.BufferClaim;
 import io.aeron.logbuffer.Header;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.DirectBuffer;
 import org.agrona.IoUtil;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.CachedEpochClock;
@@ -353,6 +354,43 @@ class ReplaySessionTest
         }
     }
 
+    @Test
+    void shouldReplayFullDataFromMappedSegment()
+    {
+        final long length = 4 * FRAME_LENGTH;
+        final long correlationId = 1L;
+        try (ReplaySegmentMappings segmentMappings = new ReplaySegmentMappings(SEGMENT_LENGTH);
+            ReplaySession replaySession = replaySession(
+                RECORDING_POSITION,
+                length,
+                correlationId,
+                mockReplayPub,
+                mockControlSession,
+                null,
+                null,
+                mockReplayer(segmentMappings)))
+        {
+            when(mockReplayPub.isClosed()).thenReturn(false);
+            when(mockReplayPub.isConnected()).thenReturn(true);
+
+            final UnsafeBuffer termBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(4096));
+            mockPublication(mockReplayPub, termBuffer);
+
+            assertNotEquals(0, replaySession.doWork());
+            assertThat(messageCounter, is(2));
+            assertEquals(SEGMENT_LENGTH, segmentMappings.mappedBytes());
+
+            validateFrame(termBuffer, 0, FRAME_LENGTH, 0, UNFRAGMENTED, SESSION_ID, STREAM_ID);
+            validateFrame(termBuffer, FRAME_LENGTH, FRAME_LENGTH, 1, BEGIN_FRAG_FLAG, SESSION_ID, STREAM_ID);
+            validateFrame(termBuffer, 2 * FRAME_LENGTH, FRAME_LENGTH, 2, END_FRAG_FLAG, SESSION_ID, STREAM_ID);
+
+            verify(mockReplayPub, never()).offerBlock(any(MutableDirectBuffer.class), anyInt(), anyInt());
+            verify(mockReplayPub).appendPadding(FRAME_LENGTH - HEADER_LENGTH);
+            assertTrue(replaySession.isDone());
+            assertEquals(SEGMENT_LENGTH, segmentMappings.mappedBytes());
+        }
+    }
+
     @Test
     void shouldGiveUpIfPublishersAreNotConnectedAfterTimeout()
     {
@@ -745,6 +783,18 @@ class ReplaySessionTest
                 return (long)length;
             });
 
+        when(replay.offerRecordedBlock(any(DirectBuffer.class), anyInt(), anyInt())).then(
+            (invocation) ->
+            {
+                final DirectBuffer buffer = invocation.getArgument(0);
+                final int offset = invocation.getArgument(1);
+                final int length = invocation.getArgument(2);
+                termBuffer.putBytes(offerBlockOffset, buffer, offset, length);
+                messageCounter++;
+                offerBlockOffset += length;
+                return (long)length;
+            });
+
         when(replay.appendPadding(anyInt())).then(
             (invocation) ->
             {
@@ -763,6 +813,27 @@ class ReplaySessionTest
         final ControlSession controlSession,
         final Counter recordingPositionCounter,
         final Checksum checksum)
+    {
+        return replaySession(
+            position,
+            length,
+            correlationId,
+            replay,
+            controlSession,
+            recordingPositionCounter,
+            checksum,
+            mock(ArchiveConductor.Replayer.class));
+    }
+
+    private ReplaySession replaySession(
+        final long position,
+        final long length,
+        final long correlationId,
+        final ExclusivePublication replay,
+        final ControlSession controlSession,
+        final Counter recordingPositionCounter,
+        final Checksum checksum,
+        final ArchiveConductor.Replayer replayer)
     {
         return new ReplaySession(
             correlationId,
@@ -785,7 +856,15 @@ class ReplaySessionTest
             mockCountersReader,
             recordingPositionCounter,
             checksum,
-            mock(ArchiveConductor.Replayer.class));
+            replayer);
+    }
+
+    private static ArchiveConductor.Replayer mockReplayer(final ReplaySegmentMappings segmentMappings)
+    {
+        final ArchiveConductor.Replayer replayer = mock(ArchiveConductor.Replayer.class);
+        when(replayer.segmentMappings()).thenReturn(segmentMappings);
+
+        return replayer;
     }
 
     static void validateFrame(
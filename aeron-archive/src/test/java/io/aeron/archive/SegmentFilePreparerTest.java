@@ -0,0 +1,122 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Counter;
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+
+import static io.aeron.archive.Archive.segmentFileName;
+import static io.aeron.archive.SegmentFilePreparer.PREPARED_SUFFIX;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SegmentFilePreparerTest
+{
+    private static final int SEGMENT_LENGTH = 1024 * 1024;
+
+    private final Counter notReadyCounter = mock(Counter.class);
+    private final ErrorHandler errorHandler = mock(ErrorHandler.class);
+
+    @TempDir
+    private File archiveDir;
+
+    @Test
+    void shouldHandOffPreparedFileWithZerosAtSegmentLength() throws IOException
+    {
+        final SegmentFilePreparer preparer = newPreparer(SegmentFilePreparation.ZERO_FILL);
+        final SegmentFilePreparer.PreparedSegmentFile preparedSegmentFile =
+            preparer.prepare(5, SEGMENT_LENGTH, SEGMENT_LENGTH);
+        assertFalse(preparedSegmentFile.isReady());
+
+        assertEquals(1, preparer.doWork());
+        assertTrue(preparedSegmentFile.isReady());
+
+        final File segmentFile = new File(archiveDir, segmentFileName(5, SEGMENT_LENGTH));
+        final FileChannel fileChannel = preparer.take(preparedSegmentFile, segmentFile);
+        try
+        {
+            assertNotNull(fileChannel);
+            assertEquals(SEGMENT_LENGTH, fileChannel.size());
+            assertFalse(new File(archiveDir, segmentFile.getName() + PREPARED_SUFFIX).exists());
+            assertArrayEquals(new byte[SEGMENT_LENGTH], Files.readAllBytes(segmentFile.toPath()));
+        }
+        finally
+        {
+            CloseHelper.close(fileChannel);
+        }
+
+        verifyNoInteractions(notReadyCounter, errorHandler);
+    }
+
+    @Test
+    void shouldCountAndCancelPreparationWhichIsNotReadyWhenTaken()
+    {
+        final SegmentFilePreparer preparer = newPreparer(SegmentFilePreparation.ALLOCATE);
+        final SegmentFilePreparer.PreparedSegmentFile preparedSegmentFile =
+            preparer.prepare(5, SEGMENT_LENGTH, SEGMENT_LENGTH);
+
+        final File segmentFile = new File(archiveDir, segmentFileName(5, SEGMENT_LENGTH));
+        assertNull(preparer.take(preparedSegmentFile, segmentFile));
+        verify(notReadyCounter).incrementRelease();
+
+        assertEquals(0, preparer.doWork());
+        assertFalse(segmentFile.exists());
+        assertFalse(new File(archiveDir, segmentFile.getName() + PREPARED_SUFFIX).exists());
+    }
+
+    @Test
+    void shouldDeletePreparedFileWhenCancelled()
+    {
+        final SegmentFilePreparer preparer = newPreparer(SegmentFilePreparation.ALLOCATE);
+        final SegmentFilePreparer.PreparedSegmentFile preparedSegmentFile =
+            preparer.prepare(5, SEGMENT_LENGTH, SEGMENT_LENGTH);
+        final File preparedFile = new File(archiveDir, segmentFileName(5, SEGMENT_LENGTH) + PREPARED_SUFFIX);
+
+        assertEquals(1, preparer.doWork());
+        assertTrue(preparedFile.exists());
+
+        preparer.cancel(preparedSegmentFile);
+        assertFalse(preparedFile.exists());
+        verifyNoInteractions(notReadyCounter);
+    }
+
+    @Test
+    void shouldDeleteFilesLeftPreparedOnStart() throws IOException
+    {
+        final File leftOverFile = new File(archiveDir, segmentFileName(3, 0) + PREPARED_SUFFIX);
+        final File segmentFile = new File(archiveDir, segmentFileName(3, 0));
+        assertTrue(leftOverFile.createNewFile());
+        assertTrue(segmentFile.createNewFile());
+
+        newPreparer(SegmentFilePreparation.ALLOCATE).onStart();
+
+        assertFalse(leftOverFile.exists());
+        assertTrue(segmentFile.exists());
+    }
+
+    private SegmentFilePreparer newPreparer(final SegmentFilePreparation preparation)
+    {
+        return new SegmentFilePreparer(archiveDir, null, preparation, 0, notReadyCounter, errorHandler);
+    }
+}
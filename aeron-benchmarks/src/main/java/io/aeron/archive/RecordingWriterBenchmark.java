@@ -0,0 +1,185 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Image;
+import io.aeron.LogBuffers;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.SystemNanoClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.UnsafeBufferPosition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.logbuffer.FrameDescriptor.frameLengthOrdered;
+import static io.aeron.logbuffer.FrameDescriptor.frameType;
+import static io.aeron.logbuffer.LogBufferDescriptor.LOG_META_DATA_LENGTH;
+import static io.aeron.logbuffer.LogBufferDescriptor.PAGE_MIN_SIZE;
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static io.aeron.logbuffer.LogBufferDescriptor.computeLogLength;
+import static io.aeron.logbuffer.LogBufferDescriptor.mtuLength;
+import static io.aeron.logbuffer.LogBufferDescriptor.pageSize;
+import static io.aeron.logbuffer.LogBufferDescriptor.termLength;
+import static io.aeron.protocol.DataHeaderFlyweight.HDR_TYPE_DATA;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static org.agrona.BufferUtil.allocateDirectAligned;
+import static org.agrona.concurrent.status.CountersReader.COUNTER_LENGTH;
+
+/**
+ * Benchmark of {@link RecordingWriter#onBlock} writing blocks of a term to recording segment files as the archive
+ * recorder does. The archive directory is recreated for each iteration so segment files do not accumulate.
+ */
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/jdk.internal.misc=ALL-UNNAMED")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class RecordingWriterBenchmark
+{
+    private static final int TERM_LENGTH = TERM_MIN_LENGTH;
+    private static final int SEGMENT_LENGTH = TERM_LENGTH * 256;
+    private static final int MESSAGE_LENGTH = 992;
+
+    /**
+     * Length of the block of frames written in each operation.
+     */
+    @Param({ "4096", "65536" })
+    public int blockLength;
+
+    /**
+     * Archive file sync level where 0 is none, 1 syncs data, and 2 syncs data and metadata.
+     */
+    @Param({ "0", "1" })
+    public int fileSyncLevel;
+
+    private int termOffset;
+    private int termId;
+    private UnsafeBuffer termBuffer;
+    private File archiveDir;
+    private LogBuffers logBuffers;
+    private RecordingWriter recordingWriter;
+
+    /**
+     * Fill the term with frames and create the writer over a new archive directory.
+     *
+     * @throws IOException if the archive directory or segment file cannot be created.
+     */
+    @Setup(Level.Iteration)
+    public void setup() throws IOException
+    {
+        termBuffer = new UnsafeBuffer(allocateDirectAligned(TERM_LENGTH, FRAME_ALIGNMENT));
+        final int frameLength = MESSAGE_LENGTH + HEADER_LENGTH;
+        for (int offset = 0; offset < TERM_LENGTH; offset += frameLength)
+        {
+            frameType(termBuffer, offset, HDR_TYPE_DATA);
+            frameLengthOrdered(termBuffer, offset, frameLength);
+        }
+
+        archiveDir = Files.createTempDirectory("aeron-benchmark-archive").toFile();
+        logBuffers = newLogBuffers(new File(archiveDir, "image.logbuffer"));
+        final Image image = new Image(
+            null,
+            0,
+            new UnsafeBufferPosition(new UnsafeBuffer(new byte[COUNTER_LENGTH]), 0),
+            logBuffers,
+            null,
+            "benchmark",
+            1);
+
+        final Archive.Context ctx = new Archive.Context()
+            .archiveDir(archiveDir)
+            .fileSyncLevel(fileSyncLevel)
+            .nanoClock(SystemNanoClock.INSTANCE);
+        final ArchiveConductor.Recorder recorder = new ArchiveConductor.Recorder(null, ctx)
+        {
+        };
+
+        recordingWriter = new RecordingWriter(1, 0, SEGMENT_LENGTH, image, ctx, recorder);
+        recordingWriter.init();
+        termOffset = 0;
+        termId = 0;
+    }
+
+    /**
+     * Close the writer and the image log buffers then delete the archive directory.
+     */
+    @TearDown(Level.Iteration)
+    public void tearDown()
+    {
+        recordingWriter.close();
+        logBuffers.close();
+        IoUtil.delete(archiveDir, false);
+    }
+
+    /**
+     * Write a block of the term to the recording.
+     *
+     * @return the position of the recording.
+     */
+    @Benchmark
+    public long onBlock()
+    {
+        recordingWriter.onBlock(termBuffer, termOffset, blockLength, 0, termId);
+
+        termOffset += blockLength;
+        if (termOffset >= TERM_LENGTH)
+        {
+            termOffset = 0;
+            termId++;
+        }
+
+        return recordingWriter.position();
+    }
+
+    private static LogBuffers newLogBuffers(final File logFile)
+    {
+        final long logLength = computeLogLength(TERM_LENGTH, PAGE_MIN_SIZE);
+        final MappedByteBuffer mappedBuffer = IoUtil.mapNewFile(logFile, logLength);
+        try
+        {
+            final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(
+                mappedBuffer, (int)(logLength - LOG_META_DATA_LENGTH), LOG_META_DATA_LENGTH);
+            termLength(metaDataBuffer, TERM_LENGTH);
+            pageSize(metaDataBuffer, PAGE_MIN_SIZE);
+            mtuLength(metaDataBuffer, MESSAGE_LENGTH + HEADER_LENGTH);
+        }
+        finally
+        {
+            IoUtil.unmap(mappedBuffer);
+        }
+
+        return new LogBuffers(logFile.getAbsolutePath());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.benchmarks;
+
+import io.aeron.cluster.ClusterMember;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the quorum calculations a cluster leader performs as append positions arrive from followers.
+ */
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/jdk.internal.misc=ALL-UNNAMED")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ClusterMemberBenchmark
+{
+    private static final long LEADERSHIP_TERM_ID = 7;
+    private static final long TIMEOUT_NS = TimeUnit.SECONDS.toNanos(10);
+    private static final long NOW_NS = TimeUnit.SECONDS.toNanos(1);
+    private static final int POSITION_INCREMENT = 1024;
+
+    /**
+     * Number of members in the cluster.
+     */
+    @Param({ "3", "5", "7" })
+    public int memberCount;
+
+    private int memberIndex;
+    private long[] rankedPositions;
+    private ClusterMember[] members;
+
+    /**
+     * Create the cluster members with staggered positions.
+     */
+    @Setup
+    public void setup()
+    {
+        members = new ClusterMember[memberCount];
+        for (int i = 0; i < memberCount; i++)
+        {
+            members[i] = new ClusterMember(
+                i, "ingress", "consensus", "log", "catchup", "archive", "endpoints")
+                .leadershipTermId(LEADERSHIP_TERM_ID)
+                .logPosition((long)i * POSITION_INCREMENT)
+                .timeOfLastAppendPositionNs(NOW_NS);
+        }
+
+        rankedPositions = new long[ClusterMember.quorumThreshold(memberCount)];
+    }
+
+    /**
+     * Advance the position of one member and calculate the position reached by a quorum.
+     *
+     * @return the quorum position.
+     */
+    @Benchmark
+    public long quorumPosition()
+    {
+        advanceMember();
+        return ClusterMember.quorumPosition(members, rankedPositions, NOW_NS, TIMEOUT_NS);
+    }
+
+    /**
+     * Advance the position of one member and check if a quorum has reached its position.
+     *
+     * @return true if a quorum has reached the position.
+     */
+    @Benchmark
+    public boolean hasQuorumAtPosition()
+    {
+        final long position = advanceMember();
+        return ClusterMember.hasQuorumAtPosition(members, LEADERSHIP_TERM_ID, position, NOW_NS, TIMEOUT_NS);
+    }
+
+    private long advanceMember()
+    {
+        final ClusterMember member = members[memberIndex];
+        final long position = member.logPosition() + (long)memberCount * POSITION_INCREMENT;
+        member.logPosition(position);
+
+        if (++memberIndex == memberCount)
+        {
+            memberIndex = 0;
+        }
+
+        return position;
+    }
+}
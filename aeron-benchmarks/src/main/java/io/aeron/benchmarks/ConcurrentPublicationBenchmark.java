@@ -0,0 +1,160 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.benchmarks;
+
+import io.aeron.Aeron;
+import io.aeron.CommonContext;
+import io.aeron.ConcurrentPublication;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.agrona.BufferUtil.allocateDirectAligned;
+
+/**
+ * Benchmark of many threads offering to a shared {@link ConcurrentPublication} over IPC, comparing contention on
+ * the term tail with combining offers, see {@link Aeron.Context#publicationOfferCombining(boolean)}.
+ * <p>
+ * Vary the number of publishing threads with the JMH {@code -t} option, e.g. {@code -t 1}, {@code -t 8},
+ * {@code -t 32}. A background thread drains the subscription.
+ */
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/jdk.internal.misc=ALL-UNNAMED")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentPublicationBenchmark
+{
+    private static final int STREAM_ID = 1001;
+    private static final FragmentHandler NO_OP_HANDLER = (buffer, offset, length, header) -> {};
+
+    /**
+     * Should offers from contending threads be combined.
+     */
+    @Param({ "false", "true" })
+    public boolean combining;
+
+    /**
+     * Length of the message payload.
+     */
+    @Param({ "32", "288" })
+    public int messageLength;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private UnsafeBuffer buffer;
+    private MediaDriver mediaDriver;
+    private Aeron aeron;
+    private Publication publication;
+    private Subscription subscription;
+    private Thread subscriberThread;
+
+    /**
+     * Launch an embedded driver, connect the publication, and start draining the subscription.
+     */
+    @Setup
+    public void setup()
+    {
+        buffer = new UnsafeBuffer(allocateDirectAligned(messageLength, CACHE_LINE_LENGTH));
+        mediaDriver = MediaDriver.launch(new MediaDriver.Context()
+            .aeronDirectoryName(CommonContext.generateRandomDirName())
+            .threadingMode(ThreadingMode.SHARED)
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true));
+        aeron = Aeron.connect(new Aeron.Context()
+            .aeronDirectoryName(mediaDriver.aeronDirectoryName())
+            .publicationOfferCombining(combining));
+        subscription = aeron.addSubscription(CommonContext.IPC_CHANNEL, STREAM_ID);
+        publication = aeron.addPublication(CommonContext.IPC_CHANNEL, STREAM_ID);
+
+        while (!publication.isConnected() || !subscription.isConnected())
+        {
+            Thread.yield();
+        }
+
+        running.set(true);
+        subscriberThread = new Thread(() ->
+        {
+            while (running.get())
+            {
+                if (0 == subscription.poll(NO_OP_HANDLER, Integer.MAX_VALUE))
+                {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+        subscriberThread.setName("subscriber");
+        subscriberThread.setDaemon(true);
+        subscriberThread.start();
+    }
+
+    /**
+     * Stop draining the subscription and close the client and driver.
+     *
+     * @throws InterruptedException if interrupted while waiting for the subscriber thread.
+     */
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        running.set(false);
+        subscriberThread.join();
+        CloseHelper.closeAll(publication, subscription, aeron, mediaDriver);
+    }
+
+    /**
+     * Offer a message, retrying while back pressured.
+     *
+     * @return the new position of the publication.
+     */
+    @Benchmark
+    public long offer()
+    {
+        long position;
+        while ((position = publication.offer(buffer, 0, messageLength)) < 0)
+        {
+            if (position == Publication.CLOSED || position == Publication.MAX_POSITION_EXCEEDED)
+            {
+                throw new IllegalStateException("publication failed: " + Publication.errorString(position));
+            }
+
+            Thread.onSpinWait();
+        }
+
+        return position;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.benchmarks;
+
+import io.aeron.Aeron;
+import io.aeron.CommonContext;
+import io.aeron.DirectBufferVector;
+import io.aeron.ExclusivePublication;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.BufferClaim;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.agrona.BufferUtil.allocateDirectAligned;
+
+/**
+ * Benchmark of {@link ExclusivePublication#offer}, {@link ExclusivePublication#tryClaim(int, BufferClaim)}, and
+ * {@link ExclusivePublication#offer(DirectBufferVector[])} over IPC with an embedded driver. The subscription is
+ * drained on the benchmark thread whenever the publication is back pressured.
+ */
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/jdk.internal.misc=ALL-UNNAMED")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ExclusivePublicationBenchmark
+{
+    private static final int STREAM_ID = 1001;
+    private static final FragmentHandler NO_OP_HANDLER = (buffer, offset, length, header) -> {};
+
+    /**
+     * Length of the message payload.
+     */
+    @Param({ "32", "288", "1344" })
+    public int messageLength;
+
+    private final BufferClaim bufferClaim = new BufferClaim();
+    private UnsafeBuffer buffer;
+    private DirectBufferVector[] vectors;
+    private MediaDriver mediaDriver;
+    private Aeron aeron;
+    private ExclusivePublication publication;
+    private Subscription subscription;
+
+    /**
+     * Launch an embedded driver and connect the publication and subscription.
+     */
+    @Setup
+    public void setup()
+    {
+        buffer = new UnsafeBuffer(allocateDirectAligned(messageLength, CACHE_LINE_LENGTH));
+        final int headerLength = Math.min(32, messageLength / 2);
+        vectors = new DirectBufferVector[]{
+            new DirectBufferVector(buffer, 0, headerLength),
+            new DirectBufferVector(buffer, headerLength, messageLength - headerLength) };
+
+        mediaDriver = MediaDriver.launch(new MediaDriver.Context()
+            .aeronDirectoryName(CommonContext.generateRandomDirName())
+            .threadingMode(ThreadingMode.SHARED)
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true));
+        aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(mediaDriver.aeronDirectoryName()));
+        subscription = aeron.addSubscription(CommonContext.IPC_CHANNEL, STREAM_ID);
+        publication = aeron.addExclusivePublication(CommonContext.IPC_CHANNEL, STREAM_ID);
+
+        while (!publication.isConnected() || !subscription.isConnected())
+        {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Close the client and driver.
+     */
+    @TearDown
+    public void tearDown()
+    {
+        CloseHelper.closeAll(publication, subscription, aeron, mediaDriver);
+    }
+
+    /**
+     * Offer a message copied from a buffer.
+     *
+     * @return the new position of the publication.
+     */
+    @Benchmark
+    public long offer()
+    {
+        long position;
+        while ((position = publication.offer(buffer, 0, messageLength)) < 0)
+        {
+            drain(position);
+        }
+
+        return position;
+    }
+
+    /**
+     * Claim a range of the log, write the message into it, and commit.
+     *
+     * @return the new position of the publication.
+     */
+    @Benchmark
+    public long tryClaim()
+    {
+        long position;
+        while ((position = publication.tryClaim(messageLength, bufferClaim)) < 0)
+        {
+            drain(position);
+        }
+
+        bufferClaim.buffer().putLong(bufferClaim.offset(), position);
+        bufferClaim.commit();
+
+        return position;
+    }
+
+    /**
+     * Offer a message gathered from a header and payload vector.
+     *
+     * @return the new position of the publication.
+     */
+    @Benchmark
+    public long offerVectors()
+    {
+        long position;
+        while ((position = publication.offer(vectors)) < 0)
+        {
+            drain(position);
+        }
+
+        return position;
+    }
+
+    private void drain(final long position)
+    {
+        if (position == ExclusivePublication.CLOSED || position == ExclusivePublication.MAX_POSITION_EXCEEDED)
+        {
+            throw new IllegalStateException("publication failed: " + ExclusivePublication.errorString(position));
+        }
+
+        subscription.poll(NO_OP_HANDLER, Integer.MAX_VALUE);
+    }
+}
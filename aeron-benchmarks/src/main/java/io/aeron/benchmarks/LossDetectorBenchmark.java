@@ -0,0 +1,107 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.benchmarks;
+
+import io.aeron.driver.LossDetector;
+import io.aeron.driver.LossHandler;
+import io.aeron.driver.StaticDelayGenerator;
+import io.aeron.logbuffer.FrameDescriptor;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static io.aeron.logbuffer.LogBufferDescriptor.positionBitsToShift;
+import static org.agrona.BufferUtil.allocateDirectAligned;
+
+/**
+ * Benchmark of {@link LossDetector#scan} over a term of frames with a gap as the receiver does each duty cycle for
+ * an image which has loss.
+ */
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/jdk.internal.misc=ALL-UNNAMED")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class LossDetectorBenchmark
+{
+    private static final int TERM_LENGTH = TERM_MIN_LENGTH;
+    private static final int INITIAL_TERM_ID = 7;
+    private static final long DELAY_NS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * Length of the message payload in each frame.
+     */
+    @Param({ "32", "1344" })
+    public int messageLength;
+
+    /**
+     * Offset in the term at which the gap begins.
+     */
+    @Param({ "1024", "32768" })
+    public int gapOffset;
+
+    private long nowNs;
+    private long gapCount;
+    private UnsafeBuffer termBuffer;
+    private LossDetector lossDetector;
+
+    /**
+     * Fill the term with data frames leaving a gap.
+     */
+    @Setup
+    public void setup()
+    {
+        termBuffer = new UnsafeBuffer(allocateDirectAligned(TERM_LENGTH, FrameDescriptor.FRAME_ALIGNMENT));
+        TermScannerBenchmark.Frames.fill(termBuffer, 0, gapOffset, messageLength);
+        TermScannerBenchmark.Frames.fill(termBuffer, gapOffset + 4096, TERM_LENGTH, messageLength);
+
+        final LossHandler lossHandler = (termId, termOffset, length) -> gapCount++;
+        lossDetector = new LossDetector(new StaticDelayGenerator(DELAY_NS), lossHandler);
+    }
+
+    /**
+     * Scan from the start of the term to its end for gaps.
+     *
+     * @return the packed outcome of the scan.
+     */
+    @Benchmark
+    public long scan()
+    {
+        nowNs += 1000;
+
+        return lossDetector.scan(
+            termBuffer,
+            0,
+            TERM_LENGTH,
+            nowNs,
+            TERM_LENGTH - 1,
+            positionBitsToShift(TERM_LENGTH),
+            INITIAL_TERM_ID);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.benchmarks;
+
+import io.aeron.Aeron;
+import io.aeron.CommonContext;
+import io.aeron.ExclusivePublication;
+import io.aeron.Image;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import io.aeron.archive.Archive;
+import io.aeron.archive.ArchivingMediaDriver;
+import io.aeron.archive.client.AeronArchive;
+import io.aeron.archive.codecs.SourceLocation;
+import io.aeron.archive.status.RecordingPos;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.CloseHelper;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.agrona.BufferUtil.allocateDirectAligned;
+
+/**
+ * Benchmark of replaying a recording from an embedded archive over IPC, which measures the reads of the replay
+ * session from recording segment files through to the replay subscription.
+ */
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/jdk.internal.misc=ALL-UNNAMED")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class ReplayBenchmark
+{
+    private static final int STREAM_ID = 1001;
+    private static final int REPLAY_STREAM_ID = 1002;
+    private static final int MESSAGE_LENGTH = 1024;
+    private static final FragmentHandler NO_OP_HANDLER = (buffer, offset, length, header) -> {};
+
+    /**
+     * Length of the recording in megabytes.
+     */
+    @Param({ "64" })
+    public int recordingLengthMb;
+
+    private long recordingId;
+    private long recordingLength;
+    private File archiveDir;
+    private ArchivingMediaDriver archivingMediaDriver;
+    private Aeron aeron;
+    private AeronArchive aeronArchive;
+
+    /**
+     * Launch an embedded driver and archive and make the recording to be replayed.
+     *
+     * @throws IOException if the archive directory cannot be created.
+     */
+    @Setup
+    public void setup() throws IOException
+    {
+        final String aeronDirectoryName = CommonContext.generateRandomDirName();
+        archiveDir = Files.createTempDirectory("aeron-benchmark-archive").toFile();
+        archivingMediaDriver = ArchivingMediaDriver.launch(
+            new MediaDriver.Context()
+                .aeronDirectoryName(aeronDirectoryName)
+                .threadingMode(ThreadingMode.SHARED)
+                .dirDeleteOnStart(true)
+                .dirDeleteOnShutdown(true),
+            new Archive.Context()
+                .aeronDirectoryName(aeronDirectoryName)
+                .archiveDir(archiveDir)
+                .deleteArchiveOnStart(true)
+                .controlChannelEnabled(false)
+                .replicationChannel("aeron:udp?endpoint=localhost:0")
+                .recordingEventsEnabled(false));
+
+        aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(aeronDirectoryName));
+        aeronArchive = AeronArchive.connect(new AeronArchive.Context()
+            .aeron(aeron)
+            .controlRequestChannel(CommonContext.IPC_CHANNEL)
+            .controlResponseChannel(CommonContext.IPC_CHANNEL));
+
+        makeRecording((long)recordingLengthMb * 1024 * 1024);
+    }
+
+    /**
+     * Close the clients, archive, and driver and delete the archive.
+     */
+    @TearDown
+    public void tearDown()
+    {
+        CloseHelper.closeAll(aeronArchive, aeron, archivingMediaDriver);
+        IoUtil.delete(archiveDir, true);
+    }
+
+    /**
+     * Replay the whole recording and consume it from the replay subscription.
+     *
+     * @return the position reached by the replay.
+     */
+    @Benchmark
+    public long replay()
+    {
+        try (Subscription subscription = aeronArchive.replay(
+            recordingId, 0L, recordingLength, CommonContext.IPC_CHANNEL, REPLAY_STREAM_ID))
+        {
+            while (!subscription.isConnected())
+            {
+                Thread.yield();
+            }
+
+            final Image image = subscription.imageAtIndex(0);
+            while (image.position() < recordingLength)
+            {
+                if (0 == image.poll(NO_OP_HANDLER, Integer.MAX_VALUE) && image.isClosed())
+                {
+                    break;
+                }
+            }
+
+            return image.position();
+        }
+    }
+
+    private void makeRecording(final long length)
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(allocateDirectAligned(MESSAGE_LENGTH, CACHE_LINE_LENGTH));
+        final long subscriptionId = aeronArchive.startRecording(
+            CommonContext.IPC_CHANNEL, STREAM_ID, SourceLocation.LOCAL);
+
+        try (ExclusivePublication publication = aeron.addExclusivePublication(CommonContext.IPC_CHANNEL, STREAM_ID))
+        {
+            final CountersReader counters = aeron.countersReader();
+            int counterId;
+            while (Aeron.NULL_VALUE == (counterId = RecordingPos.findCounterIdBySession(
+                counters, publication.sessionId(), aeronArchive.archiveId())))
+            {
+                Thread.yield();
+            }
+
+            recordingId = RecordingPos.getRecordingId(counters, counterId);
+            while (publication.position() < length)
+            {
+                final long position = publication.offer(buffer, 0, MESSAGE_LENGTH);
+                if (Publication.CLOSED == position || Publication.MAX_POSITION_EXCEEDED == position)
+                {
+                    throw new IllegalStateException("publication failed: " + Publication.errorString(position));
+                }
+            }
+
+            recordingLength = publication.position();
+            while (counters.getCounterValue(counterId) < recordingLength)
+            {
+                Thread.yield();
+            }
+        }
+        finally
+        {
+            aeronArchive.stopRecording(subscriptionId);
+        }
+    }
+}
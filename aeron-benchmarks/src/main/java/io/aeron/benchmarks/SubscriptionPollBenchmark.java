@@ -0,0 +1,141 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.benchmarks;
+
+import io.aeron.Aeron;
+import io.aeron.CommonContext;
+import io.aeron.ExclusivePublication;
+import io.aeron.FragmentAssembler;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.Header;
+import org.agrona.CloseHelper;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.agrona.BufferUtil.allocateDirectAligned;
+
+/**
+ * Benchmark of {@link Subscription#poll} through a {@link FragmentAssembler} over IPC with an embedded driver. Each
+ * operation publishes one message, which is fragmented when larger than the MTU, and polls until it is reassembled.
+ */
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/jdk.internal.misc=ALL-UNNAMED")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SubscriptionPollBenchmark
+{
+    private static final int STREAM_ID = 1001;
+
+    /**
+     * Length of the message payload.
+     */
+    @Param({ "32", "4096", "65536" })
+    public int messageLength;
+
+    private long receivedPosition;
+    private long bytesReceived;
+    private UnsafeBuffer buffer;
+    private FragmentAssembler fragmentAssembler;
+    private MediaDriver mediaDriver;
+    private Aeron aeron;
+    private ExclusivePublication publication;
+    private Subscription subscription;
+
+    /**
+     * Launch an embedded driver and connect the publication and subscription.
+     */
+    @Setup
+    public void setup()
+    {
+        buffer = new UnsafeBuffer(allocateDirectAligned(messageLength, CACHE_LINE_LENGTH));
+        fragmentAssembler = new FragmentAssembler(this::onMessage);
+        mediaDriver = MediaDriver.launch(new MediaDriver.Context()
+            .aeronDirectoryName(CommonContext.generateRandomDirName())
+            .threadingMode(ThreadingMode.SHARED)
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true));
+        aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(mediaDriver.aeronDirectoryName()));
+        subscription = aeron.addSubscription(CommonContext.IPC_CHANNEL, STREAM_ID);
+        publication = aeron.addExclusivePublication(CommonContext.IPC_CHANNEL, STREAM_ID);
+
+        while (!publication.isConnected() || !subscription.isConnected())
+        {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Close the client and driver.
+     */
+    @TearDown
+    public void tearDown()
+    {
+        CloseHelper.closeAll(publication, subscription, aeron, mediaDriver);
+    }
+
+    /**
+     * Publish a message and poll the subscription until it has been reassembled.
+     *
+     * @return the number of bytes received.
+     */
+    @Benchmark
+    public long poll()
+    {
+        long position;
+        while ((position = publication.offer(buffer, 0, messageLength)) < 0)
+        {
+            if (position == Publication.CLOSED || position == Publication.MAX_POSITION_EXCEEDED)
+            {
+                throw new IllegalStateException("publication failed: " + Publication.errorString(position));
+            }
+
+            subscription.poll(fragmentAssembler, Integer.MAX_VALUE);
+        }
+
+        while (receivedPosition < position)
+        {
+            subscription.poll(fragmentAssembler, Integer.MAX_VALUE);
+        }
+
+        return bytesReceived;
+    }
+
+    private void onMessage(final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        receivedPosition = header.position();
+        bytesReceived += length;
+    }
+}
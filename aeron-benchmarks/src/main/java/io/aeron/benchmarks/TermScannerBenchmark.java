@@ -0,0 +1,118 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.benchmarks;
+
+import io.aeron.logbuffer.FrameDescriptor;
+import io.aeron.logbuffer.TermScanner;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.HDR_TYPE_DATA;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static org.agrona.BitUtil.align;
+import static org.agrona.BufferUtil.allocateDirectAligned;
+
+/**
+ * Benchmark of {@link TermScanner#scanForAvailability(UnsafeBuffer, int, int)} over a term full of frames as the
+ * sender does when batching frames up to an MTU.
+ */
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/jdk.internal.misc=ALL-UNNAMED")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class TermScannerBenchmark
+{
+    private static final int TERM_LENGTH = TERM_MIN_LENGTH;
+
+    /**
+     * Length of the message payload in each frame.
+     */
+    @Param({ "32", "288", "1344" })
+    public int messageLength;
+
+    /**
+     * Max length to scan which is typically the MTU.
+     */
+    @Param({ "1408", "8192" })
+    public int maxLength;
+
+    private int termOffset;
+    private UnsafeBuffer termBuffer;
+
+    /**
+     * Fill the term with data frames.
+     */
+    @Setup
+    public void setup()
+    {
+        termBuffer = new UnsafeBuffer(allocateDirectAligned(TERM_LENGTH, FrameDescriptor.FRAME_ALIGNMENT));
+        Frames.fill(termBuffer, 0, TERM_LENGTH, messageLength);
+    }
+
+    /**
+     * Scan for available frames, moving through the term on each operation.
+     *
+     * @return the packed result of the scan.
+     */
+    @Benchmark
+    public long scanForAvailability()
+    {
+        final long result = TermScanner.scanForAvailability(termBuffer, termOffset, maxLength);
+
+        final int available = TermScanner.available(result);
+        termOffset = termOffset + available + TermScanner.padding(result);
+        if (termOffset >= TERM_LENGTH - maxLength || 0 == available)
+        {
+            termOffset = 0;
+        }
+
+        return result;
+    }
+
+    static final class Frames
+    {
+        private Frames()
+        {
+        }
+
+        static void fill(final UnsafeBuffer termBuffer, final int fromOffset, final int toOffset, final int length)
+        {
+            final int frameLength = length + HEADER_LENGTH;
+            final int alignedLength = align(frameLength, FrameDescriptor.FRAME_ALIGNMENT);
+
+            for (int offset = fromOffset; offset + alignedLength <= toOffset; offset += alignedLength)
+            {
+                FrameDescriptor.frameType(termBuffer, offset, HDR_TYPE_DATA);
+                FrameDescriptor.frameLengthOrdered(termBuffer, offset, frameLength);
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * JMH benchmarks for the hot paths of the client, driver, archive, and cluster which provide a regression baseline.
+ * <p>
+ * Run with {@code ./gradlew :aeron-benchmarks:jmh} which enables the GC profiler for allocation rates, and pass JMH
+ * options with {@code -Pjmh.args="<regex> -t <threads>"}.
+ */
+package io.aeron.benchmarks;
@@ -64,6 +64,19 @@
 #define AERON_SYSTEM_COUNTER_ID_CONTROL_PROTOCOL_VERSION (43)
 #define AERON_SYSTEM_COUNTER_ID_STATUS_MESSAGES_REJECTED (44)
 #define AERON_SYSTEM_COUNTER_ID_ASYNC_EXECUTOR_PROXY_FAILS (45)
+#define AERON_SYSTEM_COUNTER_ID_RECEIVER_AVERAGE_BATCH_SIZE (46)
+#define AERON_SYSTEM_COUNTER_ID_SENDER_AVERAGE_BATCH_SIZE (47)
+#define AERON_SYSTEM_COUNTER_ID_RECEIVER_TRANSPORT_BUDGET_EXHAUSTED (48)
+#define AERON_SYSTEM_COUNTER_ID_RECEIVER_TRANSPORT_DRAINS (49)
+#define AERON_SYSTEM_COUNTER_ID_LOG_BUFFER_MAPPING_MAX_TIME (50)
+#define AERON_SYSTEM_COUNTER_ID_LOG_BUFFER_MAPPING_TOTAL_TIME (51)
+#define AERON_SYSTEM_COUNTER_ID_LOG_BUFFER_POOL_HITS (52)
+#define AERON_SYSTEM_COUNTER_ID_LOG_BUFFER_POOL_MISSES (53)
+#define AERON_SYSTEM_COUNTER_ID_COMPRESSION_UNCOMPRESSED_BYTES (54)
+#define AERON_SYSTEM_COUNTER_ID_COMPRESSION_COMPRESSED_BYTES (55)
+#define AERON_SYSTEM_COUNTER_ID_COMPRESSION_TIME (56)
+#define AERON_SYSTEM_COUNTER_ID_DECOMPRESSION_TIME (57)
+#define AERON_SYSTEM_COUNTER_ID_RECEIVE_ZERO_COPY_OTHER_SOURCE_DATAGRAMS (58)
 
 // Driver counters
 #define AERON_COUNTER_SYSTEM_COUNTER_TYPE_ID (0)
@@ -208,6 +221,18 @@
 
 #define AERON_PERSISTENT_SUBSCRIPTION_LIVE_JOINED_COUNT_TYPE_ID (117)
 
+#define AERON_COUNTER_ARCHIVE_REPLAYER_BLOCK_CACHE_HITS_TYPE_ID (118)
+
+#define AERON_COUNTER_ARCHIVE_REPLAYER_BLOCK_CACHE_MISSES_TYPE_ID (119)
+
+#define AERON_COUNTER_ARCHIVE_REPLAYER_BLOCK_CACHE_EVICTIONS_TYPE_ID (120)
+
+#define AERON_COUNTER_ARCHIVE_RECORDER_SEGMENT_FILE_NOT_READY_TYPE_ID (121)
+
+#define AERON_COUNTER_ARCHIVE_RECORDER_GROUP_COMMIT_BATCH_SIZE_TYPE_ID (122)
+
+#define AERON_COUNTER_ARCHIVE_RECORDER_GROUP_COMMIT_MAX_TIME_TYPE_ID (123)
+
 // Cluster counters
 
 #define AERON_COUNTER_CLUSTER_CONSENSUS_MODULE_STATE_TYPE_ID (200)
@@ -19,7 +19,7 @@
 
 #include <stdint.h>
 #define AERON_CONTROL_PROTOCOL_MAJOR_VERSION (1)
-#define AERON_CONTROL_PROTOCOL_MINOR_VERSION (0)
+#define AERON_CONTROL_PROTOCOL_MINOR_VERSION (1)
 #define AERON_CONTROL_PROTOCOL_PATCH_VERSION (0)
 
 #define AERON_COMMAND_ADD_PUBLICATION (0x01)
@@ -41,6 +41,7 @@
 #define AERON_COMMAND_REJECT_IMAGE (0x10)
 #define AERON_COMMAND_REMOVE_DESTINATION_BY_ID (0x11)
 #define AERON_COMMAND_GET_NEXT_AVAILABLE_SESSION_ID (0x12)
+#define AERON_COMMAND_BATCH (0x13)
 
 #define AERON_RESPONSE_ON_ERROR (0x0F01)
 #define AERON_RESPONSE_ON_AVAILABLE_IMAGE (0x0F02)
@@ -268,6 +269,23 @@ typedef struct aeron_get_next_available_session_id_command_stct
 }
 aeron_get_next_available_session_id_command_t;
 
+typedef struct aeron_command_batch_stct
+{
+    aeron_correlated_command_t correlated;
+    int32_t command_count;
+    int32_t reserved;
+}
+aeron_command_batch_t;
+
+typedef struct aeron_command_batch_entry_stct
+{
+    int32_t msg_type_id;
+    int32_t length;
+}
+aeron_command_batch_entry_t;
+
+#define AERON_COMMAND_BATCH_ENTRY_ALIGNMENT (8)
+
 typedef struct aeron_next_available_session_id_response_stct
 {
     int64_t correlation_id;
@@ -189,6 +189,7 @@ int aeron_udp_protocol_group_tag(aeron_status_message_header_t *sm, int64_t *gro
 #define AERON_DATA_HEADER_END_FLAG (UINT8_C(0x40))
 #define AERON_DATA_HEADER_EOS_FLAG (UINT8_C(0x20))
 #define AERON_DATA_HEADER_REVOKED_FLAG (UINT8_C(0x10))
+#define AERON_DATA_HEADER_COMPRESSED_FLAG (UINT8_C(0x08))
 
 #define AERON_DATA_HEADER_UNFRAGMENTED (AERON_DATA_HEADER_BEGIN_FLAG | AERON_DATA_HEADER_END_FLAG)
 
@@ -196,9 +197,11 @@ int aeron_udp_protocol_group_tag(aeron_status_message_header_t *sm, int64_t *gro
 
 #define AERON_STATUS_MESSAGE_HEADER_SEND_SETUP_FLAG (UINT8_C(0x80))
 #define AERON_STATUS_MESSAGE_HEADER_EOS_FLAG (UINT8_C(0x40))
+#define AERON_STATUS_MESSAGE_HEADER_COMPRESSION_FLAG (UINT8_C(0x20))
 
 #define AERON_SETUP_HEADER_SEND_RESPONSE_FLAG (UINT8_C(0x80))
 #define AERON_SETUP_HEADER_GROUP_FLAG (UINT8_C(0x40))
+#define AERON_SETUP_HEADER_COMPRESSION_FLAG (UINT8_C(0x20))
 
 #define AERON_RTTM_HEADER_REPLY_FLAG (UINT8_C(0x80))
 
@@ -62,6 +62,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import static io.aeron.Aeron.Configuration.MAX_CLIENT_NAME_LENGTH;
 import static org.agrona.SystemUtil.getDurationInNanos;
 import static org.agrona.SystemUtil.getProperty;
+import static org.agrona.SystemUtil.getSizeAsInt;
 
 /**
  * Aeron entry point for communicating to the Media Driver for creating {@link Publication}s and {@link Subscription}s.
@@ -340,6 +341,27 @@ public final class Aeron implements AutoCloseable
         return conductor.asyncAddExclusivePublication(channel, streamId);
     }
 
+    /**
+     * Asynchronously add a batch of publications and subscriptions with as few commands to the media driver as
+     * possible, which can significantly reduce the time taken to register a large number of streams.
+     * <p>
+     * The registration ids are set on the batch and each resource is then retrieved, or fails, as if it had been
+     * added individually with {@link #asyncAddPublication(String, int)},
+     * {@link #asyncAddExclusivePublication(String, int)}, or
+     * {@link #asyncAddSubscription(String, int, AvailableImageHandler, UnavailableImageHandler)}.
+     *
+     * @param batch of publications and subscriptions to be added.
+     * @see RegistrationBatch#registrationId(int)
+     * @see #getPublication(long)
+     * @see #getExclusivePublication(long)
+     * @see #getSubscription(long)
+     * @since 1.52.0
+     */
+    public void asyncAdd(final RegistrationBatch batch)
+    {
+        conductor.asyncAdd(batch);
+    }
+
     /**
      * Asynchronously remove a {@link Publication}.
      *
@@ -1091,6 +1113,75 @@ public final class Aeron implements AutoCloseable
             return getProperty(CLIENT_NAME_PROP_NAME, "");
         }
 
+        /**
+         * Should {@link ConcurrentPublication}s combine offers from contending threads so that one thread appends
+         * the messages of the others as a batch with a single update of the term tail.
+         *
+         * @see #publicationOfferCombining()
+         * @since 1.52.0
+         */
+        @Config(defaultType = DefaultType.BOOLEAN, defaultBoolean = false, existsInC = false)
+        public static final String PUBLICATION_OFFER_COMBINING_PROP_NAME = "aeron.publication.offer.combining";
+
+        /**
+         * Should {@link ConcurrentPublication}s combine offers from contending threads.
+         *
+         * @return true if offers from contending threads should be combined, otherwise false.
+         * @see #PUBLICATION_OFFER_COMBINING_PROP_NAME
+         * @since 1.52.0
+         */
+        public static boolean publicationOfferCombining()
+        {
+            return "true".equals(getProperty(PUBLICATION_OFFER_COMBINING_PROP_NAME));
+        }
+
+        /**
+         * Should publications and subscriptions on IPC channels signal and wait on a data signal shared within the
+         * process, so that a thread waiting via {@link Subscription#awaitData(long)} is woken when a publication in
+         * the same process appends to the stream.
+         *
+         * @see #ipcDataSignal()
+         * @since 1.52.0
+         */
+        @Config(defaultType = DefaultType.BOOLEAN, defaultBoolean = false, existsInC = false)
+        public static final String IPC_DATA_SIGNAL_PROP_NAME = "aeron.ipc.data.signal";
+
+        /**
+         * Should publications and subscriptions on IPC channels use a data signal shared within the process.
+         *
+         * @return true if publications and subscriptions on IPC channels should use a data signal, otherwise false.
+         * @see #IPC_DATA_SIGNAL_PROP_NAME
+         * @since 1.52.0
+         */
+        public static boolean ipcDataSignal()
+        {
+            return "true".equals(getProperty(IPC_DATA_SIGNAL_PROP_NAME));
+        }
+
+        /**
+         * Distance in bytes ahead of the current position within the active term which an {@link Image} touches
+         * before polling so that subscribers which have fallen behind do not stall on cold pages of large terms.
+         * A value of 0 disables prefetching.
+         *
+         * @see #imagePrefetchDistance()
+         * @since 1.52.0
+         */
+        @Config(defaultType = DefaultType.INT, defaultInt = 0, existsInC = false)
+        public static final String IMAGE_PREFETCH_DISTANCE_PROP_NAME = "aeron.image.prefetch.distance";
+
+        /**
+         * Distance in bytes ahead of the current position within the active term which an {@link Image} touches
+         * before polling.
+         *
+         * @return distance in bytes ahead of the current position which is touched, or 0 if disabled.
+         * @see #IMAGE_PREFETCH_DISTANCE_PROP_NAME
+         * @since 1.52.0
+         */
+        public static int imagePrefetchDistance()
+        {
+            return getSizeAsInt(IMAGE_PREFETCH_DISTANCE_PROP_NAME, 0);
+        }
+
         /**
          * Limit to the number of characters allowed in the client name.
          */
@@ -1116,6 +1207,9 @@ public final class Aeron implements AutoCloseable
         private String clientName = Configuration.clientName();
         private boolean useConductorAgentInvoker = false;
         private boolean preTouchMappedMemory = Configuration.preTouchMappedMemory();
+        private boolean publicationOfferCombining = Configuration.publicationOfferCombining();
+        private boolean ipcDataSignal = Configuration.ipcDataSignal();
+        private int imagePrefetchDistance = Configuration.imagePrefetchDistance();
         private AgentInvoker driverAgentInvoker;
         private Lock clientLock;
         private EpochClock epochClock;
@@ -1197,6 +1291,12 @@ public final class Aeron implements AutoCloseable
                 throw new ConfigurationException("clientName length must <= " + MAX_CLIENT_NAME_LENGTH);
             }
 
+            if (imagePrefetchDistance < 0)
+            {
+                throw new ConfigurationException(
+                    "imagePrefetchDistance must not be negative: " + imagePrefetchDistance);
+            }
+
             if (null == epochClock)
             {
                 epochClock = SystemEpochClock.INSTANCE;
@@ -1364,6 +1464,96 @@ public final class Aeron implements AutoCloseable
             return preTouchMappedMemory;
         }
 
+        /**
+         * Should {@link ConcurrentPublication}s combine offers from contending threads so that one thread appends
+         * the messages of the others as a batch with a single update of the term tail. This reduces contention on
+         * the tail when many threads offer to the same publication object at the cost of threads waiting on each
+         * other. Only messages which fit in a single frame are combined.
+         *
+         * @param publicationOfferCombining true if offers from contending threads should be combined.
+         * @return this for a fluent API.
+         * @see Configuration#PUBLICATION_OFFER_COMBINING_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context publicationOfferCombining(final boolean publicationOfferCombining)
+        {
+            this.publicationOfferCombining = publicationOfferCombining;
+            return this;
+        }
+
+        /**
+         * Should {@link ConcurrentPublication}s combine offers from contending threads.
+         *
+         * @return true if offers from contending threads should be combined.
+         * @see Configuration#PUBLICATION_OFFER_COMBINING_PROP_NAME
+         * @since 1.52.0
+         */
+        public boolean publicationOfferCombining()
+        {
+            return publicationOfferCombining;
+        }
+
+        /**
+         * Should publications and subscriptions on IPC channels signal and wait on a data signal shared within the
+         * process. When set, a thread waiting via {@link Subscription#awaitData(long)} is woken when a publication
+         * in the same process, typically with an embedded media driver, offers to the stream or commits a
+         * {@link io.aeron.logbuffer.BufferClaim}. Publications only pay the cost of a fence and a signal check. Waits
+         * are bounded by their timeout so publishers in other processes are observed within the timeout.
+         *
+         * @param ipcDataSignal true if publications and subscriptions on IPC channels should use a data signal.
+         * @return this for a fluent API.
+         * @see Configuration#IPC_DATA_SIGNAL_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context ipcDataSignal(final boolean ipcDataSignal)
+        {
+            this.ipcDataSignal = ipcDataSignal;
+            return this;
+        }
+
+        /**
+         * Should publications and subscriptions on IPC channels signal and wait on a data signal shared within the
+         * process.
+         *
+         * @return true if publications and subscriptions on IPC channels should use a data signal.
+         * @see Configuration#IPC_DATA_SIGNAL_PROP_NAME
+         * @since 1.52.0
+         */
+        public boolean ipcDataSignal()
+        {
+            return ipcDataSignal;
+        }
+
+        /**
+         * Distance in bytes ahead of the current position within the active term which each {@link Image} touches
+         * before polling so the pages and cache lines are warm when fragments are read. This helps subscribers which
+         * have fallen behind on large terms avoid stalling on cache and TLB misses. The distance can be changed for
+         * an individual image via {@link Image#prefetchDistance(int)}.
+         *
+         * @param imagePrefetchDistance in bytes ahead of the current position, or 0 to disable.
+         * @return this for a fluent API.
+         * @see Configuration#IMAGE_PREFETCH_DISTANCE_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context imagePrefetchDistance(final int imagePrefetchDistance)
+        {
+            this.imagePrefetchDistance = imagePrefetchDistance;
+            return this;
+        }
+
+        /**
+         * Distance in bytes ahead of the current position within the active term which each {@link Image} touches
+         * before polling.
+         *
+         * @return distance in bytes ahead of the current position which is touched, or 0 if disabled.
+         * @see Configuration#IMAGE_PREFETCH_DISTANCE_PROP_NAME
+         * @since 1.52.0
+         */
+        public int imagePrefetchDistance()
+        {
+            return imagePrefetchDistance;
+        }
+
         /**
          * Set the {@link AgentInvoker} for the Media Driver to be used while awaiting a synchronous response.
          * <p>
@@ -2002,6 +2192,9 @@ public final class Aeron implements AutoCloseable
                 "\n    clientName=" + clientName +
                 "\n    useConductorAgentInvoker=" + useConductorAgentInvoker +
                 "\n    preTouchMappedMemory=" + preTouchMappedMemory +
+                "\n    publicationOfferCombining=" + publicationOfferCombining +
+                "\n    ipcDataSignal=" + ipcDataSignal +
+                "\n    imagePrefetchDistance=" + imagePrefetchDistance +
                 "\n    driverAgentInvoker=" + driverAgentInvoker +
                 "\n    clientLock=" + clientLock +
                 "\n    epochClock=" + epochClock +
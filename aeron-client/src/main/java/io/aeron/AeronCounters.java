@@ -332,6 +332,111 @@ public final class AeronCounters
     @AeronCounter
     public static final int SYSTEM_COUNTER_ID_ASYNC_EXECUTOR_PROXY_FAILS = 45;
 
+    /**
+     * Counter id for the average number of datagrams received per batch by the receiver.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int SYSTEM_COUNTER_ID_RECEIVER_AVERAGE_BATCH_SIZE = 46;
+
+    /**
+     * Counter id for the average number of datagrams sent per batch by network publications.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int SYSTEM_COUNTER_ID_SENDER_AVERAGE_BATCH_SIZE = 47;
+
+    /**
+     * Counter id for the number of times the receiver exhausted the datagram budget for a transport in a duty cycle.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int SYSTEM_COUNTER_ID_RECEIVER_TRANSPORT_BUDGET_EXHAUSTED = 48;
+
+    /**
+     * Counter id for the number of times the receiver drained one or more datagrams from a transport.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int SYSTEM_COUNTER_ID_RECEIVER_TRANSPORT_DRAINS = 49;
+
+    /**
+     * Max time in nanoseconds taken to create and map a log buffer for a publication or image.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int SYSTEM_COUNTER_ID_LOG_BUFFER_MAPPING_MAX_TIME = 50;
+
+    /**
+     * Total time in nanoseconds taken to create and map log buffers for publications and images.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int SYSTEM_COUNTER_ID_LOG_BUFFER_MAPPING_TOTAL_TIME = 51;
+
+    /**
+     * Count of log buffers taken from the pool of those created ahead of demand.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int SYSTEM_COUNTER_ID_LOG_BUFFER_POOL_HITS = 52;
+
+    /**
+     * Count of log buffers created because none of the required term length were pooled.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int SYSTEM_COUNTER_ID_LOG_BUFFER_POOL_MISSES = 53;
+
+    /**
+     * Bytes of data datagrams offered for compression by publications with compression enabled.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int SYSTEM_COUNTER_ID_COMPRESSION_UNCOMPRESSED_BYTES = 54;
+
+    /**
+     * Bytes sent for data datagrams offered for compression, which is the compressed length when smaller.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int SYSTEM_COUNTER_ID_COMPRESSION_COMPRESSED_BYTES = 55;
+
+    /**
+     * Total time in nanoseconds spent compressing data datagrams.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int SYSTEM_COUNTER_ID_COMPRESSION_TIME = 56;
+
+    /**
+     * Total time in nanoseconds spent decompressing received data datagrams.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int SYSTEM_COUNTER_ID_DECOMPRESSION_TIME = 57;
+
+    /**
+     * Datagrams from sources other than the one a zero-copy receive socket is connected to, seen while the socket is
+     * briefly disconnected to check for other sources.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int SYSTEM_COUNTER_ID_RECEIVE_ZERO_COPY_OTHER_SOURCE_DATAGRAMS = 58;
+
     // Client/driver counters
     /**
      * System-wide counters for monitoring. These are separate from counters used for position tracking on streams.
@@ -468,6 +573,32 @@ public final class AeronCounters
     @AeronCounter
     public static final int NAME_RESOLVER_BOOTSTRAP_NEIGHBOR_COUNTER_TYPE_ID = 21;
 
+    /**
+     * The max duty cycle time of an additional Sender or Receiver agent in
+     * {@code ThreadingMode.DEDICATED_SHARDED}.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter(existsInC = false)
+    public static final int DRIVER_AGENT_MAX_CYCLE_TIME_TYPE_ID = 22;
+
+    /**
+     * The number of times the duty cycle threshold was exceeded by an additional Sender or Receiver agent in
+     * {@code ThreadingMode.DEDICATED_SHARDED}.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter(existsInC = false)
+    public static final int DRIVER_AGENT_CYCLE_TIME_THRESHOLD_EXCEEDED_TYPE_ID = 23;
+
+    /**
+     * The number of times a receive channel endpoint used its full datagram budget in a receiver duty cycle.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter(existsInC = false)
+    public static final int DRIVER_RECEIVE_CHANNEL_BUDGET_EXHAUSTED_TYPE_ID = 24;
+
     // EF_VI counters
     /**
      * EF_VI_PORT_INFO_TYPE_ID.
@@ -850,6 +981,60 @@ public final class AeronCounters
     @AeronCounter
     public static final int PERSISTENT_SUBSCRIPTION_LIVE_JOINED_COUNT_TYPE_ID = 117;
 
+    /**
+     * The type id of the {@link Counter} used for keeping track of the number of reads by the replayer which were
+     * served from the replay block cache.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int ARCHIVE_REPLAYER_BLOCK_CACHE_HITS_TYPE_ID = 118;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the number of reads by the replayer which had to
+     * read a block from storage into the replay block cache.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int ARCHIVE_REPLAYER_BLOCK_CACHE_MISSES_TYPE_ID = 119;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the number of blocks evicted from the replay
+     * block cache.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int ARCHIVE_REPLAYER_BLOCK_CACHE_EVICTIONS_TYPE_ID = 120;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the number of segment file roll-overs by the
+     * recorder for which the next segment file had not been prepared in the background in time.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int ARCHIVE_RECORDER_SEGMENT_FILE_NOT_READY_TYPE_ID = 121;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the number of recording files synced by the most
+     * recent group commit of the recorder.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int ARCHIVE_RECORDER_GROUP_COMMIT_BATCH_SIZE_TYPE_ID = 122;
+
+    /**
+     * The type id of the {@link Counter} used for keeping track of the max time taken by a group commit of the
+     * recorder to sync recording files.
+     *
+     * @since 1.52.0
+     */
+    @AeronCounter
+    public static final int ARCHIVE_RECORDER_GROUP_COMMIT_MAX_TIME_TYPE_ID = 123;
+
     // Cluster counters
 
     /**
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import org.agrona.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.SystemNanoClock;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.align;
+
+/**
+ * Wrapper over an {@link ExclusivePublication} which packs many small messages into a single message, so they share
+ * one data frame header and frame alignment, to save bandwidth and term space for streams of small messages.
+ * <p>
+ * Each message in a batch is prefixed with its length as a little endian int and the next message begins at the
+ * following {@link #MESSAGE_ALIGNMENT} boundary:
+ * <pre>
+ *   0                   1                   2                   3
+ *   0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ *  +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ *  |                       Message Length                          |
+ *  +---------------------------------------------------------------+
+ *  |                     Message and Padding                      ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ *  |                       Message Length                          |
+ *  +---------------------------------------------------------------+
+ *  |                     Message and Padding                      ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ * </pre>
+ * A batch is offered to the publication when the next message will not fit, when {@link #flush()} is called, or
+ * when {@link #doWork()} is called from a duty cycle after the flush interval has elapsed since the first message was
+ * added to the batch. Messages which are too long for a batch are offered as a batch of one which may be fragmented.
+ * <p>
+ * Batches are unpacked on the subscriber with a {@link DebatchingFragmentHandler}, which should be wrapped in a
+ * {@link FragmentAssembler} if messages longer than a batch are published.
+ * <p>
+ * <b>Note:</b> Instances are not threadsafe and must only be used from the thread which owns the publication.
+ *
+ * @since 1.52.0
+ */
+public final class BatchingPublication
+{
+    /**
+     * Length of the prefix before each message in a batch.
+     */
+    public static final int LENGTH_PREFIX_LENGTH = SIZE_OF_INT;
+
+    /**
+     * Alignment of each message, including its length prefix, within a batch.
+     */
+    public static final int MESSAGE_ALIGNMENT = SIZE_OF_INT;
+
+    private long batchStartNs;
+    private int limit;
+    private final int batchLength;
+    private final long flushIntervalNs;
+    private final NanoClock nanoClock;
+    private final ExclusivePublication publication;
+    private final UnsafeBuffer batchBuffer;
+    private final UnsafeBuffer lengthPrefixBuffer = new UnsafeBuffer(new byte[LENGTH_PREFIX_LENGTH]);
+    private final DirectBufferVector[] vectors = new DirectBufferVector[]
+    {
+        new DirectBufferVector(lengthPrefixBuffer, 0, LENGTH_PREFIX_LENGTH),
+        new DirectBufferVector(),
+    };
+
+    /**
+     * Construct a batching wrapper for a publication with batches of up to {@link Publication#maxPayloadLength()}
+     * so they are not fragmented.
+     *
+     * @param publication     to which batches will be offered.
+     * @param flushIntervalNs after the first message is added to a batch that {@link #doWork()} will flush it.
+     */
+    public BatchingPublication(final ExclusivePublication publication, final long flushIntervalNs)
+    {
+        this(publication, publication.maxPayloadLength(), flushIntervalNs, SystemNanoClock.INSTANCE);
+    }
+
+    /**
+     * Construct a batching wrapper for a publication.
+     *
+     * @param publication     to which batches will be offered.
+     * @param batchLength     maximum length of a batch which must not be greater than
+     *                        {@link Publication#maxPayloadLength()}.
+     * @param flushIntervalNs after the first message is added to a batch that {@link #doWork()} will flush it.
+     * @param nanoClock       for measuring the flush interval.
+     */
+    public BatchingPublication(
+        final ExclusivePublication publication,
+        final int batchLength,
+        final long flushIntervalNs,
+        final NanoClock nanoClock)
+    {
+        if (batchLength <= LENGTH_PREFIX_LENGTH || batchLength > publication.maxPayloadLength())
+        {
+            throw new IllegalArgumentException(
+                "batchLength must be greater than " + LENGTH_PREFIX_LENGTH +
+                " and not greater than maxPayloadLength=" + publication.maxPayloadLength() +
+                ": batchLength=" + batchLength);
+        }
+
+        this.publication = publication;
+        this.batchLength = batchLength;
+        this.flushIntervalNs = flushIntervalNs;
+        this.nanoClock = nanoClock;
+        this.batchBuffer = new UnsafeBuffer(BufferUtil.allocateDirectAligned(
+            align(batchLength, CACHE_LINE_LENGTH), CACHE_LINE_LENGTH));
+    }
+
+    /**
+     * The publication to which batches are offered.
+     *
+     * @return the publication to which batches are offered.
+     */
+    public ExclusivePublication publication()
+    {
+        return publication;
+    }
+
+    /**
+     * Maximum length of a batch.
+     *
+     * @return maximum length of a batch.
+     */
+    public int batchLength()
+    {
+        return batchLength;
+    }
+
+    /**
+     * Length of the messages, including prefixes and padding, in the batch which has yet to be offered.
+     *
+     * @return length of the messages in the batch which has yet to be offered.
+     */
+    public int pendingLength()
+    {
+        return limit;
+    }
+
+    /**
+     * Add a message to the current batch, offering the batch to the publication first if the message will not fit.
+     *
+     * @param buffer containing the message.
+     * @param offset offset in the buffer at which the message begins.
+     * @param length in bytes of the message.
+     * @return the position of the publication plus the length of the pending batch, which is greater than zero, if
+     * the message was accepted, otherwise {@link Publication#CLOSED} or the negative result of
+     * {@link Publication#offer(DirectBuffer, int, int)} for the pending batch, in which case the message should be
+     * retried.
+     */
+    public long offer(final DirectBuffer buffer, final int offset, final int length)
+    {
+        if (publication.isClosed())
+        {
+            return Publication.CLOSED;
+        }
+
+        final int alignedLength = align(LENGTH_PREFIX_LENGTH + length, MESSAGE_ALIGNMENT);
+
+        if (limit + alignedLength > batchLength && limit > 0)
+        {
+            final long result = flush();
+            if (result < 0)
+            {
+                return result;
+            }
+        }
+
+        if (alignedLength > batchLength)
+        {
+            lengthPrefixBuffer.putInt(0, length, LITTLE_ENDIAN);
+            vectors[1].reset(buffer, offset, length);
+            return publication.offer(vectors);
+        }
+
+        if (0 == limit)
+        {
+            batchStartNs = nanoClock.nanoTime();
+        }
+
+        batchBuffer.putInt(limit, length, LITTLE_ENDIAN);
+        batchBuffer.putBytes(limit + LENGTH_PREFIX_LENGTH, buffer, offset, length);
+        limit += alignedLength;
+
+        if (limit + LENGTH_PREFIX_LENGTH >= batchLength)
+        {
+            flush();
+        }
+
+        return publication.position() + limit;
+    }
+
+    /**
+     * Offer the current batch to the publication if it is not empty.
+     *
+     * @return the new stream position, or the current position if the batch is empty, otherwise a negative result
+     * of {@link Publication#offer(DirectBuffer, int, int)} in which case the batch remains pending.
+     */
+    public long flush()
+    {
+        if (0 == limit)
+        {
+            return publication.position();
+        }
+
+        final long result = publication.offer(batchBuffer, 0, limit);
+        if (result > 0)
+        {
+            limit = 0;
+        }
+
+        return result;
+    }
+
+    /**
+     * Flush the current batch if the flush interval has elapsed since its first message was added. This should be
+     * called from the duty cycle of the publishing thread.
+     *
+     * @return 1 if a batch was flushed otherwise 0.
+     */
+    public int doWork()
+    {
+        if (limit > 0 && nanoClock.nanoTime() - batchStartNs >= flushIntervalNs)
+        {
+            return flush() > 0 ? 1 : 0;
+        }
+
+        return 0;
+    }
+}
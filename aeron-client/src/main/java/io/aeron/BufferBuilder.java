@@ -245,16 +245,22 @@ public final class BufferBuilder
      * @return complete message header.
      */
     public Header completeHeader(final Header header)
+    {
+        return completeHeader(header.context(), header.flags(), limit);
+    }
+
+    Header completeHeader(final Object context, final byte lastFrameFlags, final int messageLength)
     {
         // compute the `fragmented frame length` of the complete message
-        final int fragmentedFrameLength = computeFragmentedFrameLength(limit, firstFrameLength - HEADER_LENGTH);
+        final int fragmentedFrameLength = computeFragmentedFrameLength(
+            messageLength, firstFrameLength - HEADER_LENGTH);
         completeHeader
-            .context(header.context())
+            .context(context)
             .fragmentedFrameLength(fragmentedFrameLength);
 
-        headerBuffer.putInt(FRAME_LENGTH_FIELD_OFFSET, HEADER_LENGTH + limit, LITTLE_ENDIAN);
+        headerBuffer.putInt(FRAME_LENGTH_FIELD_OFFSET, HEADER_LENGTH + messageLength, LITTLE_ENDIAN);
         // compute complete flags
-        headerBuffer.putByte(FLAGS_OFFSET, (byte)(headerBuffer.getByte(FLAGS_OFFSET) | header.flags()));
+        headerBuffer.putByte(FLAGS_OFFSET, (byte)(headerBuffer.getByte(FLAGS_OFFSET) | lastFrameFlags));
 
         return completeHeader;
     }
@@ -23,6 +23,7 @@ import io.aeron.exceptions.ConductorServiceTimeoutException;
 import io.aeron.exceptions.DriverTimeoutException;
 import io.aeron.exceptions.RegistrationException;
 import io.aeron.status.ChannelEndpointStatus;
+import io.aeron.status.CountersIndex;
 import io.aeron.status.HeartbeatTimestamp;
 import io.aeron.status.PublicationErrorFrame;
 import org.agrona.BitUtil;
@@ -55,6 +56,8 @@ import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_CONTROL_PROTOCOL_VERSION;
 import static io.aeron.AeronCounters.appendToLabel;
 import static io.aeron.AeronCounters.formatVersionInfo;
 import static io.aeron.ErrorCode.CHANNEL_ENDPOINT_ERROR;
+import static io.aeron.command.ControlProtocolEvents.ADD_EXCLUSIVE_PUBLICATION;
+import static io.aeron.command.ControlProtocolEvents.ADD_SUBSCRIPTION;
 import static io.aeron.status.HeartbeatTimestamp.HEARTBEAT_TYPE_ID;
 import static java.nio.charset.StandardCharsets.US_ASCII;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -71,6 +74,7 @@ final class ClientConductor implements Agent
     private static final long NO_CORRELATION_ID = NULL_VALUE;
     private static final long EXPLICIT_CLOSE_LINGER_NS = TimeUnit.SECONDS.toNanos(1);
     static final int CONTROL_PROTOCOL_VERSION_WITH_NEXT_AVAILABLE_SESSION_ID_COMMAND = SemanticVersion.compose(1, 0, 0);
+    static final int CONTROL_PROTOCOL_VERSION_WITH_COMMAND_BATCH = SemanticVersion.compose(1, 1, 0);
 
     final int controlProtocolVersion;
     private final long idleSleepDurationNs;
@@ -109,6 +113,7 @@ final class ClientConductor implements Agent
     private final AgentInvoker driverAgentInvoker;
     private final UnsafeBuffer counterValuesBuffer;
     private final CountersReader countersReader;
+    private final CountersIndex countersIndex;
     private final PublicationErrorFrame publicationErrorFrame = new PublicationErrorFrame();
     private AtomicCounter heartbeatTimestamp;
     private long lastResponseValue;
@@ -135,6 +140,7 @@ final class ClientConductor implements Agent
         driverAgentInvoker = ctx.driverAgentInvoker();
         counterValuesBuffer = ctx.countersValuesBuffer();
         countersReader = new CountersReader(ctx.countersMetaDataBuffer(), ctx.countersValuesBuffer(), US_ASCII);
+        countersIndex = new CountersIndex(countersReader);
 
         if (null != ctx.availableCounterHandler())
         {
@@ -344,7 +350,9 @@ final class ClientConductor implements Agent
             statusIndicatorId,
             logBuffers(registrationId, logFileName, stashedChannel),
             registrationId,
-            correlationId);
+            correlationId,
+            ctx.publicationOfferCombining());
+        publication.dataSignal = ipcDataSignal(stashedChannel, streamId);
 
         resourceByRegIdMap.put(correlationId, publication);
     }
@@ -375,6 +383,7 @@ final class ClientConductor implements Agent
             logBuffers(registrationId, logFileName, stashedChannel),
             registrationId,
             correlationId);
+        publication.dataSignal = ipcDataSignal(stashedChannel, streamId);
 
         resourceByRegIdMap.put(correlationId, publication);
     }
@@ -394,6 +403,7 @@ final class ClientConductor implements Agent
         }
 
         subscription.channelStatusId(statusIndicatorId);
+        subscription.dataSignal = ipcDataSignal(subscription.channel(), subscription.streamId());
     }
 
     void onAvailableImage(
@@ -416,6 +426,11 @@ final class ClientConductor implements Agent
                 sourceIdentity,
                 correlationId);
 
+            if (ctx.imagePrefetchDistance() > 0)
+            {
+                image.prefetchDistance(ctx.imagePrefetchDistance());
+            }
+
             subscription.addImage(image);
 
             final AvailableImageHandler handler = subscription.availableImageHandler();
@@ -438,6 +453,11 @@ final class ClientConductor implements Agent
         }
     }
 
+    boolean hasSubscription(final long registrationId)
+    {
+        return resourceByRegIdMap.get(registrationId) instanceof Subscription;
+    }
+
     void onUnavailableImage(final long correlationId, final long subscriptionRegistrationId)
     {
         final Subscription subscription = (Subscription)resourceByRegIdMap.get(subscriptionRegistrationId);
@@ -605,6 +625,77 @@ final class ClientConductor implements Agent
         }
     }
 
+    void asyncAdd(final RegistrationBatch batch)
+    {
+        clientLock.lock();
+        try
+        {
+            ensureActive();
+            ensureNotReentrant();
+
+            if (controlProtocolVersion >= CONTROL_PROTOCOL_VERSION_WITH_COMMAND_BATCH)
+            {
+                driverProxy.addBatch(batch);
+            }
+            else
+            {
+                for (int i = 0, size = batch.size(); i < size; i++)
+                {
+                    batch.registrationId(i, addIndividually(batch, i));
+                }
+            }
+
+            for (int i = 0, size = batch.size(); i < size; i++)
+            {
+                final long registrationId = batch.registrationId(i);
+                final String channel = batch.channel(i);
+
+                if (ADD_SUBSCRIPTION == batch.msgTypeId(i))
+                {
+                    final int streamId = batch.streamId(i);
+                    final boolean hasImageHandlers = batch.hasImageHandlers(i);
+                    final PendingSubscription subscription = new PendingSubscription(new Subscription(
+                        this,
+                        channel,
+                        streamId,
+                        registrationId,
+                        hasImageHandlers ? batch.availableImageHandler(i) : defaultAvailableImageHandler,
+                        hasImageHandlers ? batch.unavailableImageHandler(i) : defaultUnavailableImageHandler));
+
+                    resourceByRegIdMap.put(registrationId, subscription);
+                }
+                else
+                {
+                    stashedChannelByRegistrationId.put(registrationId, channel);
+                }
+
+                asyncCommandIdSet.add(registrationId);
+            }
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
+    private long addIndividually(final RegistrationBatch batch, final int index)
+    {
+        final int msgTypeId = batch.msgTypeId(index);
+        final String channel = batch.channel(index);
+        final int streamId = batch.streamId(index);
+
+        if (ADD_SUBSCRIPTION == msgTypeId)
+        {
+            return driverProxy.addSubscription(channel, streamId);
+        }
+        else if (ADD_EXCLUSIVE_PUBLICATION == msgTypeId)
+        {
+            return driverProxy.addExclusivePublication(channel, streamId);
+        }
+
+        return driverProxy.addPublication(channel, streamId);
+    }
+
     ConcurrentPublication getPublication(final long registrationId)
     {
         clientLock.lock();
@@ -1757,6 +1848,16 @@ final class ClientConductor implements Agent
         return logBuffers;
     }
 
+    private IpcDataSignal ipcDataSignal(final String channel, final int streamId)
+    {
+        if (ctx.ipcDataSignal() && null != channel && channel.startsWith(CommonContext.IPC_CHANNEL))
+        {
+            return IpcDataSignal.acquire(ctx.aeronDirectoryName(), streamId);
+        }
+
+        return null;
+    }
+
     private int service(final long correlationId)
     {
         int workCount = 0;
@@ -1902,7 +2003,7 @@ final class ClientConductor implements Agent
             if (null == heartbeatTimestamp)
             {
                 final int counterId = HeartbeatTimestamp.findCounterIdByRegistrationId(
-                    countersReader, HEARTBEAT_TYPE_ID, ctx.clientId());
+                    countersIndex, HEARTBEAT_TYPE_ID, ctx.clientId());
 
                 if (NULL_COUNTER_ID != counterId)
                 {
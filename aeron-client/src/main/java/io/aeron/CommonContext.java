@@ -490,6 +490,51 @@ public class CommonContext implements Cloneable
      */
     public static final String PUBLICATION_WINDOW_LENGTH_PARAM_NAME = "pub-wnd";
 
+    /**
+     * Parameter name for the affinity group of a channel which selects the sender or receiver agent to service its
+     * endpoint when the media driver runs multiple network agents, e.g. {@code affinity-group=3}. Channels without an
+     * explicit group are assigned an agent by hash of the channel.
+     *
+     * @since 1.52.0
+     */
+    public static final String AFFINITY_GROUP_PARAM_NAME = "affinity-group";
+
+    /**
+     * Parameter name for enabling zero-copy receive on a unicast subscription channel, e.g. {@code rcv-zero-copy=true}.
+     * This is intended for channels with a single source of publications. The receive socket is connected to the
+     * source while all images of the channel share it so that in-order data frames can be received directly into the
+     * term buffer. Datagrams from other sources are dropped by the OS while the socket is connected, so a new or
+     * restarted publication on another address is only seen in a short check window each second and can take that
+     * long to be connected. Zero-copy receive is suspended while more than one source is seen.
+     *
+     * @since 1.52.0
+     */
+    public static final String RECEIVE_ZERO_COPY_PARAM_NAME = "rcv-zero-copy";
+
+    /**
+     * Parameter name for compression of data datagrams sent by a network publication, e.g.
+     * {@code compression=deflate}. Supported values are {@link #COMPRESSION_DEFLATE} and
+     * {@link #COMPRESSION_DEFLATE_FAST}. The capability is advertised in the SETUP frame and datagrams are only
+     * compressed once receivers acknowledge it in their status messages. Not valid for IPC or subscriptions.
+     *
+     * @since 1.52.0
+     */
+    public static final String COMPRESSION_PARAM_NAME = "compression";
+
+    /**
+     * Value for {@link #COMPRESSION_PARAM_NAME} to deflate datagrams with the default compression level.
+     *
+     * @since 1.52.0
+     */
+    public static final String COMPRESSION_DEFLATE = "deflate";
+
+    /**
+     * Value for {@link #COMPRESSION_PARAM_NAME} to deflate datagrams favouring speed over compression ratio.
+     *
+     * @since 1.52.0
+     */
+    public static final String COMPRESSION_DEFLATE_FAST = "deflate-fast";
+
     /**
      * Property name to use to set the secure random algorithm to be used by the Aeron component.
      */
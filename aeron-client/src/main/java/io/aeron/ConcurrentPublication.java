@@ -20,6 +20,11 @@ import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.ReadablePosition;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static io.aeron.logbuffer.FrameDescriptor.*;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
@@ -37,12 +42,23 @@ import static org.agrona.BitUtil.align;
  * The APIs for tryClaim and offer are non-blocking and thread safe.
  * <p>
  * <b>Note:</b> Instances are threadsafe and can be shared between publishing threads.
+ * <p>
+ * When {@link Aeron.Context#publicationOfferCombining()} is set, offers of messages which fit in a single frame from
+ * threads contending on the same instance are combined. Each thread publishes its message to a slot and whichever
+ * thread wins the combiner lock appends all the pending messages with a single update of the term tail, reducing
+ * contention on its cache line as the number of publishing threads grows. Slots are leased for the duration of each
+ * offer so they are not tied to the lifetime of a thread. Offers with a {@link ReservedValueSupplier} are not
+ * combined so that the supplier is always run on the offering thread.
  *
  * @see Aeron#addPublication(String, int)
  * @see BufferClaim
  */
 public final class ConcurrentPublication extends Publication
 {
+    private static final int MAX_OFFER_COMBINING_THREADS = 64;
+
+    private final OfferCombiner offerCombiner;
+
     ConcurrentPublication(
         final ClientConductor clientConductor,
         final String channel,
@@ -53,6 +69,31 @@ public final class ConcurrentPublication extends Publication
         final LogBuffers logBuffers,
         final long originalRegistrationId,
         final long registrationId)
+    {
+        this(
+            clientConductor,
+            channel,
+            streamId,
+            sessionId,
+            positionLimit,
+            channelStatusId,
+            logBuffers,
+            originalRegistrationId,
+            registrationId,
+            false);
+    }
+
+    ConcurrentPublication(
+        final ClientConductor clientConductor,
+        final String channel,
+        final int streamId,
+        final int sessionId,
+        final ReadablePosition positionLimit,
+        final int channelStatusId,
+        final LogBuffers logBuffers,
+        final long originalRegistrationId,
+        final long registrationId,
+        final boolean isOfferCombining)
     {
         super(
             clientConductor,
@@ -64,6 +105,8 @@ public final class ConcurrentPublication extends Publication
             logBuffers,
             originalRegistrationId,
             registrationId);
+
+        offerCombiner = isOfferCombining ? new OfferCombiner() : null;
     }
 
     /**
@@ -95,6 +138,17 @@ public final class ConcurrentPublication extends Publication
         final int length,
         final ReservedValueSupplier reservedValueSupplier)
     {
+        if (null != offerCombiner && null == reservedValueSupplier && length <= maxPayloadLength && !isClosed)
+        {
+            checkPositiveLength(length);
+
+            final OfferSlot slot = offerCombiner.claimSlot();
+            if (null != slot)
+            {
+                return offerCombined(slot, buffer, offset, length);
+            }
+        }
+
         long newPosition = CLOSED;
         if (!isClosed)
         {
@@ -127,6 +181,8 @@ public final class ConcurrentPublication extends Publication
                     newPosition = appendFragmentedMessage(
                         termBuffer, tailCounterOffset, buffer, offset, length, reservedValueSupplier);
                 }
+
+                signalData();
             }
             else
             {
@@ -209,6 +265,8 @@ public final class ConcurrentPublication extends Publication
                         lengthTwo,
                         reservedValueSupplier);
                 }
+
+                signalData();
             }
             else
             {
@@ -263,6 +321,8 @@ public final class ConcurrentPublication extends Publication
                     newPosition = appendFragmentedMessage(
                         termBuffer, tailCounterOffset, vectors, length, reservedValueSupplier);
                 }
+
+                signalData();
             }
             else
             {
@@ -733,12 +793,149 @@ public final class ConcurrentPublication extends Publication
         else
         {
             headerWriter.write(termBuffer, termOffset, frameLength, termId);
-            bufferClaim.wrap(termBuffer, termOffset, frameLength);
+            bufferClaim.wrap(termBuffer, termOffset, frameLength, dataSignal);
         }
 
         return position;
     }
 
+    private long offerCombined(final OfferSlot slot, final DirectBuffer buffer, final int offset, final int length)
+    {
+        try
+        {
+            buffer.boundsCheck(offset, length);
+
+            slot.buffer = buffer;
+            slot.offset = offset;
+            slot.length = length;
+            slot.state = OfferSlot.PENDING;
+
+            final OfferCombiner offerCombiner = this.offerCombiner;
+            while (true)
+            {
+                if (offerCombiner.tryLock())
+                {
+                    try
+                    {
+                        combine(offerCombiner);
+                    }
+                    finally
+                    {
+                        offerCombiner.unlock();
+                    }
+                }
+
+                if (OfferSlot.COMPLETE == slot.state)
+                {
+                    return slot.result;
+                }
+
+                Thread.onSpinWait();
+            }
+        }
+        finally
+        {
+            slot.release();
+        }
+    }
+
+    int claimedOfferSlotCount()
+    {
+        return null != offerCombiner ? offerCombiner.claimedSlotCount() : 0;
+    }
+
+    private void combine(final OfferCombiner offerCombiner)
+    {
+        final OfferSlot[] batch = offerCombiner.batch;
+        final int slotCount = offerCombiner.slotCount();
+        final long limit = positionLimit.getVolatile();
+        final int termCount = activeTermCount(logMetaDataBuffer);
+        final int index = indexByTermCount(termCount);
+        final UnsafeBuffer termBuffer = termBuffers[index];
+        final int tailCounterOffset = TERM_TAIL_COUNTERS_OFFSET + (index * SIZE_OF_LONG);
+        final long rawTail = logMetaDataBuffer.getLongVolatile(tailCounterOffset);
+        final int termOffset = termOffset(rawTail, termBuffer.capacity());
+        final int termId = termId(rawTail);
+        final long position = computePosition(termId, termOffset, positionBitsToShift, initialTermId);
+        final boolean isTermRotating = termCount != (termId - initialTermId);
+
+        int batchSize = 0;
+        int batchLength = 0;
+        for (int i = 0; i < slotCount; i++)
+        {
+            final OfferSlot slot = offerCombiner.slots[i];
+            if (OfferSlot.PENDING == slot.state && slot.take())
+            {
+                if (isClosed)
+                {
+                    slot.complete(CLOSED);
+                }
+                else if (isTermRotating)
+                {
+                    slot.complete(ADMIN_ACTION);
+                }
+                else if (position + batchLength < limit)
+                {
+                    batch[batchSize++] = slot;
+                    batchLength += align(slot.length + HEADER_LENGTH, FRAME_ALIGNMENT);
+                }
+                else
+                {
+                    slot.complete(backPressureStatus(position + batchLength, slot.length));
+                }
+            }
+        }
+
+        if (batchSize > 0)
+        {
+            appendBatch(termBuffer, tailCounterOffset, batch, batchSize, batchLength);
+            signalData();
+        }
+    }
+
+    private void appendBatch(
+        final UnsafeBuffer termBuffer,
+        final int tailCounterOffset,
+        final OfferSlot[] batch,
+        final int batchSize,
+        final int batchLength)
+    {
+        final int termLength = termBuffer.capacity();
+
+        final long rawTail = logMetaDataBuffer.getAndAddLong(tailCounterOffset, batchLength);
+        final int termId = termId(rawTail);
+        final int termOffset = termOffset(rawTail, termLength);
+
+        final int resultingOffset = termOffset + batchLength;
+        if (resultingOffset > termLength)
+        {
+            final long position = computePosition(termId, resultingOffset, positionBitsToShift, initialTermId);
+            final long result = handleEndOfLog(termBuffer, termLength, termId, termOffset, position);
+            for (int i = 0; i < batchSize; i++)
+            {
+                batch[i].complete(result);
+                batch[i] = null;
+            }
+        }
+        else
+        {
+            int frameOffset = termOffset;
+            for (int i = 0; i < batchSize; i++)
+            {
+                final OfferSlot slot = batch[i];
+                final int frameLength = slot.length + HEADER_LENGTH;
+
+                headerWriter.write(termBuffer, frameOffset, frameLength, termId);
+                termBuffer.putBytes(frameOffset + HEADER_LENGTH, slot.buffer, slot.offset, slot.length);
+                frameLengthOrdered(termBuffer, frameOffset, frameLength);
+                frameOffset += align(frameLength, FRAME_ALIGNMENT);
+
+                slot.complete(computePosition(termId, frameOffset, positionBitsToShift, initialTermId));
+                batch[i] = null;
+            }
+        }
+    }
+
     private long handleEndOfLog(
         final UnsafeBuffer termBuffer,
         final int termLength,
@@ -763,4 +960,130 @@ public final class ConcurrentPublication extends Publication
 
         return ADMIN_ACTION;
     }
+
+    static final class OfferSlot
+    {
+        static final int EMPTY = 0;
+        static final int CLAIMED = 1;
+        static final int PENDING = 2;
+        static final int TAKEN = 3;
+        static final int COMPLETE = 4;
+
+        private static final VarHandle STATE_VH;
+
+        static
+        {
+            try
+            {
+                STATE_VH = MethodHandles.lookup().findVarHandle(OfferSlot.class, "state", int.class);
+            }
+            catch (final ReflectiveOperationException ex)
+            {
+                throw new ExceptionInInitializerError(ex);
+            }
+        }
+
+        volatile int state = EMPTY;
+        DirectBuffer buffer;
+        int offset;
+        int length;
+        long result;
+
+        boolean claim()
+        {
+            return STATE_VH.compareAndSet(this, EMPTY, CLAIMED);
+        }
+
+        boolean take()
+        {
+            return STATE_VH.compareAndSet(this, PENDING, TAKEN);
+        }
+
+        void complete(final long result)
+        {
+            this.result = result;
+            state = COMPLETE;
+        }
+
+        void release()
+        {
+            while (TAKEN == state || (PENDING == state && !STATE_VH.compareAndSet(this, PENDING, CLAIMED)))
+            {
+                Thread.onSpinWait();
+            }
+
+            buffer = null;
+            state = EMPTY;
+        }
+    }
+
+    static final class OfferCombiner
+    {
+        private static final AtomicInteger NEXT_SLOT_HINT = new AtomicInteger();
+        private static final ThreadLocal<Integer> THREAD_SLOT_HINT = ThreadLocal.withInitial(
+            () -> NEXT_SLOT_HINT.getAndIncrement() & (MAX_OFFER_COMBINING_THREADS - 1));
+
+        final OfferSlot[] slots = new OfferSlot[MAX_OFFER_COMBINING_THREADS];
+        final OfferSlot[] batch = new OfferSlot[MAX_OFFER_COMBINING_THREADS];
+        private final AtomicInteger slotCount = new AtomicInteger();
+        private final AtomicBoolean lock = new AtomicBoolean();
+
+        OfferCombiner()
+        {
+            for (int i = 0; i < MAX_OFFER_COMBINING_THREADS; i++)
+            {
+                slots[i] = new OfferSlot();
+            }
+        }
+
+        OfferSlot claimSlot()
+        {
+            final int hint = THREAD_SLOT_HINT.get();
+            for (int i = 0; i < MAX_OFFER_COMBINING_THREADS; i++)
+            {
+                final int index = (hint + i) & (MAX_OFFER_COMBINING_THREADS - 1);
+                final OfferSlot slot = slots[index];
+                if (OfferSlot.EMPTY == slot.state && slot.claim())
+                {
+                    if (index >= slotCount.get())
+                    {
+                        slotCount.accumulateAndGet(index + 1, Math::max);
+                    }
+
+                    return slot;
+                }
+            }
+
+            return null;
+        }
+
+        int slotCount()
+        {
+            return slotCount.get();
+        }
+
+        int claimedSlotCount()
+        {
+            int count = 0;
+            for (final OfferSlot slot : slots)
+            {
+                if (OfferSlot.EMPTY != slot.state)
+                {
+                    count++;
+                }
+            }
+
+            return count;
+        }
+
+        boolean tryLock()
+        {
+            return !lock.get() && lock.compareAndSet(false, true);
+        }
+
+        void unlock()
+        {
+            lock.set(false);
+        }
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
+
+import static io.aeron.BatchingPublication.LENGTH_PREFIX_LENGTH;
+import static io.aeron.BatchingPublication.MESSAGE_ALIGNMENT;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.BitUtil.align;
+
+/**
+ * A {@link FragmentHandler} that sits in a chain-of-responsibility pattern that unpacks batches of messages published
+ * with a {@link BatchingPublication} so that the next handler in the chain sees each message in turn.
+ * <p>
+ * Messages are delegated in place without copy. The {@link Header} passed to the delegate is that of the batch.
+ * Batches which may be fragmented should be reassembled first by wrapping this handler in a
+ * {@link FragmentAssembler}.
+ * <p>
+ * Each length prefix in a batch is validated against the bounds of the fragment before any message is delegated.
+ * Fragments which are not well-formed batches, such as messages published without batching, are passed through to
+ * the delegate unchanged.
+ *
+ * @since 1.52.0
+ */
+public class DebatchingFragmentHandler implements FragmentHandler
+{
+    private final FragmentHandler delegate;
+
+    /**
+     * Construct an adapter to unpack batches and delegate each message.
+     *
+     * @param delegate onto which each message in a batch is forwarded.
+     */
+    public DebatchingFragmentHandler(final FragmentHandler delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Get the delegate unto which messages are delegated.
+     *
+     * @return the delegate unto which messages are delegated.
+     */
+    public FragmentHandler delegate()
+    {
+        return delegate;
+    }
+
+    /**
+     * The implementation of {@link FragmentHandler} that unpacks a batch and forwards each message.
+     *
+     * @param buffer containing the batch.
+     * @param offset at which the batch begins.
+     * @param length of the batch in bytes.
+     * @param header representing the metadata for the batch.
+     */
+    public void onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        if (!isBatch(buffer, offset, length))
+        {
+            delegate.onFragment(buffer, offset, length, header);
+            return;
+        }
+
+        final int limit = offset + length;
+        int messageOffset = offset;
+
+        while (messageOffset + LENGTH_PREFIX_LENGTH <= limit)
+        {
+            final int messageLength = buffer.getInt(messageOffset, LITTLE_ENDIAN);
+            delegate.onFragment(buffer, messageOffset + LENGTH_PREFIX_LENGTH, messageLength, header);
+            messageOffset += align(LENGTH_PREFIX_LENGTH + messageLength, MESSAGE_ALIGNMENT);
+        }
+    }
+
+    private static boolean isBatch(final DirectBuffer buffer, final int offset, final int length)
+    {
+        if (length < LENGTH_PREFIX_LENGTH)
+        {
+            return false;
+        }
+
+        final int limit = offset + length;
+        int messageOffset = offset;
+
+        while (messageOffset + LENGTH_PREFIX_LENGTH <= limit)
+        {
+            final int messageLength = buffer.getInt(messageOffset, LITTLE_ENDIAN);
+            if (messageLength < 0 || messageLength > limit - messageOffset - LENGTH_PREFIX_LENGTH)
+            {
+                return false;
+            }
+
+            messageOffset += align(LENGTH_PREFIX_LENGTH + messageLength, MESSAGE_ALIGNMENT);
+        }
+
+        return true;
+    }
+}
@@ -130,13 +130,17 @@ class DriverEventsAdapter implements MessageHandler
             {
                 imageReady.wrap(buffer, index);
 
-                conductor.onAvailableImage(
-                    imageReady.correlationId(),
-                    imageReady.sessionId(),
-                    imageReady.subscriptionRegistrationId(),
-                    imageReady.subscriberPositionId(),
-                    imageReady.logFileName(),
-                    imageReady.sourceIdentity());
+                final long subscriptionRegistrationId = imageReady.subscriptionRegistrationId();
+                if (conductor.hasSubscription(subscriptionRegistrationId))
+                {
+                    conductor.onAvailableImage(
+                        imageReady.correlationId(),
+                        imageReady.sessionId(),
+                        subscriptionRegistrationId,
+                        imageReady.subscriberPositionId(),
+                        imageReady.logFileName(),
+                        imageReady.sourceIdentity());
+                }
                 break;
             }
 
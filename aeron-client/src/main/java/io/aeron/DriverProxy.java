@@ -18,6 +18,7 @@ package io.aeron;
 import io.aeron.command.*;
 import io.aeron.exceptions.AeronException;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.AtomicBuffer;
 import org.agrona.concurrent.ringbuffer.RingBuffer;
 
 import static io.aeron.command.ControlProtocolEvents.*;
@@ -45,6 +46,7 @@ public final class DriverProxy
     private final RejectImageFlyweight rejectImageFlyweight = new RejectImageFlyweight();
     private final GetNextAvailableSessionIdMessageFlyweight getNextAvailableSessionIdMessageFlyweight =
         new GetNextAvailableSessionIdMessageFlyweight();
+    private final CommandBatchFlyweight commandBatchFlyweight = new CommandBatchFlyweight();
     private final RingBuffer toDriverCommandBuffer;
 
     /**
@@ -602,6 +604,79 @@ public final class DriverProxy
         return correlationId;
     }
 
+    void addBatch(final RegistrationBatch batch)
+    {
+        final int maxMsgLength = toDriverCommandBuffer.maxMsgLength();
+        final int size = batch.size();
+        int from = 0;
+
+        while (from < size)
+        {
+            int length = CommandBatchFlyweight.LENGTH;
+            int to = from;
+            while (to < size)
+            {
+                final int entryLength = CommandBatchFlyweight.alignedEntryLength(commandLength(batch, to));
+                if (to > from && length + entryLength > maxMsgLength)
+                {
+                    break;
+                }
+
+                length += entryLength;
+                to++;
+            }
+
+            final int index = toDriverCommandBuffer.tryClaim(COMMAND_BATCH, length);
+            if (index < 0)
+            {
+                throw new AeronException("failed to write command batch");
+            }
+
+            final AtomicBuffer buffer = toDriverCommandBuffer.buffer();
+            commandBatchFlyweight
+                .wrap(buffer, index)
+                .commandCount(to - from)
+                .correlationId(toDriverCommandBuffer.nextCorrelationId())
+                .clientId(clientId);
+
+            int entryOffset = CommandBatchFlyweight.LENGTH;
+            for (int i = from; i < to; i++)
+            {
+                final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+                final int msgTypeId = batch.msgTypeId(i);
+                final int commandLength = commandLength(batch, i);
+                final int commandIndex = index + entryOffset + CommandBatchFlyweight.ENTRY_HEADER_LENGTH;
+
+                if (ADD_SUBSCRIPTION == msgTypeId)
+                {
+                    subscriptionMessageFlyweight
+                        .wrap(buffer, commandIndex)
+                        .registrationCorrelationId(Aeron.NULL_VALUE)
+                        .streamId(batch.streamId(i))
+                        .channel(batch.channel(i))
+                        .clientId(clientId)
+                        .correlationId(correlationId);
+                }
+                else
+                {
+                    publicationMessageFlyweight
+                        .wrap(buffer, commandIndex)
+                        .streamId(batch.streamId(i))
+                        .channel(batch.channel(i))
+                        .clientId(clientId)
+                        .correlationId(correlationId);
+                }
+
+                commandBatchFlyweight.entryHeader(entryOffset, msgTypeId, commandLength);
+                batch.registrationId(i, correlationId);
+                entryOffset += CommandBatchFlyweight.alignedEntryLength(commandLength);
+            }
+
+            toDriverCommandBuffer.commit(index);
+            from = to;
+        }
+    }
+
     long nextAvailableSessionId(final int streamId)
     {
         final long correlationId = toDriverCommandBuffer.nextCorrelationId();
@@ -622,4 +697,13 @@ public final class DriverProxy
 
         return correlationId;
     }
+
+    private static int commandLength(final RegistrationBatch batch, final int index)
+    {
+        final int channelLength = batch.channel(index).length();
+
+        return ADD_SUBSCRIPTION == batch.msgTypeId(index) ?
+            SubscriptionMessageFlyweight.computeLength(channelLength) :
+            PublicationMessageFlyweight.computeLength(channelLength);
+    }
 }
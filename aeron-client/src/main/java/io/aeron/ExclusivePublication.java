@@ -262,6 +262,7 @@ public final class ExclusivePublication extends ExclusivePublicationValues
                 }
 
                 newPosition = newPosition(result);
+                signalData();
             }
             else
             {
@@ -330,6 +331,7 @@ public final class ExclusivePublication extends ExclusivePublicationValues
                 }
 
                 newPosition = newPosition(result);
+                signalData();
             }
             else
             {
@@ -377,6 +379,7 @@ public final class ExclusivePublication extends ExclusivePublicationValues
                 }
 
                 newPosition = newPosition(result);
+                signalData();
             }
             else
             {
@@ -527,6 +530,58 @@ public final class ExclusivePublication extends ExclusivePublicationValues
             final int tailCounterOffset = TERM_TAIL_COUNTERS_OFFSET + (activePartitionIndex * SIZE_OF_LONG);
             final UnsafeBuffer termBuffer = termBuffers[activePartitionIndex];
             final int result = appendBlock(termBuffer, tailCounterOffset, buffer, offset, length);
+            signalData();
+
+            return newPosition(result);
+        }
+        else
+        {
+            return backPressureStatus(position, length);
+        }
+    }
+
+    /**
+     * Offer a block of pre-formatted message fragments, such as a block read from a recording, directly into the
+     * current term rewriting the {@code sessionId} and {@code streamId} of each fragment to those of this publication
+     * as the block is copied. Unlike {@link #offerBlock(MutableDirectBuffer, int, int)} the source buffer is not
+     * modified so it can be read-only, e.g. a memory-mapped file.
+     *
+     * @param buffer containing the pre-formatted block of message fragments.
+     * @param offset offset in the buffer at which the first fragment begins.
+     * @param length in bytes of the encoded block which must only contain whole data frames.
+     * @return The new stream position, otherwise a negative error value of {@link #NOT_CONNECTED},
+     * {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, {@link #CLOSED}, or {@link #MAX_POSITION_EXCEEDED}.
+     * @throws IllegalArgumentException if the length is greater than remaining size of the current term.
+     * @throws IllegalArgumentException if the first frame within the block is not properly formatted, i.e. if the
+     *                                  {@code termOffset} or {@code termId} do not match the current term or if the
+     *                                  frame type is not equal to the
+     *                                  {@link io.aeron.protocol.HeaderFlyweight#HDR_TYPE_DATA}.
+     * @since 1.52.0
+     */
+    public long offerRecordedBlock(final DirectBuffer buffer, final int offset, final int length)
+    {
+        if (isClosed)
+        {
+            return CLOSED;
+        }
+
+        if (termOffset >= termBufferLength)
+        {
+            rotateTerm();
+        }
+
+        final long limit = positionLimit.getVolatile();
+        final long position = termBeginPosition + termOffset;
+
+        if (position < limit)
+        {
+            checkBlockLength(length);
+            checkFirstRecordedFrame(buffer, offset);
+
+            final int tailCounterOffset = TERM_TAIL_COUNTERS_OFFSET + (activePartitionIndex * SIZE_OF_LONG);
+            final UnsafeBuffer termBuffer = termBuffers[activePartitionIndex];
+            final int result = appendRecordedBlock(termBuffer, tailCounterOffset, buffer, offset, length);
+            signalData();
 
             return newPosition(result);
         }
@@ -570,6 +625,21 @@ public final class ExclusivePublication extends ExclusivePublicationValues
         }
     }
 
+    private void checkFirstRecordedFrame(final DirectBuffer buffer, final int offset)
+    {
+        final int blockTermOffset = buffer.getInt(offset + TERM_OFFSET_FIELD_OFFSET, LITTLE_ENDIAN);
+        final int blockTermId = buffer.getInt(offset + TERM_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+        final int blockFrameType = buffer.getShort(offset + TYPE_FIELD_OFFSET, LITTLE_ENDIAN) & 0xFFFF;
+
+        if (blockTermOffset != termOffset || blockTermId != termId || HDR_TYPE_DATA != blockFrameType)
+        {
+            throw new IllegalArgumentException("improperly formatted block:" +
+                " termOffset=" + blockTermOffset + " (expected=" + termOffset + ")," +
+                " termId=" + blockTermId + " (expected=" + termId + ")," +
+                " frameType=" + blockFrameType + " (expected=" + HDR_TYPE_DATA + ")");
+        }
+    }
+
     private long newPosition(final int resultingOffset)
     {
         if (resultingOffset > 0)
@@ -986,7 +1056,7 @@ public final class ExclusivePublication extends ExclusivePublicationValues
         else
         {
             headerWriter.write(termBuffer, termOffset, frameLength, termId);
-            bufferClaim.wrap(termBuffer, termOffset, frameLength);
+            bufferClaim.wrap(termBuffer, termOffset, frameLength, dataSignal);
         }
 
         return resultingOffset;
@@ -1037,4 +1107,41 @@ public final class ExclusivePublication extends ExclusivePublicationValues
 
         return resultingOffset;
     }
+
+    private int appendRecordedBlock(
+        final UnsafeBuffer termBuffer,
+        final int tailCounterOffset,
+        final DirectBuffer buffer,
+        final int offset,
+        final int length)
+    {
+        final int resultingOffset = termOffset + length;
+
+        logMetaDataBuffer.putLongRelease(tailCounterOffset, packTail(termId, resultingOffset));
+
+        termBuffer.putBytes(termOffset + HEADER_LENGTH, buffer, offset + HEADER_LENGTH, length - HEADER_LENGTH);
+
+        int frameOffset = termOffset + align(buffer.getInt(offset, LITTLE_ENDIAN), FRAME_ALIGNMENT);
+        while (frameOffset < resultingOffset)
+        {
+            final int frameLength = termBuffer.getInt(frameOffset, LITTLE_ENDIAN);
+            if (frameLength <= 0)
+            {
+                break;
+            }
+
+            termBuffer.putInt(frameOffset + SESSION_ID_FIELD_OFFSET, sessionId, LITTLE_ENDIAN);
+            termBuffer.putInt(frameOffset + STREAM_ID_FIELD_OFFSET, streamId, LITTLE_ENDIAN);
+            frameOffset += align(frameLength, FRAME_ALIGNMENT);
+        }
+
+        termBuffer.putLong(termOffset + RESERVED_VALUE_OFFSET, buffer.getLong(offset + RESERVED_VALUE_OFFSET));
+        termBuffer.putInt(termOffset + TERM_ID_FIELD_OFFSET, buffer.getInt(offset + TERM_ID_FIELD_OFFSET));
+        termBuffer.putInt(termOffset + STREAM_ID_FIELD_OFFSET, streamId, LITTLE_ENDIAN);
+        termBuffer.putInt(termOffset + SESSION_ID_FIELD_OFFSET, sessionId, LITTLE_ENDIAN);
+        termBuffer.putInt(termOffset + TERM_OFFSET_FIELD_OFFSET, buffer.getInt(offset + TERM_OFFSET_FIELD_OFFSET));
+        termBuffer.putLongRelease(termOffset, buffer.getLong(offset));
+
+        return resultingOffset;
+    }
 }
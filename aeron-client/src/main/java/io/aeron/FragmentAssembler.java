@@ -29,6 +29,10 @@ import static io.aeron.logbuffer.FrameDescriptor.*;
  * Unfragmented messages are delegated without copy. Fragmented messages are copied to a temporary
  * buffer for reassembly before delegation.
  * <p>
+ * When constructed with a {@link FragmentedMessageHandler} fragmented messages which are complete in the term buffer
+ * on arrival of the begin fragment are instead handed to it as a {@link FragmentedMessage} gather view without copy.
+ * Messages which are not yet complete in the term buffer fall back to being copied for reassembly.
+ * <p>
  * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
  * <p>
  * Session based buffers will be allocated and grown as necessary based on the length of messages to be assembled.
@@ -43,6 +47,8 @@ public class FragmentAssembler implements FragmentHandler
     private final boolean isDirectByteBuffer;
     private final int initialBufferLength;
     private final FragmentHandler delegate;
+    private final FragmentedMessageHandler fragmentedMessageHandler;
+    private final FragmentedMessage fragmentedMessage;
     private final Int2ObjectHashMap<BufferBuilder> builderBySessionIdMap = new Int2ObjectHashMap<>();
 
     /**
@@ -75,10 +81,47 @@ public class FragmentAssembler implements FragmentHandler
      */
     public FragmentAssembler(
         final FragmentHandler delegate, final int initialBufferLength, final boolean isDirectByteBuffer)
+    {
+        this(delegate, null, initialBufferLength, isDirectByteBuffer);
+    }
+
+    /**
+     * Construct an adapter which gathers fragmented messages in place when they are complete in the term buffer and
+     * delegates whole messages otherwise.
+     *
+     * @param delegate                 onto which unfragmented and copied reassembled messages are forwarded.
+     * @param fragmentedMessageHandler onto which fragmented messages gathered in place are forwarded.
+     * @since 1.52.0
+     */
+    public FragmentAssembler(
+        final FragmentHandler delegate, final FragmentedMessageHandler fragmentedMessageHandler)
+    {
+        this(delegate, fragmentedMessageHandler, 0, false);
+    }
+
+    /**
+     * Construct an adapter which gathers fragmented messages in place when they are complete in the term buffer and
+     * delegates whole messages otherwise.
+     *
+     * @param delegate                 onto which unfragmented and copied reassembled messages are forwarded.
+     * @param fragmentedMessageHandler onto which fragmented messages gathered in place are forwarded, or null to
+     *                                 always copy fragmented messages for reassembly.
+     * @param initialBufferLength      to be used for each session.
+     * @param isDirectByteBuffer       is the underlying buffer to be a direct {@link java.nio.ByteBuffer}?
+     * @since 1.52.0
+     */
+    public FragmentAssembler(
+        final FragmentHandler delegate,
+        final FragmentedMessageHandler fragmentedMessageHandler,
+        final int initialBufferLength,
+        final boolean isDirectByteBuffer)
     {
         this.initialBufferLength = initialBufferLength;
         this.delegate = delegate;
         this.isDirectByteBuffer = isDirectByteBuffer;
+        this.fragmentedMessageHandler = fragmentedMessageHandler;
+        this.fragmentedMessage = null != fragmentedMessageHandler ?
+            new FragmentedMessage(initialBufferLength, isDirectByteBuffer) : null;
     }
 
     /**
@@ -91,6 +134,17 @@ public class FragmentAssembler implements FragmentHandler
         return delegate;
     }
 
+    /**
+     * Get the handler unto which fragmented messages gathered in place are delegated.
+     *
+     * @return the handler unto which fragmented messages gathered in place are delegated or null if not gathering.
+     * @since 1.52.0
+     */
+    public FragmentedMessageHandler fragmentedMessageHandler()
+    {
+        return fragmentedMessageHandler;
+    }
+
     /**
      * Is the underlying buffer used to assemble fragments a direct {@link java.nio.ByteBuffer}?
      *
@@ -129,7 +183,26 @@ public class FragmentAssembler implements FragmentHandler
         if ((flags & BEGIN_FRAG_FLAG) == BEGIN_FRAG_FLAG)
         {
             final BufferBuilder builder = getBufferBuilder(header.sessionId());
-            builder.reset()
+            builder.reset();
+
+            if (null != fragmentedMessage)
+            {
+                final Header completeHeader = fragmentedMessage.gather(header);
+                if (null != completeHeader)
+                {
+                    try
+                    {
+                        fragmentedMessageHandler.onMessage(fragmentedMessage, completeHeader);
+                    }
+                    finally
+                    {
+                        fragmentedMessage.reset();
+                    }
+                    return;
+                }
+            }
+
+            builder
                 .captureHeader(header)
                 .append(buffer, offset, length)
                 .nextTermOffset(header.nextTermOffset());
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.util.Arrays;
+
+import static io.aeron.logbuffer.FrameDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static org.agrona.BitUtil.align;
+
+/**
+ * Gather view of a fragmented message in place within a term buffer. Each fragment is represented as a
+ * {@link DirectBufferVector} over its payload so the message can be consumed without first copying it to a
+ * contiguous buffer.
+ * <p>
+ * A message can be gathered once its begin fragment is delivered if all of its fragments have been written to the term
+ * buffer before the limit of the current poll of the {@link Image}, so a bounded poll never delivers a message which
+ * extends beyond its limit position. The fragments following the begin fragment are ahead of the consumer position
+ * and therefore cannot be cleaned by the driver while the message is being handled.
+ * <p>
+ * A contiguous copy of the message can be requested with {@link #contiguousBuffer()} for handlers which need it.
+ *
+ * @since 1.52.0
+ */
+public final class FragmentedMessage
+{
+    private static final int INITIAL_FRAGMENT_CAPACITY = 8;
+
+    private int length;
+    private int fragmentCount;
+    private boolean isCopied;
+    private DirectBufferVector[] fragments = newFragments(0, INITIAL_FRAGMENT_CAPACITY);
+    private final BufferBuilder builder;
+
+    FragmentedMessage(final int initialBufferLength, final boolean isDirectByteBuffer)
+    {
+        builder = new BufferBuilder(initialBufferLength, isDirectByteBuffer);
+    }
+
+    /**
+     * Total length of the message payload across all fragments.
+     *
+     * @return total length of the message payload across all fragments.
+     */
+    public int length()
+    {
+        return length;
+    }
+
+    /**
+     * Number of fragments which make up the message.
+     *
+     * @return number of fragments which make up the message.
+     */
+    public int fragmentCount()
+    {
+        return fragmentCount;
+    }
+
+    /**
+     * Vector over the payload of a fragment within the term buffer.
+     *
+     * @param index of the fragment in the range 0 to {@link #fragmentCount()} - 1.
+     * @return vector over the payload of the fragment.
+     */
+    public DirectBufferVector fragment(final int index)
+    {
+        return fragments[index];
+    }
+
+    /**
+     * Copy the payload of the message to a destination buffer.
+     *
+     * @param dstBuffer to which the payload should be copied.
+     * @param dstOffset in the destination buffer at which the payload should begin.
+     * @return the number of bytes copied which is the {@link #length()}.
+     */
+    public int getBytes(final MutableDirectBuffer dstBuffer, final int dstOffset)
+    {
+        int offset = dstOffset;
+        for (int i = 0; i < fragmentCount; i++)
+        {
+            final DirectBufferVector fragment = fragments[i];
+            dstBuffer.putBytes(offset, fragment.buffer(), fragment.offset(), fragment.length());
+            offset += fragment.length();
+        }
+
+        return length;
+    }
+
+    /**
+     * Get the message as a contiguous buffer beginning at offset 0 for {@link #length()} bytes. The message is copied
+     * to an internal buffer on first use which is reused for subsequent messages.
+     *
+     * @return the buffer containing the contiguous message.
+     */
+    public DirectBuffer contiguousBuffer()
+    {
+        if (!isCopied)
+        {
+            for (int i = 0; i < fragmentCount; i++)
+            {
+                final DirectBufferVector fragment = fragments[i];
+                builder.append(fragment.buffer(), fragment.offset(), fragment.length());
+            }
+
+            isCopied = true;
+        }
+
+        return builder.buffer();
+    }
+
+    /**
+     * Gather the fragments of a message starting from its begin fragment if all the fragments are in the term buffer
+     * within the limit of the current poll.
+     *
+     * @param header of the begin fragment.
+     * @return the header for the complete message or null if the message could not be gathered.
+     */
+    Header gather(final Header header)
+    {
+        reset();
+
+        final DirectBuffer buffer = header.buffer();
+        if (!(buffer instanceof UnsafeBuffer))
+        {
+            return null;
+        }
+
+        final UnsafeBuffer termBuffer = (UnsafeBuffer)buffer;
+        final int limitOffset = header.context() instanceof Image image ?
+            Math.min(image.gatherLimitOffset(), termBuffer.capacity()) : termBuffer.capacity();
+        int frameOffset = header.offset();
+        int frameLength = header.frameLength();
+        byte flags;
+
+        while (true)
+        {
+            addFragment(termBuffer, frameOffset + HEADER_LENGTH, frameLength - HEADER_LENGTH);
+            flags = frameFlags(termBuffer, frameOffset);
+            if ((flags & END_FRAG_FLAG) == END_FRAG_FLAG)
+            {
+                break;
+            }
+
+            frameOffset += align(frameLength, FRAME_ALIGNMENT);
+            if (frameOffset >= limitOffset)
+            {
+                reset();
+                return null;
+            }
+
+            frameLength = frameLengthVolatile(termBuffer, frameOffset);
+            if (frameLength <= HEADER_LENGTH ||
+                frameOffset + align(frameLength, FRAME_ALIGNMENT) > limitOffset ||
+                isPaddingFrame(termBuffer, frameOffset))
+            {
+                reset();
+                return null;
+            }
+        }
+
+        builder.reset().captureHeader(header);
+
+        return builder.completeHeader(header.context(), flags, length);
+    }
+
+    /**
+     * Clear the fragments so references to the term buffer are not retained.
+     */
+    void reset()
+    {
+        for (int i = 0; i < fragmentCount; i++)
+        {
+            fragments[i].reset(null, 0, 0);
+        }
+
+        length = 0;
+        fragmentCount = 0;
+        isCopied = false;
+    }
+
+    private void addFragment(final UnsafeBuffer termBuffer, final int offset, final int length)
+    {
+        if (fragmentCount == fragments.length)
+        {
+            fragments = newFragments(fragmentCount, fragmentCount << 1);
+        }
+
+        fragments[fragmentCount++].reset(termBuffer, offset, length);
+        this.length += length;
+    }
+
+    private DirectBufferVector[] newFragments(final int count, final int capacity)
+    {
+        final DirectBufferVector[] newFragments = 0 == count ?
+            new DirectBufferVector[capacity] : Arrays.copyOf(fragments, capacity);
+
+        for (int i = count; i < capacity; i++)
+        {
+            newFragments[i] = new DirectBufferVector();
+        }
+
+        return newFragments;
+    }
+}
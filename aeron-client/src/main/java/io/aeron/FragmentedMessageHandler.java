@@ -0,0 +1,38 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.Header;
+
+/**
+ * Handler for a fragmented message which has been gathered in place within a term buffer rather than copied.
+ *
+ * @see FragmentAssembler#FragmentAssembler(io.aeron.logbuffer.FragmentHandler, FragmentedMessageHandler)
+ * @see ImageFragmentAssembler#ImageFragmentAssembler(io.aeron.logbuffer.FragmentHandler, FragmentedMessageHandler)
+ * @since 1.52.0
+ */
+@FunctionalInterface
+public interface FragmentedMessageHandler
+{
+    /**
+     * Callback for handling a fragmented message gathered in place. The message and the payloads it references are
+     * only valid for the duration of the callback.
+     *
+     * @param message gathered from the fragments within the term buffer.
+     * @param header  representing the metadata for the whole message as if it had been reassembled.
+     */
+    void onMessage(FragmentedMessage message, Header header);
+}
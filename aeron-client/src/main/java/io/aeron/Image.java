@@ -23,6 +23,7 @@ import io.aeron.logbuffer.Header;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.RawBlockHandler;
 import io.aeron.logbuffer.TermBlockScanner;
+import io.aeron.logbuffer.TermReader;
 import org.agrona.BitUtil;
 import org.agrona.ErrorHandler;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -60,6 +61,12 @@ public final class Image
 
     private long finalPosition;
     private long eosPosition = Long.MAX_VALUE;
+    private long pollCount;
+    private long fragmentsPolled;
+    private int gatherLimitOffset;
+    private long prefetchPosition;
+    private long prefetchSum;
+    private int prefetchDistance;
     private boolean isEos;
     private boolean isRevoked;
     private volatile boolean isClosed;
@@ -266,6 +273,99 @@ public final class Image
         return subscriberPosition.get() >= LogBufferDescriptor.endOfStreamPosition(logBuffers.metaDataBuffer());
     }
 
+    /**
+     * Number of times this image has been polled by
+     * {@link Subscription#poll(FragmentHandler, int, ImagePollPolicy)}, which can be compared across the images of
+     * a {@link Subscription} to observe the fairness of a policy. Polls without a policy are not counted.
+     * <p>
+     * The count is written by the polling thread without ordering so may be stale when read from another thread.
+     *
+     * @return number of times the image has been polled.
+     * @see #fragmentsPolled()
+     * @since 1.52.0
+     */
+    public long pollCount()
+    {
+        return pollCount;
+    }
+
+    /**
+     * Number of fragments consumed from this image by {@link Subscription#poll(FragmentHandler, int, ImagePollPolicy)}.
+     * Polls without a policy are not counted.
+     * <p>
+     * The count is written by the polling thread without ordering so may be stale when read from another thread.
+     *
+     * @return number of fragments consumed by polling the image.
+     * @see #pollCount()
+     * @since 1.52.0
+     */
+    public long fragmentsPolled()
+    {
+        return fragmentsPolled;
+    }
+
+    /**
+     * Offset in the term buffer up to which the current {@link #poll(FragmentHandler, int)} or
+     * {@link #boundedPoll(FragmentHandler, long, int)} may read, beyond which fragments must not be gathered.
+     *
+     * @return offset in the term buffer up to which the current poll may read.
+     */
+    int gatherLimitOffset()
+    {
+        return gatherLimitOffset;
+    }
+
+    void recordPoll(final int fragmentsRead)
+    {
+        pollCount++;
+        fragmentsPolled += fragmentsRead;
+    }
+
+    /**
+     * Distance in bytes ahead of the current position within the active term which is touched before polling so
+     * the pages and cache lines are warm when fragments are read.
+     *
+     * @return distance in bytes ahead of the current position which is touched before polling, or 0 if disabled.
+     * @see Aeron.Context#imagePrefetchDistance(int)
+     * @since 1.52.0
+     */
+    public int prefetchDistance()
+    {
+        return prefetchDistance;
+    }
+
+    /**
+     * Set the distance in bytes ahead of the current position within the active term which is touched before
+     * {@link #poll(FragmentHandler, int)} and {@link #controlledPoll(ControlledFragmentHandler, int)} deliver
+     * fragments. Touching ahead helps subscribers which have fallen behind on large terms avoid stalling on cache
+     * and TLB misses. The range touched is bounded by the end of the active term and a region is only touched once.
+     *
+     * @param prefetchDistance in bytes ahead of the current position, or 0 to disable.
+     * @see Aeron.Context#imagePrefetchDistance(int)
+     * @since 1.52.0
+     */
+    public void prefetchDistance(final int prefetchDistance)
+    {
+        if (prefetchDistance < 0)
+        {
+            throw new IllegalArgumentException("prefetchDistance must not be negative: " + prefetchDistance);
+        }
+
+        this.prefetchDistance = prefetchDistance;
+    }
+
+    boolean hasAvailableData()
+    {
+        if (isClosed)
+        {
+            return false;
+        }
+
+        final long position = subscriberPosition.get();
+
+        return 0 != frameLengthVolatile(activeTermBuffer(position), (int)position & termLengthMask);
+    }
+
     /**
      * The position the stream reached when EOS was received from the publisher. The position will be
      * {@link Long#MAX_VALUE} until the stream ends and EOS is set.
@@ -352,6 +452,12 @@ public final class Image
         final int capacity = termBuffer.capacity();
         final Header header = this.header;
         header.buffer(termBuffer);
+        gatherLimitOffset = capacity;
+
+        if (prefetchDistance > 0)
+        {
+            prefetch(termBuffer, initialPosition, initialOffset, capacity);
+        }
 
         try
         {
@@ -419,6 +525,11 @@ public final class Image
         final Header header = this.header;
         header.buffer(termBuffer);
 
+        if (prefetchDistance > 0)
+        {
+            prefetch(termBuffer, initialPosition, initialOffset, capacity);
+        }
+
         try
         {
             while (fragmentsRead < fragmentLimit && offset < capacity && !isClosed)
@@ -517,6 +628,7 @@ public final class Image
         final int limitOffset = (int)Math.min(termBuffer.capacity(), (limitPosition - initialPosition) + offset);
         final Header header = this.header;
         header.buffer(termBuffer);
+        gatherLimitOffset = limitOffset;
 
         try
         {
@@ -870,6 +982,19 @@ public final class Image
         subscription.rejectImage(correlationId, position(), reason);
     }
 
+    private void prefetch(final UnsafeBuffer termBuffer, final long position, final int offset, final int capacity)
+    {
+        final int toOffset = (int)Math.min((long)offset + prefetchDistance, capacity);
+        final long toPosition = position + (toOffset - offset);
+
+        if (prefetchPosition < toPosition)
+        {
+            final int fromOffset = prefetchPosition > position ? offset + (int)(prefetchPosition - position) : offset;
+            prefetchSum += TermReader.prefetch(termBuffer, fromOffset, toOffset);
+            prefetchPosition = toPosition;
+        }
+    }
+
     private UnsafeBuffer activeTermBuffer(final long position)
     {
         return termBuffers[LogBufferDescriptor.indexByPosition(position, positionBitsToShift)];
@@ -29,11 +29,17 @@ import static io.aeron.logbuffer.FrameDescriptor.*;
  * Unfragmented messages are delegated without copy. Fragmented messages are copied to a temporary
  * buffer for reassembly before delegation.
  * <p>
+ * When constructed with a {@link FragmentedMessageHandler} fragmented messages which are complete in the term buffer
+ * on arrival of the begin fragment are instead handed to it as a {@link FragmentedMessage} gather view without copy.
+ * Messages which are not yet complete in the term buffer fall back to being copied for reassembly.
+ * <p>
  * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
  */
 public class ImageFragmentAssembler implements FragmentHandler
 {
     private final FragmentHandler delegate;
+    private final FragmentedMessageHandler fragmentedMessageHandler;
+    private final FragmentedMessage fragmentedMessage;
     private final BufferBuilder builder;
 
     /**
@@ -53,8 +59,43 @@ public class ImageFragmentAssembler implements FragmentHandler
      * @param initialBufferLength to be used for the session.
      */
     public ImageFragmentAssembler(final FragmentHandler delegate, final int initialBufferLength)
+    {
+        this(delegate, null, initialBufferLength);
+    }
+
+    /**
+     * Construct an adapter which gathers fragmented messages in place when they are complete in the term buffer and
+     * delegates whole messages otherwise.
+     *
+     * @param delegate                 onto which unfragmented and copied reassembled messages are forwarded.
+     * @param fragmentedMessageHandler onto which fragmented messages gathered in place are forwarded.
+     * @since 1.52.0
+     */
+    public ImageFragmentAssembler(
+        final FragmentHandler delegate, final FragmentedMessageHandler fragmentedMessageHandler)
+    {
+        this(delegate, fragmentedMessageHandler, 0);
+    }
+
+    /**
+     * Construct an adapter which gathers fragmented messages in place when they are complete in the term buffer and
+     * delegates whole messages otherwise.
+     *
+     * @param delegate                 onto which unfragmented and copied reassembled messages are forwarded.
+     * @param fragmentedMessageHandler onto which fragmented messages gathered in place are forwarded, or null to
+     *                                 always copy fragmented messages for reassembly.
+     * @param initialBufferLength      to be used for the session.
+     * @since 1.52.0
+     */
+    public ImageFragmentAssembler(
+        final FragmentHandler delegate,
+        final FragmentedMessageHandler fragmentedMessageHandler,
+        final int initialBufferLength)
     {
         this.delegate = delegate;
+        this.fragmentedMessageHandler = fragmentedMessageHandler;
+        this.fragmentedMessage = null != fragmentedMessageHandler ?
+            new FragmentedMessage(initialBufferLength, false) : null;
         this.builder = new BufferBuilder(initialBufferLength, false);
     }
 
@@ -119,7 +160,26 @@ public class ImageFragmentAssembler implements FragmentHandler
     {
         if ((flags & BEGIN_FRAG_FLAG) == BEGIN_FRAG_FLAG)
         {
-            builder.reset()
+            builder.reset();
+
+            if (null != fragmentedMessage)
+            {
+                final Header completeHeader = fragmentedMessage.gather(header);
+                if (null != completeHeader)
+                {
+                    try
+                    {
+                        fragmentedMessageHandler.onMessage(fragmentedMessage, completeHeader);
+                    }
+                    finally
+                    {
+                        fragmentedMessage.reset();
+                    }
+                    return;
+                }
+            }
+
+            builder
                 .captureHeader(header)
                 .append(buffer, offset, length)
                 .nextTermOffset(header.nextTermOffset());
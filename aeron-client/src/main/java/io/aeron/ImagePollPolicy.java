@@ -0,0 +1,50 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+/**
+ * Policy for the order and share in which the {@link Image}s of a {@link Subscription} are polled by
+ * {@link Subscription#poll(io.aeron.logbuffer.FragmentHandler, int, ImagePollPolicy)}.
+ * <p>
+ * Images are drained in priority classes, with the lowest value polled first, so latency critical publishers can be
+ * serviced before bulk ones regardless of how much the bulk ones have to deliver. Within a priority class images are
+ * polled round-robin and each is limited to its fragment budget, so the budget acts as a weight for sharing the
+ * fragment limit.
+ * <p>
+ * The policy is evaluated for each image when the images of the subscription change or a different policy is
+ * passed, and the result is cached, so it should return stable values for an image and not be expensive.
+ *
+ * @see SessionImagePollPolicy
+ * @since 1.52.0
+ */
+public interface ImagePollPolicy
+{
+    /**
+     * Priority class of an image with lower values being polled before higher values.
+     *
+     * @param image to be polled.
+     * @return priority class of the image.
+     */
+    int priority(Image image);
+
+    /**
+     * Maximum number of fragments to be consumed from an image in a single poll of the subscription.
+     *
+     * @param image to be polled.
+     * @return maximum number of fragments to be consumed from the image, must be greater than zero.
+     */
+    int fragmentBudget(Image image);
+}
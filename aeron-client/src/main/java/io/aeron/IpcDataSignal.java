@@ -0,0 +1,156 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Signal shared within a process by the publications and subscriptions for an IPC stream so that subscriber threads
+ * can wait for data rather than spin when {@link Aeron.Context#ipcDataSignal(boolean)} is set.
+ * <p>
+ * Signals are scoped to the Aeron directory and stream id, and are reference counted by the publications and
+ * subscriptions which acquire them so they are removed once the last of them is closed.
+ * <p>
+ * Publications check for waiting threads with a full fence and a volatile read after each append, or commit of a
+ * claim, so there is no further cost when no thread is waiting. The fence orders the check after the append so a
+ * waiter which registered before the check will be woken, and a waiter which registers after it will see the data.
+ */
+final class IpcDataSignal implements Runnable
+{
+    private static final ConcurrentHashMap<String, IpcDataSignal> SIGNAL_BY_KEY = new ConcurrentHashMap<>();
+
+    private final String key;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dataAvailable = lock.newCondition();
+    private int referenceCount;
+    private volatile int waiterCount;
+
+    private IpcDataSignal(final String key)
+    {
+        this.key = key;
+    }
+
+    /**
+     * Acquire a reference to the signal for IPC streams with a given stream id in an Aeron directory, which should
+     * be released with {@link #release()} when no longer required.
+     *
+     * @param aeronDirectoryName of the media driver.
+     * @param streamId           of the streams.
+     * @return the signal for IPC streams with a given stream id in an Aeron directory.
+     */
+    static IpcDataSignal acquire(final String aeronDirectoryName, final int streamId)
+    {
+        return SIGNAL_BY_KEY.compute(
+            streamId + ":" + aeronDirectoryName,
+            (key, signal) ->
+            {
+                final IpcDataSignal result = null == signal ? new IpcDataSignal(key) : signal;
+                result.referenceCount++;
+                return result;
+            });
+    }
+
+    /**
+     * Release a reference to the signal, which is removed once all references are released.
+     */
+    void release()
+    {
+        SIGNAL_BY_KEY.computeIfPresent(
+            key, (k, signal) -> signal == this && --referenceCount <= 0 ? null : signal);
+    }
+
+    /**
+     * Wake threads waiting for data if there are any.
+     */
+    void signal()
+    {
+        VarHandle.fullFence();
+        if (waiterCount > 0)
+        {
+            lock.lock();
+            try
+            {
+                dataAvailable.signalAll();
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Wake threads waiting for data if there are any, for use on commit of a
+     * {@link io.aeron.logbuffer.BufferClaim}.
+     */
+    public void run()
+    {
+        signal();
+    }
+
+    /**
+     * Wait for a signal, or the timeout, unless the subscription already has data available.
+     *
+     * @param subscription to check for available data after registering as a waiter.
+     * @param timeoutNs    to wait for a signal.
+     */
+    void await(final Subscription subscription, final long timeoutNs)
+    {
+        lock.lock();
+        waiterCount = waiterCount + 1;
+        try
+        {
+            if (!subscription.hasAvailableData())
+            {
+                dataAvailable.awaitNanos(timeoutNs);
+            }
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+        }
+        finally
+        {
+            waiterCount = waiterCount - 1;
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of threads waiting on the signal.
+     *
+     * @return number of threads waiting on the signal.
+     */
+    int waiterCount()
+    {
+        return waiterCount;
+    }
+
+    /**
+     * Is a signal registered for IPC streams with a given stream id in an Aeron directory.
+     *
+     * @param aeronDirectoryName of the media driver.
+     * @param streamId           of the streams.
+     * @return true if a signal is registered for IPC streams with a given stream id in an Aeron directory.
+     */
+    static boolean isRegistered(final String aeronDirectoryName, final int streamId)
+    {
+        return SIGNAL_BY_KEY.containsKey(streamId + ":" + aeronDirectoryName);
+    }
+}
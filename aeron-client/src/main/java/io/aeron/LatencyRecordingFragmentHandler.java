@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.Header;
+import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.status.LatencyReport;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.EpochNanoClock;
+import org.agrona.concurrent.SystemEpochNanoClock;
+
+/**
+ * {@link FragmentHandler} decorator which records the latency from publication to poll of each fragment stamped by
+ * a {@link TimestampReservedValueSupplier} into a {@link LatencyReport.ReportEntry} before delegating. Fragments with
+ * the default reserved value are assumed not to be stamped and are not recorded.
+ * <p>
+ * If wrapping a {@link FragmentAssembler} then the latency of each fragment is recorded. If wrapped by a
+ * {@link FragmentAssembler} then the latency of each message is recorded from the publication of its first fragment
+ * to the poll of its last fragment.
+ * <p>
+ * <b>Note:</b> The report entry must only be recorded to by the thread polling the subscription.
+ *
+ * @since 1.52.0
+ */
+public final class LatencyRecordingFragmentHandler implements FragmentHandler
+{
+    private final FragmentHandler delegate;
+    private final LatencyReport.ReportEntry reportEntry;
+    private final EpochNanoClock clock;
+
+    /**
+     * Construct a handler which uses a {@link SystemEpochNanoClock} to measure latency.
+     *
+     * @param delegate    to which fragments are passed after their latency is recorded.
+     * @param reportEntry to record latency to.
+     */
+    public LatencyRecordingFragmentHandler(final FragmentHandler delegate, final LatencyReport.ReportEntry reportEntry)
+    {
+        this(delegate, reportEntry, new SystemEpochNanoClock());
+    }
+
+    /**
+     * Construct a handler which uses a given clock to measure latency.
+     *
+     * @param delegate    to which fragments are passed after their latency is recorded.
+     * @param reportEntry to record latency to.
+     * @param clock       to measure the poll time, which should match the clock of the publisher.
+     */
+    public LatencyRecordingFragmentHandler(
+        final FragmentHandler delegate, final LatencyReport.ReportEntry reportEntry, final EpochNanoClock clock)
+    {
+        this.delegate = delegate;
+        this.reportEntry = reportEntry;
+        this.clock = clock;
+    }
+
+    /**
+     * The delegate to which fragments are passed.
+     *
+     * @return the delegate to which fragments are passed.
+     */
+    public FragmentHandler delegate()
+    {
+        return delegate;
+    }
+
+    /**
+     * The report entry to which latency is recorded.
+     *
+     * @return the report entry to which latency is recorded.
+     */
+    public LatencyReport.ReportEntry reportEntry()
+    {
+        return reportEntry;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        final long timestampNs = header.reservedValue();
+        if (DataHeaderFlyweight.DEFAULT_RESERVE_VALUE != timestampNs)
+        {
+            reportEntry.recordObservation(clock.nanoTime() - timestampNs);
+        }
+
+        delegate.onFragment(buffer, offset, length, header);
+    }
+}
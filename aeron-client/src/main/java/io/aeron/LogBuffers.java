@@ -51,6 +51,7 @@ public final class LogBuffers implements AutoCloseable
 
     private long lingerDeadlineNs = Long.MAX_VALUE;
     private int refCount;
+    private boolean isTermBuffersClaimed;
     private final int termLength;
     private final FileChannel fileChannel;
     private final ByteBuffer[] termBuffers = new ByteBuffer[PARTITION_COUNT];
@@ -96,10 +97,7 @@ public final class LogBuffers implements AutoCloseable
 
                 for (int i = 0; i < PARTITION_COUNT; i++)
                 {
-                    final int offset = i * termLength;
-                    mappedBuffer.limit(offset + termLength).position(offset);
-
-                    termBuffers[i] = mappedBuffer.slice();
+                    termBuffers[i] = sliceTerm(mappedBuffer, i, termLength);
                 }
             }
             else
@@ -159,16 +157,36 @@ public final class LogBuffers implements AutoCloseable
 
     /**
      * Duplicate the underlying {@link ByteBuffer}s and wrap them for thread local access.
+     * <p>
+     * When the log is mapped as a single region the first caller is given the term slices created when mapping,
+     * rather than duplicates of them, as most logs only have a single {@link Image} or {@link Publication}. Each
+     * caller has exclusive use of the {@link ByteBuffer}s it is given either way.
      *
      * @return duplicates of the wrapped underlying {@link ByteBuffer}s.
      */
     public UnsafeBuffer[] duplicateTermBuffers()
     {
         final UnsafeBuffer[] buffers = new UnsafeBuffer[PARTITION_COUNT];
+        final MappedByteBuffer[] mappedByteBuffers = this.mappedByteBuffers;
+
+        if (1 == mappedByteBuffers.length)
+        {
+            final boolean isClaimed = isTermBuffersClaimed;
+            isTermBuffersClaimed = true;
 
-        for (int i = 0; i < PARTITION_COUNT; i++)
+            for (int i = 0; i < PARTITION_COUNT; i++)
+            {
+                final ByteBuffer termBuffer = isClaimed ?
+                    sliceTerm(mappedByteBuffers[0].duplicate(), i, termLength) : termBuffers[i];
+                buffers[i] = new UnsafeBuffer(termBuffer.order(ByteOrder.LITTLE_ENDIAN));
+            }
+        }
+        else
         {
-            buffers[i] = new UnsafeBuffer(termBuffers[i].duplicate().order(ByteOrder.LITTLE_ENDIAN));
+            for (int i = 0; i < PARTITION_COUNT; i++)
+            {
+                buffers[i] = new UnsafeBuffer(termBuffers[i].duplicate().order(ByteOrder.LITTLE_ENDIAN));
+            }
         }
 
         return buffers;
@@ -272,6 +290,14 @@ public final class LogBuffers implements AutoCloseable
         return lingerDeadlineNs;
     }
 
+    private static ByteBuffer sliceTerm(final ByteBuffer mappedBuffer, final int partitionIndex, final int termLength)
+    {
+        final int offset = partitionIndex * termLength;
+        mappedBuffer.limit(offset + termLength).position(offset);
+
+        return mappedBuffer.slice();
+    }
+
     private static void close(
         final FileChannel fileChannel, final UnsafeBuffer logMetaDataBuffer, final MappedByteBuffer[] mappedByteBuffers)
     {
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+
+import static io.aeron.SubscriptionFields.EMPTY_IMAGES;
+
+/**
+ * Images of a {@link Subscription} ordered into priority classes by an {@link ImagePollPolicy}, with a round-robin
+ * index per class. The order is only recomputed when the images or policy change so polling does not allocate.
+ */
+final class PrioritisedImages
+{
+    private static final int[] EMPTY_INTS = new int[0];
+
+    private Image[] sourceImages;
+    private ImagePollPolicy policy;
+    private Image[] orderedImages = EMPTY_IMAGES;
+    private int[] fragmentBudgets = EMPTY_INTS;
+    private int[] classOffsets = { 0 };
+    private int[] classRoundRobinIndex = EMPTY_INTS;
+    private int classCount;
+
+    int poll(
+        final Image[] images,
+        final FragmentHandler fragmentHandler,
+        final int fragmentLimit,
+        final ImagePollPolicy policy)
+    {
+        if (images != sourceImages || policy != this.policy)
+        {
+            update(images, policy);
+        }
+
+        final Image[] orderedImages = this.orderedImages;
+        final int[] fragmentBudgets = this.fragmentBudgets;
+        int fragmentsRead = 0;
+
+        for (int c = 0; c < classCount && fragmentsRead < fragmentLimit; c++)
+        {
+            final int offset = classOffsets[c];
+            final int length = classOffsets[c + 1] - offset;
+
+            int startingIndex = classRoundRobinIndex[c]++;
+            if (startingIndex >= length)
+            {
+                classRoundRobinIndex[c] = startingIndex = 0;
+            }
+
+            for (int i = 0; i < length && fragmentsRead < fragmentLimit; i++)
+            {
+                int index = startingIndex + i;
+                if (index >= length)
+                {
+                    index -= length;
+                }
+                index += offset;
+
+                final Image image = orderedImages[index];
+                final int limit = Math.min(fragmentBudgets[index], fragmentLimit - fragmentsRead);
+                final int imageFragmentsRead = image.poll(fragmentHandler, limit);
+                image.recordPoll(imageFragmentsRead);
+                fragmentsRead += imageFragmentsRead;
+            }
+        }
+
+        return fragmentsRead;
+    }
+
+    private void update(final Image[] images, final ImagePollPolicy policy)
+    {
+        final int length = images.length;
+        final Image[] orderedImages = images.clone();
+        final int[] priorities = new int[length];
+        final int[] fragmentBudgets = new int[length];
+
+        for (int i = 0; i < length; i++)
+        {
+            final Image image = orderedImages[i];
+            final int priority = policy.priority(image);
+            final int fragmentBudget = policy.fragmentBudget(image);
+
+            int j = i;
+            while (j > 0 && priorities[j - 1] > priority)
+            {
+                orderedImages[j] = orderedImages[j - 1];
+                priorities[j] = priorities[j - 1];
+                fragmentBudgets[j] = fragmentBudgets[j - 1];
+                j--;
+            }
+
+            orderedImages[j] = image;
+            priorities[j] = priority;
+            fragmentBudgets[j] = Math.max(1, fragmentBudget);
+        }
+
+        final int[] classOffsets = new int[length + 1];
+        int classCount = 0;
+        for (int i = 0; i < length; i++)
+        {
+            if (0 == i || priorities[i] != priorities[i - 1])
+            {
+                classOffsets[classCount++] = i;
+            }
+        }
+        classOffsets[classCount] = length;
+
+        this.sourceImages = images;
+        this.policy = policy;
+        this.orderedImages = orderedImages;
+        this.fragmentBudgets = fragmentBudgets;
+        this.classOffsets = classOffsets;
+        this.classRoundRobinIndex = new int[classCount];
+        this.classCount = classCount;
+    }
+}
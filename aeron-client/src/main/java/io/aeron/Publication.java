@@ -103,6 +103,7 @@ public abstract class Publication implements AutoCloseable
     final LogBuffers logBuffers;
     final ClientConductor conductor;
     final String channel;
+    IpcDataSignal dataSignal;
 
     Publication(
         final ClientConductor clientConductor,
@@ -661,6 +662,13 @@ public abstract class Publication implements AutoCloseable
     void internalClose()
     {
         isClosed = true;
+
+        final IpcDataSignal dataSignal = this.dataSignal;
+        if (null != dataSignal)
+        {
+            this.dataSignal = null;
+            dataSignal.release();
+        }
     }
 
     LogBuffers logBuffers()
@@ -668,6 +676,15 @@ public abstract class Publication implements AutoCloseable
         return logBuffers;
     }
 
+    final void signalData()
+    {
+        final IpcDataSignal dataSignal = this.dataSignal;
+        if (null != dataSignal)
+        {
+            dataSignal.signal();
+        }
+    }
+
     final long backPressureStatus(final long currentPosition, final int messageLength)
     {
         if ((currentPosition + align(messageLength + HEADER_LENGTH, FRAME_ALIGNMENT)) >= maxPossiblePosition)
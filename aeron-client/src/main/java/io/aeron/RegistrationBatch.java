@@ -0,0 +1,236 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import java.util.Arrays;
+
+import static io.aeron.command.ControlProtocolEvents.ADD_EXCLUSIVE_PUBLICATION;
+import static io.aeron.command.ControlProtocolEvents.ADD_PUBLICATION;
+import static io.aeron.command.ControlProtocolEvents.ADD_SUBSCRIPTION;
+
+/**
+ * Batch of publications and subscriptions to be added with {@link Aeron#asyncAdd(RegistrationBatch)} so many
+ * resources can be registered with the media driver in as few commands as possible, rather than a command for each.
+ * <p>
+ * Once added the registration id of each entry is available from {@link #registrationId(int)} for use with
+ * {@link Aeron#getPublication(long)}, {@link Aeron#getExclusivePublication(long)}, and
+ * {@link Aeron#getSubscription(long)} as if each had been added asynchronously on its own. A batch can be reused
+ * after {@link #clear()}.
+ * <p>
+ * <b>Note:</b> this class is not thread safe.
+ *
+ * @since 1.52.0
+ */
+public final class RegistrationBatch
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int size;
+    private int[] msgTypeIds = new int[INITIAL_CAPACITY];
+    private String[] channels = new String[INITIAL_CAPACITY];
+    private int[] streamIds = new int[INITIAL_CAPACITY];
+    private long[] registrationIds = new long[INITIAL_CAPACITY];
+    private boolean[] hasImageHandlers = new boolean[INITIAL_CAPACITY];
+    private AvailableImageHandler[] availableImageHandlers = new AvailableImageHandler[INITIAL_CAPACITY];
+    private UnavailableImageHandler[] unavailableImageHandlers = new UnavailableImageHandler[INITIAL_CAPACITY];
+
+    /**
+     * Add a {@link ConcurrentPublication} to the batch.
+     *
+     * @param channel  for sending the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return this for a fluent API.
+     * @see Aeron#asyncAddPublication(String, int)
+     */
+    public RegistrationBatch addPublication(final String channel, final int streamId)
+    {
+        add(ADD_PUBLICATION, channel, streamId, false, null, null);
+        return this;
+    }
+
+    /**
+     * Add an {@link ExclusivePublication} to the batch.
+     *
+     * @param channel  for sending the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return this for a fluent API.
+     * @see Aeron#asyncAddExclusivePublication(String, int)
+     */
+    public RegistrationBatch addExclusivePublication(final String channel, final int streamId)
+    {
+        add(ADD_EXCLUSIVE_PUBLICATION, channel, streamId, false, null, null);
+        return this;
+    }
+
+    /**
+     * Add a {@link Subscription} to the batch which uses the default image handlers from the {@link Aeron.Context}.
+     *
+     * @param channel  for receiving the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return this for a fluent API.
+     * @see Aeron#asyncAddSubscription(String, int)
+     */
+    public RegistrationBatch addSubscription(final String channel, final int streamId)
+    {
+        add(ADD_SUBSCRIPTION, channel, streamId, false, null, null);
+        return this;
+    }
+
+    /**
+     * Add a {@link Subscription} to the batch.
+     *
+     * @param channel                 for receiving the messages known to the media layer.
+     * @param streamId                within the channel scope.
+     * @param availableImageHandler   called when {@link Image}s become available for consumption. Null is valid if no
+     *                                action is to be taken.
+     * @param unavailableImageHandler called when {@link Image}s go unavailable for consumption. Null is valid if no
+     *                                action is to be taken.
+     * @return this for a fluent API.
+     * @see Aeron#asyncAddSubscription(String, int, AvailableImageHandler, UnavailableImageHandler)
+     */
+    public RegistrationBatch addSubscription(
+        final String channel,
+        final int streamId,
+        final AvailableImageHandler availableImageHandler,
+        final UnavailableImageHandler unavailableImageHandler)
+    {
+        add(ADD_SUBSCRIPTION, channel, streamId, true, availableImageHandler, unavailableImageHandler);
+        return this;
+    }
+
+    /**
+     * Number of entries in the batch.
+     *
+     * @return number of entries in the batch.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Registration id of an entry once the batch has been added, otherwise {@link Aeron#NULL_VALUE}.
+     *
+     * @param index of the entry in the order it was added to the batch.
+     * @return registration id of the entry or {@link Aeron#NULL_VALUE} if the batch has not been added.
+     */
+    public long registrationId(final int index)
+    {
+        checkIndex(index);
+        return registrationIds[index];
+    }
+
+    /**
+     * Remove all entries so the batch can be reused.
+     *
+     * @return this for a fluent API.
+     */
+    public RegistrationBatch clear()
+    {
+        Arrays.fill(channels, 0, size, null);
+        Arrays.fill(availableImageHandlers, 0, size, null);
+        Arrays.fill(unavailableImageHandlers, 0, size, null);
+        size = 0;
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "RegistrationBatch{size=" + size + '}';
+    }
+
+    int msgTypeId(final int index)
+    {
+        return msgTypeIds[index];
+    }
+
+    String channel(final int index)
+    {
+        return channels[index];
+    }
+
+    int streamId(final int index)
+    {
+        return streamIds[index];
+    }
+
+    void registrationId(final int index, final long registrationId)
+    {
+        registrationIds[index] = registrationId;
+    }
+
+    boolean hasImageHandlers(final int index)
+    {
+        return hasImageHandlers[index];
+    }
+
+    AvailableImageHandler availableImageHandler(final int index)
+    {
+        return availableImageHandlers[index];
+    }
+
+    UnavailableImageHandler unavailableImageHandler(final int index)
+    {
+        return unavailableImageHandlers[index];
+    }
+
+    private void add(
+        final int msgTypeId,
+        final String channel,
+        final int streamId,
+        final boolean hasImageHandlers,
+        final AvailableImageHandler availableImageHandler,
+        final UnavailableImageHandler unavailableImageHandler)
+    {
+        if (null == channel)
+        {
+            throw new NullPointerException("channel cannot be null");
+        }
+
+        if (size == msgTypeIds.length)
+        {
+            final int newCapacity = size << 1;
+            msgTypeIds = Arrays.copyOf(msgTypeIds, newCapacity);
+            channels = Arrays.copyOf(channels, newCapacity);
+            streamIds = Arrays.copyOf(streamIds, newCapacity);
+            registrationIds = Arrays.copyOf(registrationIds, newCapacity);
+            this.hasImageHandlers = Arrays.copyOf(this.hasImageHandlers, newCapacity);
+            availableImageHandlers = Arrays.copyOf(availableImageHandlers, newCapacity);
+            unavailableImageHandlers = Arrays.copyOf(unavailableImageHandlers, newCapacity);
+        }
+
+        final int index = size++;
+        msgTypeIds[index] = msgTypeId;
+        channels[index] = channel;
+        streamIds[index] = streamId;
+        registrationIds[index] = Aeron.NULL_VALUE;
+        this.hasImageHandlers[index] = hasImageHandlers;
+        availableImageHandlers[index] = availableImageHandler;
+        unavailableImageHandlers[index] = unavailableImageHandler;
+    }
+
+    private void checkIndex(final int index)
+    {
+        if (index < 0 || index >= size)
+        {
+            throw new IndexOutOfBoundsException("index=" + index + " size=" + size);
+        }
+    }
+}
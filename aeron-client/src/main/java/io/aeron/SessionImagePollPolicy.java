@@ -0,0 +1,119 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import org.agrona.collections.Int2IntHashMap;
+
+/**
+ * {@link ImagePollPolicy} which assigns priority classes and fragment budgets to images by
+ * {@link Image#sessionId()}, with defaults for sessions which have not been configured.
+ * <p>
+ * Changes only take effect for existing images when the images of the subscription change, so the policy should be
+ * configured before polling or a new instance passed.
+ *
+ * @since 1.52.0
+ */
+public final class SessionImagePollPolicy implements ImagePollPolicy
+{
+    private final Int2IntHashMap priorityBySessionId;
+    private final Int2IntHashMap fragmentBudgetBySessionId;
+
+    /**
+     * Construct a policy which applies the same priority class and no per image budget to all sessions unless
+     * configured otherwise.
+     */
+    public SessionImagePollPolicy()
+    {
+        this(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Construct a policy with defaults for sessions which have not been configured.
+     *
+     * @param defaultPriority       priority class for sessions which have not been configured.
+     * @param defaultFragmentBudget fragment budget for sessions which have not been configured.
+     */
+    public SessionImagePollPolicy(final int defaultPriority, final int defaultFragmentBudget)
+    {
+        validateFragmentBudget(defaultFragmentBudget);
+
+        priorityBySessionId = new Int2IntHashMap(defaultPriority);
+        fragmentBudgetBySessionId = new Int2IntHashMap(defaultFragmentBudget);
+    }
+
+    /**
+     * Set the priority class for a session with lower values being polled first.
+     *
+     * @param sessionId of the images.
+     * @param priority  class for the images of the session.
+     * @return this for a fluent API.
+     */
+    public SessionImagePollPolicy priority(final int sessionId, final int priority)
+    {
+        priorityBySessionId.put(sessionId, priority);
+        return this;
+    }
+
+    /**
+     * Set the maximum number of fragments to be consumed from the images of a session in a single poll.
+     *
+     * @param sessionId      of the images.
+     * @param fragmentBudget for the images of the session.
+     * @return this for a fluent API.
+     */
+    public SessionImagePollPolicy fragmentBudget(final int sessionId, final int fragmentBudget)
+    {
+        validateFragmentBudget(fragmentBudget);
+
+        fragmentBudgetBySessionId.put(sessionId, fragmentBudget);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int priority(final Image image)
+    {
+        return priorityBySessionId.get(image.sessionId());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int fragmentBudget(final Image image)
+    {
+        return fragmentBudgetBySessionId.get(image.sessionId());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "SessionImagePollPolicy{" +
+            "priorityBySessionId=" + priorityBySessionId +
+            ", fragmentBudgetBySessionId=" + fragmentBudgetBySessionId +
+            '}';
+    }
+
+    private static void validateFragmentBudget(final int fragmentBudget)
+    {
+        if (fragmentBudget <= 0)
+        {
+            throw new IllegalArgumentException("fragmentBudget must be greater than zero: " + fragmentBudget);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.agrona.collections.ArrayUtil;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 
 import static io.aeron.Aeron.NULL_VALUE;
@@ -60,6 +61,8 @@ abstract class SubscriptionFields extends SubscriptionLhsPadding
     String resolvedChannel;
     String resolvedEndpoint;
     int channelStatusId = ChannelEndpointStatus.NO_ID_ALLOCATED;
+    IpcDataSignal dataSignal;
+    PrioritisedImages prioritisedImages;
 
     SubscriptionFields(
         final long registrationId,
@@ -210,6 +213,61 @@ public final class Subscription extends SubscriptionFields implements AutoClosea
         return fragmentsRead;
     }
 
+    /**
+     * Poll the {@link Image}s under the subscription for available message fragments in the order and share given
+     * by an {@link ImagePollPolicy}.
+     * <p>
+     * Images are drained in priority classes with the lowest value first, so a busy image in a lower priority class
+     * cannot crowd out the images of a higher one. Within a class images are polled round-robin and each is limited
+     * to its fragment budget. Use {@link Image#pollCount()} and {@link Image#fragmentsPolled()} to observe the result.
+     * <p>
+     * To assemble messages that span multiple fragments then use {@link FragmentAssembler}.
+     *
+     * @param fragmentHandler callback for handling each message fragment as it is read.
+     * @param fragmentLimit   number of message fragments to limit when polling across multiple {@link Image}s.
+     * @param pollPolicy      which orders the images and limits the fragments consumed from each.
+     * @return the number of fragments received.
+     * @see SessionImagePollPolicy
+     * @since 1.52.0
+     */
+    public int poll(final FragmentHandler fragmentHandler, final int fragmentLimit, final ImagePollPolicy pollPolicy)
+    {
+        PrioritisedImages prioritisedImages = this.prioritisedImages;
+        if (null == prioritisedImages)
+        {
+            prioritisedImages = new PrioritisedImages();
+            this.prioritisedImages = prioritisedImages;
+        }
+
+        return prioritisedImages.poll(images, fragmentHandler, fragmentLimit, pollPolicy);
+    }
+
+    /**
+     * Wait for data to become available on the {@link Image}s of the subscription, for up to a timeout, so a thread
+     * which has no work can park rather than spin before its next {@link #poll(FragmentHandler, int)}.
+     * <p>
+     * If {@link Aeron.Context#ipcDataSignal(boolean)} is set and this is an IPC subscription then the thread is woken
+     * when a publication in the same process offers to the stream, otherwise it is parked for the timeout. Returns
+     * immediately if data is already available. Spurious returns are possible so the caller should poll and wait
+     * again as required.
+     *
+     * @param timeoutNs to wait for data to become available.
+     * @see SubscriptionWaitingIdleStrategy
+     * @since 1.52.0
+     */
+    public void awaitData(final long timeoutNs)
+    {
+        final IpcDataSignal dataSignal = this.dataSignal;
+        if (null != dataSignal)
+        {
+            dataSignal.await(this, timeoutNs);
+        }
+        else if (!hasAvailableData())
+        {
+            LockSupport.parkNanos(timeoutNs);
+        }
+    }
+
     /**
      * Poll in a controlled manner the {@link Image}s under the subscription for available message fragments.
      * Control is applied to message fragments in the stream. If more fragments can be read on another stream
@@ -584,6 +642,19 @@ public final class Subscription extends SubscriptionFields implements AutoClosea
         return resolvedEndpoint;
     }
 
+    boolean hasAvailableData()
+    {
+        for (final Image image : images)
+        {
+            if (image.hasAvailableData())
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     void channelStatusId(final int id)
     {
         channelStatusId = id;
@@ -595,6 +666,13 @@ public final class Subscription extends SubscriptionFields implements AutoClosea
         this.images = EMPTY_IMAGES;
         isClosed = true;
         conductor.closeImages(images, unavailableImageHandler, lingerDurationNs);
+
+        final IpcDataSignal dataSignal = this.dataSignal;
+        if (null != dataSignal)
+        {
+            this.dataSignal = null;
+            dataSignal.release();
+        }
     }
 
     void addImage(final Image image)
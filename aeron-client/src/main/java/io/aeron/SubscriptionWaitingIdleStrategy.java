@@ -0,0 +1,96 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import org.agrona.concurrent.IdleStrategy;
+
+/**
+ * {@link IdleStrategy} for a thread polling a single {@link Subscription} which waits for data to become available
+ * via {@link Subscription#awaitData(long)} when there is no work, rather than spinning or backing off.
+ * <p>
+ * Best used for low rate IPC streams with {@link Aeron.Context#ipcDataSignal(boolean)} set so the thread is woken
+ * by publications in the same process, such as when the media driver is embedded. The max wait bounds the latency
+ * for data which is not signalled.
+ *
+ * @since 1.52.0
+ */
+public final class SubscriptionWaitingIdleStrategy implements IdleStrategy
+{
+    /**
+     * Name to be returned from {@link #alias()}.
+     */
+    public static final String ALIAS = "subscription-waiting";
+
+    private final Subscription subscription;
+    private final long maxWaitNs;
+
+    /**
+     * Construct an idle strategy which waits on a subscription.
+     *
+     * @param subscription to wait on for data.
+     * @param maxWaitNs    to wait for data when idle.
+     */
+    public SubscriptionWaitingIdleStrategy(final Subscription subscription, final long maxWaitNs)
+    {
+        this.subscription = subscription;
+        this.maxWaitNs = maxWaitNs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void idle(final int workCount)
+    {
+        if (workCount <= 0)
+        {
+            subscription.awaitData(maxWaitNs);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void idle()
+    {
+        subscription.awaitData(maxWaitNs);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void reset()
+    {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String alias()
+    {
+        return ALIAS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "SubscriptionWaitingIdleStrategy{" +
+            "alias=" + ALIAS +
+            ", maxWaitNs=" + maxWaitNs +
+            '}';
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.EpochNanoClock;
+import org.agrona.concurrent.SystemEpochNanoClock;
+
+/**
+ * {@link ReservedValueSupplier} which stamps each fragment with the time since epoch in nanoseconds at which it is
+ * published, so that end-to-end latency can be measured by a {@link LatencyRecordingFragmentHandler}.
+ * <p>
+ * Publishers and subscribers on different hosts need synchronised clocks for the measurement to be meaningful.
+ *
+ * @since 1.52.0
+ */
+public final class TimestampReservedValueSupplier implements ReservedValueSupplier
+{
+    private final EpochNanoClock clock;
+
+    /**
+     * Construct a supplier which uses a {@link SystemEpochNanoClock}.
+     */
+    public TimestampReservedValueSupplier()
+    {
+        this(new SystemEpochNanoClock());
+    }
+
+    /**
+     * Construct a supplier which uses a given clock, which must be thread safe if used with a
+     * {@link ConcurrentPublication}.
+     *
+     * @param clock to supply the publish timestamp.
+     */
+    public TimestampReservedValueSupplier(final EpochNanoClock clock)
+    {
+        this.clock = clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long get(final DirectBuffer termBuffer, final int termOffset, final int frameLength)
+    {
+        return clock.nanoTime();
+    }
+}
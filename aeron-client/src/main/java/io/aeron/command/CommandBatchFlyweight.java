@@ -0,0 +1,213 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.command;
+
+import io.aeron.exceptions.ControlProtocolException;
+import org.agrona.BitUtil;
+import org.agrona.MutableDirectBuffer;
+
+import static io.aeron.ErrorCode.MALFORMED_COMMAND;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+
+/**
+ * Control message carrying a batch of commands so many resources can be added with a single message to the driver
+ * ({@link ControlProtocolEvents#COMMAND_BATCH}).
+ * <p>
+ * Each entry holds a complete command, with its own correlation id, preceded by its type and length. Entries are
+ * aligned to {@link #ENTRY_ALIGNMENT}. Responses are sent for each command in the batch as if it had been sent
+ * individually.
+ * <pre>
+ *   0                   1                   2                   3
+ *   0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ *  +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ *  |                          Client ID                            |
+ *  |                                                               |
+ *  +---------------------------------------------------------------+
+ *  |                    Command Correlation ID                     |
+ *  |                                                               |
+ *  +---------------------------------------------------------------+
+ *  |                        Command Count                          |
+ *  +---------------------------------------------------------------+
+ *  |                           Reserved                            |
+ *  +---------------------------------------------------------------+
+ *  |                      Entry Command Type Id                    |
+ *  +---------------------------------------------------------------+
+ *  |                      Entry Command Length                     |
+ *  +---------------------------------------------------------------+
+ *  |                      Entry Command                           ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ *  |                      Next Entries                            ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ * </pre>
+ *
+ * @since 1.52.0
+ */
+public class CommandBatchFlyweight extends CorrelatedMessageFlyweight
+{
+    private static final int COMMAND_COUNT_OFFSET = CORRELATION_ID_FIELD_OFFSET + BitUtil.SIZE_OF_LONG;
+    private static final int ENTRY_MSG_TYPE_ID_OFFSET = 0;
+    private static final int ENTRY_LENGTH_OFFSET = ENTRY_MSG_TYPE_ID_OFFSET + SIZE_OF_INT;
+
+    /**
+     * Length of the header before the first entry.
+     */
+    public static final int LENGTH = COMMAND_COUNT_OFFSET + SIZE_OF_INT + SIZE_OF_INT;
+
+    /**
+     * Length of the header for each entry which precedes the command.
+     */
+    public static final int ENTRY_HEADER_LENGTH = ENTRY_LENGTH_OFFSET + SIZE_OF_INT;
+
+    /**
+     * Alignment of each entry in the batch.
+     */
+    public static final int ENTRY_ALIGNMENT = BitUtil.SIZE_OF_LONG;
+
+    /**
+     * An empty flyweight, which should be wrapped over a buffer.
+     *
+     * @see #wrap(MutableDirectBuffer, int)
+     */
+    public CommandBatchFlyweight()
+    {
+    }
+
+    /**
+     * Wrap the buffer at a given offset for updates.
+     *
+     * @param buffer to wrap.
+     * @param offset at which the message begins.
+     * @return this for a fluent API.
+     */
+    public CommandBatchFlyweight wrap(final MutableDirectBuffer buffer, final int offset)
+    {
+        super.wrap(buffer, offset);
+
+        return this;
+    }
+
+    /**
+     * Get the number of commands in the batch.
+     *
+     * @return the number of commands in the batch.
+     */
+    public int commandCount()
+    {
+        return buffer.getInt(offset + COMMAND_COUNT_OFFSET);
+    }
+
+    /**
+     * Set the number of commands in the batch.
+     *
+     * @param commandCount the number of commands in the batch.
+     * @return this for a fluent API.
+     */
+    public CommandBatchFlyweight commandCount(final int commandCount)
+    {
+        buffer.putInt(offset + COMMAND_COUNT_OFFSET, commandCount);
+        buffer.putInt(offset + COMMAND_COUNT_OFFSET + SIZE_OF_INT, 0);
+
+        return this;
+    }
+
+    /**
+     * Get the command type id of the entry at an offset from the start of the message.
+     *
+     * @param entryOffset from the start of the message.
+     * @return the command type id of the entry.
+     */
+    public int entryMsgTypeId(final int entryOffset)
+    {
+        return buffer.getInt(offset + entryOffset + ENTRY_MSG_TYPE_ID_OFFSET);
+    }
+
+    /**
+     * Get the length of the command of the entry at an offset from the start of the message.
+     *
+     * @param entryOffset from the start of the message.
+     * @return the length of the command of the entry.
+     */
+    public int entryLength(final int entryOffset)
+    {
+        return buffer.getInt(offset + entryOffset + ENTRY_LENGTH_OFFSET);
+    }
+
+    /**
+     * Set the header of the entry at an offset from the start of the message. The command follows the header at
+     * {@code entryOffset + ENTRY_HEADER_LENGTH}.
+     *
+     * @param entryOffset from the start of the message.
+     * @param msgTypeId   of the command.
+     * @param length      of the command.
+     * @return this for a fluent API.
+     */
+    public CommandBatchFlyweight entryHeader(final int entryOffset, final int msgTypeId, final int length)
+    {
+        buffer.putInt(offset + entryOffset + ENTRY_MSG_TYPE_ID_OFFSET, msgTypeId);
+        buffer.putInt(offset + entryOffset + ENTRY_LENGTH_OFFSET, length);
+
+        return this;
+    }
+
+    /**
+     * Compute the length of an entry, including its header and alignment padding, for a command length.
+     *
+     * @param commandLength of the command in the entry.
+     * @return the aligned length of the entry.
+     */
+    public static int alignedEntryLength(final int commandLength)
+    {
+        return BitUtil.align(ENTRY_HEADER_LENGTH + commandLength, ENTRY_ALIGNMENT);
+    }
+
+    /**
+     * Validate buffer length is long enough for the message and each of its entries.
+     *
+     * @param msgTypeId type of message.
+     * @param length    of message in bytes to validate.
+     */
+    public void validateLength(final int msgTypeId, final int length)
+    {
+        if (length < LENGTH)
+        {
+            throw new ControlProtocolException(
+                MALFORMED_COMMAND, "command=" + msgTypeId + " too short: length=" + length);
+        }
+
+        final int commandCount = commandCount();
+        int entryOffset = LENGTH;
+        for (int i = 0; i < commandCount; i++)
+        {
+            if (entryOffset > length - ENTRY_HEADER_LENGTH)
+            {
+                throw new ControlProtocolException(
+                    MALFORMED_COMMAND, "command=" + msgTypeId + " too short for entry=" + i + ": length=" + length);
+            }
+
+            final int entryLength = entryLength(entryOffset);
+            if (entryLength < 0 || entryLength > length - entryOffset - ENTRY_HEADER_LENGTH)
+            {
+                throw new ControlProtocolException(
+                    MALFORMED_COMMAND,
+                    "command=" + msgTypeId + " invalid entry=" + i + " length=" + entryLength + ": length=" + length);
+            }
+
+            entryOffset += alignedEntryLength(entryLength);
+        }
+    }
+}
@@ -38,7 +38,7 @@ public final class ControlProtocolEvents
      *
      * @since 1.49.0
      */
-    public static final int CONTROL_PROTOCOL_MINOR_VERSION = 0;
+    public static final int CONTROL_PROTOCOL_MINOR_VERSION = 1;
 
     /**
      * Patch version of the control protocol between client and the media driver.
@@ -156,6 +156,13 @@ public final class ControlProtocolEvents
      */
     public static final int GET_NEXT_AVAILABLE_SESSION_ID = 0x12;
 
+    /**
+     * Batch of add publication, add exclusive publication, and add subscription commands to be processed in one pass.
+     *
+     * @since 1.52.0
+     */
+    public static final int COMMAND_BATCH = 0x13;
+
     // Media Driver to Clients
 
     /**
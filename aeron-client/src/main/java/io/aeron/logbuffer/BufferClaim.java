@@ -38,6 +38,7 @@ import static java.nio.ByteOrder.LITTLE_ENDIAN;
 public final class BufferClaim
 {
     private final UnsafeBuffer buffer = new UnsafeBuffer(0, 0);
+    private Runnable commitSignal;
 
     /**
      * An empty buffer claim, ready to be used with {@link io.aeron.Publication#tryClaim(int, BufferClaim)}.
@@ -56,6 +57,23 @@ public final class BufferClaim
     public void wrap(final AtomicBuffer buffer, final int offset, final int length)
     {
         this.buffer.wrap(buffer, offset, length);
+        this.commitSignal = null;
+    }
+
+    /**
+     * Wrap a region of an underlying log buffer so can can represent a claimed space for use by a publisher, with a
+     * signal to be run after the message is committed so waiting subscribers can be woken.
+     *
+     * @param buffer       to be wrapped.
+     * @param offset       at which the claimed region begins including space for the header.
+     * @param length       length of the underlying claimed region including space for the header.
+     * @param commitSignal to be run after {@link #commit()}, or null if not required.
+     * @since 1.52.0
+     */
+    public void wrap(final AtomicBuffer buffer, final int offset, final int length, final Runnable commitSignal)
+    {
+        this.buffer.wrap(buffer, offset, length);
+        this.commitSignal = commitSignal;
     }
 
     /**
@@ -191,6 +209,12 @@ public final class BufferClaim
         }
 
         buffer.putIntRelease(FRAME_LENGTH_FIELD_OFFSET, frameLength);
+
+        final Runnable commitSignal = this.commitSignal;
+        if (null != commitSignal)
+        {
+            commitSignal.run();
+        }
     }
 
     /**
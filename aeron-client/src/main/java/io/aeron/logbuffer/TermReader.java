@@ -150,6 +150,32 @@ public final class TermReader
         return pack(offset, fragmentsRead);
     }
 
+    /**
+     * Touch a range of a term buffer one cache line at a time so the pages and cache lines are loaded ahead of
+     * being read for fragments. This is useful for subscribers which have fallen behind and would otherwise stall
+     * on cache and TLB misses when walking cold regions of a large term.
+     * <p>
+     * The values loaded are summed and returned so the loads cannot be eliminated as dead code by the compiler.
+     *
+     * @param termBuffer to be touched ahead of reading.
+     * @param fromOffset within the buffer at which to begin, inclusive.
+     * @param toOffset   within the buffer at which to end, exclusive.
+     * @return the sum of the values loaded which should be accumulated by the caller.
+     * @since 1.52.0
+     */
+    public static long prefetch(final UnsafeBuffer termBuffer, final int fromOffset, final int toOffset)
+    {
+        long sum = 0;
+        final int limit = Math.min(toOffset, termBuffer.capacity());
+
+        for (int offset = fromOffset; offset < limit; offset += BitUtil.CACHE_LINE_LENGTH)
+        {
+            sum += termBuffer.getByte(offset);
+        }
+
+        return sum;
+    }
+
     /**
      * Pack the values for fragmentsRead and offset into a long for returning on the stack.
      *
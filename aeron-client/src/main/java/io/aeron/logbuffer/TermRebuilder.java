@@ -46,11 +46,26 @@ public final class TermRebuilder
         {
             termBuffer.putBytes(termOffset + HEADER_LENGTH, packet, HEADER_LENGTH, length - HEADER_LENGTH);
 
-            termBuffer.putLong(termOffset + 24, packet.getLong(24));
-            termBuffer.putLong(termOffset + 16, packet.getLong(16));
-            termBuffer.putLong(termOffset + 8, packet.getLong(8));
-
-            termBuffer.putLongRelease(termOffset, packet.getLong(0));
+            insertHeader(termBuffer, termOffset, packet);
         }
     }
+
+    /**
+     * Insert the header of the first frame in a packet into the log at the appropriate termOffset when the remainder
+     * of the packet has already been received directly into the term buffer after it. The frame length is written
+     * last so the packet becomes visible atomically.
+     *
+     * @param termBuffer into which the packet has been received.
+     * @param termOffset in the term at which the header should be inserted.
+     * @param packet     containing the header of the first frame.
+     * @since 1.52.0
+     */
+    public static void insertHeader(final UnsafeBuffer termBuffer, final int termOffset, final UnsafeBuffer packet)
+    {
+        termBuffer.putLong(termOffset + 24, packet.getLong(24));
+        termBuffer.putLong(termOffset + 16, packet.getLong(16));
+        termBuffer.putLong(termOffset + 8, packet.getLong(8));
+
+        termBuffer.putLongRelease(termOffset, packet.getLong(0));
+    }
 }
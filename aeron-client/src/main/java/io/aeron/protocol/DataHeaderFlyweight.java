@@ -72,6 +72,14 @@ public class DataHeaderFlyweight extends HeaderFlyweight
      */
     public static final short BEGIN_END_EOS_AND_REVOKED_FLAGS = BEGIN_FLAG | END_FLAG | EOS_FLAG | REVOKED_FLAG;
 
+    /**
+     * (C) - Compressed Flag for a datagram whose frames have been deflated by the sender. The frame length covers the
+     * compressed payload and the reserved value holds the uncompressed length of the datagram.
+     *
+     * @since 1.52.0
+     */
+    public static final short COMPRESSED_FLAG = 0x08;
+
     /**
      * Default value to be placed in the reserved value field.
      */
@@ -44,6 +44,14 @@ public class SetupFlyweight extends HeaderFlyweight
      */
     public static final short GROUP_FLAG = 0x40;
 
+    /**
+     * Publication will compress data frames once its receivers acknowledge with
+     * {@link StatusMessageFlyweight#COMPRESSION_FLAG}.
+     *
+     * @since 1.52.0
+     */
+    public static final short COMPRESSION_FLAG = 0x20;
+
     /**
      * Offset in the frame at which the term-offset field begins.
      */
@@ -47,6 +47,15 @@ public class StatusMessageFlyweight extends HeaderFlyweight
      */
     public static final short END_OF_STREAM_FLAG = 0x40;
 
+    /**
+     * Subscriber can receive data frames compressed by the publisher, see {@link DataHeaderFlyweight#COMPRESSED_FLAG}.
+     * A publisher which asked for compression with {@link SetupFlyweight#COMPRESSION_FLAG} only compresses once its
+     * receivers have acknowledged with this flag.
+     *
+     * @since 1.52.0
+     */
+    public static final short COMPRESSION_FLAG = 0x20;
+
     /**
      * Offset in the frame at which the session-id field begins.
      */
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.status;
+
+import io.aeron.Aeron;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.status.CountersReader;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static org.agrona.concurrent.status.CountersReader.*;
+
+/**
+ * Index of counter ids by a field in the key of the counter metadata so find operations do not need to scan all the
+ * counters in a {@link CountersReader} on each call.
+ * <p>
+ * An index is bound to a single {@link CountersReader} and should be held by the owner of the reader, e.g. an agent
+ * or client conductor, for as long as the reader is in use. It is not thread safe. Entries found via the index are
+ * candidates only and must be validated against the metadata, i.e. state, type, and key, as counters can be
+ * freed and reused at any time. When no valid candidate is found the index should be rebuilt with
+ * {@link #rebuild()} to pick up allocations since it was last built, which costs the same as the linear scan it
+ * replaces. The index does not allocate once it has grown to the size of the counters in use.
+ *
+ * @since 1.52.0
+ */
+public final class CountersIndex
+{
+    private static final AtomicInteger FIELD_ID = new AtomicInteger();
+
+    /**
+     * A field within the key of counters which can be indexed.
+     */
+    public static final class Field
+    {
+        final int id;
+        final int typeId;
+        final int keyOffset;
+        final int keyLength;
+
+        /**
+         * Define a field in the key of counters to be indexed.
+         *
+         * @param typeId    of the counters to index or {@link Aeron#NULL_VALUE} for counters of any type.
+         * @param keyOffset of the field within the key.
+         * @param keyLength of the field which must be {@link org.agrona.BitUtil#SIZE_OF_INT} or
+         *                  {@link org.agrona.BitUtil#SIZE_OF_LONG}.
+         */
+        public Field(final int typeId, final int keyOffset, final int keyLength)
+        {
+            if (SIZE_OF_INT != keyLength && SIZE_OF_LONG != keyLength)
+            {
+                throw new IllegalArgumentException("keyLength must be int or long: " + keyLength);
+            }
+
+            if (keyOffset < 0 || keyOffset + keyLength > MAX_KEY_LENGTH)
+            {
+                throw new IllegalArgumentException("keyOffset outside key: " + keyOffset);
+            }
+
+            this.id = FIELD_ID.getAndIncrement();
+            this.typeId = typeId;
+            this.keyOffset = keyOffset;
+            this.keyLength = keyLength;
+        }
+
+        /**
+         * Type id of the counters indexed or {@link Aeron#NULL_VALUE} for counters of any type.
+         *
+         * @return type id of the counters indexed or {@link Aeron#NULL_VALUE} for counters of any type.
+         */
+        public int typeId()
+        {
+            return typeId;
+        }
+
+        /**
+         * Offset of the field within the key.
+         *
+         * @return offset of the field within the key.
+         */
+        public int keyOffset()
+        {
+            return keyOffset;
+        }
+
+        /**
+         * Length of the field within the key.
+         *
+         * @return length of the field within the key.
+         */
+        public int keyLength()
+        {
+            return keyLength;
+        }
+
+        long value(final DirectBuffer metaDataBuffer, final int counterId)
+        {
+            final int offset = metaDataOffset(counterId) + KEY_OFFSET + keyOffset;
+            return SIZE_OF_LONG == keyLength ? metaDataBuffer.getLong(offset) : metaDataBuffer.getInt(offset);
+        }
+    }
+
+    private final CountersReader countersReader;
+    private final ArrayList<Field> fields = new ArrayList<>();
+    private final ArrayList<Long2ObjectHashMap<IntArrayList>> counterIdsByFieldId = new ArrayList<>();
+    private final ArrayDeque<IntArrayList> freeLists = new ArrayDeque<>();
+
+    /**
+     * Construct an empty index for a {@link CountersReader} which is built on first use of a field.
+     *
+     * @param countersReader to be indexed.
+     */
+    public CountersIndex(final CountersReader countersReader)
+    {
+        this.countersReader = countersReader;
+    }
+
+    /**
+     * Is the counter allocated with a field value matching the index entry? Candidates from the index should be
+     * validated with this as the counter may have been freed or reused since the index was built.
+     *
+     * @param countersReader holding the counter.
+     * @param counterId      to validate.
+     * @param typeId         expected for the counter.
+     * @param field          of the key to match.
+     * @param value          expected for the field.
+     * @return true if the counter is allocated with the type and field value otherwise false.
+     */
+    public static boolean isMatch(
+        final CountersReader countersReader,
+        final int counterId,
+        final int typeId,
+        final Field field,
+        final long value)
+    {
+        return RECORD_ALLOCATED == countersReader.getCounterState(counterId) &&
+            countersReader.getCounterTypeId(counterId) == typeId &&
+            field.value(countersReader.metaDataBuffer(), counterId) == value;
+    }
+
+    /**
+     * The {@link CountersReader} the index is bound to.
+     *
+     * @return the {@link CountersReader} the index is bound to.
+     */
+    public CountersReader countersReader()
+    {
+        return countersReader;
+    }
+
+    /**
+     * Get the candidate counter ids, in ascending order, for counters with a field value as of when the index was
+     * last built. A field is added to the index on first use.
+     *
+     * @param field to look up.
+     * @param value of the field.
+     * @return the candidate counter ids or null if there are none.
+     */
+    public IntArrayList counterIds(final Field field, final long value)
+    {
+        final Long2ObjectHashMap<IntArrayList> counterIdsByValue = field.id < counterIdsByFieldId.size() ?
+            counterIdsByFieldId.get(field.id) : null;
+
+        if (null == counterIdsByValue)
+        {
+            while (counterIdsByFieldId.size() <= field.id)
+            {
+                counterIdsByFieldId.add(null);
+            }
+
+            counterIdsByFieldId.set(field.id, new Long2ObjectHashMap<>());
+            fields.add(field);
+            rebuild();
+        }
+
+        return counterIdsByFieldId.get(field.id).get(value);
+    }
+
+    /**
+     * Find the first allocated counter of a type with a field value, rebuilding the index if no valid candidate is
+     * found.
+     *
+     * @param typeId of the counter.
+     * @param field  of the key to match.
+     * @param value  of the field.
+     * @return the counter id if found otherwise {@link CountersReader#NULL_COUNTER_ID}.
+     */
+    public int findCounterId(final int typeId, final Field field, final long value)
+    {
+        int counterId = findMatch(counterIds(field, value), typeId, field, value);
+        if (NULL_COUNTER_ID == counterId)
+        {
+            rebuild();
+            counterId = findMatch(counterIds(field, value), typeId, field, value);
+        }
+
+        return counterId;
+    }
+
+    /**
+     * Rebuild the index for all fields used so far with a single scan of the counters metadata.
+     */
+    public void rebuild()
+    {
+        final ArrayList<Field> fields = this.fields;
+        final int fieldCount = fields.size();
+        clearAll();
+
+        final CountersReader countersReader = this.countersReader;
+        final DirectBuffer metaDataBuffer = countersReader.metaDataBuffer();
+
+        for (int counterId = 0, maxId = countersReader.maxCounterId(); counterId <= maxId; counterId++)
+        {
+            final int counterState = countersReader.getCounterState(counterId);
+            if (RECORD_ALLOCATED == counterState)
+            {
+                final int counterTypeId = countersReader.getCounterTypeId(counterId);
+                for (int i = 0; i < fieldCount; i++)
+                {
+                    final Field field = fields.get(i);
+                    if (Aeron.NULL_VALUE == field.typeId || counterTypeId == field.typeId)
+                    {
+                        add(counterIdsByFieldId.get(field.id), field.value(metaDataBuffer, counterId), counterId);
+                    }
+                }
+            }
+            else if (RECORD_UNUSED == counterState)
+            {
+                break;
+            }
+        }
+    }
+
+    private int findMatch(final IntArrayList counterIds, final int typeId, final Field field, final long value)
+    {
+        if (null != counterIds)
+        {
+            for (int i = 0, size = counterIds.size(); i < size; i++)
+            {
+                final int counterId = counterIds.getInt(i);
+                if (isMatch(countersReader, counterId, typeId, field, value))
+                {
+                    return counterId;
+                }
+            }
+        }
+
+        return NULL_COUNTER_ID;
+    }
+
+    private void add(final Long2ObjectHashMap<IntArrayList> counterIdsByValue, final long value, final int counterId)
+    {
+        IntArrayList counterIds = counterIdsByValue.get(value);
+        if (null == counterIds)
+        {
+            counterIds = freeLists.isEmpty() ? new IntArrayList() : freeLists.pollFirst();
+            counterIdsByValue.put(value, counterIds);
+        }
+
+        counterIds.addInt(counterId);
+    }
+
+    private void clearAll()
+    {
+        for (int i = 0, size = fields.size(); i < size; i++)
+        {
+            final Long2ObjectHashMap<IntArrayList> counterIdsByValue = counterIdsByFieldId.get(fields.get(i).id);
+            for (final IntArrayList counterIds : counterIdsByValue.values())
+            {
+                counterIds.clear();
+                freeLists.addLast(counterIds);
+            }
+
+            counterIdsByValue.clear();
+        }
+    }
+}
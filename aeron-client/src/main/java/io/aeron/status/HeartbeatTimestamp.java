@@ -15,6 +15,7 @@
  */
 package io.aeron.status;
 
+import io.aeron.Aeron;
 import io.aeron.AeronCounters;
 import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
@@ -46,6 +47,9 @@ public final class HeartbeatTimestamp
      */
     public static final int REGISTRATION_ID_OFFSET = 0;
 
+    private static final CountersIndex.Field REGISTRATION_ID_FIELD =
+        new CountersIndex.Field(Aeron.NULL_VALUE, REGISTRATION_ID_OFFSET, SIZE_OF_LONG);
+
     /**
      * Allocate a counter for tracking the last heartbeat of an entity.
      *
@@ -138,6 +142,22 @@ public final class HeartbeatTimestamp
         return NULL_COUNTER_ID;
     }
 
+    /**
+     * Find the active counter id for a heartbeat timestamp using an index held by the owner of the counters reader
+     * so repeated finds do not scan all the counters.
+     *
+     * @param countersIndex  of the counters to search within.
+     * @param counterTypeId  to match on.
+     * @param registrationId for the active client.
+     * @return the counter id if found otherwise {@link CountersReader#NULL_COUNTER_ID}.
+     * @since 1.52.0
+     */
+    public static int findCounterIdByRegistrationId(
+        final CountersIndex countersIndex, final int counterTypeId, final long registrationId)
+    {
+        return countersIndex.findCounterId(counterTypeId, REGISTRATION_ID_FIELD, registrationId);
+    }
+
     /**
      * Is the counter active for usage? Checks to see if reclaimed or reused and matches registration id.
      *
@@ -0,0 +1,332 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.status;
+
+import org.agrona.BitUtil;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.AtomicBuffer;
+
+import java.io.File;
+import java.nio.MappedByteBuffer;
+
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+/**
+ * A report of end-to-end latency histograms by stream, as recorded by a
+ * {@link io.aeron.LatencyRecordingFragmentHandler} from timestamps supplied by a
+ * {@link io.aeron.TimestampReservedValueSupplier}.
+ * <p>
+ * The provided {@link AtomicBuffer} can wrap a memory-mapped file so the report can be read out of process, e.g. by
+ * the {@code LatencyStat} sample, while latencies are being recorded.
+ * <p>
+ * Each entry holds a log-linear histogram. Values below {@link #SUB_BUCKET_COUNT} have a bucket each, then each
+ * power of two range is split into {@link #SUB_BUCKET_COUNT} linear buckets, so the relative error of a recorded
+ * value is bounded by {@code 1 / SUB_BUCKET_COUNT} across the full range of a long.
+ * <p>
+ * <b>Note:</b> Entries can be created from multiple threads, but each entry should only be recorded to by one thread.
+ * <p>
+ * The entries are recorded to the buffer in the following format.
+ * <pre>
+ *   0                   1                   2                   3
+ *   0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ *  +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ *  |                         Entry Length                          |
+ *  +---------------------------------------------------------------+
+ *  |                           Stream ID                           |
+ *  +---------------------------------------------------------------+
+ *  |R|                    Observation Count                        |
+ *  |                                                               |
+ *  +-+-------------------------------------------------------------+
+ *  |R|                   Total Latency in ns                       |
+ *  |                                                               |
+ *  +-+-------------------------------------------------------------+
+ *  |R|                    Max Latency in ns                        |
+ *  |                                                               |
+ *  +-+-------------------------------------------------------------+
+ *  |                  Bucket Counts (BUCKET_COUNT)                ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ *  |                  Label encoded in US-ASCII                   ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ * </pre>
+ *
+ * @since 1.52.0
+ */
+public final class LatencyReport
+{
+    /**
+     * Prefix of the name of latency report files in the Aeron directory.
+     */
+    public static final String LATENCY_REPORT_FILE_PREFIX = "latency-report-";
+
+    /**
+     * Suffix of the name of latency report files in the Aeron directory.
+     */
+    public static final String LATENCY_REPORT_FILE_SUFFIX = ".dat";
+
+    /**
+     * Number of bits of precision for the linear sub-buckets within each power of two range.
+     */
+    public static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * Number of linear sub-buckets within each power of two range.
+     */
+    public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Number of buckets in each histogram to cover all non-negative long values.
+     */
+    public static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (Long.SIZE - SUB_BUCKET_BITS);
+
+    /**
+     * Alignment to be applied for each entry offset.
+     */
+    public static final int ENTRY_ALIGNMENT = CACHE_LINE_LENGTH;
+
+    /**
+     * Offset within an entry at which the entry length field begins.
+     */
+    public static final int ENTRY_LENGTH_OFFSET = 0;
+
+    /**
+     * Offset within an entry at which the stream id field begins.
+     */
+    public static final int STREAM_ID_OFFSET = ENTRY_LENGTH_OFFSET + SIZE_OF_INT;
+
+    /**
+     * Offset within an entry at which the observation count field begins.
+     */
+    public static final int OBSERVATION_COUNT_OFFSET = STREAM_ID_OFFSET + SIZE_OF_INT;
+
+    /**
+     * Offset within an entry at which the total latency field begins.
+     */
+    public static final int TOTAL_LATENCY_OFFSET = OBSERVATION_COUNT_OFFSET + SIZE_OF_LONG;
+
+    /**
+     * Offset within an entry at which the max latency field begins.
+     */
+    public static final int MAX_LATENCY_OFFSET = TOTAL_LATENCY_OFFSET + SIZE_OF_LONG;
+
+    /**
+     * Offset within an entry at which the bucket counts begin.
+     */
+    public static final int BUCKETS_OFFSET = MAX_LATENCY_OFFSET + SIZE_OF_LONG;
+
+    /**
+     * Offset within an entry at which the label begins.
+     */
+    public static final int LABEL_OFFSET = BUCKETS_OFFSET + (BUCKET_COUNT * SIZE_OF_LONG);
+
+    private int nextRecordOffset = 0;
+    private final AtomicBuffer buffer;
+
+    /**
+     * Create a latency report which wraps a buffer which is ideally memory mapped, so it can be read from another
+     * process.
+     *
+     * @param buffer to be wrapped.
+     */
+    public LatencyReport(final AtomicBuffer buffer)
+    {
+        buffer.verifyAlignment();
+        this.buffer = buffer;
+    }
+
+    /**
+     * Create a new {@link File} for the latency report of this process in the Aeron directory.
+     *
+     * @param aeronDirectoryName in which the latency report should exist.
+     * @return the new {@link File} for the latency report.
+     */
+    public static File file(final String aeronDirectoryName)
+    {
+        return new File(
+            aeronDirectoryName,
+            LATENCY_REPORT_FILE_PREFIX + ProcessHandle.current().pid() + LATENCY_REPORT_FILE_SUFFIX);
+    }
+
+    /**
+     * Map a new latency report file of a given length.
+     *
+     * @param file             to be created.
+     * @param reportFileLength for the file.
+     * @return the newly mapped buffer for the file.
+     * @see #entryLength(String)
+     */
+    public static MappedByteBuffer mapNewFile(final File file, final int reportFileLength)
+    {
+        return IoUtil.mapNewFile(file, reportFileLength, false);
+    }
+
+    /**
+     * Length of an entry in the report including alignment, which can be used to size the report.
+     *
+     * @param label for the entry.
+     * @return length of an entry in the report including alignment.
+     */
+    public static int entryLength(final String label)
+    {
+        return BitUtil.align(LABEL_OFFSET + SIZE_OF_INT + label.length(), ENTRY_ALIGNMENT);
+    }
+
+    /**
+     * Index of the bucket in which a value is recorded.
+     *
+     * @param value to be recorded which must not be negative.
+     * @return index of the bucket in which a value is recorded.
+     */
+    public static int bucketIndex(final long value)
+    {
+        if (value < SUB_BUCKET_COUNT)
+        {
+            return (int)value;
+        }
+
+        final int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+
+        return SUB_BUCKET_COUNT + (shift << SUB_BUCKET_BITS) + (int)((value >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * Lowest value which is recorded in a bucket.
+     *
+     * @param index of the bucket.
+     * @return lowest value which is recorded in the bucket.
+     */
+    public static long bucketLowestValue(final int index)
+    {
+        if (index < SUB_BUCKET_COUNT)
+        {
+            return index;
+        }
+
+        final int shift = (index - SUB_BUCKET_COUNT) >> SUB_BUCKET_BITS;
+        final long subBucket = SUB_BUCKET_COUNT + ((index - SUB_BUCKET_COUNT) & (SUB_BUCKET_COUNT - 1));
+
+        return subBucket << shift;
+    }
+
+    /**
+     * Highest value which is recorded in a bucket.
+     *
+     * @param index of the bucket.
+     * @return highest value which is recorded in the bucket.
+     */
+    public static long bucketHighestValue(final int index)
+    {
+        if (index < SUB_BUCKET_COUNT)
+        {
+            return index;
+        }
+
+        final int shift = (index - SUB_BUCKET_COUNT) >> SUB_BUCKET_BITS;
+
+        return bucketLowestValue(index) + ((1L << shift) - 1);
+    }
+
+    /**
+     * Create a new entry for recording latency on a given stream.
+     * <p>
+     * If no space is remaining in the report then null is returned.
+     *
+     * @param streamId for the stream.
+     * @param label    describing the stream, such as its channel.
+     * @return a new entry or null if the report has insufficient space.
+     */
+    public synchronized ReportEntry createEntry(final int streamId, final String label)
+    {
+        ReportEntry reportEntry = null;
+
+        final int entryLength = entryLength(label);
+        if (entryLength <= (buffer.capacity() - nextRecordOffset))
+        {
+            final int offset = nextRecordOffset;
+
+            buffer.putInt(offset + STREAM_ID_OFFSET, streamId);
+            buffer.putStringAscii(offset + LABEL_OFFSET, label);
+            buffer.putIntRelease(offset + ENTRY_LENGTH_OFFSET, entryLength);
+
+            reportEntry = new ReportEntry(buffer, offset);
+            nextRecordOffset += entryLength;
+        }
+
+        return reportEntry;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "LatencyReport{" +
+            "nextRecordOffset=" + nextRecordOffset +
+            ", buffer=" + buffer +
+            '}';
+    }
+
+    /**
+     * Report entry for a specific stream. Once an entry has been created it can then be used repeatedly to record
+     * latency observations on the stream without allocation.
+     */
+    public static final class ReportEntry
+    {
+        private final AtomicBuffer buffer;
+        private final int offset;
+
+        ReportEntry(final AtomicBuffer buffer, final int offset)
+        {
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+
+        /**
+         * Record a latency observation. Negative values, as a result of clock skew, are recorded as zero.
+         *
+         * @param latencyNs observed in nanoseconds.
+         */
+        public void recordObservation(final long latencyNs)
+        {
+            final AtomicBuffer buffer = this.buffer;
+            final int offset = this.offset;
+            final long value = Math.max(0, latencyNs);
+
+            final int bucketOffset = offset + BUCKETS_OFFSET + (bucketIndex(value) * SIZE_OF_LONG);
+            buffer.putLongRelease(bucketOffset, buffer.getLong(bucketOffset) + 1);
+            buffer.putLongRelease(offset + TOTAL_LATENCY_OFFSET, buffer.getLong(offset + TOTAL_LATENCY_OFFSET) + value);
+            if (value > buffer.getLong(offset + MAX_LATENCY_OFFSET))
+            {
+                buffer.putLongRelease(offset + MAX_LATENCY_OFFSET, value);
+            }
+            buffer.putLongRelease(
+                offset + OBSERVATION_COUNT_OFFSET, buffer.getLong(offset + OBSERVATION_COUNT_OFFSET) + 1);
+        }
+
+        /**
+         * Number of observations recorded to the entry.
+         *
+         * @return number of observations recorded to the entry.
+         */
+        public long observationCount()
+        {
+            return buffer.getLongVolatile(offset + OBSERVATION_COUNT_OFFSET);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.status;
+
+import org.agrona.concurrent.AtomicBuffer;
+
+import java.io.PrintStream;
+
+import static io.aeron.status.LatencyReport.*;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+/**
+ * Reader that provides the function to read entries from a {@link LatencyReport}.
+ *
+ * @since 1.52.0
+ */
+public final class LatencyReportReader
+{
+    /**
+     * CSV style header for using with {@link #defaultEntryConsumer(PrintStream)}.
+     */
+    public static final String LATENCY_REPORT_CSV_HEADER =
+        "#OBSERVATION_COUNT,MEAN_NS,P50_NS,P90_NS,P99_NS,P99.9_NS,MAX_NS,STREAM_ID,LABEL";
+
+    /**
+     * Consumer function to be implemented by caller of the read method.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer
+    {
+        /**
+         * Accept an entry from the latency report, so it can be consumed.
+         *
+         * @param observationCount for the stream.
+         * @param totalLatencyNs   for the stream.
+         * @param maxLatencyNs     for the stream.
+         * @param bucketCounts     of the histogram for the stream which are only valid for the duration of the call.
+         * @param streamId         identifying the stream.
+         * @param label            describing the stream.
+         */
+        void accept(
+            long observationCount,
+            long totalLatencyNs,
+            long maxLatencyNs,
+            long[] bucketCounts,
+            int streamId,
+            String label);
+    }
+
+    private LatencyReportReader()
+    {
+    }
+
+    /**
+     * Create a default {@link EntryConsumer} which outputs to a provided {@link PrintStream}.
+     *
+     * @param out to write entries to.
+     * @return a new {@link EntryConsumer} which outputs to a provided {@link PrintStream}.
+     */
+    public static EntryConsumer defaultEntryConsumer(final PrintStream out)
+    {
+        return
+            (observationCount, totalLatencyNs, maxLatencyNs, bucketCounts, streamId, label) ->
+            {
+                out.format(
+                    "%d,%d,%d,%d,%d,%d,%d,%d,%s%n",
+                    observationCount,
+                    observationCount > 0 ? totalLatencyNs / observationCount : 0,
+                    Math.min(maxLatencyNs, valueAtPercentile(bucketCounts, 50.0)),
+                    Math.min(maxLatencyNs, valueAtPercentile(bucketCounts, 90.0)),
+                    Math.min(maxLatencyNs, valueAtPercentile(bucketCounts, 99.0)),
+                    Math.min(maxLatencyNs, valueAtPercentile(bucketCounts, 99.9)),
+                    maxLatencyNs,
+                    streamId,
+                    label);
+            };
+    }
+
+    /**
+     * Value at a given percentile of a histogram, being the highest value of the bucket in which the percentile falls.
+     *
+     * @param bucketCounts of the histogram.
+     * @param percentile   in the range 0 to 100.
+     * @return value at the percentile or 0 if the histogram is empty.
+     */
+    public static long valueAtPercentile(final long[] bucketCounts, final double percentile)
+    {
+        long totalCount = 0;
+        for (final long count : bucketCounts)
+        {
+            totalCount += count;
+        }
+
+        if (0 == totalCount)
+        {
+            return 0;
+        }
+
+        final long targetCount = Math.max(1, (long)Math.ceil((Math.min(percentile, 100.0) / 100.0) * totalCount));
+        long cumulativeCount = 0;
+        for (int i = 0; i < bucketCounts.length; i++)
+        {
+            cumulativeCount += bucketCounts[i];
+            if (cumulativeCount >= targetCount)
+            {
+                return bucketHighestValue(i);
+            }
+        }
+
+        return bucketHighestValue(bucketCounts.length - 1);
+    }
+
+    /**
+     * Read a {@link LatencyReport} contained in the buffer. This can be done concurrently.
+     *
+     * @param buffer        containing the latency report.
+     * @param entryConsumer to be called to accept each entry in the report.
+     * @return the number of entries read.
+     */
+    public static int read(final AtomicBuffer buffer, final EntryConsumer entryConsumer)
+    {
+        final int capacity = buffer.capacity();
+        final long[] bucketCounts = new long[BUCKET_COUNT];
+
+        int recordsRead = 0;
+        int offset = 0;
+
+        while (offset < capacity)
+        {
+            final int entryLength = buffer.getIntVolatile(offset + ENTRY_LENGTH_OFFSET);
+            if (entryLength <= 0)
+            {
+                break;
+            }
+
+            ++recordsRead;
+
+            final long observationCount = buffer.getLongVolatile(offset + OBSERVATION_COUNT_OFFSET);
+            for (int i = 0; i < BUCKET_COUNT; i++)
+            {
+                bucketCounts[i] = buffer.getLongVolatile(offset + BUCKETS_OFFSET + (i * SIZE_OF_LONG));
+            }
+
+            entryConsumer.accept(
+                observationCount,
+                buffer.getLongVolatile(offset + TOTAL_LATENCY_OFFSET),
+                buffer.getLongVolatile(offset + MAX_LATENCY_OFFSET),
+                bucketCounts,
+                buffer.getInt(offset + STREAM_ID_OFFSET),
+                buffer.getStringAscii(offset + LABEL_OFFSET));
+
+            offset += entryLength;
+        }
+
+        return recordsRead;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class BatchingPublicationTest
+{
+    private static final int MAX_PAYLOAD_LENGTH = 1376;
+    private static final long FLUSH_INTERVAL_NS = 1000;
+    private static final long POSITION = 4096;
+
+    private final ExclusivePublication publication = mock(ExclusivePublication.class);
+    private final List<UnsafeBuffer> offeredBatches = new ArrayList<>();
+    private final List<String> receivedMessages = new ArrayList<>();
+    private final FragmentHandler debatchingHandler = new DebatchingFragmentHandler(
+        (buffer, offset, length, header) -> receivedMessages.add(buffer.getStringWithoutLengthAscii(offset, length)));
+    private long nowNs = 0;
+
+    @BeforeEach
+    void setUp()
+    {
+        when(publication.maxPayloadLength()).thenReturn(MAX_PAYLOAD_LENGTH);
+        when(publication.position()).thenReturn(POSITION);
+        when(publication.offer(any(DirectBuffer.class), anyInt(), anyInt())).thenAnswer(
+            (invocation) ->
+            {
+                final DirectBuffer buffer = invocation.getArgument(0);
+                final int offset = invocation.getArgument(1);
+                final int length = invocation.getArgument(2);
+                final UnsafeBuffer batch = new UnsafeBuffer(new byte[length]);
+                batch.putBytes(0, buffer, offset, length);
+                offeredBatches.add(batch);
+
+                return POSITION + length;
+            });
+    }
+
+    @Test
+    void shouldPackMessagesIntoSingleBatchOnFlush()
+    {
+        final BatchingPublication batchingPublication = newBatchingPublication(MAX_PAYLOAD_LENGTH);
+
+        assertTrue(offer(batchingPublication, "a") > 0);
+        assertTrue(offer(batchingPublication, "bcdef") > 0);
+        assertTrue(offer(batchingPublication, "ghijklmn") > 0);
+        assertEquals(8 + 12 + 12, batchingPublication.pendingLength());
+        assertEquals(0, offeredBatches.size());
+
+        assertTrue(batchingPublication.flush() > 0);
+
+        assertEquals(0, batchingPublication.pendingLength());
+        assertEquals(1, offeredBatches.size());
+        deliver(offeredBatches.get(0));
+        assertEquals(List.of("a", "bcdef", "ghijklmn"), receivedMessages);
+    }
+
+    @Test
+    void shouldFlushWhenBatchIsFull()
+    {
+        final BatchingPublication batchingPublication = newBatchingPublication(64);
+
+        offer(batchingPublication, "x".repeat(28));
+        assertEquals(0, offeredBatches.size());
+        offer(batchingPublication, "y".repeat(28));
+        assertEquals(1, offeredBatches.size());
+
+        offer(batchingPublication, "z".repeat(30));
+        offer(batchingPublication, "w".repeat(30));
+        assertEquals(2, offeredBatches.size());
+
+        offeredBatches.forEach(this::deliver);
+        assertEquals(List.of("x".repeat(28), "y".repeat(28), "z".repeat(30)), receivedMessages);
+        assertEquals(36, batchingPublication.pendingLength());
+    }
+
+    @Test
+    void shouldFlushOnDutyCycleAfterFlushInterval()
+    {
+        final BatchingPublication batchingPublication = newBatchingPublication(MAX_PAYLOAD_LENGTH);
+
+        assertEquals(0, batchingPublication.doWork());
+        offer(batchingPublication, "tick");
+
+        nowNs += FLUSH_INTERVAL_NS - 1;
+        assertEquals(0, batchingPublication.doWork());
+        assertEquals(0, offeredBatches.size());
+
+        nowNs += 1;
+        assertEquals(1, batchingPublication.doWork());
+        assertEquals(1, offeredBatches.size());
+        assertEquals(0, batchingPublication.pendingLength());
+    }
+
+    @Test
+    void shouldReturnBackPressureAndRetainBatchWhenFlushFails()
+    {
+        final BatchingPublication batchingPublication = newBatchingPublication(32);
+        offer(batchingPublication, "x".repeat(20));
+        reset(publication);
+        when(publication.offer(any(DirectBuffer.class), anyInt(), anyInt())).thenReturn(Publication.BACK_PRESSURED);
+
+        assertEquals(Publication.BACK_PRESSURED, offer(batchingPublication, "y".repeat(20)));
+        assertEquals(24, batchingPublication.pendingLength());
+        assertEquals(Publication.BACK_PRESSURED, batchingPublication.flush());
+        assertEquals(24, batchingPublication.pendingLength());
+    }
+
+    @Test
+    void shouldOfferMessageLongerThanBatchAsBatchOfOne()
+    {
+        final BatchingPublication batchingPublication = newBatchingPublication(32);
+        when(publication.offer(any(DirectBufferVector[].class))).thenAnswer(
+            (invocation) ->
+            {
+                final DirectBufferVector[] vectors = invocation.getArgument(0);
+                int length = 0;
+                for (final DirectBufferVector vector : vectors)
+                {
+                    length += vector.length();
+                }
+
+                final UnsafeBuffer batch = new UnsafeBuffer(new byte[length]);
+                int offset = 0;
+                for (final DirectBufferVector vector : vectors)
+                {
+                    batch.putBytes(offset, vector.buffer(), vector.offset(), vector.length());
+                    offset += vector.length();
+                }
+                offeredBatches.add(batch);
+
+                return POSITION + length;
+            });
+
+        offer(batchingPublication, "short");
+        offer(batchingPublication, "a message which is longer than a batch");
+
+        assertEquals(2, offeredBatches.size());
+        offeredBatches.forEach(this::deliver);
+        assertEquals(List.of("short", "a message which is longer than a batch"), receivedMessages);
+    }
+
+    @Test
+    void shouldPassThroughMessageWhichWasNotBatched()
+    {
+        final UnsafeBuffer message = new UnsafeBuffer(new byte[12]);
+        message.putStringWithoutLengthAscii(0, "not a batch!");
+
+        deliver(message);
+
+        assertEquals(List.of("not a batch!"), receivedMessages);
+    }
+
+    @Test
+    void shouldPassThroughBatchWithMessageLengthBeyondFragmentWithoutDelegatingAnyMessage()
+    {
+        final UnsafeBuffer batch = new UnsafeBuffer(new byte[16]);
+        batch.putInt(0, 4, LITTLE_ENDIAN);
+        batch.putStringWithoutLengthAscii(4, "abcd");
+        batch.putInt(8, 5, LITTLE_ENDIAN);
+        batch.putStringWithoutLengthAscii(12, "efgh");
+
+        deliver(batch);
+
+        assertEquals(1, receivedMessages.size());
+        assertEquals(batch.capacity(), receivedMessages.get(0).length());
+    }
+
+    @Test
+    void shouldPassThroughBatchWithNegativeMessageLength()
+    {
+        final UnsafeBuffer batch = new UnsafeBuffer(new byte[8]);
+        batch.putInt(0, -4, LITTLE_ENDIAN);
+
+        deliver(batch);
+
+        assertEquals(1, receivedMessages.size());
+        assertEquals(batch.capacity(), receivedMessages.get(0).length());
+    }
+
+    @Test
+    void shouldRejectBatchLengthGreaterThanMaxPayloadLength()
+    {
+        assertThrows(IllegalArgumentException.class, () -> newBatchingPublication(MAX_PAYLOAD_LENGTH + 1));
+    }
+
+    private BatchingPublication newBatchingPublication(final int batchLength)
+    {
+        return new BatchingPublication(publication, batchLength, FLUSH_INTERVAL_NS, () -> nowNs);
+    }
+
+    private static long offer(final BatchingPublication batchingPublication, final String message)
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[message.length()]);
+        buffer.putStringWithoutLengthAscii(0, message);
+
+        return batchingPublication.offer(buffer, 0, message.length());
+    }
+
+    private void deliver(final UnsafeBuffer batch)
+    {
+        debatchingHandler.onFragment(batch, 0, batch.capacity(), null);
+    }
+}
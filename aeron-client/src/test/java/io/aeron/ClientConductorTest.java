@@ -19,6 +19,8 @@ import io.aeron.command.ClientTimeoutFlyweight;
 import io.aeron.command.ControlProtocolEvents;
 import io.aeron.command.CorrelatedMessageFlyweight;
 import io.aeron.command.ErrorResponseFlyweight;
+import io.aeron.command.ImageBuffersReadyFlyweight;
+import io.aeron.command.ImageMessageFlyweight;
 import io.aeron.command.OperationSucceededFlyweight;
 import io.aeron.command.PublicationBuffersReadyFlyweight;
 import io.aeron.command.SubscriptionReadyFlyweight;
@@ -48,6 +50,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
@@ -72,6 +76,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyString;
@@ -543,6 +548,60 @@ class ClientConductorTest
         verify(mockUnavailableImageHandler, never()).onUnavailableImage(any(Image.class));
     }
 
+    @Test
+    void shouldNotAllocateWhenImagesOfSubscriptionsOfOtherClientsComeAndGo()
+    {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean)threadMXBean;
+        assumeTrue(allocationMXBean.isThreadAllocatedMemorySupported());
+        allocationMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        final UnsafeBuffer imageReadyBuffer = new UnsafeBuffer(new byte[SEND_BUFFER_CAPACITY]);
+        final ImageBuffersReadyFlyweight imageReady = new ImageBuffersReadyFlyweight();
+        imageReady.wrap(imageReadyBuffer, 0)
+            .correlationId(CORRELATION_ID_2)
+            .sessionId(SESSION_ID_2)
+            .streamId(STREAM_ID_2)
+            .subscriptionRegistrationId(SUBSCRIPTION_POSITION_REGISTRATION_ID)
+            .subscriberPositionId(SUBSCRIPTION_POSITION_ID)
+            .logFileName(SESSION_ID_2 + "-log")
+            .sourceIdentity(SOURCE_INFO);
+        final int imageReadyLength = imageReady.length();
+
+        final UnsafeBuffer imageMessageBuffer = new UnsafeBuffer(new byte[SEND_BUFFER_CAPACITY]);
+        final ImageMessageFlyweight imageMessage = new ImageMessageFlyweight();
+        imageMessage.wrap(imageMessageBuffer, 0)
+            .correlationId(CORRELATION_ID_2)
+            .subscriptionRegistrationId(SUBSCRIPTION_POSITION_REGISTRATION_ID)
+            .streamId(STREAM_ID_2)
+            .channel(CHANNEL);
+        final int imageMessageLength = imageMessage.length();
+
+        final DriverEventsAdapter driverEventsAdapter = conductor.driverListenerAdapter();
+        for (int i = 0; i < 20_000; i++)
+        {
+            driverEventsAdapter.onMessage(
+                ControlProtocolEvents.ON_AVAILABLE_IMAGE, imageReadyBuffer, 0, imageReadyLength);
+            driverEventsAdapter.onMessage(
+                ControlProtocolEvents.ON_UNAVAILABLE_IMAGE, imageMessageBuffer, 0, imageMessageLength);
+        }
+
+        final long allocatedBytesBefore = allocationMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 1_000; i++)
+        {
+            driverEventsAdapter.onMessage(
+                ControlProtocolEvents.ON_AVAILABLE_IMAGE, imageReadyBuffer, 0, imageReadyLength);
+            driverEventsAdapter.onMessage(
+                ControlProtocolEvents.ON_UNAVAILABLE_IMAGE, imageMessageBuffer, 0, imageMessageLength);
+        }
+        final long allocatedBytes = allocationMXBean.getCurrentThreadAllocatedBytes() - allocatedBytesBefore;
+
+        assertEquals(0, allocatedBytes);
+        verify(logBuffersFactory, never()).map(anyString());
+        verify(mockAvailableImageHandler, never()).onAvailableImage(any(Image.class));
+    }
+
     @Test
     void shouldTimeoutInterServiceIfTooLongBetweenDoWorkCalls()
     {
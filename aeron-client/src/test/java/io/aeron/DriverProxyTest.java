@@ -15,8 +15,10 @@
  */
 package io.aeron;
 
+import io.aeron.command.CommandBatchFlyweight;
 import io.aeron.command.RemovePublicationFlyweight;
 import io.aeron.command.RemoveSubscriptionFlyweight;
+import io.aeron.command.SubscriptionMessageFlyweight;
 import org.junit.jupiter.api.Test;
 import io.aeron.command.PublicationMessageFlyweight;
 import org.agrona.concurrent.MessageHandler;
@@ -29,6 +31,7 @@ import java.nio.ByteBuffer;
 import static io.aeron.command.ControlProtocolEvents.*;
 import static org.agrona.concurrent.ringbuffer.RingBufferDescriptor.TRAILER_LENGTH;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 class DriverProxyTest
 {
@@ -80,6 +83,82 @@ class DriverProxyTest
         );
     }
 
+    @Test
+    void shouldSendBatchOfAddCommandsInOneMessage()
+    {
+        final RegistrationBatch batch = new RegistrationBatch()
+            .addPublication(CHANNEL, STREAM_ID)
+            .addExclusivePublication(CHANNEL, STREAM_ID + 1)
+            .addSubscription(CHANNEL, STREAM_ID + 2);
+
+        final RingBuffer ringBuffer = new ManyToOneRingBuffer(
+            new UnsafeBuffer(ByteBuffer.allocateDirect(TRAILER_LENGTH + 64 * 1024)));
+        new DriverProxy(ringBuffer, CLIENT_ID).addBatch(batch);
+
+        final int messageCount = ringBuffer.read(
+            (msgTypeId, buffer, index, length) ->
+            {
+                final CommandBatchFlyweight batchMessage = new CommandBatchFlyweight();
+                batchMessage.wrap(buffer, index);
+                batchMessage.validateLength(msgTypeId, length);
+
+                assertEquals(COMMAND_BATCH, msgTypeId);
+                assertEquals(CLIENT_ID, batchMessage.clientId());
+                assertEquals(3, batchMessage.commandCount());
+
+                final PublicationMessageFlyweight publicationMessage = new PublicationMessageFlyweight();
+                final SubscriptionMessageFlyweight subscriptionMessage = new SubscriptionMessageFlyweight();
+                final int[] expectedMsgTypeIds = { ADD_PUBLICATION, ADD_EXCLUSIVE_PUBLICATION, ADD_SUBSCRIPTION };
+                int entryOffset = CommandBatchFlyweight.LENGTH;
+
+                for (int i = 0; i < 3; i++)
+                {
+                    final int commandIndex = index + entryOffset + CommandBatchFlyweight.ENTRY_HEADER_LENGTH;
+                    assertEquals(expectedMsgTypeIds[i], batchMessage.entryMsgTypeId(entryOffset));
+
+                    if (ADD_SUBSCRIPTION == expectedMsgTypeIds[i])
+                    {
+                        subscriptionMessage.wrap(buffer, commandIndex);
+                        assertEquals(CHANNEL, subscriptionMessage.channel());
+                        assertEquals(STREAM_ID + i, subscriptionMessage.streamId());
+                        assertEquals(batch.registrationId(i), subscriptionMessage.correlationId());
+                    }
+                    else
+                    {
+                        publicationMessage.wrap(buffer, commandIndex);
+                        assertEquals(CHANNEL, publicationMessage.channel());
+                        assertEquals(STREAM_ID + i, publicationMessage.streamId());
+                        assertEquals(batch.registrationId(i), publicationMessage.correlationId());
+                    }
+
+                    entryOffset += CommandBatchFlyweight.alignedEntryLength(batchMessage.entryLength(entryOffset));
+                }
+
+                assertEquals(length, entryOffset);
+            });
+
+        assertEquals(1, messageCount);
+    }
+
+    @Test
+    void shouldSplitBatchWhichExceedsMaxMessageLength()
+    {
+        final RegistrationBatch batch = new RegistrationBatch();
+        final int entryLength = CommandBatchFlyweight.alignedEntryLength(
+            PublicationMessageFlyweight.computeLength(CHANNEL.length()));
+        final int entryCount = (conductorBuffer.maxMsgLength() / entryLength) + 1;
+        for (int i = 0; i < entryCount; i++)
+        {
+            batch.addPublication(CHANNEL, STREAM_ID);
+        }
+
+        conductor.addBatch(batch);
+
+        assertEquals(2, conductorBuffer.read((msgTypeId, buffer, index, length) ->
+            assertEquals(COMMAND_BATCH, msgTypeId)));
+        assertNotEquals(Aeron.NULL_VALUE, batch.registrationId(entryCount - 1));
+    }
+
     private void threadSendsChannelMessage(final Runnable sendMessage, final int expectedMsgTypeId)
     {
         sendMessage.run();
@@ -21,6 +21,7 @@ import io.aeron.logbuffer.Header;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.protocol.DataHeaderFlyweight;
 import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -200,4 +201,152 @@ class FragmentAssemblerTest
         assertEquals(SESSION_ID, capturedHeader.sessionId());
         assertEquals(FrameDescriptor.UNFRAGMENTED, capturedHeader.flags());
     }
+
+    @Test
+    void shouldGatherFragmentedMessageInPlaceWhenCompleteInTermBuffer()
+    {
+        final UnsafeBuffer termBuffer = new UnsafeBuffer(new byte[LogBufferDescriptor.TERM_MIN_LENGTH]);
+        final int[] payloadLengths = { 1024, 1024, 100 };
+        final int[] frameOffsets = writeFragments(termBuffer, payloadLengths, payloadLengths.length);
+
+        final int[] fragmentOffsets = new int[payloadLengths.length];
+        final UnsafeBuffer copy = new UnsafeBuffer(new byte[2148]);
+        final Header[] completeHeader = new Header[1];
+        final int[] messageCount = new int[1];
+        final FragmentedMessageHandler fragmentedMessageHandler = (message, messageHeader) ->
+        {
+            messageCount[0]++;
+            assertEquals(payloadLengths.length, message.fragmentCount());
+            assertEquals(2148, message.length());
+            for (int i = 0; i < message.fragmentCount(); i++)
+            {
+                assertSame(termBuffer, message.fragment(i).buffer());
+                fragmentOffsets[i] = message.fragment(i).offset();
+            }
+
+            copy.putBytes(0, message.contiguousBuffer(), 0, message.length());
+            assertEquals(HEADER_LENGTH + message.length(), messageHeader.frameLength());
+            assertEquals(FrameDescriptor.UNFRAGMENTED, messageHeader.flags());
+            assertEquals(SESSION_ID, messageHeader.sessionId());
+            completeHeader[0] = messageHeader;
+        };
+
+        final FragmentAssembler gatheringAssembler = new FragmentAssembler(
+            delegateFragmentHandler, fragmentedMessageHandler);
+        deliverFragments(gatheringAssembler, termBuffer, frameOffsets);
+
+        assertEquals(1, messageCount[0]);
+        verify(delegateFragmentHandler, never()).onFragment(any(), anyInt(), anyInt(), any());
+        for (int i = 0; i < payloadLengths.length; i++)
+        {
+            assertEquals(frameOffsets[i] + HEADER_LENGTH, fragmentOffsets[i]);
+        }
+
+        int offset = 0;
+        for (int i = 0; i < payloadLengths.length; i++)
+        {
+            for (int j = 0; j < payloadLengths[i]; j++)
+            {
+                assertEquals((byte)i, copy.getByte(offset++));
+            }
+        }
+        assertNotNull(completeHeader[0]);
+    }
+
+    @Test
+    void shouldFallBackToCopyWhenFragmentedMessageIsNotCompleteInTermBuffer()
+    {
+        final UnsafeBuffer termBuffer = new UnsafeBuffer(new byte[LogBufferDescriptor.TERM_MIN_LENGTH]);
+        final int[] payloadLengths = { 1024, 1024, 100 };
+        final FragmentedMessageHandler fragmentedMessageHandler = mock(FragmentedMessageHandler.class);
+        final FragmentAssembler gatheringAssembler = new FragmentAssembler(
+            delegateFragmentHandler, fragmentedMessageHandler);
+
+        final int[] frameOffsets = writeFragments(termBuffer, payloadLengths, 2);
+        deliverFragments(gatheringAssembler, termBuffer, new int[]{ frameOffsets[0] });
+        writeFragments(termBuffer, payloadLengths, payloadLengths.length);
+        deliverFragments(gatheringAssembler, termBuffer, new int[]{ frameOffsets[1], frameOffsets[2] });
+
+        verify(fragmentedMessageHandler, never()).onMessage(any(), any());
+        verify(delegateFragmentHandler, times(1)).onFragment(any(), eq(0), eq(2148), any());
+    }
+
+    @Test
+    void shouldNotGatherFragmentsBeyondLimitOfImagePoll()
+    {
+        final UnsafeBuffer termBuffer = new UnsafeBuffer(new byte[LogBufferDescriptor.TERM_MIN_LENGTH]);
+        final int[] payloadLengths = { 1024, 1024, 100 };
+        final int[] frameOffsets = writeFragments(termBuffer, payloadLengths, payloadLengths.length);
+        final FragmentedMessageHandler fragmentedMessageHandler = mock(FragmentedMessageHandler.class);
+        final FragmentAssembler gatheringAssembler = new FragmentAssembler(
+            delegateFragmentHandler, fragmentedMessageHandler);
+
+        final Image image = mock(Image.class);
+        final Header fragmentHeader = new Header(INITIAL_TERM_ID, LogBufferDescriptor.TERM_MIN_LENGTH, image);
+        fragmentHeader.buffer(termBuffer);
+
+        when(image.gatherLimitOffset()).thenReturn(frameOffsets[2]);
+        deliverFragments(gatheringAssembler, fragmentHeader, new int[]{ frameOffsets[0], frameOffsets[1] });
+        verify(delegateFragmentHandler, never()).onFragment(any(), anyInt(), anyInt(), any());
+
+        when(image.gatherLimitOffset()).thenReturn(termBuffer.capacity());
+        deliverFragments(gatheringAssembler, fragmentHeader, new int[]{ frameOffsets[2] });
+
+        verify(fragmentedMessageHandler, never()).onMessage(any(), any());
+        verify(delegateFragmentHandler, times(1)).onFragment(any(), eq(0), eq(2148), any());
+    }
+
+    private static int[] writeFragments(
+        final UnsafeBuffer termBuffer, final int[] payloadLengths, final int fragmentCount)
+    {
+        final DataHeaderFlyweight frame = new DataHeaderFlyweight();
+        final int[] frameOffsets = new int[payloadLengths.length];
+        int frameOffset = 0;
+
+        for (int i = 0; i < payloadLengths.length; i++)
+        {
+            frameOffsets[i] = frameOffset;
+            if (i < fragmentCount)
+            {
+                byte flags = 0;
+                flags |= 0 == i ? FrameDescriptor.BEGIN_FRAG_FLAG : 0;
+                flags |= payloadLengths.length - 1 == i ? FrameDescriptor.END_FRAG_FLAG : 0;
+
+                frame.wrap(termBuffer, frameOffset, HEADER_LENGTH);
+                frame.headerType(DataHeaderFlyweight.HDR_TYPE_DATA);
+                frame.flags(flags);
+                frame.sessionId(SESSION_ID).termId(INITIAL_TERM_ID).termOffset(frameOffset);
+                termBuffer.setMemory(frameOffset + HEADER_LENGTH, payloadLengths[i], (byte)i);
+                frame.frameLength(HEADER_LENGTH + payloadLengths[i]);
+            }
+
+            frameOffset += BitUtil.align(HEADER_LENGTH + payloadLengths[i], FRAME_ALIGNMENT);
+        }
+
+        return frameOffsets;
+    }
+
+    private static void deliverFragments(
+        final FragmentAssembler assembler, final UnsafeBuffer termBuffer, final int[] frameOffsets)
+    {
+        final Header fragmentHeader = new Header(INITIAL_TERM_ID, LogBufferDescriptor.TERM_MIN_LENGTH);
+        fragmentHeader.buffer(termBuffer);
+
+        deliverFragments(assembler, fragmentHeader, frameOffsets);
+    }
+
+    private static void deliverFragments(
+        final FragmentAssembler assembler, final Header fragmentHeader, final int[] frameOffsets)
+    {
+        final DirectBuffer termBuffer = fragmentHeader.buffer();
+        for (final int frameOffset : frameOffsets)
+        {
+            fragmentHeader.offset(frameOffset);
+            assembler.onFragment(
+                termBuffer,
+                frameOffset + HEADER_LENGTH,
+                fragmentHeader.frameLength() - HEADER_LENGTH,
+                fragmentHeader);
+        }
+    }
 }
@@ -807,6 +807,37 @@ class ImageTest
         assertEquals(initialPosition + ALIGNED_FRAME_LENGTH, image.position());
     }
 
+    @Test
+    void shouldPollFragmentsWithPrefetchDistanceSet()
+    {
+        final int initialTermOffset = offsetForFrame(3);
+        final long initialPosition = computePosition(
+            INITIAL_TERM_ID, initialTermOffset, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setRelease(initialPosition);
+        final Image image = createImage();
+        image.prefetchDistance(TERM_BUFFER_LENGTH * 2);
+
+        insertDataFrame(INITIAL_TERM_ID, initialTermOffset);
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(4));
+
+        assertEquals(1, image.poll(mockFragmentHandler, 1));
+        assertEquals(1, image.poll(mockFragmentHandler, Integer.MAX_VALUE));
+        assertEquals(0, image.poll(mockFragmentHandler, Integer.MAX_VALUE));
+
+        verify(mockFragmentHandler, times(2)).onFragment(
+            any(UnsafeBuffer.class), anyInt(), eq(DATA.length), any(Header.class));
+        assertEquals(initialPosition + (ALIGNED_FRAME_LENGTH * 2), image.position());
+        assertEquals(TERM_BUFFER_LENGTH * 2, image.prefetchDistance());
+    }
+
+    @Test
+    void shouldRejectNegativePrefetchDistance()
+    {
+        final Image image = createImage();
+
+        assertThrows(IllegalArgumentException.class, () -> image.prefetchDistance(-1));
+    }
+
     private Image createImage()
     {
         return new Image(subscription, SESSION_ID, position, logBuffers, errorHandler, SOURCE_IDENTITY, CORRELATION_ID);
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.BufferClaim;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IpcDataSignalTest
+{
+    private static final String AERON_DIR = "ipc-data-signal-test";
+    private static final long LONG_TIMEOUT_NS = TimeUnit.SECONDS.toNanos(30);
+
+    private final Subscription subscription = mock(Subscription.class);
+
+    @Test
+    void shouldShareSignalByAeronDirectoryAndStreamIdUntilReleased()
+    {
+        final IpcDataSignal signal = IpcDataSignal.acquire(AERON_DIR, -1001);
+        final IpcDataSignal sameSignal = IpcDataSignal.acquire(AERON_DIR, -1001);
+        final IpcDataSignal otherDirSignal = IpcDataSignal.acquire(AERON_DIR + "-other", -1001);
+
+        assertSame(signal, sameSignal);
+        assertNotSame(signal, otherDirSignal);
+
+        signal.release();
+        assertTrue(IpcDataSignal.isRegistered(AERON_DIR, -1001));
+
+        sameSignal.release();
+        assertFalse(IpcDataSignal.isRegistered(AERON_DIR, -1001));
+        assertTrue(IpcDataSignal.isRegistered(AERON_DIR + "-other", -1001));
+
+        otherDirSignal.release();
+        assertFalse(IpcDataSignal.isRegistered(AERON_DIR + "-other", -1001));
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldWakeWaitingThreadWhenBufferClaimIsCommitted() throws InterruptedException
+    {
+        final IpcDataSignal signal = IpcDataSignal.acquire(AERON_DIR, -1005);
+        when(subscription.hasAvailableData()).thenReturn(false);
+
+        final Thread waiter = new Thread(() -> signal.await(subscription, LONG_TIMEOUT_NS));
+        waiter.start();
+
+        while (0 == signal.waiterCount())
+        {
+            Thread.yield();
+        }
+
+        final BufferClaim bufferClaim = new BufferClaim();
+        bufferClaim.wrap(new UnsafeBuffer(new byte[64]), 0, 64, signal);
+        bufferClaim.commit();
+        waiter.join();
+
+        assertFalse(waiter.isAlive());
+        signal.release();
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldNotWaitWhenDataIsAvailable()
+    {
+        final IpcDataSignal signal = IpcDataSignal.acquire(AERON_DIR, -1002);
+        when(subscription.hasAvailableData()).thenReturn(true);
+
+        signal.await(subscription, LONG_TIMEOUT_NS);
+
+        assertEquals(0, signal.waiterCount());
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldWakeWaitingThreadWhenSignalled() throws InterruptedException
+    {
+        final IpcDataSignal signal = IpcDataSignal.acquire(AERON_DIR, -1003);
+        when(subscription.hasAvailableData()).thenReturn(false);
+
+        final Thread waiter = new Thread(() -> signal.await(subscription, LONG_TIMEOUT_NS));
+        waiter.start();
+
+        while (0 == signal.waiterCount())
+        {
+            Thread.yield();
+        }
+
+        signal.signal();
+        waiter.join();
+
+        assertFalse(waiter.isAlive());
+        assertEquals(0, signal.waiterCount());
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldReturnAfterTimeoutWhenNotSignalled()
+    {
+        final IpcDataSignal signal = IpcDataSignal.acquire(AERON_DIR, -1004);
+        when(subscription.hasAvailableData()).thenReturn(false);
+
+        signal.await(subscription, TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertEquals(0, signal.waiterCount());
+    }
+}
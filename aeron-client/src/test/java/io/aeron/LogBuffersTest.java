@@ -88,4 +88,39 @@ class LogBuffersTest
         assertEquals("Log file length less than min length of " + LOG_META_DATA_LENGTH + ": length=" + fileLength,
             exception.getMessage());
     }
+
+    @Test
+    void shouldGiveEachCallerExclusiveTermBuffersOverTheSameMemory(@TempDir final Path dir) throws IOException
+    {
+        final Path logFile = dir.resolve("test.log");
+        final byte[] contents = new byte[(TERM_MIN_LENGTH * PARTITION_COUNT) + LOG_META_DATA_LENGTH];
+        final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(
+            contents, TERM_MIN_LENGTH * PARTITION_COUNT, LOG_META_DATA_LENGTH);
+        termLength(metaDataBuffer, TERM_MIN_LENGTH);
+        pageSize(metaDataBuffer, PAGE_MIN_SIZE);
+        assertNotNull(Files.write(logFile, contents));
+
+        try (LogBuffers logBuffers = new LogBuffers(logFile.toAbsolutePath().toString()))
+        {
+            final UnsafeBuffer[] first = logBuffers.duplicateTermBuffers();
+            final UnsafeBuffer[] second = logBuffers.duplicateTermBuffers();
+
+            for (int i = 0; i < PARTITION_COUNT; i++)
+            {
+                assertEquals(TERM_MIN_LENGTH, first[i].capacity());
+                assertEquals(TERM_MIN_LENGTH, second[i].capacity());
+                assertEquals(first[i].addressOffset(), second[i].addressOffset());
+                assertNotSame(first[i].byteBuffer(), second[i].byteBuffer());
+
+                first[i].byteBuffer().limit(8).position(4);
+                assertEquals(0, second[i].byteBuffer().position());
+                assertEquals(TERM_MIN_LENGTH, second[i].byteBuffer().limit());
+
+                first[i].putInt(0, i + 1);
+                assertEquals(i + 1, second[i].getInt(0));
+            }
+
+            assertEquals(TERM_MIN_LENGTH, first[1].addressOffset() - first[0].addressOffset());
+        }
+    }
 }
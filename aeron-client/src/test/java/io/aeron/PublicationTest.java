@@ -34,6 +34,7 @@ import org.mockito.stubbing.Answer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.aeron.Publication.*;
 import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
@@ -505,6 +506,147 @@ class PublicationTest
         }
     }
 
+    @Nested
+    class OfferCombined extends Offer
+    {
+        @BeforeEach
+        void combining()
+        {
+            publication = new ConcurrentPublication(
+                conductor,
+                CHANNEL,
+                STREAM_ID_1,
+                SESSION_ID_1,
+                publicationLimit,
+                ChannelEndpointStatus.NO_ID_ALLOCATED,
+                logBuffers,
+                CORRELATION_ID,
+                CORRELATION_ID,
+                true);
+
+            doAnswer(
+                (invocation) ->
+                {
+                    publication.internalClose();
+                    return null;
+                }).when(conductor).removePublication(publication);
+        }
+
+        @Test
+        void shouldAppendOffersFromContendingThreadsAsContiguousFrames() throws InterruptedException
+        {
+            final int threadCount = 4;
+            final int messagesPerThread = 100;
+            final int length = 32;
+            final int alignedFrameLength = align(length + HEADER_LENGTH, FRAME_ALIGNMENT);
+            when(publicationLimit.getVolatile()).thenReturn(Long.MAX_VALUE);
+            isConnected(logMetaDataBuffer, true);
+
+            final UnsafeBuffer message = new UnsafeBuffer(new byte[length]);
+            final Thread[] threads = new Thread[threadCount];
+            for (int t = 0; t < threadCount; t++)
+            {
+                threads[t] = new Thread(() ->
+                {
+                    for (int i = 0; i < messagesPerThread; i++)
+                    {
+                        assertTrue(publication.offer(message, 0, length) > 0);
+                    }
+                });
+                threads[t].start();
+            }
+
+            for (final Thread thread : threads)
+            {
+                thread.join();
+            }
+
+            final int totalLength = threadCount * messagesPerThread * alignedFrameLength;
+            assertEquals(packTail(TERM_ID_1, totalLength), rawTail(logMetaDataBuffer, PARTITION_INDEX));
+
+            final UnsafeBuffer termBuffer = termBuffers[PARTITION_INDEX];
+            for (int termOffset = 0; termOffset < totalLength; termOffset += alignedFrameLength)
+            {
+                assertEquals(length + HEADER_LENGTH, FrameDescriptor.frameLength(termBuffer, termOffset));
+            }
+            assertEquals(0, ((ConcurrentPublication)publication).claimedOfferSlotCount());
+        }
+
+        @Test
+        void shouldReleaseOfferSlotsForThreadsWhichHaveExited() throws InterruptedException
+        {
+            final int length = 32;
+            when(publicationLimit.getVolatile()).thenReturn(Long.MAX_VALUE);
+            isConnected(logMetaDataBuffer, true);
+
+            final UnsafeBuffer message = new UnsafeBuffer(new byte[length]);
+            for (int i = 0; i < 100; i++)
+            {
+                final Thread thread = new Thread(() -> assertTrue(publication.offer(message, 0, length) > 0));
+                thread.start();
+                thread.join();
+            }
+
+            assertEquals(0, ((ConcurrentPublication)publication).claimedOfferSlotCount());
+        }
+
+        @Test
+        void shouldReleaseOfferSlotWhenOfferThrows()
+        {
+            when(publicationLimit.getVolatile()).thenReturn(Long.MAX_VALUE);
+            isConnected(logMetaDataBuffer, true);
+
+            final UnsafeBuffer message = new UnsafeBuffer(new byte[32]);
+            assertThrows(IndexOutOfBoundsException.class, () -> publication.offer(message, 16, 32));
+
+            assertEquals(0, ((ConcurrentPublication)publication).claimedOfferSlotCount());
+        }
+
+        @Test
+        void shouldRunReservedValueSupplierOnOfferingThread() throws InterruptedException
+        {
+            final int threadCount = 4;
+            final int messagesPerThread = 100;
+            final int length = 32;
+            when(publicationLimit.getVolatile()).thenReturn(Long.MAX_VALUE);
+            isConnected(logMetaDataBuffer, true);
+
+            final AtomicInteger otherThreadSupplierCount = new AtomicInteger();
+            final UnsafeBuffer message = new UnsafeBuffer(new byte[length]);
+            final Thread[] threads = new Thread[threadCount];
+            for (int t = 0; t < threadCount; t++)
+            {
+                threads[t] = new Thread(() ->
+                {
+                    final Thread offeringThread = Thread.currentThread();
+                    final ReservedValueSupplier supplier = (termBuffer, termOffset, frameLength) ->
+                    {
+                        if (Thread.currentThread() != offeringThread)
+                        {
+                            otherThreadSupplierCount.incrementAndGet();
+                        }
+                        return 0;
+                    };
+
+                    for (int i = 0; i < messagesPerThread; i++)
+                    {
+                        assertTrue(publication.offer(message, 0, length, supplier) > 0);
+                        assertTrue(publication.offer(message, 0, length) > 0);
+                    }
+                });
+                threads[t].start();
+            }
+
+            for (final Thread thread : threads)
+            {
+                thread.join();
+            }
+
+            assertEquals(0, otherThreadSupplierCount.get());
+            assertEquals(0, ((ConcurrentPublication)publication).claimedOfferSlotCount());
+        }
+    }
+
     @Nested
     class OfferWithTwoBuffers extends OfferBase
     {
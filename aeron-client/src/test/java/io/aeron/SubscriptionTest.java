@@ -158,6 +158,69 @@ class SubscriptionTest
         assertEquals(2, subscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT));
     }
 
+    @Test
+    void shouldDrainHigherPriorityImageFirstWhenPollingWithPolicy()
+    {
+        when(imageOneMock.sessionId()).thenReturn(1);
+        when(imageTwoMock.sessionId()).thenReturn(2);
+        when(imageOneMock.poll(any(FragmentHandler.class), anyInt())).then((invocation) -> invocation.getArgument(1));
+        when(imageTwoMock.poll(any(FragmentHandler.class), anyInt())).then((invocation) -> invocation.getArgument(1));
+
+        subscription.addImage(imageOneMock);
+        subscription.addImage(imageTwoMock);
+
+        final SessionImagePollPolicy policy = new SessionImagePollPolicy().priority(2, -1);
+
+        for (int i = 0; i < 3; i++)
+        {
+            assertEquals(10, subscription.poll(fragmentHandler, 10, policy));
+        }
+
+        verify(imageTwoMock, times(3)).poll(fragmentHandler, 10);
+        verify(imageOneMock, never()).poll(any(FragmentHandler.class), anyInt());
+    }
+
+    @Test
+    void shouldLimitImagesToFragmentBudgetWhenPollingWithPolicy()
+    {
+        when(imageOneMock.sessionId()).thenReturn(1);
+        when(imageTwoMock.sessionId()).thenReturn(2);
+        when(imageOneMock.poll(any(FragmentHandler.class), anyInt())).then((invocation) -> invocation.getArgument(1));
+        when(imageTwoMock.poll(any(FragmentHandler.class), anyInt())).then((invocation) -> invocation.getArgument(1));
+
+        subscription.addImage(imageOneMock);
+        subscription.addImage(imageTwoMock);
+
+        final SessionImagePollPolicy policy = new SessionImagePollPolicy(0, 3).fragmentBudget(2, 5);
+
+        assertEquals(8, subscription.poll(fragmentHandler, 10, policy));
+        assertEquals(8, subscription.poll(fragmentHandler, 10, policy));
+
+        verify(imageOneMock, times(2)).poll(fragmentHandler, 3);
+        verify(imageTwoMock, times(2)).poll(fragmentHandler, 5);
+        verify(imageOneMock, times(2)).recordPoll(3);
+        verify(imageTwoMock, times(2)).recordPoll(5);
+    }
+
+    @Test
+    void shouldOnlyRecordPollsOfImagesWhenPollingWithPolicy()
+    {
+        when(imageOneMock.poll(any(FragmentHandler.class), anyInt())).thenReturn(1);
+        subscription.addImage(imageOneMock);
+
+        assertEquals(1, subscription.poll(fragmentHandler, 10));
+        verify(imageOneMock, never()).recordPoll(anyInt());
+
+        assertEquals(1, subscription.poll(fragmentHandler, 10, new SessionImagePollPolicy()));
+        verify(imageOneMock).recordPoll(1);
+    }
+
+    @Test
+    void shouldRejectNonPositiveFragmentBudget()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new SessionImagePollPolicy().fragmentBudget(1, 0));
+    }
+
     @ValueSource(longs = { INITIALIZING, ERRORED, CLOSING })
     @ParameterizedTest
     void tryResolveChannelEndpointPortReturnsNullIfChannelStatusIsNotActive(final long channelStatus)
@@ -128,4 +128,22 @@ class TermRebuilderTest
             srcOffset + HEADER_LENGTH,
             alignedFrameLength - HEADER_LENGTH);
     }
+
+    @Test
+    void shouldInsertHeaderWithoutCopyingPayload()
+    {
+        final int frameLength = BitUtil.align(256, FRAME_ALIGNMENT);
+        final int termOffset = frameLength;
+        final UnsafeBuffer packet = new UnsafeBuffer(ByteBuffer.allocate(HEADER_LENGTH));
+        packet.putInt(0, frameLength, LITTLE_ENDIAN);
+
+        TermRebuilder.insertHeader(termBuffer, termOffset, packet);
+
+        final InOrder inOrder = inOrder(termBuffer);
+        inOrder.verify(termBuffer).putLong(termOffset + 24, packet.getLong(24));
+        inOrder.verify(termBuffer).putLong(termOffset + 16, packet.getLong(16));
+        inOrder.verify(termBuffer).putLong(termOffset + 8, packet.getLong(8));
+        inOrder.verify(termBuffer).putLongRelease(termOffset, packet.getLong(0));
+        verify(termBuffer, never()).putBytes(anyInt(), any(UnsafeBuffer.class), anyInt(), anyInt());
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.status;
+
+import io.aeron.Aeron;
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.jupiter.api.Test;
+
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static org.agrona.concurrent.status.CountersReader.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountersIndexTest
+{
+    private static final int TYPE_ID = 101;
+    private static final int OTHER_TYPE_ID = 102;
+    private static final CountersIndex.Field LONG_FIELD = new CountersIndex.Field(TYPE_ID, 0, SIZE_OF_LONG);
+    private static final CountersIndex.Field INT_FIELD =
+        new CountersIndex.Field(Aeron.NULL_VALUE, SIZE_OF_LONG, SIZE_OF_INT);
+
+    private final CountersManager countersManager = new CountersManager(
+        new UnsafeBuffer(new byte[METADATA_LENGTH * 16]), new UnsafeBuffer(new byte[COUNTER_LENGTH * 16]));
+
+    @Test
+    void shouldFindCounterByFieldValue()
+    {
+        final int otherTypeCounterId = allocate(OTHER_TYPE_ID, 7, 3);
+        final int counterId = allocate(TYPE_ID, 7, 3);
+        allocate(TYPE_ID, 8, 3);
+
+        final CountersIndex index = new CountersIndex(countersManager);
+
+        assertEquals(counterId, index.findCounterId(TYPE_ID, LONG_FIELD, 7));
+        assertEquals(otherTypeCounterId, index.findCounterId(OTHER_TYPE_ID, INT_FIELD, 3));
+        assertEquals(NULL_COUNTER_ID, index.findCounterId(OTHER_TYPE_ID, LONG_FIELD, 7));
+        assertEquals(NULL_COUNTER_ID, index.findCounterId(TYPE_ID, LONG_FIELD, 9));
+    }
+
+    @Test
+    void shouldFindCountersAllocatedAfterIndexWasBuilt()
+    {
+        final CountersIndex index = new CountersIndex(countersManager);
+        assertEquals(NULL_COUNTER_ID, index.findCounterId(TYPE_ID, LONG_FIELD, 5));
+
+        final int counterId = allocate(TYPE_ID, 5, 0);
+
+        assertEquals(counterId, index.findCounterId(TYPE_ID, LONG_FIELD, 5));
+    }
+
+    @Test
+    void shouldNotReturnFreedOrReusedCounter()
+    {
+        final int counterId = allocate(TYPE_ID, 5, 0);
+        final CountersIndex index = new CountersIndex(countersManager);
+        assertEquals(counterId, index.findCounterId(TYPE_ID, LONG_FIELD, 5));
+
+        countersManager.free(counterId);
+        assertEquals(NULL_COUNTER_ID, index.findCounterId(TYPE_ID, LONG_FIELD, 5));
+
+        final int reusedCounterId = allocate(TYPE_ID, 6, 0);
+        assertEquals(counterId, reusedCounterId);
+        assertEquals(NULL_COUNTER_ID, index.findCounterId(TYPE_ID, LONG_FIELD, 5));
+        assertEquals(reusedCounterId, index.findCounterId(TYPE_ID, LONG_FIELD, 6));
+    }
+
+    @Test
+    void shouldKeepIndexesForDifferentReadersIndependent()
+    {
+        final int counterId = allocate(TYPE_ID, 5, 0);
+        final CountersManager otherCountersManager = new CountersManager(
+            new UnsafeBuffer(new byte[METADATA_LENGTH * 16]), new UnsafeBuffer(new byte[COUNTER_LENGTH * 16]));
+
+        final CountersIndex otherIndex = new CountersIndex(otherCountersManager);
+        assertSame(otherCountersManager, otherIndex.countersReader());
+        assertEquals(NULL_COUNTER_ID, otherIndex.findCounterId(TYPE_ID, LONG_FIELD, 5));
+
+        final CountersIndex index = new CountersIndex(countersManager);
+        assertSame(countersManager, index.countersReader());
+        assertEquals(counterId, index.findCounterId(TYPE_ID, LONG_FIELD, 5));
+    }
+
+    @Test
+    void shouldReturnCandidatesInAscendingOrder()
+    {
+        final int firstCounterId = allocate(TYPE_ID, 5, 0);
+        allocate(TYPE_ID, 6, 0);
+        final int secondCounterId = allocate(TYPE_ID, 5, 0);
+
+        final IntArrayList counterIds = new CountersIndex(countersManager).counterIds(LONG_FIELD, 5);
+
+        assertNotNull(counterIds);
+        assertEquals(2, counterIds.size());
+        assertEquals(firstCounterId, counterIds.getInt(0));
+        assertEquals(secondCounterId, counterIds.getInt(1));
+    }
+
+    @Test
+    void shouldRejectFieldOutsideKey()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new CountersIndex.Field(TYPE_ID, 0, 2));
+        assertThrows(
+            IllegalArgumentException.class, () -> new CountersIndex.Field(TYPE_ID, MAX_KEY_LENGTH - 4, SIZE_OF_LONG));
+    }
+
+    private int allocate(final int typeId, final long longKey, final int intKey)
+    {
+        return countersManager.allocate(
+            "test",
+            typeId,
+            (keyBuffer) ->
+            {
+                keyBuffer.putLong(0, longKey);
+                keyBuffer.putInt(SIZE_OF_LONG, intKey);
+            });
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.status;
+
+import io.aeron.LatencyRecordingFragmentHandler;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.Header;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.aeron.status.LatencyReport.BUCKET_COUNT;
+import static io.aeron.status.LatencyReport.SUB_BUCKET_COUNT;
+import static io.aeron.status.LatencyReport.bucketHighestValue;
+import static io.aeron.status.LatencyReport.bucketIndex;
+import static io.aeron.status.LatencyReport.bucketLowestValue;
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LatencyReportTest
+{
+    private static final String LABEL = "aeron:udp?endpoint=localhost:20121";
+
+    private final UnsafeBuffer buffer = new UnsafeBuffer(
+        BufferUtil.allocateDirectAligned(LatencyReport.entryLength(LABEL) * 2, CACHE_LINE_LENGTH));
+    private final LatencyReport report = new LatencyReport(buffer);
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 1, 15, 16, 17, 31, 32, 33, 1000, 65_535, 1_000_000_007L, Long.MAX_VALUE })
+    void shouldRecordValueInBucketWhichCoversIt(final long value)
+    {
+        final int index = bucketIndex(value);
+
+        assertTrue(index >= 0 && index < BUCKET_COUNT);
+        assertTrue(bucketLowestValue(index) <= value);
+        assertTrue(bucketHighestValue(index) >= value);
+        assertTrue((bucketHighestValue(index) - bucketLowestValue(index)) <= (value / SUB_BUCKET_COUNT));
+    }
+
+    @Test
+    void shouldHaveContiguousBuckets()
+    {
+        for (int i = 1; i < BUCKET_COUNT; i++)
+        {
+            assertEquals(bucketHighestValue(i - 1) + 1, bucketLowestValue(i), "index=" + i);
+            assertEquals(i, bucketIndex(bucketLowestValue(i)));
+            assertEquals(i, bucketIndex(bucketHighestValue(i)));
+        }
+
+        assertEquals(Long.MAX_VALUE, bucketHighestValue(BUCKET_COUNT - 1));
+    }
+
+    @Test
+    void shouldCreateEntriesUntilFull()
+    {
+        assertNotNull(report.createEntry(1001, LABEL));
+        assertNotNull(report.createEntry(1002, LABEL));
+        assertNull(report.createEntry(1003, LABEL));
+    }
+
+    @Test
+    void shouldReadEntriesWithStatistics()
+    {
+        final LatencyReport.ReportEntry first = report.createEntry(1001, LABEL);
+        final LatencyReport.ReportEntry second = report.createEntry(1002, "second");
+        for (int i = 1; i <= 100; i++)
+        {
+            first.recordObservation(i * 1000L);
+        }
+        second.recordObservation(-5);
+
+        final List<String> lines = new ArrayList<>();
+        final int entriesRead = LatencyReportReader.read(
+            buffer,
+            (observationCount, totalLatencyNs, maxLatencyNs, bucketCounts, streamId, label) ->
+            {
+                final long p50 = LatencyReportReader.valueAtPercentile(bucketCounts, 50.0);
+                final long p99 = LatencyReportReader.valueAtPercentile(bucketCounts, 99.0);
+                lines.add(observationCount + "," + totalLatencyNs + "," + maxLatencyNs + "," + streamId + "," + label);
+
+                if (1001 == streamId)
+                {
+                    assertTrue(p50 >= 50_000 && p50 <= 50_000 + (50_000 / SUB_BUCKET_COUNT), "p50=" + p50);
+                    assertTrue(p99 >= 99_000 && p99 <= 99_000 + (99_000 / SUB_BUCKET_COUNT), "p99=" + p99);
+                }
+                else
+                {
+                    assertEquals(0, p50);
+                }
+            });
+
+        assertEquals(2, entriesRead);
+        assertEquals(List.of("100,5050000,100000,1001," + LABEL, "1,0,0,1002,second"), lines);
+    }
+
+    @Test
+    void shouldRecordLatencyOfStampedFragments()
+    {
+        final LatencyReport.ReportEntry entry = report.createEntry(1001, LABEL);
+        final FragmentHandler delegate = mock(FragmentHandler.class);
+        final LatencyRecordingFragmentHandler handler = new LatencyRecordingFragmentHandler(
+            delegate, entry, () -> 5_000L);
+        final Header header = mock(Header.class);
+
+        when(header.reservedValue()).thenReturn(2_000L);
+        handler.onFragment(buffer, 0, 0, header);
+        when(header.reservedValue()).thenReturn(0L);
+        handler.onFragment(buffer, 0, 0, header);
+
+        verify(delegate, times(2)).onFragment(buffer, 0, 0, header);
+        assertEquals(1, entry.observationCount());
+        LatencyReportReader.read(
+            buffer,
+            (observationCount, totalLatencyNs, maxLatencyNs, bucketCounts, streamId, label) ->
+                assertEquals(3_000L, maxLatencyNs));
+    }
+}
@@ -53,6 +53,7 @@ import io.aeron.exceptions.AeronException;
 import io.aeron.logbuffer.ControlledFragmentHandler;
 import io.aeron.logbuffer.Header;
 import io.aeron.security.AuthorisationService;
+import io.aeron.status.CountersIndex;
 import io.aeron.status.LocalSocketAddressStatus;
 import io.aeron.status.ReadableCounter;
 import org.agrona.CloseHelper;
@@ -183,6 +184,7 @@ final class ConsensusModuleAgent
     private final ConsensusModuleExtension consensusModuleExtension;
     private final AuthorisationService authorisationService;
     private final Aeron aeron;
+    private final CountersIndex countersIndex;
     private final ConsensusModule.Context ctx;
     private final IdleStrategy idleStrategy;
     private final RecordingLog recordingLog;
@@ -210,6 +212,7 @@ final class ConsensusModuleAgent
     {
         this.ctx = ctx;
         this.aeron = ctx.aeron();
+        this.countersIndex = new CountersIndex(aeron.countersReader());
         this.clusterClock = ctx.clusterClock();
         this.clusterTimeUnit = clusterClock.timeUnit();
         this.clusterTimeConsumer = ctx.clusterTimeConsumerSupplier().apply(ctx);
@@ -1366,7 +1369,7 @@ final class ConsensusModuleAgent
                 idleStrategy.reset();
                 final long archiveId = archive.archiveId();
                 while (CountersReader.NULL_COUNTER_ID !=
-                    RecordingPos.findCounterIdByRecording(counters, logRecordingId, archiveId))
+                    RecordingPos.findCounterIdByRecording(countersIndex, logRecordingId, archiveId))
                 {
                     idle();
                 }
@@ -2659,7 +2662,7 @@ final class ConsensusModuleAgent
     private boolean tryCreateAppendPosition(final int logSessionId)
     {
         final CountersReader counters = aeron.countersReader();
-        final int counterId = RecordingPos.findCounterIdBySession(counters, logSessionId, archive.archiveId());
+        final int counterId = RecordingPos.findCounterIdBySession(countersIndex, logSessionId, archive.archiveId());
         if (CountersReader.NULL_COUNTER_ID == counterId)
         {
             return false;
@@ -3097,7 +3100,7 @@ final class ConsensusModuleAgent
             final String channel = ChannelUri.addSessionId(ctx.snapshotChannel(), publication.sessionId());
             archive.startRecording(channel, ctx.snapshotStreamId(), LOCAL, true);
             final CountersReader counters = aeron.countersReader();
-            final int counterId = awaitRecordingCounter(counters, publication.sessionId(), archive.archiveId());
+            final int counterId = awaitRecordingCounter(publication.sessionId(), archive.archiveId());
             recordingId = RecordingPos.getRecordingId(counters, counterId);
 
             snapshotState(publication, logPosition, leadershipTermId);
@@ -3143,14 +3146,14 @@ final class ConsensusModuleAgent
         }
     }
 
-    private int awaitRecordingCounter(final CountersReader counters, final int sessionId, final long archiveId)
+    private int awaitRecordingCounter(final int sessionId, final long archiveId)
     {
         idleStrategy.reset();
-        int counterId = RecordingPos.findCounterIdBySession(counters, sessionId, archiveId);
+        int counterId = RecordingPos.findCounterIdBySession(countersIndex, sessionId, archiveId);
         while (CountersReader.NULL_COUNTER_ID == counterId)
         {
             idle();
-            counterId = RecordingPos.findCounterIdBySession(counters, sessionId, archiveId);
+            counterId = RecordingPos.findCounterIdBySession(countersIndex, sessionId, archiveId);
         }
 
         return counterId;
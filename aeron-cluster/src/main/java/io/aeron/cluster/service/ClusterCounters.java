@@ -18,6 +18,7 @@ package io.aeron.cluster.service;
 import io.aeron.Aeron;
 import io.aeron.AeronCounters;
 import io.aeron.Counter;
+import io.aeron.status.CountersIndex;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.AtomicBuffer;
 import org.agrona.concurrent.status.CountersReader;
@@ -37,6 +38,9 @@ public final class ClusterCounters
     public static final String CLUSTER_ID_LABEL_SUFFIX = " - clusterId=";
     static final String SERVICE_ID_SUFFIX = " serviceId=";
 
+    private static final CountersIndex.Field CLUSTER_ID_FIELD =
+        new CountersIndex.Field(Aeron.NULL_VALUE, 0, SIZE_OF_INT);
+
     private ClusterCounters()
     {
     }
@@ -137,6 +141,21 @@ public final class ClusterCounters
         return Aeron.NULL_VALUE;
     }
 
+    /**
+     * Find the counter id for a type of counter in a cluster using an index held by the owner of the counters reader
+     * so repeated finds do not scan all the counters.
+     *
+     * @param countersIndex of the counters to search within.
+     * @param typeId        of the counter.
+     * @param clusterId     to which the allocated counter belongs.
+     * @return the matching counter id or {@link Aeron#NULL_VALUE} if not found.
+     * @since 1.52.0
+     */
+    public static int find(final CountersIndex countersIndex, final int typeId, final int clusterId)
+    {
+        return countersIndex.findCounterId(typeId, CLUSTER_ID_FIELD, clusterId);
+    }
+
     /**
      * Allocate a counter to represent component state within a cluster.
      *
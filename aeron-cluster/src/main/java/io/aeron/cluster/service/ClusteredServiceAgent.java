@@ -40,6 +40,7 @@ import io.aeron.exceptions.TimeoutException;
 import io.aeron.logbuffer.BufferClaim;
 import io.aeron.logbuffer.Header;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.status.CountersIndex;
 import io.aeron.status.ReadableCounter;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
@@ -142,6 +143,7 @@ final class ClusteredServiceAgent extends ClusteredServiceAgentRhsPadding implem
     private final ClusterMarkFile markFile;
     private final ClusteredServiceContainer.Context ctx;
     private final Aeron aeron;
+    private CountersIndex countersIndex;
     private final AgentInvoker aeronAgentInvoker;
     private final ClusteredService service;
     private final ConsensusModuleProxy consensusModuleProxy;
@@ -198,6 +200,7 @@ final class ClusteredServiceAgent extends ClusteredServiceAgentRhsPadding implem
         closeHandlerRegistrationId = aeron.addCloseHandler(this::abort);
         aeron.addUnavailableCounterHandler(this::counterUnavailable);
         final CountersReader counters = aeron.countersReader();
+        countersIndex = new CountersIndex(counters);
         commitPosition = awaitCommitPositionCounter(counters, ctx.clusterId());
 
         recoverState(counters);
@@ -921,11 +924,11 @@ final class ClusteredServiceAgent extends ClusteredServiceAgentRhsPadding implem
     private ReadableCounter awaitCommitPositionCounter(final CountersReader counters, final int clusterId)
     {
         idleStrategy.reset();
-        int counterId = ClusterCounters.find(counters, COMMIT_POSITION_TYPE_ID, clusterId);
+        int counterId = ClusterCounters.find(countersIndex, COMMIT_POSITION_TYPE_ID, clusterId);
         while (NULL_COUNTER_ID == counterId)
         {
             idle();
-            counterId = ClusterCounters.find(counters, COMMIT_POSITION_TYPE_ID, clusterId);
+            counterId = ClusterCounters.find(countersIndex, COMMIT_POSITION_TYPE_ID, clusterId);
         }
 
         return new ReadableCounter(counters, counters.getCounterRegistrationId(counterId), counterId);
@@ -992,7 +995,7 @@ final class ClusteredServiceAgent extends ClusteredServiceAgentRhsPadding implem
             final String channel = ChannelUri.addSessionId(ctx.snapshotChannel(), publication.sessionId());
             archive.startRecording(channel, ctx.snapshotStreamId(), LOCAL, true);
             final CountersReader counters = aeron.countersReader();
-            final int counterId = awaitRecordingCounter(publication.sessionId(), counters, archive);
+            final int counterId = awaitRecordingCounter(publication.sessionId(), archive);
             final long recordingId = RecordingPos.getRecordingId(counters, counterId);
 
             snapshotState(publication, logPosition, leadershipTermId);
@@ -1094,16 +1097,16 @@ final class ClusteredServiceAgent extends ClusteredServiceAgentRhsPadding implem
         return CLUSTER_ACTION_FLAGS_DEFAULT == flags || 0 != (flags & standbySnapshotFlags);
     }
 
-    private int awaitRecordingCounter(final int sessionId, final CountersReader counters, final AeronArchive archive)
+    private int awaitRecordingCounter(final int sessionId, final AeronArchive archive)
     {
         idleStrategy.reset();
         final long archiveId = archive.archiveId();
-        int counterId = RecordingPos.findCounterIdBySession(counters, sessionId, archiveId);
+        int counterId = RecordingPos.findCounterIdBySession(countersIndex, sessionId, archiveId);
         while (NULL_COUNTER_ID == counterId)
         {
             idle();
             archive.checkForErrorResponse();
-            counterId = RecordingPos.findCounterIdBySession(counters, sessionId, archiveId);
+            counterId = RecordingPos.findCounterIdBySession(countersIndex, sessionId, archiveId);
         }
 
         return counterId;
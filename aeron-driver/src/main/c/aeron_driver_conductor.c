@@ -887,6 +887,11 @@ int aeron_driver_conductor_init(aeron_driver_conductor_t *conductor, aeron_drive
 
     conductor->async_client_command_in_flight = false;
 
+    conductor->command_batch.buffer = NULL;
+    conductor->command_batch.capacity = 0;
+    conductor->command_batch.offset = 0;
+    conductor->command_batch.length = 0;
+
     conductor->clients.array = NULL;
     conductor->clients.capacity = 0;
     conductor->clients.length = 0;
@@ -3779,6 +3784,21 @@ aeron_rb_read_action_t aeron_driver_conductor_on_command(
             break;
         }
 
+        case AERON_COMMAND_BATCH:
+        {
+            aeron_command_batch_t *command = (aeron_command_batch_t *)message;
+
+            if (length < sizeof(aeron_command_batch_t))
+            {
+                goto malformed_command;
+            }
+
+            correlation_id = command->correlated.correlation_id;
+
+            result = aeron_driver_conductor_on_command_batch(conductor, command, length);
+            break;
+        }
+
         default:
             AERON_SET_ERR(-AERON_ERROR_CODE_UNKNOWN_COMMAND_TYPE_ID, "command=%d unknown", msg_type_id);
             aeron_driver_conductor_log_error(conductor);
@@ -3887,8 +3907,18 @@ int aeron_driver_conductor_do_work(void *clientd)
     }
     if (!conductor->async_client_command_in_flight)
     {
-        work_count += (int)aeron_mpsc_rb_controlled_read(
-            &conductor->to_driver_commands, aeron_driver_conductor_on_command, conductor, AERON_COMMAND_DRAIN_LIMIT);
+        if (conductor->command_batch.offset < conductor->command_batch.length)
+        {
+            work_count += aeron_driver_conductor_dispatch_command_batch(conductor);
+        }
+        else
+        {
+            work_count += (int)aeron_mpsc_rb_controlled_read(
+                &conductor->to_driver_commands,
+                aeron_driver_conductor_on_command,
+                conductor,
+                AERON_COMMAND_DRAIN_LIMIT);
+        }
     }
     work_count += (int)aeron_mpsc_rb_read(
         conductor->conductor_proxy.command_queue,
@@ -3935,6 +3965,7 @@ void aeron_driver_conductor_on_close(void *clientd)
         aeron_free(conductor->clients.array[i].counter_links.array);
     }
     aeron_free(conductor->clients.array);
+    aeron_free(conductor->command_batch.buffer);
 
     for (size_t i = 0, length = conductor->ipc_publications.length; i < length; i++)
     {
@@ -6157,6 +6188,101 @@ int aeron_driver_conductor_on_get_next_available_session_id(
     }
 }
 
+int aeron_driver_conductor_on_command_batch(
+    aeron_driver_conductor_t *conductor, aeron_command_batch_t *command, size_t length)
+{
+    const uint8_t *entries = (const uint8_t *)command + sizeof(aeron_command_batch_t);
+    const size_t entries_length = length - sizeof(aeron_command_batch_t);
+    size_t offset = 0;
+
+    for (int32_t i = 0; i < command->command_count; i++)
+    {
+        if (offset + sizeof(aeron_command_batch_entry_t) > entries_length)
+        {
+            AERON_SET_ERR(
+                -AERON_ERROR_CODE_MALFORMED_COMMAND,
+                "command=%d too short for entry=%" PRId32 ": length=%" PRIu64,
+                AERON_COMMAND_BATCH,
+                i,
+                (uint64_t)length);
+            return -1;
+        }
+
+        const aeron_command_batch_entry_t *entry = (const aeron_command_batch_entry_t *)(entries + offset);
+        if (entry->length < 0 ||
+            (size_t)entry->length > entries_length - offset - sizeof(aeron_command_batch_entry_t))
+        {
+            AERON_SET_ERR(
+                -AERON_ERROR_CODE_MALFORMED_COMMAND,
+                "command=%d invalid entry=%" PRId32 " length=%" PRId32 ": length=%" PRIu64,
+                AERON_COMMAND_BATCH,
+                i,
+                entry->length,
+                (uint64_t)length);
+            return -1;
+        }
+
+        if (AERON_COMMAND_ADD_PUBLICATION != entry->msg_type_id &&
+            AERON_COMMAND_ADD_EXCLUSIVE_PUBLICATION != entry->msg_type_id &&
+            AERON_COMMAND_ADD_SUBSCRIPTION != entry->msg_type_id)
+        {
+            AERON_SET_ERR(
+                -AERON_ERROR_CODE_MALFORMED_COMMAND,
+                "command=%d unsupported entry=%" PRId32 " command=%" PRId32,
+                AERON_COMMAND_BATCH,
+                i,
+                entry->msg_type_id);
+            return -1;
+        }
+
+        offset += AERON_ALIGN(
+            sizeof(aeron_command_batch_entry_t) + (size_t)entry->length, AERON_COMMAND_BATCH_ENTRY_ALIGNMENT);
+    }
+
+    const size_t batch_length = offset < entries_length ? offset : entries_length;
+    if (batch_length > conductor->command_batch.capacity)
+    {
+        if (aeron_array_ensure_capacity(
+            &conductor->command_batch.buffer, sizeof(uint8_t), conductor->command_batch.capacity, batch_length) < 0)
+        {
+            AERON_APPEND_ERR("%s", "");
+            return -1;
+        }
+
+        conductor->command_batch.capacity = batch_length;
+    }
+
+    memcpy(conductor->command_batch.buffer, entries, batch_length);
+    conductor->command_batch.offset = 0;
+    conductor->command_batch.length = batch_length;
+
+    aeron_driver_conductor_dispatch_command_batch(conductor);
+
+    return 0;
+}
+
+int aeron_driver_conductor_dispatch_command_batch(aeron_driver_conductor_t *conductor)
+{
+    int work_count = 0;
+
+    while (conductor->command_batch.offset < conductor->command_batch.length &&
+        !conductor->async_client_command_in_flight &&
+        !aeron_driver_conductor_not_accepting_client_commands(conductor))
+    {
+        const uint8_t *entry_buffer = conductor->command_batch.buffer + conductor->command_batch.offset;
+        const aeron_command_batch_entry_t *entry = (const aeron_command_batch_entry_t *)entry_buffer;
+
+        conductor->command_batch.offset += AERON_ALIGN(
+            sizeof(aeron_command_batch_entry_t) + (size_t)entry->length, AERON_COMMAND_BATCH_ENTRY_ALIGNMENT);
+
+        aeron_driver_conductor_on_command(
+            entry->msg_type_id, entry_buffer + sizeof(aeron_command_batch_entry_t), (size_t)entry->length, conductor);
+        work_count++;
+    }
+
+    return work_count;
+}
+
 void aeron_driver_conductor_unlink_ipc_subscriptions(
     aeron_driver_conductor_t *conductor, aeron_ipc_publication_t *publication)
 {
@@ -310,6 +310,15 @@ typedef struct aeron_driver_conductor_stct
     int64_t time_of_last_to_driver_position_change_ns;
     int64_t last_command_consumer_position;
 
+    struct command_batch_stct
+    {
+        uint8_t *buffer;
+        size_t capacity;
+        size_t offset;
+        size_t length;
+    }
+    command_batch;
+
     bool async_client_command_in_flight;
     bool is_started;
 
@@ -539,6 +548,11 @@ int aeron_driver_conductor_on_invalidate_image(
 int aeron_driver_conductor_on_get_next_available_session_id(
     aeron_driver_conductor_t *conductor, aeron_get_next_available_session_id_command_t *command);
 
+int aeron_driver_conductor_on_command_batch(
+    aeron_driver_conductor_t *conductor, aeron_command_batch_t *command, size_t length);
+
+int aeron_driver_conductor_dispatch_command_batch(aeron_driver_conductor_t *conductor);
+
 void aeron_driver_conductor_unlink_ipc_subscriptions(
     aeron_driver_conductor_t *conductor, aeron_ipc_publication_t *publication);
 
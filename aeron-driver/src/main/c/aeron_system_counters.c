@@ -69,6 +69,19 @@ static aeron_system_counter_t system_counters[] =
         { "Control protocol version", AERON_SYSTEM_COUNTER_CONTROL_PROTOCOL_VERSION },
         { "Status Messages rejected", AERON_SYSTEM_COUNTER_STATUS_MESSAGES_REJECTED },
         { "Failed offers to AsyncExecutorProxy", AERON_SYSTEM_COUNTER_ASYNC_EXECUTOR_PROXY_FAILS },
+        { "Receiver average datagrams per batch", AERON_SYSTEM_COUNTER_RECEIVER_AVERAGE_BATCH_SIZE },
+        { "Sender average datagrams per batch", AERON_SYSTEM_COUNTER_SENDER_AVERAGE_BATCH_SIZE },
+        { "Receiver transport datagram budget exhausted", AERON_SYSTEM_COUNTER_RECEIVER_TRANSPORT_BUDGET_EXHAUSTED },
+        { "Receiver transport drains", AERON_SYSTEM_COUNTER_RECEIVER_TRANSPORT_DRAINS },
+        { "Log buffer mapping max time in ns", AERON_SYSTEM_COUNTER_LOG_BUFFER_MAPPING_MAX_TIME },
+        { "Log buffer mapping total time in ns", AERON_SYSTEM_COUNTER_LOG_BUFFER_MAPPING_TOTAL_TIME },
+        { "Log buffer pool hits", AERON_SYSTEM_COUNTER_LOG_BUFFER_POOL_HITS },
+        { "Log buffer pool misses", AERON_SYSTEM_COUNTER_LOG_BUFFER_POOL_MISSES },
+        { "Compression uncompressed bytes", AERON_SYSTEM_COUNTER_COMPRESSION_UNCOMPRESSED_BYTES },
+        { "Compression compressed bytes", AERON_SYSTEM_COUNTER_COMPRESSION_COMPRESSED_BYTES },
+        { "Compression total time in ns", AERON_SYSTEM_COUNTER_COMPRESSION_TIME },
+        { "Decompression total time in ns", AERON_SYSTEM_COUNTER_DECOMPRESSION_TIME },
+        { "Zero-copy receive datagrams from other sources", AERON_SYSTEM_COUNTER_RECEIVE_ZERO_COPY_OTHER_SOURCE_DATAGRAMS },
     };
 
 static size_t num_system_counters = sizeof(system_counters) / sizeof(aeron_system_counter_t);
@@ -68,6 +68,19 @@ typedef enum aeron_system_counter_enum_stct
     AERON_SYSTEM_COUNTER_CONTROL_PROTOCOL_VERSION = AERON_SYSTEM_COUNTER_ID_CONTROL_PROTOCOL_VERSION,
     AERON_SYSTEM_COUNTER_STATUS_MESSAGES_REJECTED = AERON_SYSTEM_COUNTER_ID_STATUS_MESSAGES_REJECTED,
     AERON_SYSTEM_COUNTER_ASYNC_EXECUTOR_PROXY_FAILS = AERON_SYSTEM_COUNTER_ID_ASYNC_EXECUTOR_PROXY_FAILS,
+    AERON_SYSTEM_COUNTER_RECEIVER_AVERAGE_BATCH_SIZE = AERON_SYSTEM_COUNTER_ID_RECEIVER_AVERAGE_BATCH_SIZE,
+    AERON_SYSTEM_COUNTER_SENDER_AVERAGE_BATCH_SIZE = AERON_SYSTEM_COUNTER_ID_SENDER_AVERAGE_BATCH_SIZE,
+    AERON_SYSTEM_COUNTER_RECEIVER_TRANSPORT_BUDGET_EXHAUSTED = AERON_SYSTEM_COUNTER_ID_RECEIVER_TRANSPORT_BUDGET_EXHAUSTED,
+    AERON_SYSTEM_COUNTER_RECEIVER_TRANSPORT_DRAINS = AERON_SYSTEM_COUNTER_ID_RECEIVER_TRANSPORT_DRAINS,
+    AERON_SYSTEM_COUNTER_LOG_BUFFER_MAPPING_MAX_TIME = AERON_SYSTEM_COUNTER_ID_LOG_BUFFER_MAPPING_MAX_TIME,
+    AERON_SYSTEM_COUNTER_LOG_BUFFER_MAPPING_TOTAL_TIME = AERON_SYSTEM_COUNTER_ID_LOG_BUFFER_MAPPING_TOTAL_TIME,
+    AERON_SYSTEM_COUNTER_LOG_BUFFER_POOL_HITS = AERON_SYSTEM_COUNTER_ID_LOG_BUFFER_POOL_HITS,
+    AERON_SYSTEM_COUNTER_LOG_BUFFER_POOL_MISSES = AERON_SYSTEM_COUNTER_ID_LOG_BUFFER_POOL_MISSES,
+    AERON_SYSTEM_COUNTER_COMPRESSION_UNCOMPRESSED_BYTES = AERON_SYSTEM_COUNTER_ID_COMPRESSION_UNCOMPRESSED_BYTES,
+    AERON_SYSTEM_COUNTER_COMPRESSION_COMPRESSED_BYTES = AERON_SYSTEM_COUNTER_ID_COMPRESSION_COMPRESSED_BYTES,
+    AERON_SYSTEM_COUNTER_COMPRESSION_TIME = AERON_SYSTEM_COUNTER_ID_COMPRESSION_TIME,
+    AERON_SYSTEM_COUNTER_DECOMPRESSION_TIME = AERON_SYSTEM_COUNTER_ID_DECOMPRESSION_TIME,
+    AERON_SYSTEM_COUNTER_RECEIVE_ZERO_COPY_OTHER_SOURCE_DATAGRAMS = AERON_SYSTEM_COUNTER_ID_RECEIVE_ZERO_COPY_OTHER_SOURCE_DATAGRAMS,
 
     // Add all new counters before this one (used for a static assertion).
     AERON_SYSTEM_COUNTER_DUMMY_LAST,
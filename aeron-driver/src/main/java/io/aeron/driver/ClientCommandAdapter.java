@@ -16,6 +16,7 @@
 package io.aeron.driver;
 
 import io.aeron.ErrorCode;
+import io.aeron.command.CommandBatchFlyweight;
 import io.aeron.command.CorrelatedMessageFlyweight;
 import io.aeron.command.CounterMessageFlyweight;
 import io.aeron.command.DestinationByIdMessageFlyweight;
@@ -32,6 +33,7 @@ import io.aeron.command.TerminateDriverFlyweight;
 import io.aeron.exceptions.ControlProtocolException;
 import io.aeron.exceptions.StorageSpaceException;
 import org.agrona.ErrorHandler;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.ControlledMessageHandler;
 import org.agrona.concurrent.ringbuffer.RingBuffer;
@@ -39,6 +41,7 @@ import org.agrona.concurrent.ringbuffer.RingBuffer;
 import static io.aeron.ChannelUri.SPY_QUALIFIER;
 import static io.aeron.CommonContext.IPC_CHANNEL;
 import static io.aeron.ErrorCode.GENERIC_ERROR;
+import static io.aeron.ErrorCode.MALFORMED_COMMAND;
 import static io.aeron.ErrorCode.STORAGE_SPACE;
 import static io.aeron.command.ControlProtocolEvents.ADD_COUNTER;
 import static io.aeron.command.ControlProtocolEvents.ADD_DESTINATION;
@@ -49,6 +52,7 @@ import static io.aeron.command.ControlProtocolEvents.ADD_STATIC_COUNTER;
 import static io.aeron.command.ControlProtocolEvents.ADD_SUBSCRIPTION;
 import static io.aeron.command.ControlProtocolEvents.CLIENT_CLOSE;
 import static io.aeron.command.ControlProtocolEvents.CLIENT_KEEPALIVE;
+import static io.aeron.command.ControlProtocolEvents.COMMAND_BATCH;
 import static io.aeron.command.ControlProtocolEvents.GET_NEXT_AVAILABLE_SESSION_ID;
 import static io.aeron.command.ControlProtocolEvents.REJECT_IMAGE;
 import static io.aeron.command.ControlProtocolEvents.REMOVE_COUNTER;
@@ -79,6 +83,10 @@ final class ClientCommandAdapter implements ControlledMessageHandler
         new DestinationByIdMessageFlyweight();
     private final GetNextAvailableSessionIdMessageFlyweight getNextAvailableSessionIdMessageFlyweight =
         new GetNextAvailableSessionIdMessageFlyweight();
+    private final CommandBatchFlyweight commandBatchFlyweight = new CommandBatchFlyweight();
+    private final ExpandableArrayBuffer commandBatchBuffer = new ExpandableArrayBuffer();
+    private int commandBatchPosition;
+    private int commandBatchLimit;
     private final DriverConductor conductor;
     private final RingBuffer toDriverCommands;
     private final ClientProxy clientProxy;
@@ -98,9 +106,19 @@ final class ClientCommandAdapter implements ControlledMessageHandler
 
     int receive()
     {
+        if (hasCommandBatchRemaining())
+        {
+            return dispatchCommandBatch();
+        }
+
         return toDriverCommands.controlledRead(this, Configuration.COMMAND_DRAIN_LIMIT);
     }
 
+    boolean hasCommandBatchRemaining()
+    {
+        return commandBatchPosition < commandBatchLimit;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -359,6 +377,16 @@ final class ClientCommandAdapter implements ControlledMessageHandler
                     break;
                 }
 
+                case COMMAND_BATCH:
+                {
+                    commandBatchFlyweight.wrap(buffer, index);
+                    commandBatchFlyweight.validateLength(msgTypeId, length);
+
+                    correlationId = commandBatchFlyweight.correlationId();
+                    onCommandBatch(buffer, index, length);
+                    break;
+                }
+
                 default:
                 {
                     final ControlProtocolException ex = new ControlProtocolException(
@@ -392,6 +420,58 @@ final class ClientCommandAdapter implements ControlledMessageHandler
         }
     }
 
+    private void onCommandBatch(final MutableDirectBuffer buffer, final int index, final int length)
+    {
+        final int commandCount = commandBatchFlyweight.commandCount();
+        int entryOffset = CommandBatchFlyweight.LENGTH;
+        for (int i = 0; i < commandCount; i++)
+        {
+            final int entryMsgTypeId = commandBatchFlyweight.entryMsgTypeId(entryOffset);
+            if (ADD_PUBLICATION != entryMsgTypeId &&
+                ADD_EXCLUSIVE_PUBLICATION != entryMsgTypeId &&
+                ADD_SUBSCRIPTION != entryMsgTypeId)
+            {
+                throw new ControlProtocolException(
+                    MALFORMED_COMMAND,
+                    "command=" + COMMAND_BATCH + " unsupported entry=" + i + " command=" + entryMsgTypeId);
+            }
+
+            entryOffset += CommandBatchFlyweight.alignedEntryLength(commandBatchFlyweight.entryLength(entryOffset));
+        }
+
+        final int batchLength = Math.min(entryOffset, length);
+        commandBatchBuffer.putBytes(0, buffer, index, batchLength);
+        commandBatchPosition = CommandBatchFlyweight.LENGTH;
+        commandBatchLimit = batchLength;
+
+        dispatchCommandBatch();
+    }
+
+    private int dispatchCommandBatch()
+    {
+        int workCount = 0;
+
+        while (commandBatchPosition < commandBatchLimit &&
+            !conductor.isClientCommandInProgress() &&
+            !conductor.notAcceptingClientCommands())
+        {
+            final int entryOffset = commandBatchPosition;
+            commandBatchFlyweight.wrap(commandBatchBuffer, 0);
+            final int entryMsgTypeId = commandBatchFlyweight.entryMsgTypeId(entryOffset);
+            final int entryLength = commandBatchFlyweight.entryLength(entryOffset);
+
+            commandBatchPosition += CommandBatchFlyweight.alignedEntryLength(entryLength);
+            onMessage(
+                entryMsgTypeId,
+                commandBatchBuffer,
+                entryOffset + CommandBatchFlyweight.ENTRY_HEADER_LENGTH,
+                entryLength);
+            workCount++;
+        }
+
+        return workCount;
+    }
+
     void onError(final long correlationId, final Exception error)
     {
         errorHandler.onError(error);
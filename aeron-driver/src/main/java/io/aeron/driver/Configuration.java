@@ -45,6 +45,7 @@ import org.agrona.concurrent.broadcast.BroadcastBufferDescriptor;
 import org.agrona.concurrent.ringbuffer.RingBufferDescriptor;
 import org.agrona.concurrent.status.CountersReader;
 import org.agrona.concurrent.status.StatusIndicator;
+import org.agrona.nio.TransportPoller;
 
 import java.net.InetSocketAddress;
 import java.util.Objects;
@@ -791,6 +792,22 @@ public final class Configuration
      */
     public static final long PUBLICATION_SETUP_TIMEOUT_NS = TimeUnit.MILLISECONDS.toNanos(100);
 
+    /**
+     * Interval for which a receive socket stays connected to a source for zero-copy receive before it is disconnected
+     * to check for datagrams from other sources.
+     *
+     * @since 1.52.0
+     */
+    public static final long RECEIVE_ZERO_COPY_SOURCE_CHECK_INTERVAL_NS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Time for which a receive socket for zero-copy receive is disconnected when checking for other sources. This
+     * covers at least one SETUP or heartbeat from any other publication sending to the endpoint.
+     *
+     * @since 1.52.0
+     */
+    public static final long RECEIVE_ZERO_COPY_SOURCE_CHECK_WINDOW_NS = 2 * PUBLICATION_SETUP_TIMEOUT_NS;
+
     /**
      * Timeout between heartbeats for publications.
      */
@@ -1213,6 +1230,178 @@ public final class Configuration
      */
     public static final long RESOLVER_BOOTSTRAP_NEIGHBOR_RESOLUTION_INTERVAL_DEFAULT_NS = TimeUnit.SECONDS.toNanos(10);
 
+    /**
+     * Property name for the number of datagrams the receiver will attempt to drain from a transport in a single
+     * batch before dispatching them.
+     *
+     * @since 1.52.0
+     */
+    @Config
+    public static final String RECEIVER_IO_VECTOR_CAPACITY_PROP_NAME = "aeron.receiver.io.vector.capacity";
+
+    /**
+     * Default number of datagrams the receiver will attempt to drain from a transport in a single batch.
+     *
+     * @since 1.52.0
+     */
+    @Config
+    public static final int RECEIVER_IO_VECTOR_CAPACITY_DEFAULT = 4;
+
+    /**
+     * Maximum number of datagrams the receiver can be configured to drain from a transport in a single batch.
+     *
+     * @since 1.52.0
+     */
+    public static final int RECEIVER_IO_VECTOR_CAPACITY_MAX = 16;
+
+    /**
+     * Property name for the max number of MTU sized datagrams a network publication will send as a batch in a single
+     * sender duty cycle. Batches are sent to each destination in turn on multi-destination channels.
+     *
+     * @since 1.52.0
+     */
+    @Config(existsInC = false)
+    public static final String SENDER_BATCH_CAPACITY_PROP_NAME = "aeron.sender.batch.capacity";
+
+    /**
+     * Default max number of MTU sized datagrams a network publication will send as a batch in a single duty cycle.
+     *
+     * @since 1.52.0
+     */
+    @Config
+    public static final int SENDER_BATCH_CAPACITY_DEFAULT = 1;
+
+    /**
+     * Maximum number of MTU sized datagrams a network publication can be configured to send as a batch.
+     *
+     * @since 1.52.0
+     */
+    public static final int SENDER_BATCH_CAPACITY_MAX = 16;
+
+    /**
+     * Property name for the number of transports at or below which the transport pollers read each transport
+     * directly in a round-robin busy-poll rather than via a {@link java.nio.channels.Selector}. Above this number
+     * the pollers fall back to the selector. A value of 0 will always use the selector.
+     *
+     * @since 1.52.0
+     */
+    @Config(existsInC = false)
+    public static final String TRANSPORT_POLLER_ITERATION_THRESHOLD_PROP_NAME =
+        "aeron.transport.poller.iteration.threshold";
+
+    /**
+     * Default number of transports at or below which the transport pollers read each transport directly. This
+     * matches the default of {@code org.agrona.nio.TransportPoller#ITERATION_THRESHOLD} which is used if it has
+     * been overridden by its own system property.
+     *
+     * @since 1.52.0
+     */
+    @Config
+    public static final int TRANSPORT_POLLER_ITERATION_THRESHOLD_DEFAULT = 5;
+
+    /**
+     * Property name for the max number of datagrams the receiver will drain from a single transport in a duty cycle
+     * before moving on to the next transport. This bounds how long a busy channel can hold the receiver while other
+     * channels sharing it wait to be serviced.
+     *
+     * @since 1.52.0
+     */
+    @Config(existsInC = false)
+    public static final String RECEIVER_TRANSPORT_DATAGRAM_BUDGET_PROP_NAME =
+        "aeron.receiver.transport.datagram.budget";
+
+    /**
+     * Default max number of datagrams the receiver will drain from a single transport in a duty cycle.
+     *
+     * @since 1.52.0
+     */
+    @Config
+    public static final int RECEIVER_TRANSPORT_DATAGRAM_BUDGET_DEFAULT = RECEIVER_IO_VECTOR_CAPACITY_DEFAULT;
+
+    /**
+     * Property name for the number of {@link Sender} agents to run with {@link ThreadingMode#DEDICATED_SHARDED}.
+     *
+     * @since 1.52.0
+     */
+    @Config(existsInC = false)
+    public static final String SENDER_AGENT_COUNT_PROP_NAME = "aeron.sender.agent.count";
+
+    /**
+     * Default number of {@link Sender} agents to run with {@link ThreadingMode#DEDICATED_SHARDED}.
+     *
+     * @since 1.52.0
+     */
+    @Config
+    public static final int SENDER_AGENT_COUNT_DEFAULT = 1;
+
+    /**
+     * Property name for the number of {@link Receiver} agents to run with {@link ThreadingMode#DEDICATED_SHARDED}.
+     *
+     * @since 1.52.0
+     */
+    @Config(existsInC = false)
+    public static final String RECEIVER_AGENT_COUNT_PROP_NAME = "aeron.receiver.agent.count";
+
+    /**
+     * Default number of {@link Receiver} agents to run with {@link ThreadingMode#DEDICATED_SHARDED}.
+     *
+     * @since 1.52.0
+     */
+    @Config
+    public static final int RECEIVER_AGENT_COUNT_DEFAULT = 1;
+
+    /**
+     * Property name for a directory on a hugetlbfs mount in which log buffers are created so they are backed by huge
+     * pages. Log buffers are created in the Aeron directory when not set.
+     *
+     * @since 1.52.0
+     */
+    @Config(defaultType = DefaultType.STRING, defaultString = "", existsInC = false)
+    public static final String LOG_BUFFER_HUGE_PAGE_DIR_PROP_NAME = "aeron.log.buffer.huge.page.dir";
+
+    /**
+     * Property name for the size of the huge pages backing log buffers created in the huge page directory.
+     *
+     * @since 1.52.0
+     */
+    @Config(existsInC = false)
+    public static final String LOG_BUFFER_HUGE_PAGE_SIZE_PROP_NAME = "aeron.log.buffer.huge.page.size";
+
+    /**
+     * Default size of the huge pages backing log buffers.
+     *
+     * @since 1.52.0
+     */
+    @Config
+    public static final int LOG_BUFFER_HUGE_PAGE_SIZE_DEFAULT = 2 * 1024 * 1024;
+
+    /**
+     * Property name for boolean value for if log buffers should be pre-touched when created, even if sparse, so page
+     * faults are taken when the log is created rather than by the sender or receiver on first use.
+     *
+     * @since 1.52.0
+     */
+    @Config(defaultType = DefaultType.BOOLEAN, defaultBoolean = false, existsInC = false)
+    public static final String LOG_BUFFER_PRE_TOUCH_PROP_NAME = "aeron.log.buffer.pre.touch";
+
+    /**
+     * Property name for the max number of log buffers created ahead of demand in a pool for new publications and
+     * images, so churn does not pay for file creation when handling requests. Log buffers are pooled for the term
+     * lengths which have been requested and freed log buffers are never reused. Zero disables pooling.
+     *
+     * @since 1.52.0
+     */
+    @Config(existsInC = false)
+    public static final String LOG_BUFFER_POOL_CAPACITY_PROP_NAME = "aeron.log.buffer.pool.capacity";
+
+    /**
+     * Default max number of log buffers created ahead of demand which is zero, i.e. pooling is disabled.
+     *
+     * @since 1.52.0
+     */
+    @Config
+    public static final int LOG_BUFFER_POOL_CAPACITY_DEFAULT = 0;
+
     /**
      * {@link Executor} that run tasks on the caller thread.
      */
@@ -2387,6 +2576,117 @@ public final class Configuration
         }
     }
 
+    /**
+     * Number of datagrams the receiver will attempt to drain from a transport in a single batch before dispatching.
+     *
+     * @return number of datagrams to drain from a transport in a single batch.
+     * @see #RECEIVER_IO_VECTOR_CAPACITY_PROP_NAME
+     */
+    public static int receiverIoVectorCapacity()
+    {
+        return getInteger(RECEIVER_IO_VECTOR_CAPACITY_PROP_NAME, RECEIVER_IO_VECTOR_CAPACITY_DEFAULT);
+    }
+
+    /**
+     * Max number of MTU sized datagrams a network publication will send as a batch in a single sender duty cycle.
+     *
+     * @return max number of datagrams to send as a batch.
+     * @see #SENDER_BATCH_CAPACITY_PROP_NAME
+     */
+    public static int senderBatchCapacity()
+    {
+        return getInteger(SENDER_BATCH_CAPACITY_PROP_NAME, SENDER_BATCH_CAPACITY_DEFAULT);
+    }
+
+    /**
+     * Number of transports at or below which the transport pollers read each transport directly in a busy-poll
+     * rather than via a {@link java.nio.channels.Selector}.
+     *
+     * @return number of transports at or below which the transport pollers read each transport directly.
+     * @see #TRANSPORT_POLLER_ITERATION_THRESHOLD_PROP_NAME
+     */
+    public static int transportPollerIterationThreshold()
+    {
+        return getInteger(TRANSPORT_POLLER_ITERATION_THRESHOLD_PROP_NAME, TransportPoller.ITERATION_THRESHOLD);
+    }
+
+    /**
+     * Max number of datagrams the receiver will drain from a single transport in a duty cycle.
+     *
+     * @return max number of datagrams the receiver will drain from a single transport in a duty cycle.
+     * @see #RECEIVER_TRANSPORT_DATAGRAM_BUDGET_PROP_NAME
+     */
+    public static int receiverTransportDatagramBudget()
+    {
+        return getInteger(RECEIVER_TRANSPORT_DATAGRAM_BUDGET_PROP_NAME, RECEIVER_TRANSPORT_DATAGRAM_BUDGET_DEFAULT);
+    }
+
+    /**
+     * Number of {@link Sender} agents to run with {@link ThreadingMode#DEDICATED_SHARDED}.
+     *
+     * @return number of {@link Sender} agents to run with {@link ThreadingMode#DEDICATED_SHARDED}.
+     * @see #SENDER_AGENT_COUNT_PROP_NAME
+     */
+    public static int senderAgentCount()
+    {
+        return getInteger(SENDER_AGENT_COUNT_PROP_NAME, SENDER_AGENT_COUNT_DEFAULT);
+    }
+
+    /**
+     * Number of {@link Receiver} agents to run with {@link ThreadingMode#DEDICATED_SHARDED}.
+     *
+     * @return number of {@link Receiver} agents to run with {@link ThreadingMode#DEDICATED_SHARDED}.
+     * @see #RECEIVER_AGENT_COUNT_PROP_NAME
+     */
+    public static int receiverAgentCount()
+    {
+        return getInteger(RECEIVER_AGENT_COUNT_PROP_NAME, RECEIVER_AGENT_COUNT_DEFAULT);
+    }
+
+    /**
+     * Directory on a hugetlbfs mount in which log buffers are created.
+     *
+     * @return directory on a hugetlbfs mount in which log buffers are created or null if not set.
+     * @see #LOG_BUFFER_HUGE_PAGE_DIR_PROP_NAME
+     */
+    public static String logBufferHugePageDir()
+    {
+        return getProperty(LOG_BUFFER_HUGE_PAGE_DIR_PROP_NAME);
+    }
+
+    /**
+     * Size of the huge pages backing log buffers created in the huge page directory.
+     *
+     * @return size of the huge pages backing log buffers created in the huge page directory.
+     * @see #LOG_BUFFER_HUGE_PAGE_SIZE_PROP_NAME
+     */
+    public static int logBufferHugePageSize()
+    {
+        return getSizeAsInt(LOG_BUFFER_HUGE_PAGE_SIZE_PROP_NAME, LOG_BUFFER_HUGE_PAGE_SIZE_DEFAULT);
+    }
+
+    /**
+     * Should log buffers be pre-touched when created, even if sparse.
+     *
+     * @return true if log buffers should be pre-touched when created, even if sparse.
+     * @see #LOG_BUFFER_PRE_TOUCH_PROP_NAME
+     */
+    public static boolean logBufferPreTouch()
+    {
+        return "true".equals(getProperty(LOG_BUFFER_PRE_TOUCH_PROP_NAME));
+    }
+
+    /**
+     * Max number of log buffers created ahead of demand in a pool.
+     *
+     * @return max number of log buffers created ahead of demand in a pool.
+     * @see #LOG_BUFFER_POOL_CAPACITY_PROP_NAME
+     */
+    public static int logBufferPoolCapacity()
+    {
+        return getInteger(LOG_BUFFER_POOL_CAPACITY_PROP_NAME, LOG_BUFFER_POOL_CAPACITY_DEFAULT);
+    }
+
     /**
      * Validate that the initial window length is greater than MTU.
      *
@@ -26,6 +26,7 @@ import org.agrona.collections.IntHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 
 import static io.aeron.driver.DataPacketDispatcher.SessionState.*;
 
@@ -105,6 +106,8 @@ public final class DataPacketDispatcher
     private final DriverConductorProxy conductorProxy;
     private final Receiver receiver;
     private final int streamSessionLimit;
+    private PublicationImage lastImage;
+    private PublicationImage directReceiveImage;
 
     DataPacketDispatcher(
         final DriverConductorProxy conductorProxy,
@@ -184,6 +187,7 @@ public final class DataPacketDispatcher
         }
 
         streamInterest.removeNonSessionSpecificInterest();
+        lastImage = null;
 
         streamInterest.isAllSessions = false;
 
@@ -213,6 +217,7 @@ public final class DataPacketDispatcher
             if (null != publicationImage)
             {
                 publicationImage.deactivate();
+                lastImage = null;
             }
             streamInterest.sessionInterestByIdMap.remove(sessionId);
         }
@@ -263,6 +268,11 @@ public final class DataPacketDispatcher
             }
         }
 
+        if (lastImage == image)
+        {
+            lastImage = null;
+        }
+
         image.deactivate();
     }
 
@@ -317,6 +327,7 @@ public final class DataPacketDispatcher
             final PublicationImage image = streamInterest.findActive(sessionId);
             if (null != image)
             {
+                lastImage = image;
                 return image.insertPacket(
                     header.termId(), header.termOffset(), buffer, length, transportIndex, srcAddress);
             }
@@ -338,6 +349,81 @@ public final class DataPacketDispatcher
         return 0;
     }
 
+    /**
+     * Prepare to receive the next datagram directly into the term buffer of the image which received the last data
+     * packet, on the assumption it will be the next in-order packet for the same session.
+     *
+     * @return the term buffer positioned for the payload of the next packet or null if not possible.
+     * @see #onDirectDataPacket(ReceiveChannelEndpoint, DataHeaderFlyweight, UnsafeBuffer, int, InetSocketAddress, int)
+     */
+    public ByteBuffer directReceiveBuffer()
+    {
+        directReceiveImage = null;
+
+        final PublicationImage image = lastImage;
+        if (null != image)
+        {
+            final ByteBuffer termBuffer = image.directReceiveBuffer();
+            if (null != termBuffer)
+            {
+                directReceiveImage = image;
+                return termBuffer;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Is a datagram received via {@link #directReceiveBuffer()} the next in-order packet for the image.
+     *
+     * @param header of the first frame in the datagram.
+     * @param length of the datagram.
+     * @return true if the datagram is the expected packet and has been received in place.
+     */
+    public boolean isDirectReceivePacket(final DataHeaderFlyweight header, final int length)
+    {
+        return directReceiveImage.isDirectReceivePacket(header, length);
+    }
+
+    /**
+     * Roll back a datagram received via {@link #directReceiveBuffer()} which was not the expected packet so it
+     * will be complete in the receive buffer for dispatch as normal.
+     *
+     * @param buffer into which the header of the datagram was received.
+     * @param length of the datagram.
+     */
+    public void abortDirectReceive(final UnsafeBuffer buffer, final int length)
+    {
+        directReceiveImage.abortDirectReceive(buffer, length);
+        directReceiveImage = null;
+    }
+
+    /**
+     * Dispatch a data packet which has been received directly into the term buffer of the image after the header.
+     *
+     * @param channelEndpoint on which the packet was received.
+     * @param header          of the data first frame.
+     * @param buffer          containing the header of the data packet.
+     * @param length          of the data packet.
+     * @param srcAddress      from which the data packet was received.
+     * @param transportIndex  on which the packet was received.
+     * @return number of bytes applied as a result of this action.
+     */
+    public int onDirectDataPacket(
+        final ReceiveChannelEndpoint channelEndpoint,
+        final DataHeaderFlyweight header,
+        final UnsafeBuffer buffer,
+        final int length,
+        final InetSocketAddress srcAddress,
+        final int transportIndex)
+    {
+        final PublicationImage image = directReceiveImage;
+        directReceiveImage = null;
+
+        return image.insertDirectPacket(buffer, length, transportIndex, srcAddress);
+    }
+
     /**
      * Dispatch a setup message to registered interest.
      *
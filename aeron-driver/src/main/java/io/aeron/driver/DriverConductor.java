@@ -27,6 +27,7 @@ import io.aeron.driver.media.UdpChannel;
 import io.aeron.driver.status.ClientHeartbeatTimestamp;
 import io.aeron.driver.status.PublisherLimit;
 import io.aeron.driver.status.PublisherPos;
+import io.aeron.driver.status.ReceiveChannelBudgetExhausted;
 import io.aeron.driver.status.ReceiveChannelStatus;
 import io.aeron.driver.status.ReceiveLocalSocketAddress;
 import io.aeron.driver.status.ReceiverHwm;
@@ -135,8 +136,8 @@ public final class DriverConductor implements Agent
     private long clockUpdateDeadlineNs;
 
     private final Context ctx;
-    private final ReceiverProxy receiverProxy;
-    private final SenderProxy senderProxy;
+    private final ReceiverProxy[] receiverProxies;
+    private final SenderProxy[] senderProxies;
     private final NativeResourceAgentProxy nativeResourceAgentProxy;
     private final ClientProxy clientProxy;
     private final RingBuffer toDriverCommands;
@@ -159,7 +160,7 @@ public final class DriverConductor implements Agent
     private final CachedEpochClock cachedEpochClock;
     private final CachedNanoClock cachedNanoClock;
     private final CountersManager countersManager;
-    private final NetworkPublicationThreadLocals networkPublicationThreadLocals = new NetworkPublicationThreadLocals();
+    private final NetworkPublicationThreadLocals[] networkPublicationThreadLocals;
     private final MutableDirectBuffer tempBuffer;
     private final AtomicCounter imagesRejected;
     private final DutyCycleTracker dutyCycleTracker;
@@ -173,8 +174,13 @@ public final class DriverConductor implements Agent
         timerIntervalNs = ctx.timerIntervalNs();
         clientLivenessTimeoutNs = ctx.clientLivenessTimeoutNs();
         driverCmdQueue = ctx.driverCommandQueue();
-        receiverProxy = ctx.receiverProxy();
-        senderProxy = ctx.senderProxy();
+        receiverProxies = ctx.receiverProxies();
+        senderProxies = ctx.senderProxies();
+        networkPublicationThreadLocals = new NetworkPublicationThreadLocals[senderProxies.length];
+        for (int i = 0; i < networkPublicationThreadLocals.length; i++)
+        {
+            networkPublicationThreadLocals[i] = new NetworkPublicationThreadLocals();
+        }
         epochClock = ctx.epochClock();
         nanoClock = ctx.nanoClock();
         cachedEpochClock = ctx.cachedEpochClock();
@@ -270,10 +276,15 @@ public final class DriverConductor implements Agent
         return workCount;
     }
 
+    boolean isClientCommandInProgress()
+    {
+        return null != clientCommand;
+    }
+
     boolean notAcceptingClientCommands()
     {
-        return senderProxy.isApplyingBackpressure() ||
-            receiverProxy.isApplyingBackpressure() ||
+        return isApplyingBackpressure(senderProxies) ||
+            isApplyingBackpressure(receiverProxies) ||
             nativeResourceAgentProxy.isApplyingBackpressure();
     }
 
@@ -463,7 +474,7 @@ public final class DriverConductor implements Agent
                 senderMtuLength,
                 controlAddress,
                 sourceAddress,
-                ctx.receiverCachedNanoClock(),
+                ctx.receiverCachedNanoClock(channelEndpoint.udpChannel()),
                 ctx,
                 countersManager);
 
@@ -505,7 +516,7 @@ public final class DriverConductor implements Agent
 
             channelEndpoint.incRefImages();
             publicationImages.add(image);
-            receiverProxy.newPublicationImage(channelEndpoint, image);
+            receiverProxy(channelEndpoint).newPublicationImage(channelEndpoint, image);
 
             for (final SubscriberPosition position : subscriberPositions)
             {
@@ -593,7 +604,7 @@ public final class DriverConductor implements Agent
             {
                 if (subscriptionLink.hasSessionId())
                 {
-                    receiverProxy.requestSetup(
+                    receiverProxy(subscriptionLink.channelEndpoint()).requestSetup(
                         subscriptionLink.channelEndpoint(), subscriptionLink.streamId(), subscriptionLink.sessionId());
                 }
                 else
@@ -675,13 +686,13 @@ public final class DriverConductor implements Agent
 
     void cleanupPublication(final NetworkPublication publication)
     {
-        senderProxy.removeNetworkPublication(publication);
+        senderProxy(publication.channelEndpoint()).removeNetworkPublication(publication);
 
         final SendChannelEndpoint channelEndpoint = publication.channelEndpoint();
         if (channelEndpoint.shouldBeClosed())
         {
             channelEndpoint.indicateClosing();
-            senderProxy.closeSendChannelEndpoint(channelEndpoint);
+            senderProxy(channelEndpoint).closeSendChannelEndpoint(channelEndpoint);
         }
 
         final String channel = channelEndpoint.udpChannel().canonicalForm();
@@ -705,7 +716,7 @@ public final class DriverConductor implements Agent
             {
                 if (0 == channelEndpoint.decRefToStreamAndSession(subscription.streamId(), subscription.sessionId()))
                 {
-                    receiverProxy.removeSubscription(
+                    receiverProxy(channelEndpoint).removeSubscription(
                         channelEndpoint, subscription.streamId(), subscription.sessionId());
                 }
             }
@@ -717,7 +728,7 @@ public final class DriverConductor implements Agent
             {
                 if (0 == channelEndpoint.decRefToStream(subscription.streamId()))
                 {
-                    receiverProxy.removeSubscription(channelEndpoint, subscription.streamId());
+                    receiverProxy(channelEndpoint).removeSubscription(channelEndpoint, subscription.streamId());
                 }
             }
 
@@ -741,7 +752,8 @@ public final class DriverConductor implements Agent
 
         if (rejoin)
         {
-            receiverProxy.removeCoolDown(image.channelEndpoint(), image.sessionId(), image.streamId());
+            receiverProxy(image.channelEndpoint())
+                .removeCoolDown(image.channelEndpoint(), image.sessionId(), image.streamId());
         }
     }
 
@@ -793,7 +805,7 @@ public final class DriverConductor implements Agent
         if (channelEndpoint.shouldBeClosed())
         {
             channelEndpoint.indicateClosing();
-            receiverProxy.closeReceiveChannelEndpoint(channelEndpoint);
+            receiverProxy(channelEndpoint).closeReceiveChannelEndpoint(channelEndpoint);
         }
     }
 
@@ -868,7 +880,7 @@ public final class DriverConductor implements Agent
     {
         final SendChannelEndpoint sendChannelEndpoint =
             findExistingManualSendChannelEndpoint(publicationRegistrationId);
-        senderProxy.removeDestination(sendChannelEndpoint, destinationRegistrationId);
+        senderProxy(sendChannelEndpoint).removeDestination(sendChannelEndpoint, destinationRegistrationId);
         clientProxy.operationSucceeded(correlationId);
     }
 
@@ -886,14 +898,15 @@ public final class DriverConductor implements Agent
         {
             if (1 == channelEndpoint.incRefToStreamAndSession(subscription.streamId(), subscription.sessionId()))
             {
-                receiverProxy.addSubscription(channelEndpoint, subscription.streamId(), subscription.sessionId());
+                receiverProxy(channelEndpoint)
+                    .addSubscription(channelEndpoint, subscription.streamId(), subscription.sessionId());
             }
         }
         else
         {
             if (1 == channelEndpoint.incRefToStream(subscription.streamId()))
             {
-                receiverProxy.addSubscription(channelEndpoint, subscription.streamId());
+                receiverProxy(channelEndpoint).addSubscription(channelEndpoint, subscription.streamId());
             }
         }
     }
@@ -1198,7 +1211,10 @@ public final class DriverConductor implements Agent
         }
         else
         {
-            receiverProxy.rejectImage(imageCorrelationId, position, reason);
+            for (final ReceiverProxy receiverProxy : receiverProxies)
+            {
+                receiverProxy.rejectImage(imageCorrelationId, position, reason);
+            }
         }
 
         imagesRejected.incrementRelease();
@@ -1478,7 +1494,7 @@ public final class DriverConductor implements Agent
             }
 
             final RetransmitHandler retransmitHandler = new RetransmitHandler(
-                ctx.senderCachedNanoClock(),
+                ctx.senderCachedNanoClock(channelEndpoint.udpChannel()),
                 ctx.systemCounters().get(INVALID_PACKETS),
                 ctx.retransmitUnicastDelayGenerator(),
                 ctx.retransmitUnicastLingerGenerator(),
@@ -1504,13 +1520,13 @@ public final class DriverConductor implements Agent
                 params.initialTermId,
                 flowControl,
                 retransmitHandler,
-                networkPublicationThreadLocals,
+                networkPublicationThreadLocals[channelEndpoint.udpChannel().agentIndex(senderProxies.length)],
                 isExclusive);
 
             channelEndpoint.incRef();
             networkPublications.add(publication);
             activeSessionSet.add(new SessionKey(params.sessionId, streamId, udpChannel.canonicalForm()));
-            senderProxy.newNetworkPublication(publication);
+            senderProxy(channelEndpoint).newNetworkPublication(publication);
 
             return publication;
         }
@@ -1550,7 +1566,7 @@ public final class DriverConductor implements Agent
                 channelEndpoint.openChannel();
                 channelEndpoint.indicateActive();
 
-                senderProxy.registerSendChannelEndpoint(channelEndpoint);
+                senderProxy(channelEndpoint).registerSendChannelEndpoint(channelEndpoint);
                 sendChannelEndpointByChannelMap.put(udpChannel.canonicalForm(), channelEndpoint);
             }
             catch (final Exception ex)
@@ -1827,9 +1843,13 @@ public final class DriverConductor implements Agent
                 channelStatus = ReceiveChannelStatus.allocate(tempBuffer, countersManager, registrationId, channel);
 
                 final DataPacketDispatcher dispatcher = new DataPacketDispatcher(
-                    ctx.driverConductorProxy(), receiverProxy.receiver(), ctx.streamSessionLimit());
+                    ctx.driverConductorProxy(),
+                    receiverProxies[udpChannel.agentIndex(receiverProxies.length)].receiver(),
+                    ctx.streamSessionLimit());
                 channelEndpoint = ctx.receiveChannelEndpointSupplier().newInstance(
                     udpChannel, dispatcher, channelStatus, ctx);
+                channelEndpoint.budgetExhaustedCounter(
+                    ReceiveChannelBudgetExhausted.allocate(tempBuffer, countersManager, registrationId, channel));
 
                 if (!udpChannel.isManualControlMode())
                 {
@@ -1844,7 +1864,7 @@ public final class DriverConductor implements Agent
                 channelEndpoint.openChannel();
                 channelEndpoint.indicateActive();
 
-                receiverProxy.registerReceiveChannelEndpoint(channelEndpoint);
+                receiverProxy(channelEndpoint).registerReceiveChannelEndpoint(channelEndpoint);
                 receiveChannelEndpointByChannelMap.put(udpChannel.canonicalForm(), channelEndpoint);
             }
             catch (final Exception ex)
@@ -2011,6 +2031,29 @@ public final class DriverConductor implements Agent
         }
     }
 
+    private SenderProxy senderProxy(final SendChannelEndpoint channelEndpoint)
+    {
+        return senderProxies[channelEndpoint.udpChannel().agentIndex(senderProxies.length)];
+    }
+
+    private ReceiverProxy receiverProxy(final ReceiveChannelEndpoint channelEndpoint)
+    {
+        return receiverProxies[channelEndpoint.udpChannel().agentIndex(receiverProxies.length)];
+    }
+
+    private static boolean isApplyingBackpressure(final CommandProxy[] proxies)
+    {
+        for (final CommandProxy proxy : proxies)
+        {
+            if (proxy.isApplyingBackpressure())
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     private static AeronClient findClient(final ArrayList<AeronClient> clients, final long clientId)
     {
         AeronClient aeronClient = null;
@@ -2216,25 +2259,43 @@ public final class DriverConductor implements Agent
             workCount += clientCommandAdapter.receive();
         }
 
-        if (null != clientCommand)
+        while (null != clientCommand)
         {
             ++workCount;
 
-            try
+            if (!executeClientCommand() || !clientCommandAdapter.hasCommandBatchRemaining())
             {
-                if (clientCommand.execute())
-                {
-                    clientCommand = null;
-                }
+                break;
             }
-            catch (final Exception ex)
+
+            workCount += clientCommandAdapter.receive();
+        }
+
+        return workCount;
+    }
+
+    private boolean executeClientCommand()
+    {
+        try
+        {
+            boolean isDone = clientCommand.execute();
+            while (!isDone && null != nativeResourceAgentInvoker && nativeResourceAgentInvoker.invoke() > 0)
+            {
+                isDone = clientCommand.execute();
+            }
+
+            if (isDone)
             {
-                clientCommandAdapter.onError(clientCommand.correlationId, ex);
                 clientCommand = null;
             }
         }
+        catch (final Exception ex)
+        {
+            clientCommandAdapter.onError(clientCommand.correlationId, ex);
+            clientCommand = null;
+        }
 
-        return workCount;
+        return null == clientCommand;
     }
 
     private int drainCommandQueue()
@@ -3102,7 +3163,7 @@ public final class DriverConductor implements Agent
                 throw ex;
             }
 
-            receiverProxy.addDestination(receiveChannelEndpoint, transport);
+            receiverProxy(receiveChannelEndpoint).addDestination(receiveChannelEndpoint, transport);
             clientProxy.operationSucceeded(correlationId);
 
             state = State.DONE;
@@ -3188,7 +3249,7 @@ public final class DriverConductor implements Agent
 
         private void removing()
         {
-            receiverProxy.removeDestination(receiveChannelEndpoint, udpChannel);
+            receiverProxy(receiveChannelEndpoint).removeDestination(receiveChannelEndpoint, udpChannel);
             clientProxy.operationSucceeded(correlationId);
 
             state = State.DONE;
@@ -3232,7 +3293,8 @@ public final class DriverConductor implements Agent
                 final InetSocketAddress address = destinationAddressResult.get();
                 if (null != address)
                 {
-                    senderProxy.addDestination(sendChannelEndpoint, channelUri, address, correlationId);
+                    senderProxy(sendChannelEndpoint)
+                        .addDestination(sendChannelEndpoint, channelUri, address, correlationId);
                     clientProxy.operationSucceeded(correlationId);
                     state = State.DONE;
                 }
@@ -3290,7 +3352,7 @@ public final class DriverConductor implements Agent
                 final InetSocketAddress address = destinationAddressResult.get();
                 if (null != address)
                 {
-                    senderProxy.removeDestination(sendChannelEndpoint, channelUri, address);
+                    senderProxy(sendChannelEndpoint).removeDestination(sendChannelEndpoint, channelUri, address);
                     clientProxy.operationSucceeded(correlationId);
                     state = State.DONE;
                 }
@@ -3467,7 +3529,7 @@ public final class DriverConductor implements Agent
                 }
                 else if (!Objects.equals(address, newAddress))
                 {
-                    receiverProxy.onResolutionChange(channelEndpoint, udpChannel, newAddress);
+                    receiverProxy(channelEndpoint).onResolutionChange(channelEndpoint, udpChannel, newAddress);
                 }
                 return true;
             }
@@ -3502,7 +3564,7 @@ public final class DriverConductor implements Agent
                 }
                 else if (!Objects.equals(address, newAddress))
                 {
-                    senderProxy.onResolutionChange(channelEndpoint, endpoint, newAddress);
+                    senderProxy(channelEndpoint).onResolutionChange(channelEndpoint, endpoint, newAddress);
                 }
                 return true;
             }
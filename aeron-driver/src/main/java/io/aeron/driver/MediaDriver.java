@@ -29,9 +29,11 @@ import io.aeron.driver.media.PortManager;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.ReceiveChannelEndpointThreadLocals;
 import io.aeron.driver.media.SendChannelEndpoint;
+import io.aeron.driver.media.UdpChannel;
 import io.aeron.driver.media.WildcardPortManager;
 import io.aeron.driver.reports.LossReport;
 import io.aeron.driver.status.DutyCycleStallTracker;
+import io.aeron.driver.status.SystemCounterDescriptor;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.exceptions.AeronException;
 import io.aeron.exceptions.ConcurrentConcludeException;
@@ -96,6 +98,8 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+import static io.aeron.AeronCounters.DRIVER_AGENT_CYCLE_TIME_THRESHOLD_EXCEEDED_TYPE_ID;
+import static io.aeron.AeronCounters.DRIVER_AGENT_MAX_CYCLE_TIME_TYPE_ID;
 import static io.aeron.CncFileDescriptor.CNC_VERSION;
 import static io.aeron.CncFileDescriptor.META_DATA_LENGTH;
 import static io.aeron.CncFileDescriptor.createCountersMetaDataBuffer;
@@ -110,6 +114,8 @@ import static io.aeron.driver.Configuration.COUNTERS_VALUES_BUFFER_LENGTH_MIN;
 import static io.aeron.driver.Configuration.ERROR_BUFFER_LENGTH_DEFAULT;
 import static io.aeron.driver.Configuration.LOSS_REPORT_BUFFER_LENGTH_DEFAULT;
 import static io.aeron.driver.Configuration.NAK_UNICAST_DELAY_MIN_VALUE_NS;
+import static io.aeron.driver.Configuration.RECEIVER_IO_VECTOR_CAPACITY_MAX;
+import static io.aeron.driver.Configuration.SENDER_BATCH_CAPACITY_MAX;
 import static io.aeron.driver.Configuration.TO_CLIENTS_BUFFER_LENGTH_DEFAULT;
 import static io.aeron.driver.Configuration.countersMetadataBufferLength;
 import static io.aeron.driver.Configuration.validateInitialWindowLength;
@@ -129,11 +135,18 @@ import static io.aeron.driver.status.SystemCounterDescriptor.CONDUCTOR_MAX_CYCLE
 import static io.aeron.driver.status.SystemCounterDescriptor.CONTROLLABLE_IDLE_STRATEGY;
 import static io.aeron.driver.status.SystemCounterDescriptor.CONTROL_PROTOCOL_VERSION;
 import static io.aeron.driver.status.SystemCounterDescriptor.ERRORS;
+import static io.aeron.driver.status.SystemCounterDescriptor.LOG_BUFFER_MAPPING_MAX_TIME;
+import static io.aeron.driver.status.SystemCounterDescriptor.LOG_BUFFER_MAPPING_TOTAL_TIME;
+import static io.aeron.driver.status.SystemCounterDescriptor.LOG_BUFFER_POOL_HITS;
+import static io.aeron.driver.status.SystemCounterDescriptor.LOG_BUFFER_POOL_MISSES;
 import static io.aeron.driver.status.SystemCounterDescriptor.NAME_RESOLVER_MAX_TIME;
 import static io.aeron.driver.status.SystemCounterDescriptor.NAME_RESOLVER_TIME_THRESHOLD_EXCEEDED;
+import static io.aeron.driver.status.SystemCounterDescriptor.RECEIVER_AVERAGE_BATCH_SIZE;
 import static io.aeron.driver.status.SystemCounterDescriptor.RECEIVER_CYCLE_TIME_THRESHOLD_EXCEEDED;
 import static io.aeron.driver.status.SystemCounterDescriptor.RECEIVER_MAX_CYCLE_TIME;
 import static io.aeron.driver.status.SystemCounterDescriptor.RECEIVER_PROXY_FAILS;
+import static io.aeron.driver.status.SystemCounterDescriptor.RECEIVER_TRANSPORT_BUDGET_EXHAUSTED;
+import static io.aeron.driver.status.SystemCounterDescriptor.RECEIVER_TRANSPORT_DRAINS;
 import static io.aeron.driver.status.SystemCounterDescriptor.SENDER_CYCLE_TIME_THRESHOLD_EXCEEDED;
 import static io.aeron.driver.status.SystemCounterDescriptor.SENDER_MAX_CYCLE_TIME;
 import static io.aeron.driver.status.SystemCounterDescriptor.SENDER_PROXY_FAILS;
@@ -158,6 +171,8 @@ import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
 @Versioned
 public final class MediaDriver implements AutoCloseable
 {
+    private static final AgentRunner[] NO_AGENT_RUNNERS = new AgentRunner[0];
+
     private boolean wasHighResTimerEnabled;
     private final AgentInvoker nativeResourceAgentInvoker;
     private final AgentRunner nativeResourceAgentRunner;
@@ -167,6 +182,8 @@ public final class MediaDriver implements AutoCloseable
     private final AgentRunner conductorRunner;
     private final AgentRunner receiverRunner;
     private final AgentRunner senderRunner;
+    private final AgentRunner[] receiverRunners;
+    private final AgentRunner[] senderRunners;
     private final Context ctx;
 
     /**
@@ -214,11 +231,10 @@ public final class MediaDriver implements AutoCloseable
             final NativeResourceAgent nativeResourceAgent = new NativeResourceAgent(nameResolver, ctx);
             ctx.nativeResourceAgentProxy().asyncExecutor(nativeResourceAgent);
 
-            final Receiver receiver = new Receiver(ctx);
-            final Sender sender = new Sender(ctx);
-
-            ctx.receiverProxy().receiver(receiver);
-            ctx.senderProxy().sender(sender);
+            final Receiver[] receivers = newReceivers(ctx);
+            final Sender[] senders = newSenders(ctx);
+            final Receiver receiver = receivers[0];
+            final Sender sender = senders[0];
 
             switch (ctx.threadingMode())
             {
@@ -239,6 +255,8 @@ public final class MediaDriver implements AutoCloseable
                     conductorRunner = null;
                     receiverRunner = null;
                     senderRunner = null;
+                    receiverRunners = NO_AGENT_RUNNERS;
+                    senderRunners = NO_AGENT_RUNNERS;
                     nativeResourceAgentRunner = null;
                     break;
                 }
@@ -260,6 +278,8 @@ public final class MediaDriver implements AutoCloseable
                     conductorRunner = null;
                     receiverRunner = null;
                     senderRunner = null;
+                    receiverRunners = NO_AGENT_RUNNERS;
+                    senderRunners = NO_AGENT_RUNNERS;
                     sharedInvoker = null;
                     nativeResourceAgentRunner = null;
                     break;
@@ -286,6 +306,49 @@ public final class MediaDriver implements AutoCloseable
                     sharedRunner = null;
                     receiverRunner = null;
                     senderRunner = null;
+                    receiverRunners = NO_AGENT_RUNNERS;
+                    senderRunners = NO_AGENT_RUNNERS;
+                    sharedInvoker = null;
+                    nativeResourceAgentInvoker = null;
+                    break;
+                }
+
+                case DEDICATED_SHARDED:
+                {
+                    final DriverConductor conductor =
+                        new DriverConductor(ctx, null);
+                    ctx.driverConductorProxy().driverConductor(conductor);
+
+                    final StatusIndicator indicator = new UnsafeBufferStatusIndicator(
+                        ctx.countersManager().valuesBuffer(), CONTROLLABLE_IDLE_STRATEGY.id());
+
+                    senderRunners = new AgentRunner[senders.length];
+                    for (int i = 0; i < senders.length; i++)
+                    {
+                        final IdleStrategy idleStrategy = 0 == i ?
+                            ctx.senderIdleStrategy() : Configuration.senderIdleStrategy(indicator);
+                        senderRunners[i] = new AgentRunner(idleStrategy, errorHandler, errorCounter, senders[i]);
+                    }
+
+                    receiverRunners = new AgentRunner[receivers.length];
+                    for (int i = 0; i < receivers.length; i++)
+                    {
+                        final IdleStrategy idleStrategy = 0 == i ?
+                            ctx.receiverIdleStrategy() : Configuration.receiverIdleStrategy(indicator);
+                        receiverRunners[i] = new AgentRunner(idleStrategy, errorHandler, errorCounter, receivers[i]);
+                    }
+
+                    conductorRunner = new AgentRunner(
+                        ctx.conductorIdleStrategy(), errorHandler, errorCounter, conductor);
+                    nativeResourceAgentRunner = new AgentRunner(
+                        ctx.nativeResourceAgentIdleStrategy(),
+                        errorHandler,
+                        errorCounter,
+                        nativeResourceAgent);
+                    senderRunner = null;
+                    receiverRunner = null;
+                    sharedNetworkRunner = null;
+                    sharedRunner = null;
                     sharedInvoker = null;
                     nativeResourceAgentInvoker = null;
                     break;
@@ -311,6 +374,8 @@ public final class MediaDriver implements AutoCloseable
                     sharedRunner = null;
                     sharedInvoker = null;
                     nativeResourceAgentInvoker = null;
+                    receiverRunners = NO_AGENT_RUNNERS;
+                    senderRunners = NO_AGENT_RUNNERS;
                     break;
                 }
             }
@@ -410,6 +475,16 @@ public final class MediaDriver implements AutoCloseable
             AgentRunner.startOnThread(mediaDriver.receiverRunner, ctx.receiverThreadFactory());
         }
 
+        for (final AgentRunner senderRunner : mediaDriver.senderRunners)
+        {
+            AgentRunner.startOnThread(senderRunner, ctx.senderThreadFactory());
+        }
+
+        for (final AgentRunner receiverRunner : mediaDriver.receiverRunners)
+        {
+            AgentRunner.startOnThread(receiverRunner, ctx.receiverThreadFactory());
+        }
+
         if (null != mediaDriver.sharedNetworkRunner)
         {
             AgentRunner.startOnThread(mediaDriver.sharedNetworkRunner, ctx.sharedNetworkThreadFactory());
@@ -463,6 +538,8 @@ public final class MediaDriver implements AutoCloseable
                 sharedNetworkRunner,
                 receiverRunner,
                 senderRunner,
+                () -> CloseHelper.closeAll(receiverRunners),
+                () -> CloseHelper.closeAll(senderRunners),
                 conductorRunner);
         }
         finally
@@ -485,6 +562,66 @@ public final class MediaDriver implements AutoCloseable
         return ctx.aeronDirectoryName();
     }
 
+    private static Sender[] newSenders(final Context ctx)
+    {
+        final SenderProxy[] senderProxies = ctx.senderProxies();
+        final Sender[] senders = new Sender[senderProxies.length];
+
+        senders[0] = new Sender(ctx);
+        for (int i = 1; i < senders.length; i++)
+        {
+            final String roleName = "sender-" + i;
+            senders[i] = new Sender(
+                ctx,
+                roleName,
+                senderProxies[i].commandQueue,
+                ctx.newControlTransportPoller(),
+                ctx.senderAgentCachedNanoClock(i),
+                ctx.newAgentDutyCycleTracker(
+                    SENDER_MAX_CYCLE_TIME,
+                    SENDER_CYCLE_TIME_THRESHOLD_EXCEEDED,
+                    roleName,
+                    ctx.senderCycleThresholdNs()));
+        }
+
+        for (int i = 0; i < senders.length; i++)
+        {
+            senderProxies[i].sender(senders[i]);
+        }
+
+        return senders;
+    }
+
+    private static Receiver[] newReceivers(final Context ctx)
+    {
+        final ReceiverProxy[] receiverProxies = ctx.receiverProxies();
+        final Receiver[] receivers = new Receiver[receiverProxies.length];
+
+        receivers[0] = new Receiver(ctx);
+        for (int i = 1; i < receivers.length; i++)
+        {
+            final String roleName = "receiver-" + i;
+            receivers[i] = new Receiver(
+                ctx,
+                roleName,
+                receiverProxies[i].commandQueue,
+                ctx.newDataTransportPoller(),
+                ctx.receiverAgentCachedNanoClock(i),
+                ctx.newAgentDutyCycleTracker(
+                    RECEIVER_MAX_CYCLE_TIME,
+                    RECEIVER_CYCLE_TIME_THRESHOLD_EXCEEDED,
+                    roleName,
+                    ctx.receiverCycleThresholdNs()));
+        }
+
+        for (int i = 0; i < receivers.length; i++)
+        {
+            receiverProxies[i].receiver(receivers[i]);
+        }
+
+        return receivers;
+    }
+
     private static void ensureDirectoryIsRecreated(final Context ctx)
     {
         if (ctx.aeronDirectory().isDirectory())
@@ -588,6 +725,7 @@ public final class MediaDriver implements AutoCloseable
         private boolean dirDeleteOnShutdown = Configuration.dirDeleteOnShutdown();
         private boolean termBufferSparseFile = Configuration.termBufferSparseFile();
         private boolean performStorageChecks = Configuration.performStorageChecks();
+        private boolean logBufferPreTouch = Configuration.logBufferPreTouch();
         private boolean spiesSimulateConnection = Configuration.spiesSimulateConnection();
         private boolean reliableStream = Configuration.reliableStream();
         private boolean tetherSubscriptions = Configuration.tetherSubscriptions();
@@ -636,12 +774,21 @@ public final class MediaDriver implements AutoCloseable
         private int mtuLength = Configuration.mtuLength();
         private int ipcMtuLength = Configuration.ipcMtuLength();
         private int filePageSize = Configuration.filePageSize();
+        private String logBufferHugePageDir = Configuration.logBufferHugePageDir();
+        private int logBufferHugePageSize = Configuration.logBufferHugePageSize();
+        private int logBufferPoolCapacity = Configuration.logBufferPoolCapacity();
         private int publicationReservedSessionIdLow = Configuration.publicationReservedSessionIdLow();
         private int publicationReservedSessionIdHigh = Configuration.publicationReservedSessionIdHigh();
         private int lossReportBufferLength = Configuration.lossReportBufferLength();
         private int sendToStatusMessagePollRatio = Configuration.sendToStatusMessagePollRatio();
         private int resourceFreeLimit = Configuration.resourceFreeLimit();
         private int maxResend = Configuration.maxResend();
+        private int receiverIoVectorCapacity = Configuration.receiverIoVectorCapacity();
+        private int senderBatchCapacity = Configuration.senderBatchCapacity();
+        private int transportPollerIterationThreshold = Configuration.transportPollerIterationThreshold();
+        private int receiverTransportDatagramBudget = Configuration.receiverTransportDatagramBudget();
+        private int senderAgentCount = Configuration.senderAgentCount();
+        private int receiverAgentCount = Configuration.receiverAgentCount();
 
         private Long receiverGroupTag = Configuration.groupTag();
         private long flowControlGroupTag = Configuration.flowControlGroupTag();
@@ -705,6 +852,11 @@ public final class MediaDriver implements AutoCloseable
         private OneToOneConcurrentArrayQueue<Runnable> nativeResourceAgentCommandQueue;
         private ReceiverProxy receiverProxy;
         private SenderProxy senderProxy;
+        private ReceiverProxy[] receiverProxies;
+        private SenderProxy[] senderProxies;
+        private ReceiveChannelEndpointThreadLocals[] receiverAgentThreadLocals;
+        private CachedNanoClock[] senderAgentCachedNanoClocks;
+        private CachedNanoClock[] receiverAgentCachedNanoClocks;
         private NativeResourceAgentProxy nativeResourceAgentProxy;
         private DriverConductorProxy driverConductorProxy;
         private ClientProxy clientProxy;
@@ -805,6 +957,16 @@ public final class MediaDriver implements AutoCloseable
                 validateMtuLength(mtuLength);
                 validateMtuLength(ipcMtuLength);
                 validatePageSize(filePageSize);
+                validateValueRange(logBufferPoolCapacity, 0, Integer.MAX_VALUE, "logBufferPoolCapacity");
+                if (null != logBufferHugePageDir)
+                {
+                    validatePageSize(logBufferHugePageSize);
+                    if (logBufferHugePageSize < filePageSize)
+                    {
+                        throw new ConfigurationException(
+                            "logBufferHugePageSize=" + logBufferHugePageSize + " < filePageSize=" + filePageSize);
+                    }
+                }
                 validateValueRange(
                     conductorBufferLength, CONDUCTOR_BUFFER_LENGTH_DEFAULT, Integer.MAX_VALUE, "conductorBufferLength");
                 validateValueRange(
@@ -824,6 +986,16 @@ public final class MediaDriver implements AutoCloseable
                 validateValueRange(
                     ipcPublicationTermWindowLength, 0, TERM_MAX_LENGTH, "ipcPublicationTermWindowLength");
 
+                validateValueRange(
+                    receiverIoVectorCapacity, 1, RECEIVER_IO_VECTOR_CAPACITY_MAX, "receiverIoVectorCapacity");
+                validateValueRange(senderBatchCapacity, 1, SENDER_BATCH_CAPACITY_MAX, "senderBatchCapacity");
+                validateValueRange(
+                    transportPollerIterationThreshold, 0, Integer.MAX_VALUE, "transportPollerIterationThreshold");
+                validateValueRange(
+                    receiverTransportDatagramBudget, 1, Integer.MAX_VALUE, "receiverTransportDatagramBudget");
+                validateValueRange(senderAgentCount, 1, Integer.MAX_VALUE, "senderAgentCount");
+                validateValueRange(receiverAgentCount, 1, Integer.MAX_VALUE, "receiverAgentCount");
+
                 validateValueRange(
                     nakUnicastDelayNs, NAK_UNICAST_DELAY_MIN_VALUE_NS, Long.MAX_VALUE, "nakUnicastDelayNs");
                 validateValueRange(
@@ -1301,6 +1473,130 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Directory on a hugetlbfs mount in which log buffers are created so they are backed by huge pages.
+         *
+         * @return directory on a hugetlbfs mount in which log buffers are created or null if not set.
+         * @see Configuration#LOG_BUFFER_HUGE_PAGE_DIR_PROP_NAME
+         * @since 1.52.0
+         */
+        @Config
+        public String logBufferHugePageDir()
+        {
+            return logBufferHugePageDir;
+        }
+
+        /**
+         * Directory on a hugetlbfs mount in which log buffers are created so they are backed by huge pages.
+         *
+         * @param logBufferHugePageDir on a hugetlbfs mount in which log buffers are created, or null for none.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFER_HUGE_PAGE_DIR_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context logBufferHugePageDir(final String logBufferHugePageDir)
+        {
+            this.logBufferHugePageDir = logBufferHugePageDir;
+            return this;
+        }
+
+        /**
+         * Size of the huge pages backing log buffers created in the huge page directory.
+         *
+         * @return size of the huge pages backing log buffers created in the huge page directory.
+         * @see Configuration#LOG_BUFFER_HUGE_PAGE_SIZE_PROP_NAME
+         * @since 1.52.0
+         */
+        @Config
+        public int logBufferHugePageSize()
+        {
+            return logBufferHugePageSize;
+        }
+
+        /**
+         * Size of the huge pages backing log buffers created in the huge page directory.
+         *
+         * @param logBufferHugePageSize of the huge pages backing log buffers created in the huge page directory.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFER_HUGE_PAGE_SIZE_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context logBufferHugePageSize(final int logBufferHugePageSize)
+        {
+            this.logBufferHugePageSize = logBufferHugePageSize;
+            return this;
+        }
+
+        /**
+         * Page size to which log buffers are aligned, which is the huge page size when they are created in the huge
+         * page directory, otherwise the file page size.
+         *
+         * @return page size to which log buffers are aligned.
+         * @since 1.52.0
+         */
+        public int logBufferPageSize()
+        {
+            return null != logBufferHugePageDir ? logBufferHugePageSize : filePageSize;
+        }
+
+        /**
+         * Should log buffers be pre-touched when created, even if sparse, so page faults are not taken by the sender
+         * or receiver on first use.
+         *
+         * @return true if log buffers should be pre-touched when created.
+         * @see Configuration#LOG_BUFFER_PRE_TOUCH_PROP_NAME
+         * @since 1.52.0
+         */
+        @Config
+        public boolean logBufferPreTouch()
+        {
+            return logBufferPreTouch;
+        }
+
+        /**
+         * Should log buffers be pre-touched when created, even if sparse, so page faults are not taken by the sender
+         * or receiver on first use.
+         *
+         * @param logBufferPreTouch true if log buffers should be pre-touched when created.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFER_PRE_TOUCH_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context logBufferPreTouch(final boolean logBufferPreTouch)
+        {
+            this.logBufferPreTouch = logBufferPreTouch;
+            return this;
+        }
+
+        /**
+         * Max number of log buffers created ahead of demand in a pool for new publications and images of the term
+         * lengths which have been requested. Freed log buffers are never reused. Zero disables pooling.
+         *
+         * @return max number of log buffers created ahead of demand in a pool.
+         * @see Configuration#LOG_BUFFER_POOL_CAPACITY_PROP_NAME
+         * @since 1.52.0
+         */
+        @Config
+        public int logBufferPoolCapacity()
+        {
+            return logBufferPoolCapacity;
+        }
+
+        /**
+         * Max number of log buffers created ahead of demand in a pool for new publications and images of the term
+         * lengths which have been requested. Freed log buffers are never reused. Zero disables pooling.
+         *
+         * @param logBufferPoolCapacity max number of log buffers created ahead of demand in a pool.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFER_POOL_CAPACITY_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context logBufferPoolCapacity(final int logBufferPoolCapacity)
+        {
+            this.logBufferPoolCapacity = logBufferPoolCapacity;
+            return this;
+        }
+
         /**
          * Interval in nanoseconds between checks for timers and timeouts.
          *
@@ -2521,6 +2817,241 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Number of datagrams the {@link Receiver} will attempt to drain from a transport in a single batch before
+         * dispatching them.
+         *
+         * @return number of datagrams to drain from a transport in a single batch.
+         * @see Configuration#RECEIVER_IO_VECTOR_CAPACITY_PROP_NAME
+         * @since 1.52.0
+         */
+        @Config
+        public int receiverIoVectorCapacity()
+        {
+            return receiverIoVectorCapacity;
+        }
+
+        /**
+         * Number of datagrams the {@link Receiver} will attempt to drain from a transport in a single batch before
+         * dispatching them.
+         *
+         * @param receiverIoVectorCapacity number of datagrams to drain from a transport in a single batch.
+         * @return this for a fluent API.
+         * @see Configuration#RECEIVER_IO_VECTOR_CAPACITY_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context receiverIoVectorCapacity(final int receiverIoVectorCapacity)
+        {
+            this.receiverIoVectorCapacity = receiverIoVectorCapacity;
+            return this;
+        }
+
+        /**
+         * Max number of MTU sized datagrams a {@link NetworkPublication} will send as a batch in a single
+         * {@link Sender} duty cycle.
+         *
+         * @return max number of datagrams to send as a batch.
+         * @see Configuration#SENDER_BATCH_CAPACITY_PROP_NAME
+         * @since 1.52.0
+         */
+        @Config
+        public int senderBatchCapacity()
+        {
+            return senderBatchCapacity;
+        }
+
+        /**
+         * Max number of MTU sized datagrams a {@link NetworkPublication} will send as a batch in a single
+         * {@link Sender} duty cycle.
+         *
+         * @param senderBatchCapacity max number of datagrams to send as a batch.
+         * @return this for a fluent API.
+         * @see Configuration#SENDER_BATCH_CAPACITY_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context senderBatchCapacity(final int senderBatchCapacity)
+        {
+            this.senderBatchCapacity = senderBatchCapacity;
+            return this;
+        }
+
+        /**
+         * Number of transports at or below which the {@link ControlTransportPoller} and {@link DataTransportPoller}
+         * read each transport directly in a round-robin busy-poll rather than via a
+         * {@link java.nio.channels.Selector}. Above this number the pollers fall back to the selector.
+         *
+         * @return number of transports at or below which the transport pollers read each transport directly.
+         * @see Configuration#TRANSPORT_POLLER_ITERATION_THRESHOLD_PROP_NAME
+         * @since 1.52.0
+         */
+        @Config
+        public int transportPollerIterationThreshold()
+        {
+            return transportPollerIterationThreshold;
+        }
+
+        /**
+         * Number of transports at or below which the {@link ControlTransportPoller} and {@link DataTransportPoller}
+         * read each transport directly in a round-robin busy-poll rather than via a
+         * {@link java.nio.channels.Selector}. Above this number the pollers fall back to the selector. Set to 0 to
+         * always use the selector or to {@link Integer#MAX_VALUE} to never use it.
+         *
+         * @param transportPollerIterationThreshold number of transports at or below which to read directly.
+         * @return this for a fluent API.
+         * @see Configuration#TRANSPORT_POLLER_ITERATION_THRESHOLD_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context transportPollerIterationThreshold(final int transportPollerIterationThreshold)
+        {
+            this.transportPollerIterationThreshold = transportPollerIterationThreshold;
+            return this;
+        }
+
+        /**
+         * Max number of datagrams the {@link Receiver} will drain from a single transport in a duty cycle before
+         * moving on to the next transport in round-robin order.
+         *
+         * @return max number of datagrams the {@link Receiver} will drain from a single transport in a duty cycle.
+         * @see Configuration#RECEIVER_TRANSPORT_DATAGRAM_BUDGET_PROP_NAME
+         * @since 1.52.0
+         */
+        @Config
+        public int receiverTransportDatagramBudget()
+        {
+            return receiverTransportDatagramBudget;
+        }
+
+        /**
+         * Max number of datagrams the {@link Receiver} will drain from a single transport in a duty cycle before
+         * moving on to the next transport in round-robin order.
+         *
+         * @param receiverTransportDatagramBudget max number of datagrams to drain from a transport in a duty cycle.
+         * @return this for a fluent API.
+         * @see Configuration#RECEIVER_TRANSPORT_DATAGRAM_BUDGET_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context receiverTransportDatagramBudget(final int receiverTransportDatagramBudget)
+        {
+            this.receiverTransportDatagramBudget = receiverTransportDatagramBudget;
+            return this;
+        }
+
+        /**
+         * Number of {@link Sender} agents, each on its own thread, when running with
+         * {@link ThreadingMode#DEDICATED_SHARDED}. Ignored for other threading modes.
+         *
+         * @return number of {@link Sender} agents when running with {@link ThreadingMode#DEDICATED_SHARDED}.
+         * @see Configuration#SENDER_AGENT_COUNT_PROP_NAME
+         * @since 1.52.0
+         */
+        @Config
+        public int senderAgentCount()
+        {
+            return senderAgentCount;
+        }
+
+        /**
+         * Number of {@link Sender} agents, each on its own thread, when running with
+         * {@link ThreadingMode#DEDICATED_SHARDED}. Ignored for other threading modes.
+         *
+         * @param senderAgentCount number of {@link Sender} agents.
+         * @return this for a fluent API.
+         * @see Configuration#SENDER_AGENT_COUNT_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context senderAgentCount(final int senderAgentCount)
+        {
+            this.senderAgentCount = senderAgentCount;
+            return this;
+        }
+
+        /**
+         * Number of {@link Receiver} agents, each on its own thread, when running with
+         * {@link ThreadingMode#DEDICATED_SHARDED}. Ignored for other threading modes.
+         *
+         * @return number of {@link Receiver} agents when running with {@link ThreadingMode#DEDICATED_SHARDED}.
+         * @see Configuration#RECEIVER_AGENT_COUNT_PROP_NAME
+         * @since 1.52.0
+         */
+        @Config
+        public int receiverAgentCount()
+        {
+            return receiverAgentCount;
+        }
+
+        /**
+         * Number of {@link Receiver} agents, each on its own thread, when running with
+         * {@link ThreadingMode#DEDICATED_SHARDED}. Ignored for other threading modes.
+         *
+         * @param receiverAgentCount number of {@link Receiver} agents.
+         * @return this for a fluent API.
+         * @see Configuration#RECEIVER_AGENT_COUNT_PROP_NAME
+         * @since 1.52.0
+         */
+        public Context receiverAgentCount(final int receiverAgentCount)
+        {
+            this.receiverAgentCount = receiverAgentCount;
+            return this;
+        }
+
+        /**
+         * Get the {@link ReceiveChannelEndpointThreadLocals} for the {@link Receiver} agent which will service the
+         * endpoint for a channel. When running a single {@link Receiver} this is
+         * {@link #receiveChannelEndpointThreadLocals()}.
+         *
+         * @param udpChannel for the endpoint.
+         * @return the {@link ReceiveChannelEndpointThreadLocals} for the agent servicing the channel.
+         * @since 1.52.0
+         */
+        public ReceiveChannelEndpointThreadLocals receiveChannelEndpointThreadLocals(final UdpChannel udpChannel)
+        {
+            final ReceiveChannelEndpointThreadLocals[] threadLocals = receiverAgentThreadLocals;
+            if (null == threadLocals)
+            {
+                return receiveChannelEndpointThreadLocals;
+            }
+
+            return threadLocals[udpChannel.agentIndex(threadLocals.length)];
+        }
+
+        /**
+         * Get the {@link CachedNanoClock} updated by the {@link Sender} agent which will service the endpoint for a
+         * channel. When running a single {@link Sender} this is {@link #senderCachedNanoClock()}.
+         *
+         * @param udpChannel for the endpoint.
+         * @return the {@link CachedNanoClock} for the agent servicing the channel.
+         * @since 1.52.0
+         */
+        public CachedNanoClock senderCachedNanoClock(final UdpChannel udpChannel)
+        {
+            final CachedNanoClock[] clocks = senderAgentCachedNanoClocks;
+            if (null == clocks)
+            {
+                return senderCachedNanoClock;
+            }
+
+            return clocks[udpChannel.agentIndex(clocks.length)];
+        }
+
+        /**
+         * Get the {@link CachedNanoClock} updated by the {@link Receiver} agent which will service the endpoint for a
+         * channel. When running a single {@link Receiver} this is {@link #receiverCachedNanoClock()}.
+         *
+         * @param udpChannel for the endpoint.
+         * @return the {@link CachedNanoClock} for the agent servicing the channel.
+         * @since 1.52.0
+         */
+        public CachedNanoClock receiverCachedNanoClock(final UdpChannel udpChannel)
+        {
+            final CachedNanoClock[] clocks = receiverAgentCachedNanoClocks;
+            if (null == clocks)
+            {
+                return receiverCachedNanoClock;
+            }
+
+            return clocks[udpChannel.agentIndex(clocks.length)];
+        }
+
         /**
          * {@link IdleStrategy} to be used by the {@link Sender} when in {@link ThreadingMode#DEDICATED}.
          *
@@ -4193,6 +4724,63 @@ public final class MediaDriver implements AutoCloseable
             return senderProxy;
         }
 
+        SenderProxy[] senderProxies()
+        {
+            return null != senderProxies ? senderProxies : new SenderProxy[]{ senderProxy };
+        }
+
+        ReceiverProxy[] receiverProxies()
+        {
+            return null != receiverProxies ? receiverProxies : new ReceiverProxy[]{ receiverProxy };
+        }
+
+        CachedNanoClock senderAgentCachedNanoClock(final int agentIndex)
+        {
+            return null != senderAgentCachedNanoClocks ?
+                senderAgentCachedNanoClocks[agentIndex] : senderCachedNanoClock;
+        }
+
+        CachedNanoClock receiverAgentCachedNanoClock(final int agentIndex)
+        {
+            return null != receiverAgentCachedNanoClocks ?
+                receiverAgentCachedNanoClocks[agentIndex] : receiverCachedNanoClock;
+        }
+
+        ControlTransportPoller newControlTransportPoller()
+        {
+            return new ControlTransportPoller(
+                countedErrorHandler, transportPollerIterationThreshold, driverConductorProxy);
+        }
+
+        DataTransportPoller newDataTransportPoller()
+        {
+            return new DataTransportPoller(
+                countedErrorHandler,
+                transportPollerIterationThreshold,
+                receiverIoVectorCapacity,
+                receiverTransportDatagramBudget,
+                systemCounters.get(RECEIVER_AVERAGE_BATCH_SIZE),
+                systemCounters.get(RECEIVER_TRANSPORT_BUDGET_EXHAUSTED),
+                systemCounters.get(RECEIVER_TRANSPORT_DRAINS));
+        }
+
+        DutyCycleTracker newAgentDutyCycleTracker(
+            final SystemCounterDescriptor maxCycleTime,
+            final SystemCounterDescriptor thresholdExceeded,
+            final String roleName,
+            final long cycleThresholdNs)
+        {
+            return new DutyCycleStallTracker(
+                countersManager.newCounter(
+                    maxCycleTime.label() + ": " + roleName + " " + threadingMode.name(),
+                    DRIVER_AGENT_MAX_CYCLE_TIME_TYPE_ID),
+                countersManager.newCounter(
+                    thresholdExceeded.label() + ": threshold=" + SystemUtil.formatDuration(cycleThresholdNs) +
+                    " " + roleName + " " + threadingMode.name(),
+                    DRIVER_AGENT_CYCLE_TIME_THRESHOLD_EXCEEDED_TYPE_ID),
+                cycleThresholdNs);
+        }
+
         Context senderProxy(final SenderProxy senderProxy)
         {
             this.senderProxy = senderProxy;
@@ -4522,14 +5110,16 @@ public final class MediaDriver implements AutoCloseable
                 nativeResourceAgentCommandQueue,
                 systemCounters.get(ASYNC_EXECUTOR_PROXY_FAILS));
 
+            concludeNetworkAgentProxies();
+
             if (null == controlTransportPoller)
             {
-                controlTransportPoller = new ControlTransportPoller(countedErrorHandler, driverConductorProxy);
+                controlTransportPoller = newControlTransportPoller();
             }
 
             if (null == dataTransportPoller)
             {
-                dataTransportPoller = new DataTransportPoller(countedErrorHandler);
+                dataTransportPoller = newDataTransportPoller();
             }
 
             if (null == logFactory)
@@ -4540,7 +5130,16 @@ public final class MediaDriver implements AutoCloseable
                     performStorageChecks,
                     lowStorageWarningThreshold,
                     errorHandler,
-                    systemCounters.get(BYTES_CURRENTLY_MAPPED));
+                    systemCounters.get(BYTES_CURRENTLY_MAPPED),
+                    logBufferHugePageDir,
+                    logBufferHugePageSize,
+                    logBufferPreTouch,
+                    nanoClock,
+                    systemCounters.get(LOG_BUFFER_MAPPING_MAX_TIME),
+                    systemCounters.get(LOG_BUFFER_MAPPING_TOTAL_TIME),
+                    logBufferPoolCapacity,
+                    systemCounters.get(LOG_BUFFER_POOL_HITS),
+                    systemCounters.get(LOG_BUFFER_POOL_MISSES));
             }
 
             if (null == lossReport)
@@ -4608,6 +5207,56 @@ public final class MediaDriver implements AutoCloseable
             nameResolver.init(countersManager, countersManager::newCounter);
         }
 
+        private void concludeNetworkAgentProxies()
+        {
+            final boolean isSharded = ThreadingMode.DEDICATED_SHARDED == threadingMode;
+            final int senderAgents = isSharded ? senderAgentCount : 1;
+            final int receiverAgents = isSharded ? receiverAgentCount : 1;
+
+            senderProxies = new SenderProxy[senderAgents];
+            senderProxies[0] = senderProxy;
+            for (int i = 1; i < senderAgents; i++)
+            {
+                senderProxies[i] = new SenderProxy(
+                    new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY), systemCounters.get(SENDER_PROXY_FAILS));
+            }
+
+            receiverProxies = new ReceiverProxy[receiverAgents];
+            receiverProxies[0] = receiverProxy;
+            for (int i = 1; i < receiverAgents; i++)
+            {
+                receiverProxies[i] = new ReceiverProxy(
+                    new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY), systemCounters.get(RECEIVER_PROXY_FAILS));
+            }
+
+            if (senderAgents > 1)
+            {
+                senderAgentCachedNanoClocks = new CachedNanoClock[senderAgents];
+                senderAgentCachedNanoClocks[0] = senderCachedNanoClock;
+                for (int i = 1; i < senderAgents; i++)
+                {
+                    senderAgentCachedNanoClocks[i] = new CachedNanoClock();
+                }
+            }
+
+            if (receiverAgents > 1)
+            {
+                receiverAgentCachedNanoClocks = new CachedNanoClock[receiverAgents];
+                receiverAgentCachedNanoClocks[0] = receiverCachedNanoClock;
+                for (int i = 1; i < receiverAgents; i++)
+                {
+                    receiverAgentCachedNanoClocks[i] = new CachedNanoClock();
+                }
+
+                receiverAgentThreadLocals = new ReceiveChannelEndpointThreadLocals[receiverAgents];
+                receiverAgentThreadLocals[0] = receiveChannelEndpointThreadLocals;
+                for (int i = 1; i < receiverAgents; i++)
+                {
+                    receiverAgentThreadLocals[i] = new ReceiveChannelEndpointThreadLocals();
+                }
+            }
+        }
+
         private void concludeIdleStrategies()
         {
             final StatusIndicator indicator = new UnsafeBufferStatusIndicator(
@@ -4657,6 +5306,7 @@ public final class MediaDriver implements AutoCloseable
                     break;
 
                 case DEDICATED:
+                case DEDICATED_SHARDED:
                     if (null == conductorThreadFactory)
                     {
                         conductorThreadFactory = Thread::new;
@@ -4718,6 +5368,10 @@ public final class MediaDriver implements AutoCloseable
                 "\n    dirDeleteOnShutdown=" + dirDeleteOnShutdown +
                 "\n    termBufferSparseFile=" + termBufferSparseFile +
                 "\n    performStorageChecks=" + performStorageChecks +
+                "\n    logBufferHugePageDir=" + logBufferHugePageDir +
+                "\n    logBufferHugePageSize=" + logBufferHugePageSize +
+                "\n    logBufferPreTouch=" + logBufferPreTouch +
+                "\n    logBufferPoolCapacity=" + logBufferPoolCapacity +
                 "\n    spiesSimulateConnection=" + spiesSimulateConnection +
                 "\n    reliableStream=" + reliableStream +
                 "\n    tetherSubscriptions=" + tetherSubscriptions +
@@ -4839,6 +5493,12 @@ public final class MediaDriver implements AutoCloseable
                 "\n    receiverPortManager=" + receiverPortManager +
                 "\n    resourceFreeLimit=" + resourceFreeLimit +
                 "\n    maxResend=" + maxResend +
+                "\n    receiverIoVectorCapacity=" + receiverIoVectorCapacity +
+                "\n    senderBatchCapacity=" + senderBatchCapacity +
+                "\n    transportPollerIterationThreshold=" + transportPollerIterationThreshold +
+                "\n    receiverTransportDatagramBudget=" + receiverTransportDatagramBudget +
+                "\n    senderAgentCount=" + senderAgentCount +
+                "\n    receiverAgentCount=" + receiverAgentCount +
                 "\n}";
         }
     }
@@ -112,6 +112,7 @@ final class NativeResourceAgent implements Agent
         workCount += nameResolver.doWork();
         workCount += runTasks();
         workCount += freeEndOfLifeResources();
+        workCount += logFactory.doWork();
 
         return workCount;
     }
@@ -399,7 +400,7 @@ final class NativeResourceAgent implements Agent
         initialTermId(logMetaData, initialTermId);
         mtuLength(logMetaData, mtuLength);
         termLength(logMetaData, rawLog.termLength());
-        pageSize(logMetaData, ctx.filePageSize());
+        pageSize(logMetaData, ctx.logBufferPageSize());
 
         publicationWindowLength(logMetaData, publicationWindowLength);
         receiverWindowLength(logMetaData, receiverWindowLength);
@@ -18,6 +18,7 @@ package io.aeron.driver;
 import io.aeron.Aeron;
 import io.aeron.CommonContext;
 import io.aeron.driver.buffer.RawLog;
+import io.aeron.driver.media.DatagramCompressor;
 import io.aeron.driver.media.SendChannelEndpoint;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.FrameDescriptor;
@@ -44,9 +45,13 @@ import java.util.ArrayList;
 
 import static io.aeron.driver.Configuration.PUBLICATION_HEARTBEAT_TIMEOUT_NS;
 import static io.aeron.driver.Configuration.PUBLICATION_SETUP_TIMEOUT_NS;
+import static io.aeron.driver.status.SystemCounterDescriptor.COMPRESSION_COMPRESSED_BYTES;
+import static io.aeron.driver.status.SystemCounterDescriptor.COMPRESSION_TIME;
+import static io.aeron.driver.status.SystemCounterDescriptor.COMPRESSION_UNCOMPRESSED_BYTES;
 import static io.aeron.driver.status.SystemCounterDescriptor.HEARTBEATS_SENT;
 import static io.aeron.driver.status.SystemCounterDescriptor.RETRANSMITS_SENT;
 import static io.aeron.driver.status.SystemCounterDescriptor.RETRANSMITTED_BYTES;
+import static io.aeron.driver.status.SystemCounterDescriptor.SENDER_AVERAGE_BATCH_SIZE;
 import static io.aeron.driver.status.SystemCounterDescriptor.SENDER_FLOW_CONTROL_LIMITS;
 import static io.aeron.driver.status.SystemCounterDescriptor.SHORT_SENDS;
 import static io.aeron.driver.status.SystemCounterDescriptor.UNBLOCKED_PUBLICATIONS;
@@ -105,6 +110,8 @@ class NetworkPublicationSenderFields extends NetworkPublicationPadding2
     boolean trackSenderLimits = false;
     boolean isSetupElicited = false;
     boolean hasInitialConnection = false;
+    boolean isCompressionAcknowledged = false;
+    boolean isCompressionRejected = false;
     byte extraPaddingByteForAlignment;
     InetSocketAddress endpointAddress;
 }
@@ -164,6 +171,10 @@ public final class NetworkPublication
     private final FlowControl flowControl;
     private final UnsafeBuffer[] termBuffers;
     private final ByteBuffer[] sendBuffers;
+    private final ByteBuffer[][] sendBatchBuffers;
+    private final int[] sendBatchLengths;
+    private final DatagramCompressor compressor;
+    private final NetworkPublicationThreadLocals threadLocals;
     private final ErrorHandler errorHandler;
     private final Position publisherPos;
     private final Position publisherLimit;
@@ -189,6 +200,7 @@ public final class NetworkPublication
     private final AtomicCounter shortSends;
     private final AtomicCounter unblockedPublications;
     private final AtomicCounter publicationsRevoked;
+    private final AtomicCounter senderAverageBatchSize;
     private final ReceiverLivenessTracker livenessTracker = new ReceiverLivenessTracker();
 
     NetworkPublication(
@@ -222,7 +234,7 @@ public final class NetworkPublication
         this.tag = params.entityTag;
         this.channelEndpoint = channelEndpoint;
         this.rawLog = rawLog;
-        this.cachedNanoClock = ctx.senderCachedNanoClock();
+        this.cachedNanoClock = ctx.senderCachedNanoClock(channelEndpoint.udpChannel());
         this.senderPosition = senderPosition;
         this.senderLimit = senderLimit;
         this.senderNaksReceived = senderNaksReceived;
@@ -242,6 +254,8 @@ public final class NetworkPublication
         this.isResponse = params.isResponse;
         this.responseCorrelationId = params.responseCorrelationId;
 
+        this.threadLocals = threadLocals;
+
         metaDataBuffer = rawLog.metaData();
         setupBuffer = threadLocals.setupBuffer();
         setupHeader = threadLocals.setupHeader();
@@ -258,6 +272,7 @@ public final class NetworkPublication
         senderFlowControlLimits = systemCounters.get(SENDER_FLOW_CONTROL_LIMITS);
         unblockedPublications = systemCounters.get(UNBLOCKED_PUBLICATIONS);
         publicationsRevoked = systemCounters.get(PUBLICATIONS_REVOKED);
+        senderAverageBatchSize = systemCounters.get(SENDER_AVERAGE_BATCH_SIZE);
         this.senderBpe = senderBpe;
 
         termBuffers = rawLog.termBuffers();
@@ -267,6 +282,35 @@ public final class NetworkPublication
         }
 
         sendBuffers = rawLog.sliceTerms();
+
+        final int sendBatchCapacity = ctx.senderBatchCapacity();
+        if (sendBatchCapacity > 1)
+        {
+            sendBatchBuffers = new ByteBuffer[sendBuffers.length][sendBatchCapacity];
+            for (int i = 0; i < sendBatchCapacity; i++)
+            {
+                final ByteBuffer[] termSlices = rawLog.sliceTerms();
+                for (int termIndex = 0; termIndex < termSlices.length; termIndex++)
+                {
+                    sendBatchBuffers[termIndex][i] = termSlices[termIndex];
+                }
+            }
+            sendBatchLengths = new int[sendBatchCapacity];
+        }
+        else
+        {
+            sendBatchBuffers = null;
+            sendBatchLengths = null;
+        }
+
+        compressor = null == params.compression ? null : new DatagramCompressor(
+            params.compression,
+            mtuLength,
+            sendBatchCapacity,
+            systemCounters.get(COMPRESSION_UNCOMPRESSED_BYTES),
+            systemCounters.get(COMPRESSION_COMPRESSED_BYTES),
+            systemCounters.get(COMPRESSION_TIME));
+
         errorHandler = ctx.countedErrorHandler();
 
         final int termLength = rawLog.termLength();
@@ -308,6 +352,7 @@ public final class NetworkPublication
         }
 
         CloseHelper.close(flowControl);
+        CloseHelper.close(compressor);
     }
 
     /**
@@ -362,6 +407,7 @@ public final class NetworkPublication
         {
             timeOfLastStatusMessageNs = cachedNanoClock.nanoTime();
             isSetupElicited = true;
+            onCompressionCapability(msg.flags());
             flowControl.onTriggerSendSetup(msg, srcAddress, timeOfLastStatusMessageNs);
 
             if (isResponse)
@@ -465,6 +511,7 @@ public final class NetworkPublication
         else
         {
             livenessTracker.onStatusMessage(msg.receiverId(), timeNs);
+            onCompressionCapability(msg.flags());
         }
 
         final boolean isLive = livenessTracker.hasReceivers();
@@ -595,6 +642,67 @@ public final class NetworkPublication
         }
     }
 
+    private void onCompressionCapability(final short flags)
+    {
+        if (null != compressor && !isCompressionRejected)
+        {
+            if (0 != (flags & StatusMessageFlyweight.COMPRESSION_FLAG))
+            {
+                isCompressionAcknowledged = true;
+            }
+            else
+            {
+                isCompressionAcknowledged = false;
+                isCompressionRejected = true;
+            }
+        }
+    }
+
+    private boolean isCompressing()
+    {
+        return isCompressionAcknowledged && !isCompressionRejected;
+    }
+
+    private boolean sendDatagram(final ByteBuffer datagram)
+    {
+        final ByteBuffer message = isCompressing() ? compressor.compress(datagram) : datagram;
+        final int length = message.remaining();
+
+        return length == doSend(message);
+    }
+
+    private int sendDatagrams(final ByteBuffer[] datagrams, final int count)
+    {
+        return doSend(isCompressing() ? compressor.compress(datagrams, count) : datagrams, count);
+    }
+
+    private int doSend(final ByteBuffer[] messages, final int count)
+    {
+        if (isResponse)
+        {
+            int datagramsSent = 0;
+            if (null != endpointAddress)
+            {
+                while (datagramsSent < count)
+                {
+                    final ByteBuffer message = messages[datagramsSent];
+                    if (message.remaining() != channelEndpoint.send(message, endpointAddress))
+                    {
+                        break;
+                    }
+
+                    datagramsSent++;
+                }
+            }
+
+            return datagramsSent;
+        }
+        else
+        {
+            return channelEndpoint.send(messages, count);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -630,7 +738,7 @@ public final class NetworkPublication
 
                 sendBuffer.limit(offset + available).position(offset);
 
-                if (available != doSend(sendBuffer))
+                if (!sendDatagram(sendBuffer))
                 {
                     shortSends.increment();
                     break;
@@ -644,8 +752,8 @@ public final class NetworkPublication
 
             if (totalBytesSent > 0)
             {
-                retransmitsSent.incrementRelease();
-                retransmittedBytes.getAndAddRelease(totalBytesSent);
+                retransmitsSent.increment();
+                retransmittedBytes.getAndAdd(totalBytesSent);
             }
         }
     }
@@ -827,7 +935,11 @@ public final class NetworkPublication
     {
         int bytesSent = 0;
         final long availableWindow = senderLimit.get() - senderPosition;
-        if (availableWindow > 0)
+        if (availableWindow > 0 && null != sendBatchBuffers)
+        {
+            bytesSent = sendDataBatch(nowNs, senderPosition, termOffset, availableWindow);
+        }
+        else if (availableWindow > 0)
         {
             final int scanLimit = (int)Math.min(availableWindow, mtuLength);
             final int activeIndex = indexByPosition(senderPosition, positionBitsToShift);
@@ -839,7 +951,7 @@ public final class NetworkPublication
                 final ByteBuffer sendBuffer = sendBuffers[activeIndex];
                 sendBuffer.limit(termOffset + available).position(termOffset);
 
-                if (available == doSend(sendBuffer))
+                if (sendDatagram(sendBuffer))
                 {
                     timeOfLastDataOrHeartbeatNs = nowNs;
                     trackSenderLimits = true;
@@ -858,7 +970,7 @@ public final class NetworkPublication
                 {
                     trackSenderLimits = false;
                     senderBpe.incrementRelease();
-                    senderFlowControlLimits.incrementRelease();
+                    senderFlowControlLimits.increment();
                 }
             }
         }
@@ -866,7 +978,69 @@ public final class NetworkPublication
         {
             trackSenderLimits = false;
             senderBpe.incrementRelease();
-            senderFlowControlLimits.incrementRelease();
+            senderFlowControlLimits.increment();
+        }
+
+        return bytesSent;
+    }
+
+    private int sendDataBatch(
+        final long nowNs, final long senderPosition, final int termOffset, final long availableWindow)
+    {
+        final int activeIndex = indexByPosition(senderPosition, positionBitsToShift);
+        final UnsafeBuffer termBuffer = termBuffers[activeIndex];
+        final ByteBuffer[] batchBuffers = sendBatchBuffers[activeIndex];
+        final int[] batchLengths = sendBatchLengths;
+
+        long remainingWindow = availableWindow;
+        int offset = termOffset;
+        int datagramCount = 0;
+        int available = 0;
+
+        while (datagramCount < batchBuffers.length && remainingWindow > 0 && offset < termBufferLength)
+        {
+            final long scanOutcome = scanForAvailability(termBuffer, offset, (int)Math.min(remainingWindow, mtuLength));
+            available = available(scanOutcome);
+            if (available <= 0)
+            {
+                break;
+            }
+
+            final int length = available + padding(scanOutcome);
+            batchBuffers[datagramCount].limit(offset + available).position(offset);
+            batchLengths[datagramCount++] = length;
+            offset += length;
+            remainingWindow -= length;
+        }
+
+        int bytesSent = 0;
+        if (datagramCount > 0)
+        {
+            final int datagramsSent = sendDatagrams(batchBuffers, datagramCount);
+            for (int i = 0; i < datagramsSent; i++)
+            {
+                bytesSent += batchLengths[i];
+            }
+
+            if (datagramsSent > 0)
+            {
+                timeOfLastDataOrHeartbeatNs = nowNs;
+                trackSenderLimits = true;
+
+                this.senderPosition.setRelease(senderPosition + bytesSent);
+                senderAverageBatchSize.setRelease(threadLocals.onSendBatch(datagramsSent));
+            }
+
+            if (datagramsSent < datagramCount)
+            {
+                shortSends.increment();
+            }
+        }
+        else if (available < 0 && trackSenderLimits)
+        {
+            trackSenderLimits = false;
+            senderBpe.incrementRelease();
+            senderFlowControlLimits.increment();
         }
 
         return bytesSent;
@@ -880,7 +1054,8 @@ public final class NetworkPublication
 
             final int flags =
                 (isSendResponseSetupFlag() ? SetupFlyweight.SEND_RESPONSE_SETUP_FLAG : 0) |
-                (hasGroupSemantics() ? SetupFlyweight.GROUP_FLAG : 0);
+                (hasGroupSemantics() ? SetupFlyweight.GROUP_FLAG : 0) |
+                (null != compressor && !isCompressionRejected ? SetupFlyweight.COMPRESSION_FLAG : 0);
 
             setupBuffer.clear();
             setupHeader
@@ -948,7 +1123,7 @@ public final class NetworkPublication
             }
 
             timeOfLastDataOrHeartbeatNs = nowNs;
-            heartbeatsSent.incrementRelease();
+            heartbeatsSent.increment();
         }
 
         return bytesSent;
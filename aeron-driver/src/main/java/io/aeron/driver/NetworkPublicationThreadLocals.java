@@ -33,6 +33,8 @@ final class NetworkPublicationThreadLocals
     private final SetupFlyweight setupHeader;
     private final ByteBuffer rttMeasurementBuffer;
     private final RttMeasurementFlyweight rttMeasurementHeader;
+    private long sendBatches;
+    private long sendBatchDatagrams;
 
     NetworkPublicationThreadLocals()
     {
@@ -98,4 +100,12 @@ final class NetworkPublicationThreadLocals
     {
         return rttMeasurementHeader;
     }
+
+    long onSendBatch(final int datagramCount)
+    {
+        sendBatches++;
+        sendBatchDatagrams += datagramCount;
+
+        return sendBatchDatagrams / sendBatches;
+    }
 }
@@ -24,7 +24,9 @@ import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.TermRebuilder;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.HeaderFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
+import io.aeron.protocol.SetupFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
 import org.agrona.CloseHelper;
 import org.agrona.ErrorHandler;
@@ -41,10 +43,12 @@ import org.agrona.concurrent.status.ReadablePosition;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 
 import static io.aeron.ErrorCode.IMAGE_REJECTED;
+import static io.aeron.driver.Configuration.MAX_UDP_PAYLOAD_LENGTH;
 import static io.aeron.driver.LossDetector.lossFound;
 import static io.aeron.driver.LossDetector.rebuildOffset;
 import static io.aeron.driver.status.SystemCounterDescriptor.FLOW_CONTROL_OVER_RUNS;
@@ -61,6 +65,7 @@ import static io.aeron.logbuffer.LogBufferDescriptor.indexByPosition;
 import static io.aeron.logbuffer.LogBufferDescriptor.indexByTerm;
 import static io.aeron.logbuffer.LogBufferDescriptor.isPublicationRevoked;
 import static io.aeron.logbuffer.TermGapFiller.tryFillGap;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
 import static io.aeron.protocol.SetupFlyweight.SEND_RESPONSE_SETUP_FLAG;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
 
@@ -100,6 +105,9 @@ class PublicationImageReceiverFields extends PublicationImagePadding2
     long timeOfLastPacketNs;
     ImageConnection[] imageConnections = new ImageConnection[1];
     String rejectionReason = null;
+    int directReceiveTermId;
+    int directReceiveTermOffset;
+    int directReceiveIndex;
 }
 
 class PublicationImagePadding3 extends PublicationImageReceiverFields
@@ -194,6 +202,7 @@ public final class PublicationImage
     private final CachedNanoClock cachedNanoClock;
     private final ReceiveChannelEndpoint channelEndpoint;
     private final UnsafeBuffer[] termBuffers;
+    private final ByteBuffer[] termByteBuffers;
     private final Position hwmPosition;
     private final LossDetector lossDetector;
     private final CongestionControl congestionControl;
@@ -259,7 +268,7 @@ public final class PublicationImage
 
         this.nanoClock = ctx.nanoClock();
         this.epochClock = ctx.epochClock();
-        this.cachedNanoClock = ctx.receiverCachedNanoClock();
+        this.cachedNanoClock = ctx.receiverCachedNanoClock(channelEndpoint.udpChannel());
 
         final long nowNs = cachedNanoClock.nanoTime();
         this.timeOfLastStateChangeNs = nowNs;
@@ -281,6 +290,7 @@ public final class PublicationImage
         imageConnections[transportIndex] = new ImageConnection(nowNs, controlAddress);
 
         termBuffers = rawLog.termBuffers();
+        termByteBuffers = channelEndpoint.isReceiveZeroCopy() ? rawLog.sliceTerms() : null;
         lossDetector = new LossDetector(lossFeedbackDelayGenerator, this);
 
         final int termLength = rawLog.termLength();
@@ -468,6 +478,21 @@ public final class PublicationImage
         channelEndpoint.dispatcher().removePublicationImage(this);
     }
 
+    /**
+     * Control address for the source of this image on a transport. Called from the {@link Receiver} thread.
+     *
+     * @param transportIndex of the transport.
+     * @return control address for the source or null if the image has no connection on the transport.
+     */
+    InetSocketAddress controlAddress(final int transportIndex)
+    {
+        final ImageConnection[] imageConnections = this.imageConnections;
+        final ImageConnection imageConnection = transportIndex < imageConnections.length ?
+            imageConnections[transportIndex] : null;
+
+        return null != imageConnection ? imageConnection.controlAddress : null;
+    }
+
     /**
      * Get the {@link RawLog} the back this image.
      *
@@ -666,11 +691,11 @@ public final class PublicationImage
                     }
 
                     hwmPosition.proposeMaxRelease(proposedPosition);
-                    heartbeatsReceived.incrementRelease();
+                    heartbeatsReceived.increment();
                 }
                 else
                 {
-                    flowControlUnderRuns.incrementRelease();
+                    flowControlUnderRuns.increment();
                 }
             }
             else if (!isFlowControlUnderRun(packetPosition))
@@ -693,6 +718,112 @@ public final class PublicationImage
         return length;
     }
 
+    /**
+     * Prepare the term buffer at the high-water mark so the payload of the next in-order packet can be received
+     * directly into it after the header. The whole of a maximum length datagram must fit within both the term and
+     * the flow control window so a packet which turns out not to be the next in-order packet can be rolled back.
+     * Called from the {@link Receiver} thread.
+     *
+     * @return the term buffer positioned for the payload of the next in-order packet or null if not possible.
+     */
+    ByteBuffer directReceiveBuffer()
+    {
+        if (null == termByteBuffers || State.ACTIVE != state || null != rejectionReason || isEndOfStream)
+        {
+            return null;
+        }
+
+        final long position = hwmPosition.get();
+        final int termOffset = (int)position & termLengthMask;
+        if (termOffset + MAX_UDP_PAYLOAD_LENGTH > termLengthMask + 1 ||
+            position + MAX_UDP_PAYLOAD_LENGTH > lastOverrunThreshold)
+        {
+            return null;
+        }
+
+        directReceiveTermId = computeTermIdFromPosition(position, positionBitsToShift, initialTermId);
+        directReceiveTermOffset = termOffset;
+        directReceiveIndex = indexByPosition(position, positionBitsToShift);
+
+        final ByteBuffer termByteBuffer = termByteBuffers[directReceiveIndex];
+        termByteBuffer.clear().limit(termOffset + MAX_UDP_PAYLOAD_LENGTH).position(termOffset + HEADER_LENGTH);
+
+        return termByteBuffer;
+    }
+
+    /**
+     * Is the header of a packet received via {@link #directReceiveBuffer()} for the next in-order packet of this image.
+     *
+     * @param header of the first frame in the packet.
+     * @param length of the packet.
+     * @return true if the packet is the next in-order packet and has been received in place.
+     */
+    boolean isDirectReceivePacket(final DataHeaderFlyweight header, final int length)
+    {
+        return length > HEADER_LENGTH &&
+            HeaderFlyweight.CURRENT_VERSION == header.version() &&
+            HeaderFlyweight.HDR_TYPE_DATA == header.headerType() &&
+            header.frameLength() > 0 &&
+            0 == (header.flags() & DataHeaderFlyweight.COMPRESSED_FLAG) &&
+            header.sessionId() == sessionId &&
+            header.streamId() == streamId &&
+            header.termId() == directReceiveTermId &&
+            header.termOffset() == directReceiveTermOffset;
+    }
+
+    /**
+     * Roll back a packet received via {@link #directReceiveBuffer()} which was not the next in-order packet by
+     * copying its payload into the receive buffer after the header and zeroing the term buffer again.
+     *
+     * @param buffer into which the header was received.
+     * @param length of the packet.
+     */
+    void abortDirectReceive(final UnsafeBuffer buffer, final int length)
+    {
+        final int payloadLength = length - HEADER_LENGTH;
+        if (payloadLength > 0)
+        {
+            final UnsafeBuffer termBuffer = termBuffers[directReceiveIndex];
+            final int payloadOffset = directReceiveTermOffset + HEADER_LENGTH;
+
+            buffer.putBytes(HEADER_LENGTH, termBuffer, payloadOffset, payloadLength);
+            termBuffer.setMemory(payloadOffset, payloadLength, (byte)0);
+        }
+    }
+
+    /**
+     * Complete the insertion of the next in-order packet whose payload has been received directly into the term
+     * buffer via {@link #directReceiveBuffer()} by inserting its header.
+     *
+     * @param buffer         containing the header of the first frame in the packet.
+     * @param length         of the packet.
+     * @param transportIndex on which the packet was received.
+     * @param srcAddress     from which the packet was received.
+     * @return number of bytes applied as a result of this action.
+     */
+    int insertDirectPacket(
+        final UnsafeBuffer buffer, final int length, final int transportIndex, final InetSocketAddress srcAddress)
+    {
+        final UnsafeBuffer termBuffer = termBuffers[directReceiveIndex];
+        final int termOffset = directReceiveTermOffset;
+
+        if (null != rejectionReason)
+        {
+            termBuffer.setMemory(termOffset + HEADER_LENGTH, length - HEADER_LENGTH, (byte)0);
+            return 0;
+        }
+
+        final long nowNs = cachedNanoClock.nanoTime();
+        timeOfLastPacketNs = nowNs;
+        trackConnection(transportIndex, srcAddress, nowNs);
+
+        TermRebuilder.insertHeader(termBuffer, termOffset, buffer);
+        hwmPosition.proposeMaxRelease(
+            computePosition(directReceiveTermId, termOffset, positionBitsToShift, initialTermId) + length);
+
+        return length;
+    }
+
     private static void logRevoke(
         final long revokedPos,
         final int sessionId,
@@ -782,12 +913,13 @@ public final class PublicationImage
                 final int termId = computeTermIdFromPosition(smPosition, positionBitsToShift, initialTermId);
                 final int termOffset = (int)smPosition & termLengthMask;
                 final int termLength = termLengthMask + 1;
-                final short flags = isSendingEosSm ? StatusMessageFlyweight.END_OF_STREAM_FLAG : 0;
+                final short flags = (short)((isSendingEosSm ? StatusMessageFlyweight.END_OF_STREAM_FLAG : 0) |
+                    (hasCompressionSetup() ? StatusMessageFlyweight.COMPRESSION_FLAG : 0));
 
                 channelEndpoint.sendStatusMessage(
                     imageConnections, sessionId, streamId, termId, termOffset, receiverWindowLength, flags);
 
-                statusMessagesSent.incrementRelease();
+                statusMessagesSent.increment();
 
                 lastSmPosition = smPosition;
                 lastOverrunThreshold = smPosition + (termLength >> 1);
@@ -832,7 +964,7 @@ public final class PublicationImage
                 {
                     channelEndpoint.sendNakMessage(imageConnections, sessionId, streamId, termId, termOffset, length);
                     // FIXME: Increment only if sent successfully
-                    nakMessagesSent.incrementRelease();
+                    nakMessagesSent.increment();
                     receiverNaksSent.incrementRelease();
                 }
                 else
@@ -840,7 +972,7 @@ public final class PublicationImage
                     final UnsafeBuffer termBuffer = termBuffers[indexByTerm(initialTermId, termId)];
                     if (tryFillGap(rawLog.metaData(), termBuffer, termId, termOffset, length))
                     {
-                        lossGapFills.incrementRelease();
+                        lossGapFills.increment();
                     }
                 }
 
@@ -919,6 +1051,11 @@ public final class PublicationImage
         return 0 != (SEND_RESPONSE_SETUP_FLAG & flags);
     }
 
+    private boolean hasCompressionSetup()
+    {
+        return 0 != (SetupFlyweight.COMPRESSION_FLAG & flags);
+    }
+
     void responseSessionId(final Integer responseSessionId)
     {
         this.responseSessionId = responseSessionId;
@@ -1055,7 +1192,7 @@ public final class PublicationImage
 
         if (isFlowControlUnderRun)
         {
-            flowControlUnderRuns.incrementRelease();
+            flowControlUnderRuns.increment();
         }
 
         return isFlowControlUnderRun;
@@ -1067,7 +1204,7 @@ public final class PublicationImage
 
         if (isFlowControlOverRun)
         {
-            flowControlOverRuns.incrementRelease();
+            flowControlOverRuns.increment();
         }
 
         return isFlowControlOverRun;
@@ -19,12 +19,14 @@ import io.aeron.Aeron;
 import io.aeron.ChannelUri;
 import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.exceptions.InvalidChannelException;
+import io.aeron.driver.media.DatagramCompressor;
 import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import org.agrona.BitUtil;
 import org.agrona.SystemUtil;
 
 import static io.aeron.ChannelUri.INVALID_TAG;
+import static io.aeron.CommonContext.COMPRESSION_PARAM_NAME;
 import static io.aeron.CommonContext.CONTROL_MODE_RESPONSE;
 import static io.aeron.CommonContext.EOS_PARAM_NAME;
 import static io.aeron.CommonContext.INITIAL_TERM_ID_PARAM_NAME;
@@ -56,6 +58,7 @@ final class PublicationParams
     long untetheredLingerTimeoutNs;
     long untetheredRestingTimeoutNs;
     long responseCorrelationId = Aeron.NULL_VALUE;
+    String compression;
     int termLength;
     int mtuLength;
     int publicationWindowLength;
@@ -98,6 +101,7 @@ final class PublicationParams
         params.getUntetheredLingerTimeout(channelUri, ctx);
         params.getUntetheredRestingTimeout(channelUri, ctx);
         params.getMaxResend(channelUri, ctx);
+        params.getCompression(channelUri);
 
         int count = 0;
 
@@ -490,6 +494,28 @@ final class PublicationParams
         spiesSimulateConnection = null != sscStr ? "true".equals(sscStr) : ctx.spiesSimulateConnection();
     }
 
+    private void getCompression(final ChannelUri channelUri)
+    {
+        compression = channelUri.get(COMPRESSION_PARAM_NAME);
+        if (null != compression)
+        {
+            if (channelUri.isIpc())
+            {
+                throw new InvalidChannelException(
+                    COMPRESSION_PARAM_NAME + " is only supported for network publications: channel=" + channelUri);
+            }
+
+            try
+            {
+                DatagramCompressor.compressionLevel(compression);
+            }
+            catch (final IllegalArgumentException ex)
+            {
+                throw new InvalidChannelException(ex.getMessage() + " channel=" + channelUri);
+            }
+        }
+    }
+
     private long getTimeoutNs(final ChannelUri channelUri, final String paramName, final long defaultValue)
     {
         final String timeoutString = channelUri.get(paramName);
@@ -645,6 +671,7 @@ final class PublicationParams
             ", spiesSimulateConnection=" + spiesSimulateConnection +
             ", maxResend=" + maxResend +
             ", publicationWindowLength=" + publicationWindowLength +
+            ", compression=" + compression +
             '}';
     }
 }
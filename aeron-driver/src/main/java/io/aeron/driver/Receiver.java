@@ -54,18 +54,39 @@ public final class Receiver implements Agent
     private final ArrayList<PendingSetupMessageFromSource> pendingSetupMessages = new ArrayList<>();
     private final DriverConductorProxy conductorProxy;
     private final DutyCycleTracker dutyCycleTracker;
+    private final String roleName;
+    private final boolean hasPeerReceivers;
 
     Receiver(final MediaDriver.Context ctx)
     {
-        dataTransportPoller = ctx.dataTransportPoller();
-        commandQueue = ctx.receiverCommandQueue();
+        this(
+            ctx,
+            "receiver",
+            ctx.receiverCommandQueue(),
+            ctx.dataTransportPoller(),
+            ctx.receiverCachedNanoClock(),
+            ctx.receiverDutyCycleTracker());
+    }
+
+    Receiver(
+        final MediaDriver.Context ctx,
+        final String roleName,
+        final OneToOneConcurrentArrayQueue<Runnable> commandQueue,
+        final DataTransportPoller dataTransportPoller,
+        final CachedNanoClock cachedNanoClock,
+        final DutyCycleTracker dutyCycleTracker)
+    {
+        this.roleName = roleName;
+        this.dataTransportPoller = dataTransportPoller;
+        this.commandQueue = commandQueue;
         totalBytesReceived = ctx.systemCounters().get(BYTES_RECEIVED);
         resolutionChanges = ctx.systemCounters().get(RESOLUTION_CHANGES);
         nanoClock = ctx.nanoClock();
-        cachedNanoClock = ctx.receiverCachedNanoClock();
+        this.cachedNanoClock = cachedNanoClock;
         conductorProxy = ctx.driverConductorProxy();
         reResolutionCheckIntervalNs = ctx.reResolutionCheckIntervalNs();
-        dutyCycleTracker = ctx.receiverDutyCycleTracker();
+        this.dutyCycleTracker = dutyCycleTracker;
+        hasPeerReceivers = ThreadingMode.DEDICATED_SHARDED == ctx.threadingMode() && ctx.receiverAgentCount() > 1;
     }
 
     /**
@@ -92,7 +113,7 @@ public final class Receiver implements Agent
      */
     public String roleName()
     {
-        return "receiver";
+        return roleName;
     }
 
     /**
@@ -113,7 +134,14 @@ public final class Receiver implements Agent
         }
 
         final int bytesReceived = dataTransportPoller.pollTransports();
-        totalBytesReceived.getAndAddOrdered(bytesReceived);
+        if (hasPeerReceivers)
+        {
+            totalBytesReceived.getAndAdd(bytesReceived);
+        }
+        else
+        {
+            totalBytesReceived.getAndAddOrdered(bytesReceived);
+        }
 
         final PublicationImage[] publicationImages = this.publicationImages;
         for (int lastIndex = publicationImages.length - 1, i = lastIndex; i >= 0; i--)
@@ -133,6 +161,7 @@ public final class Receiver implements Agent
                     EMPTY_IMAGES : ArrayUtil.remove(this.publicationImages, i);
                 image.removeFromDispatcher();
                 image.receiverRelease();
+                updateSourceConnection(image.channelEndpoint());
                 workCount++;
             }
         }
@@ -217,6 +246,7 @@ public final class Receiver implements Agent
         disconnectInactiveImage(channelEndpoint, image.streamId(), image.sessionId());
         publicationImages = ArrayUtil.add(publicationImages, image);
         channelEndpoint.dispatcher().addPublicationImage(image);
+        updateSourceConnection(channelEndpoint);
     }
 
     void onRegisterReceiveChannelEndpoint(final ReceiveChannelEndpoint channelEndpoint)
@@ -313,7 +343,7 @@ public final class Receiver implements Agent
                 pending.transportIndex() == transportIndex)
             {
                 pending.controlAddress(newAddress);
-                resolutionChanges.getAndAddRelease(1);
+                resolutionChanges.increment();
             }
         }
 
@@ -359,6 +389,34 @@ public final class Receiver implements Agent
         return workCount;
     }
 
+    private void updateSourceConnection(final ReceiveChannelEndpoint channelEndpoint)
+    {
+        if (null != channelEndpoint && channelEndpoint.isReceiveZeroCopy())
+        {
+            channelEndpoint.disconnectFromSource();
+
+            InetSocketAddress sourceAddress = null;
+            for (final PublicationImage publicationImage : publicationImages)
+            {
+                if (publicationImage.channelEndpoint() == channelEndpoint)
+                {
+                    final InetSocketAddress controlAddress = publicationImage.controlAddress(0);
+                    if (null != sourceAddress && !sourceAddress.equals(controlAddress))
+                    {
+                        return;
+                    }
+
+                    sourceAddress = controlAddress;
+                }
+            }
+
+            if (null != sourceAddress)
+            {
+                channelEndpoint.connectToSource(sourceAddress);
+            }
+        }
+    }
+
     void disconnectInactiveImage(
         final ReceiveChannelEndpoint channelEndpoint,
         final int streamId,
@@ -73,21 +73,42 @@ public final class Sender extends SenderRhsPadding implements Agent
     private final CachedNanoClock cachedNanoClock;
     private final DriverConductorProxy conductorProxy;
     private final DutyCycleTracker dutyCycleTracker;
+    private final String roleName;
+    private final boolean hasPeerSenders;
 
     Sender(final MediaDriver.Context ctx)
     {
-        controlTransportPoller = ctx.controlTransportPoller();
-        commandQueue = ctx.senderCommandQueue();
+        this(
+            ctx,
+            "sender",
+            ctx.senderCommandQueue(),
+            ctx.controlTransportPoller(),
+            ctx.senderCachedNanoClock(),
+            ctx.senderDutyCycleTracker());
+    }
+
+    Sender(
+        final MediaDriver.Context ctx,
+        final String roleName,
+        final OneToOneConcurrentArrayQueue<Runnable> commandQueue,
+        final ControlTransportPoller controlTransportPoller,
+        final CachedNanoClock cachedNanoClock,
+        final DutyCycleTracker dutyCycleTracker)
+    {
+        this.roleName = roleName;
+        this.controlTransportPoller = controlTransportPoller;
+        this.commandQueue = commandQueue;
         totalBytesSent = ctx.systemCounters().get(BYTES_SENT);
         resolutionChanges = ctx.systemCounters().get(RESOLUTION_CHANGES);
         shortSends = ctx.systemCounters().get(SHORT_SENDS);
         nanoClock = ctx.nanoClock();
-        cachedNanoClock = ctx.senderCachedNanoClock();
+        this.cachedNanoClock = cachedNanoClock;
         statusMessageReadTimeoutNs = ctx.statusMessageTimeoutNs() >> 1;
         reResolutionCheckIntervalNs = ctx.reResolutionCheckIntervalNs();
         dutyCycleRatio = ctx.sendToStatusMessagePollRatio();
         conductorProxy = ctx.driverConductorProxy();
-        dutyCycleTracker = ctx.senderDutyCycleTracker();
+        this.dutyCycleTracker = dutyCycleTracker;
+        hasPeerSenders = ThreadingMode.DEDICATED_SHARDED == ctx.threadingMode() && ctx.senderAgentCount() > 1;
     }
 
     /**
@@ -156,7 +177,7 @@ public final class Sender extends SenderRhsPadding implements Agent
      */
     public String roleName()
     {
-        return "sender";
+        return roleName;
     }
 
     void onRegisterSendChannelEndpoint(final SendChannelEndpoint channelEndpoint)
@@ -207,7 +228,7 @@ public final class Sender extends SenderRhsPadding implements Agent
         final SendChannelEndpoint channelEndpoint, final String endpoint, final InetSocketAddress newAddress)
     {
         channelEndpoint.resolutionChange(endpoint, newAddress);
-        resolutionChanges.getAndAddRelease(1);
+        resolutionChanges.increment();
     }
 
     private int doSend(final long nowNs)
@@ -232,7 +253,14 @@ public final class Sender extends SenderRhsPadding implements Agent
             bytesSent += publications[i].send(nowNs);
         }
 
-        totalBytesSent.getAndAddRelease(bytesSent);
+        if (hasPeerSenders)
+        {
+            totalBytesSent.getAndAdd(bytesSent);
+        }
+        else
+        {
+            totalBytesSent.getAndAddRelease(bytesSent);
+        }
 
         return bytesSent;
     }
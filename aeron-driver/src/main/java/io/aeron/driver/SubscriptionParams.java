@@ -18,6 +18,7 @@ package io.aeron.driver;
 import io.aeron.Aeron;
 import io.aeron.ChannelUri;
 import io.aeron.CommonContext;
+import io.aeron.driver.exceptions.InvalidChannelException;
 import io.aeron.driver.media.UdpChannel;
 import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.logbuffer.LogBufferDescriptor;
@@ -49,6 +50,12 @@ final class SubscriptionParams
     {
         final SubscriptionParams params = new SubscriptionParams();
 
+        if (null != channelUri.get(COMPRESSION_PARAM_NAME))
+        {
+            throw new InvalidChannelException(
+                COMPRESSION_PARAM_NAME + " is only supported for network publications: channel=" + channelUri);
+        }
+
         final String sessionIdStr = channelUri.get(CommonContext.SESSION_ID_PARAM_NAME);
         if (null != sessionIdStr)
         {
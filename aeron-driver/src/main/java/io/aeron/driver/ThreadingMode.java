@@ -43,4 +43,15 @@ public enum ThreadingMode
      * 3 Threads, one dedicated to each of the {@link org.agrona.concurrent.Agent}s.
      */
     DEDICATED,
+
+    /**
+     * As {@link #DEDICATED} but with {@link MediaDriver.Context#senderAgentCount()} {@link Sender} and
+     * {@link MediaDriver.Context#receiverAgentCount()} {@link Receiver} agents each on their own thread.
+     * <p>
+     * Each channel endpoint is serviced by a single agent chosen by the {@code affinity-group} channel URI param or
+     * by hash of the channel when not set.
+     *
+     * @since 1.52.0
+     */
+    DEDICATED_SHARDED,
 }
@@ -17,14 +17,19 @@ package io.aeron.driver.buffer;
 
 import io.aeron.exceptions.AeronException;
 import io.aeron.exceptions.StorageSpaceException;
+import org.agrona.CloseHelper;
 import org.agrona.ErrorHandler;
 import org.agrona.IoUtil;
 import org.agrona.LangUtil;
+import org.agrona.SystemUtil;
+import org.agrona.concurrent.NanoClock;
 import org.agrona.concurrent.status.AtomicCounter;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileStore;
 import java.nio.file.Files;
 
@@ -46,6 +51,12 @@ public class FileStoreLogFactory implements LogFactory
     private final File imagesDir;
     private final FileStore fileStore;
     private final AtomicCounter mappedBytesCounter;
+    private final boolean preTouch;
+    private final NanoClock nanoClock;
+    private final AtomicCounter mappingMaxTime;
+    private final AtomicCounter mappingTotalTime;
+    private final LogBufferPool pool;
+    private final File hugePageDataDir;
 
     /**
      * Construct a {@link LogFactory} over a file store.
@@ -65,13 +76,93 @@ public class FileStoreLogFactory implements LogFactory
         final ErrorHandler errorHandler,
         final AtomicCounter mappedBytesCounter)
     {
-        this.filePageSize = filePageSize;
+        this(
+            dataDirectoryName,
+            filePageSize,
+            checkStorage,
+            lowStorageWarningThreshold,
+            errorHandler,
+            mappedBytesCounter,
+            null,
+            0,
+            false,
+            null,
+            null,
+            null,
+            0,
+            null,
+            null);
+    }
+
+    /**
+     * Construct a {@link LogFactory} over a file store which can create the log buffers on a hugetlbfs mount so they
+     * are backed by huge pages, and pre-touch them when created so page faults are not taken on first use by the
+     * sender or receiver. Log buffers can be created ahead of demand in a bounded pool so churn of short-lived
+     * publications and images does not pay for creating and mapping files when handling requests. Freed log buffers
+     * are always deleted and never reused as clients may still have them mapped.
+     * <p>
+     * When a huge page directory is provided the log buffers are created in a subdirectory of it named after the
+     * absolute path of the data directory, with a further subdirectory for the process id of this driver instance.
+     * Only one driver can be active on a data directory at a time, so any log buffers left by a previous instance for
+     * the same data directory are deleted, and those of drivers for other data directories sharing the mount are left
+     * alone. The subdirectory is deleted on {@link #close()}. Clients map log buffers by their absolute path so can
+     * find them outside the data directory.
+     *
+     * @param dataDirectoryName          where the log buffers will be created if no huge page directory is provided.
+     * @param filePageSize               of the filesystem.
+     * @param checkStorage               for sufficient space before allocating files.
+     * @param lowStorageWarningThreshold when warnings about remaining space will begin.
+     * @param errorHandler               to call when an error is encountered.
+     * @param mappedBytesCounter         used to keep track of how many bytes are mapped by the driver.
+     * @param hugePageDirectoryName      on a hugetlbfs mount where the log buffers will be created, or null if none.
+     * @param hugePageSize               of the hugetlbfs mount which log buffers are aligned to.
+     * @param preTouch                   the pages of log buffers when created even if they are sparse.
+     * @param nanoClock                  for measuring the time taken to create log buffers, may be null.
+     * @param mappingMaxTime             counter for the max time to create a log buffer, may be null.
+     * @param mappingTotalTime           counter for the total time to create log buffers, may be null.
+     * @param poolCapacity               max number of log buffers created ahead of demand, zero to disable pooling.
+     * @param poolHits                   counter for log buffers taken from the pool, may be null.
+     * @param poolMisses                 counter for log buffers created when none were pooled, may be null.
+     * @since 1.52.0
+     */
+    public FileStoreLogFactory(
+        final String dataDirectoryName,
+        final int filePageSize,
+        final boolean checkStorage,
+        final long lowStorageWarningThreshold,
+        final ErrorHandler errorHandler,
+        final AtomicCounter mappedBytesCounter,
+        final String hugePageDirectoryName,
+        final int hugePageSize,
+        final boolean preTouch,
+        final NanoClock nanoClock,
+        final AtomicCounter mappingMaxTime,
+        final AtomicCounter mappingTotalTime,
+        final int poolCapacity,
+        final AtomicCounter poolHits,
+        final AtomicCounter poolMisses)
+    {
+        this.filePageSize = null != hugePageDirectoryName ? hugePageSize : filePageSize;
         this.lowStorageWarningThreshold = lowStorageWarningThreshold;
         this.checkStorage = checkStorage;
         this.errorHandler = errorHandler;
         this.mappedBytesCounter = mappedBytesCounter;
+        this.preTouch = preTouch;
+        this.nanoClock = nanoClock;
+        this.mappingMaxTime = mappingMaxTime;
+        this.mappingTotalTime = mappingTotalTime;
 
-        final File dataDir = new File(dataDirectoryName);
+        File dataDir = new File(dataDirectoryName);
+        if (null != hugePageDirectoryName)
+        {
+            hugePageDataDir = new File(hugePageDirectoryName, hugePageSubdirectoryName(dataDir));
+            IoUtil.delete(hugePageDataDir, false);
+            dataDir = new File(hugePageDataDir, Long.toString(SystemUtil.getPid()));
+        }
+        else
+        {
+            hugePageDataDir = null;
+        }
 
         publicationsDir = new File(dataDir, PUBLICATIONS);
         imagesDir = new File(dataDir, IMAGES);
@@ -87,6 +178,17 @@ public class FileStoreLogFactory implements LogFactory
         {
             throw new UncheckedIOException(ex);
         }
+
+        pool = poolCapacity > 0 ? new LogBufferPool(
+            poolCapacity,
+            dataDir,
+            this.filePageSize,
+            preTouch,
+            errorHandler,
+            mappedBytesCounter,
+            poolHits,
+            poolMisses,
+            this::hasUsableSpace) : null;
     }
 
     /**
@@ -94,6 +196,33 @@ public class FileStoreLogFactory implements LogFactory
      */
     public void close()
     {
+        CloseHelper.close(pool);
+
+        if (null != hugePageDataDir)
+        {
+            IoUtil.delete(hugePageDataDir, true);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int doWork()
+    {
+        return null != pool ? pool.doWork() : 0;
+    }
+
+    /**
+     * Name of the subdirectory of a huge page directory in which the log buffers for a data directory are created.
+     * The absolute path of the data directory is encoded so drivers for different data directories cannot clash.
+     *
+     * @param dataDir for the driver.
+     * @return name of the subdirectory of the huge page directory for the data directory.
+     * @since 1.52.0
+     */
+    public static String hugePageSubdirectoryName(final File dataDir)
+    {
+        return URLEncoder.encode(dataDir.getAbsolutePath(), StandardCharsets.UTF_8);
     }
 
     /**
@@ -128,13 +257,41 @@ public class FileStoreLogFactory implements LogFactory
         final int termLength,
         final boolean useSparseFiles)
     {
-        final long logLength = computeLogLength(termLength, filePageSize);
-        checkStorage(logLength);
-
+        final long startNs = null != nanoClock ? nanoClock.nanoTime() : 0;
         final File location = streamLocation(rootDir, correlationId);
 
-        return new MappedRawLog(
-            location, useSparseFiles, logLength, termLength, filePageSize, errorHandler, mappedBytesCounter);
+        MappedRawLog rawLog = null != pool ? pool.acquire(location, termLength, useSparseFiles) : null;
+        if (null == rawLog)
+        {
+            final long logLength = computeLogLength(termLength, filePageSize);
+            checkStorage(logLength);
+
+            rawLog = new MappedRawLog(
+                location,
+                useSparseFiles,
+                preTouch,
+                logLength,
+                termLength,
+                filePageSize,
+                errorHandler,
+                mappedBytesCounter);
+        }
+
+        if (null != nanoClock)
+        {
+            final long durationNs = nanoClock.nanoTime() - startNs;
+            if (null != mappingMaxTime)
+            {
+                mappingMaxTime.proposeMaxRelease(durationNs);
+            }
+
+            if (null != mappingTotalTime)
+            {
+                mappingTotalTime.getAndAddRelease(durationNs);
+            }
+        }
+
+        return rawLog;
     }
 
     private void checkStorage(final long logLength)
@@ -161,6 +318,11 @@ public class FileStoreLogFactory implements LogFactory
         }
     }
 
+    private boolean hasUsableSpace(final long logLength)
+    {
+        return !checkStorage || getUsableSpace() - logLength > lowStorageWarningThreshold;
+    }
+
     private long getUsableSpace()
     {
         long usableSpace = 0;
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import io.aeron.exceptions.AeronException;
+import org.agrona.ErrorHandler;
+import org.agrona.IoUtil;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.function.LongPredicate;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.computeLogLength;
+
+/**
+ * Bounded pool of {@link MappedRawLog}s created ahead of demand so a new publication or image only requires the file
+ * of a pooled log to be moved to its location, rather than the file being created, sized, and mapped.
+ * <p>
+ * Freed logs are never returned to the pool. A client may still have a freed log mapped so reusing its file would
+ * alias that mapping with the log of a new publication or image. Each pooled log is a new file which has not been
+ * handed out before. The term lengths, and if they are sparse, to pool are learnt from the logs requested, and the
+ * pool is replenished by {@link #doWork()} outside the handling of requests. The pool is not thread safe and is
+ * expected to be used from the thread which creates and frees logs.
+ */
+final class LogBufferPool implements AutoCloseable
+{
+    private static final String POOL = "pool";
+
+    private final int capacity;
+    private final int filePageSize;
+    private final boolean preTouch;
+    private final File poolDir;
+    private final ErrorHandler errorHandler;
+    private final AtomicCounter mappedBytesCounter;
+    private final AtomicCounter hits;
+    private final AtomicCounter misses;
+    private final LongPredicate hasUsableSpace;
+    private final Long2ObjectHashMap<PooledLogs> pooledLogsByKey = new Long2ObjectHashMap<>();
+    private final ArrayList<PooledLogs> pooledLogsList = new ArrayList<>();
+    private long poolFileId;
+    private int size;
+    private int replenishIndex;
+
+    LogBufferPool(
+        final int capacity,
+        final File dataDir,
+        final int filePageSize,
+        final boolean preTouch,
+        final ErrorHandler errorHandler,
+        final AtomicCounter mappedBytesCounter,
+        final AtomicCounter hits,
+        final AtomicCounter misses,
+        final LongPredicate hasUsableSpace)
+    {
+        this.capacity = capacity;
+        this.filePageSize = filePageSize;
+        this.preTouch = preTouch;
+        this.errorHandler = errorHandler;
+        this.mappedBytesCounter = mappedBytesCounter;
+        this.hits = hits;
+        this.misses = misses;
+        this.hasUsableSpace = hasUsableSpace;
+
+        poolDir = new File(dataDir, POOL);
+        IoUtil.delete(poolDir, true);
+        IoUtil.ensureDirectoryExists(poolDir, POOL);
+    }
+
+    /**
+     * Take a log from the pool and move it to a new location. The term length and sparseness requested are pooled
+     * from then on.
+     *
+     * @param location       to which the log file should be moved.
+     * @param termLength     of the log required.
+     * @param useSparseFiles for the log required.
+     * @return the log moved to its new location or null if none is available.
+     */
+    MappedRawLog acquire(final File location, final int termLength, final boolean useSparseFiles)
+    {
+        final long key = key(termLength, useSparseFiles);
+        PooledLogs pooledLogs = pooledLogsByKey.get(key);
+        if (null == pooledLogs)
+        {
+            pooledLogs = new PooledLogs(termLength, useSparseFiles);
+            pooledLogsByKey.put(key, pooledLogs);
+            pooledLogsList.add(pooledLogs);
+        }
+
+        final MappedRawLog rawLog = pooledLogs.logs.pollFirst();
+        if (null != rawLog)
+        {
+            size--;
+            if (rawLog.moveTo(location))
+            {
+                increment(hits);
+                return rawLog;
+            }
+
+            rawLog.close();
+        }
+
+        increment(misses);
+        return null;
+    }
+
+    /**
+     * Create a new log for a term length which has fewer than its share of the pool capacity.
+     *
+     * @return 1 if a log was created otherwise 0.
+     */
+    int doWork()
+    {
+        final int pooledLogsCount = pooledLogsList.size();
+        if (size >= capacity || 0 == pooledLogsCount)
+        {
+            return 0;
+        }
+
+        final int share = Math.max(1, capacity / pooledLogsCount);
+        for (int i = 0; i < pooledLogsCount; i++)
+        {
+            final int index = (replenishIndex + i) % pooledLogsCount;
+            final PooledLogs pooledLogs = pooledLogsList.get(index);
+            if (pooledLogs.logs.size() < share)
+            {
+                replenishIndex = index + 1;
+                return replenish(pooledLogs);
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Number of logs held in the pool.
+     *
+     * @return number of logs held in the pool.
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Free all the logs held in the pool.
+     */
+    public void close()
+    {
+        for (final PooledLogs pooledLogs : pooledLogsList)
+        {
+            for (final MappedRawLog rawLog : pooledLogs.logs)
+            {
+                rawLog.close();
+            }
+            pooledLogs.logs.clear();
+        }
+
+        size = 0;
+        IoUtil.delete(poolDir, true);
+    }
+
+    private int replenish(final PooledLogs pooledLogs)
+    {
+        final long logLength = computeLogLength(pooledLogs.termLength, filePageSize);
+        if (!hasUsableSpace.test(logLength))
+        {
+            return 0;
+        }
+
+        try
+        {
+            pooledLogs.logs.addLast(new MappedRawLog(
+                new File(poolDir, (poolFileId++) + ".logbuffer"),
+                pooledLogs.useSparseFiles,
+                preTouch,
+                logLength,
+                pooledLogs.termLength,
+                filePageSize,
+                errorHandler,
+                mappedBytesCounter));
+            size++;
+        }
+        catch (final UncheckedIOException ex)
+        {
+            errorHandler.onError(new AeronException("unable to create pooled log buffer", ex));
+        }
+
+        return 1;
+    }
+
+    private static long key(final int termLength, final boolean useSparseFiles)
+    {
+        return ((long)termLength << 1) | (useSparseFiles ? 1 : 0);
+    }
+
+    private static void increment(final AtomicCounter counter)
+    {
+        if (null != counter)
+        {
+            counter.incrementRelease();
+        }
+    }
+
+    static final class PooledLogs
+    {
+        final int termLength;
+        final boolean useSparseFiles;
+        final ArrayDeque<MappedRawLog> logs = new ArrayDeque<>();
+
+        PooledLogs(final int termLength, final boolean useSparseFiles)
+        {
+            this.termLength = termLength;
+            this.useSparseFiles = useSparseFiles;
+        }
+    }
+}
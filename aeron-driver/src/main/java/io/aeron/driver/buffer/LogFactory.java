@@ -44,4 +44,16 @@ public interface LogFactory extends AutoCloseable
      * @return the newly created {@link RawLog}
      */
     RawLog newImage(long correlationId, int termBufferLength, boolean useSparseFiles);
+
+    /**
+     * Perform work in the background, such as creating log buffers ahead of demand, on the thread which creates and
+     * frees log buffers.
+     *
+     * @return the amount of work done.
+     * @since 1.52.0
+     */
+    default int doWork()
+    {
+        return 0;
+    }
 }
@@ -52,12 +52,14 @@ class MappedRawLog implements RawLog
     private final UnsafeBuffer logMetaDataBuffer;
     private final ErrorHandler errorHandler;
     private final AtomicCounter mappedBytesCounter;
+    private final boolean useSparseFiles;
     private File logFile;
     private MappedByteBuffer[] mappedBuffers;
 
     MappedRawLog(
         final File location,
         final boolean useSparseFiles,
+        final boolean preTouch,
         final long logLength,
         final int termLength,
         final int filePageSize,
@@ -65,6 +67,7 @@ class MappedRawLog implements RawLog
         final AtomicCounter mappedBytesCounter)
     {
         this.termLength = termLength;
+        this.useSparseFiles = useSparseFiles;
         this.errorHandler = errorHandler;
         this.logFile = location;
         this.logLength = logLength;
@@ -116,7 +119,7 @@ class MappedRawLog implements RawLog
                         LOG_META_DATA_LENGTH);
                 }
 
-                if (!useSparseFiles)
+                if (!useSparseFiles || preTouch)
                 {
                     preTouchPages(termBuffers, termLength, filePageSize);
                 }
@@ -177,6 +180,22 @@ class MappedRawLog implements RawLog
         }
     }
 
+    boolean isSparse()
+    {
+        return useSparseFiles;
+    }
+
+    boolean moveTo(final File location)
+    {
+        if (null != logFile && logFile.renameTo(location))
+        {
+            logFile = location;
+            return true;
+        }
+
+        return false;
+    }
+
     public UnsafeBuffer[] termBuffers()
     {
         return termBuffers;
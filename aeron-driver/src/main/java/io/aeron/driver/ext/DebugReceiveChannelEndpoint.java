@@ -121,6 +121,15 @@ public class DebugReceiveChannelEndpoint extends ReceiveChannelEndpoint
         return result;
     }
 
+    /**
+     * Zero-copy receive is not supported so that data loss can be applied to every frame before it is inserted.
+     *
+     * @param srcAddress of the source for the image.
+     */
+    public void connectToSource(final InetSocketAddress srcAddress)
+    {
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -93,6 +93,26 @@ public class DebugSendChannelEndpoint extends SendChannelEndpoint
         return count;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public int send(final ByteBuffer[] buffers, final int count)
+    {
+        int datagramsSent = 0;
+        while (datagramsSent < count)
+        {
+            final ByteBuffer buffer = buffers[datagramsSent];
+            if (buffer.remaining() != send(buffer))
+            {
+                break;
+            }
+
+            datagramsSent++;
+        }
+
+        return datagramsSent;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -72,7 +72,22 @@ public final class ControlTransportPoller extends UdpTransportPoller
      */
     public ControlTransportPoller(final ErrorHandler errorHandler, final DriverConductorProxy conductorProxy)
     {
-        super(errorHandler);
+        this(errorHandler, ITERATION_THRESHOLD, conductorProxy);
+    }
+
+    /**
+     * Construct a new {@link TransportPoller} with an {@link ErrorHandler} for logging which reads transports
+     * directly without the selector while there are no more than {@code iterationThreshold} registered.
+     *
+     * @param errorHandler       which can be used to log errors and continue.
+     * @param iterationThreshold number of transports at or below which they are read directly in a busy-poll.
+     * @param conductorProxy     to send message back to the conductor.
+     * @since 1.52.0
+     */
+    public ControlTransportPoller(
+        final ErrorHandler errorHandler, final int iterationThreshold, final DriverConductorProxy conductorProxy)
+    {
+        super(errorHandler, iterationThreshold);
         this.conductorProxy = conductorProxy;
     }
 
@@ -96,11 +111,17 @@ public final class ControlTransportPoller extends UdpTransportPoller
     {
         totalBytesReceived = 0;
 
-        if (transports.size() <= ITERATION_THRESHOLD)
+        final ArrayList<Transport> transports = this.transports;
+        final int size = transports.size();
+        if (size <= iterationThreshold)
         {
-            for (final Transport transport : transports)
+            for (int i = nextIterationStartIndex(size), n = 0; n < size; n++)
             {
-                poll(transport.sendChannelEndpoint);
+                poll(transports.get(i).sendChannelEndpoint);
+                if (++i == size)
+                {
+                    i = 0;
+                }
             }
         }
         else
@@ -175,7 +196,9 @@ public final class ControlTransportPoller extends UdpTransportPoller
      */
     public String toString()
     {
-        return "ControlTransportPoller{}";
+        return "ControlTransportPoller{" +
+            "iterationThreshold=" + iterationThreshold +
+            '}';
     }
 
     private void poll(final SendChannelEndpoint channelEndpoint)
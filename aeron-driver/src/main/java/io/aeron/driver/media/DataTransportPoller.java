@@ -25,6 +25,7 @@ import org.agrona.ErrorHandler;
 import org.agrona.LangUtil;
 import org.agrona.collections.ArrayListUtil;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.nio.TransportPoller;
 
 import java.io.IOException;
@@ -36,6 +37,7 @@ import java.util.ArrayList;
 import java.util.function.Consumer;
 
 import static io.aeron.logbuffer.FrameDescriptor.frameType;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
 import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_DATA;
 import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_PAD;
 import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_RTTM;
@@ -44,19 +46,31 @@ import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
 
 /**
  * Encapsulates the polling of data {@link UdpChannelTransport}s using whatever means provides the lowest latency.
+ * <p>
+ * Each ready transport is drained of up to the configured io vector capacity of datagrams into pre-allocated receive
+ * buffers before they are dispatched as a batch to the {@link ReceiveChannelEndpoint}. Batches are repeated until
+ * the transport is empty or its datagram budget for the poll is exhausted, after which the next transport in
+ * round-robin order is serviced.
+ * <p>
+ * When a {@link ReceiveChannelEndpoint} is connected to its source for zero-copy receive, the next datagram is
+ * speculatively received with its header in a receive buffer and its payload directly into the term buffer of the
+ * image expected to receive it. If it turns out not to be the next in-order packet for the image then it is copied
+ * back into the receive buffer and dispatched as normal.
  */
 public final class DataTransportPoller extends UdpTransportPoller
 {
-    private final ByteBuffer byteBuffer = BufferUtil.allocateDirectAligned(
-        Configuration.MAX_UDP_PAYLOAD_LENGTH, CACHE_LINE_LENGTH);
-    private final UnsafeBuffer unsafeBuffer = new UnsafeBuffer(byteBuffer);
-    private final DataHeaderFlyweight dataMessage = new DataHeaderFlyweight(unsafeBuffer);
-    private final SetupFlyweight setupMessage = new SetupFlyweight(unsafeBuffer);
-    private final RttMeasurementFlyweight rttMeasurement = new RttMeasurementFlyweight(unsafeBuffer);
+    private final ReceiveSlot[] receiveSlots;
+    private final int transportDatagramBudget;
+    private final AtomicCounter averageBatchSize;
+    private final AtomicCounter budgetExhausted;
+    private final AtomicCounter transportDrains;
     private final Consumer<SelectionKey> selectorPoller =
         (selectionKey) -> poll((ChannelAndTransport)selectionKey.attachment());
     private final ArrayList<ChannelAndTransport> channelAndTransports = new ArrayList<>();
     private int totalBytesReceived;
+    private long totalBatches;
+    private long totalDatagrams;
+    private boolean isDirectBatch;
 
     /**
      * Construct a new {@link TransportPoller} with an {@link ErrorHandler} for logging.
@@ -65,7 +79,60 @@ public final class DataTransportPoller extends UdpTransportPoller
      */
     public DataTransportPoller(final ErrorHandler errorHandler)
     {
-        super(errorHandler);
+        this(errorHandler, Configuration.RECEIVER_IO_VECTOR_CAPACITY_DEFAULT, null);
+    }
+
+    /**
+     * Construct a new {@link TransportPoller} with an {@link ErrorHandler} for logging which will drain up to
+     * {@code ioVectorCapacity} datagrams from a transport before dispatching them as a batch.
+     *
+     * @param errorHandler     which can be used to log errors and continue.
+     * @param ioVectorCapacity max number of datagrams to receive from a transport in a batch.
+     * @param averageBatchSize counter to track the average number of datagrams in a batch, may be null.
+     */
+    public DataTransportPoller(
+        final ErrorHandler errorHandler, final int ioVectorCapacity, final AtomicCounter averageBatchSize)
+    {
+        this(errorHandler, ITERATION_THRESHOLD, ioVectorCapacity, ioVectorCapacity, averageBatchSize, null, null);
+    }
+
+    /**
+     * Construct a new {@link TransportPoller} with an {@link ErrorHandler} for logging which will drain up to
+     * {@code ioVectorCapacity} datagrams from a transport before dispatching them as a batch, and up to
+     * {@code transportDatagramBudget} datagrams from each transport in a single poll so that a busy transport
+     * cannot starve the others. Transports are read directly without the selector while there are no more than
+     * {@code iterationThreshold} registered.
+     *
+     * @param errorHandler            which can be used to log errors and continue.
+     * @param iterationThreshold      number of transports at or below which they are read directly in a busy-poll.
+     * @param ioVectorCapacity        max number of datagrams to receive from a transport in a batch.
+     * @param transportDatagramBudget max number of datagrams to drain from a transport in a single poll.
+     * @param averageBatchSize        counter to track the average number of datagrams in a batch, may be null.
+     * @param budgetExhausted         counter for times a transport exhausted its datagram budget, may be null.
+     * @param transportDrains         counter for times datagrams were drained from a transport, may be null.
+     * @since 1.52.0
+     */
+    public DataTransportPoller(
+        final ErrorHandler errorHandler,
+        final int iterationThreshold,
+        final int ioVectorCapacity,
+        final int transportDatagramBudget,
+        final AtomicCounter averageBatchSize,
+        final AtomicCounter budgetExhausted,
+        final AtomicCounter transportDrains)
+    {
+        super(errorHandler, iterationThreshold);
+
+        receiveSlots = new ReceiveSlot[ioVectorCapacity];
+        for (int i = 0; i < ioVectorCapacity; i++)
+        {
+            receiveSlots[i] = new ReceiveSlot();
+        }
+
+        this.transportDatagramBudget = transportDatagramBudget;
+        this.averageBatchSize = averageBatchSize;
+        this.budgetExhausted = budgetExhausted;
+        this.transportDrains = transportDrains;
     }
 
     /**
@@ -89,11 +156,17 @@ public final class DataTransportPoller extends UdpTransportPoller
     {
         totalBytesReceived = 0;
 
-        if (channelAndTransports.size() <= ITERATION_THRESHOLD)
+        final ArrayList<ChannelAndTransport> channelAndTransports = this.channelAndTransports;
+        final int size = channelAndTransports.size();
+        if (size <= iterationThreshold)
         {
-            for (final ChannelAndTransport channelAndTransport : channelAndTransports)
+            for (int i = nextIterationStartIndex(size), n = 0; n < size; n++)
             {
-                poll(channelAndTransport);
+                poll(channelAndTransports.get(i));
+                if (++i == size)
+                {
+                    i = 0;
+                }
             }
         }
         else
@@ -200,47 +273,165 @@ public final class DataTransportPoller extends UdpTransportPoller
 
     private void poll(final ChannelAndTransport channelAndTransport)
     {
-        try
+        final ReceiveSlot[] receiveSlots = this.receiveSlots;
+        int budget = transportDatagramBudget;
+        int datagramsDrained = 0;
+
+        while (budget > 0)
         {
-            receive(channelAndTransport);
+            final int batchLimit = Math.min(budget, receiveSlots.length);
+            final int datagramCount = receive(channelAndTransport, batchLimit);
+            if (0 == datagramCount)
+            {
+                break;
+            }
+
+            for (int i = 0; i < datagramCount; i++)
+            {
+                try
+                {
+                    dispatch(channelAndTransport, receiveSlots[i]);
+                }
+                catch (final Exception ex)
+                {
+                    errorHandler.onError(ex);
+                }
+            }
+
+            updateAverageBatchSize(datagramCount);
+            datagramsDrained += datagramCount;
+            budget -= datagramCount;
+
+            if (datagramCount < batchLimit && !isDirectBatch)
+            {
+                break;
+            }
         }
-        catch (final Exception ex)
+
+        if (datagramsDrained > 0)
         {
-            errorHandler.onError(ex);
+            if (null != transportDrains)
+            {
+                transportDrains.increment();
+            }
+
+            if (0 == budget)
+            {
+                channelAndTransport.channelEndpoint.onBudgetExhausted();
+                if (null != budgetExhausted)
+                {
+                    budgetExhausted.increment();
+                }
+            }
         }
     }
 
-    private void receive(final ChannelAndTransport channelAndTransport)
+    private int receive(final ChannelAndTransport channelAndTransport, final int batchLimit)
     {
-        final InetSocketAddress srcAddress = channelAndTransport.transport.receive(byteBuffer);
+        final ReceiveSlot[] receiveSlots = this.receiveSlots;
+        final UdpChannelTransport transport = channelAndTransport.transport;
+        int datagramCount = 0;
+        isDirectBatch = false;
 
-        if (null != srcAddress)
+        try
         {
-            final int length = byteBuffer.position();
-            totalBytesReceived += length;
             final ReceiveChannelEndpoint channelEndpoint = channelAndTransport.channelEndpoint;
-
-            if (channelEndpoint.isValidFrame(unsafeBuffer, length))
+            final ByteBuffer termBuffer = transport == channelEndpoint ? channelEndpoint.directReceiveBuffer() : null;
+            if (null != termBuffer)
             {
-                channelEndpoint.receiveHook(unsafeBuffer, length, srcAddress);
-
-                final int frameType = frameType(unsafeBuffer, 0);
-                if (HDR_TYPE_DATA == frameType || HDR_TYPE_PAD == frameType)
+                final ReceiveSlot slot = receiveSlots[0];
+                final int length = channelEndpoint.receiveDirect(slot.headerByteBuffer, termBuffer);
+                if (0 == length)
                 {
-                    channelEndpoint.onDataPacket(
-                        dataMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
+                    return 0;
                 }
-                else if (HDR_TYPE_SETUP == frameType)
+
+                slot.srcAddress = channelEndpoint.connectedSourceAddress();
+                slot.length = length;
+                totalBytesReceived += length;
+                datagramCount = 1;
+
+                if (channelEndpoint.isDirectReceivePacket(slot.dataMessage, length))
                 {
-                    channelEndpoint.onSetupMessage(
-                        setupMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
+                    slot.isDirect = true;
+                    isDirectBatch = true;
+                    return datagramCount;
                 }
-                else if (HDR_TYPE_RTTM == frameType)
+
+                channelEndpoint.abortDirectReceive(slot.unsafeBuffer, length);
+            }
+
+            while (datagramCount < batchLimit)
+            {
+                final ReceiveSlot slot = receiveSlots[datagramCount];
+                final InetSocketAddress srcAddress = transport.receive(slot.byteBuffer);
+                if (null == srcAddress)
                 {
-                    channelEndpoint.onRttMeasurement(
-                        rttMeasurement, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
+                    break;
                 }
+
+                final int length = slot.byteBuffer.position();
+                slot.srcAddress = srcAddress;
+                slot.length = length;
+                totalBytesReceived += length;
+                datagramCount++;
+            }
+        }
+        catch (final Exception ex)
+        {
+            errorHandler.onError(ex);
+        }
+
+        return datagramCount;
+    }
+
+    private static void dispatch(final ChannelAndTransport channelAndTransport, final ReceiveSlot slot)
+    {
+        final ReceiveChannelEndpoint channelEndpoint = channelAndTransport.channelEndpoint;
+        final UnsafeBuffer unsafeBuffer = slot.unsafeBuffer;
+        final InetSocketAddress srcAddress = slot.srcAddress;
+        final int length = slot.length;
+        slot.srcAddress = null;
+
+        if (slot.isDirect)
+        {
+            slot.isDirect = false;
+            channelEndpoint.receiveHook(unsafeBuffer, HEADER_LENGTH, srcAddress);
+            channelEndpoint.onDirectDataPacket(
+                slot.dataMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
+        }
+        else if (channelEndpoint.isValidFrame(unsafeBuffer, length))
+        {
+            channelEndpoint.receiveHook(unsafeBuffer, length, srcAddress);
+            channelEndpoint.checkSource(srcAddress);
+
+            final int frameType = frameType(unsafeBuffer, 0);
+            if (HDR_TYPE_DATA == frameType || HDR_TYPE_PAD == frameType)
+            {
+                channelEndpoint.onDataPacket(
+                    slot.dataMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
             }
+            else if (HDR_TYPE_SETUP == frameType)
+            {
+                channelEndpoint.onSetupMessage(
+                    slot.setupMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
+            }
+            else if (HDR_TYPE_RTTM == frameType)
+            {
+                channelEndpoint.onRttMeasurement(
+                    slot.rttMeasurement, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
+            }
+        }
+    }
+
+    private void updateAverageBatchSize(final int datagramCount)
+    {
+        totalBatches++;
+        totalDatagrams += datagramCount;
+
+        if (null != averageBatchSize)
+        {
+            averageBatchSize.setRelease(totalDatagrams / totalBatches);
         }
     }
 
@@ -249,7 +440,25 @@ public final class DataTransportPoller extends UdpTransportPoller
      */
     public String toString()
     {
-        return "DataTransportPoller{}";
+        return "DataTransportPoller{" +
+            "iterationThreshold=" + iterationThreshold +
+            ", ioVectorCapacity=" + receiveSlots.length +
+            ", transportDatagramBudget=" + transportDatagramBudget +
+            '}';
+    }
+
+    static final class ReceiveSlot
+    {
+        final ByteBuffer byteBuffer = BufferUtil.allocateDirectAligned(
+            Configuration.MAX_UDP_PAYLOAD_LENGTH, CACHE_LINE_LENGTH);
+        final UnsafeBuffer unsafeBuffer = new UnsafeBuffer(byteBuffer);
+        final DataHeaderFlyweight dataMessage = new DataHeaderFlyweight(unsafeBuffer);
+        final SetupFlyweight setupMessage = new SetupFlyweight(unsafeBuffer);
+        final RttMeasurementFlyweight rttMeasurement = new RttMeasurementFlyweight(unsafeBuffer);
+        final ByteBuffer headerByteBuffer = byteBuffer.duplicate();
+        InetSocketAddress srcAddress;
+        int length;
+        boolean isDirect;
     }
 
     static class ChannelAndTransport
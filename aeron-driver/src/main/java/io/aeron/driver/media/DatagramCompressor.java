@@ -0,0 +1,195 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.media;
+
+import io.aeron.CommonContext;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
+
+import static io.aeron.protocol.DataHeaderFlyweight.COMPRESSED_FLAG;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.RESERVED_VALUE_OFFSET;
+import static io.aeron.protocol.HeaderFlyweight.FLAGS_FIELD_OFFSET;
+import static io.aeron.protocol.HeaderFlyweight.FRAME_LENGTH_FIELD_OFFSET;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+
+/**
+ * Compresses the data datagrams of a network publication which has set {@link CommonContext#COMPRESSION_PARAM_NAME}.
+ * <p>
+ * A compressed datagram is the header of the first frame in the datagram with the
+ * {@link DataHeaderFlyweight#COMPRESSED_FLAG} set, followed by the deflated frames, including their headers. The
+ * reserved value holds the uncompressed length so the receiver can inflate the datagram before it is inserted into
+ * the term. Positions, flow control, and NAKs are therefore unaffected. A datagram is only sent compressed when this
+ * results in fewer bytes on the wire.
+ * <p>
+ * <b>Note:</b> Not thread safe and expected to be used by the sender thread only.
+ */
+public final class DatagramCompressor implements AutoCloseable
+{
+    /**
+     * Datagrams shorter than this are sent uncompressed as they are unlikely to shrink by more than the added header.
+     */
+    public static final int MIN_COMPRESSION_LENGTH = 128;
+
+    private final Deflater deflater;
+    private final ByteBuffer[] compressedByteBuffers;
+    private final UnsafeBuffer[] compressedBuffers;
+    private final ByteBuffer[] datagrams;
+    private final AtomicCounter uncompressedBytes;
+    private final AtomicCounter compressedBytes;
+    private final AtomicCounter compressionTimeNs;
+
+    /**
+     * Construct a compressor for datagrams up to a maximum length.
+     *
+     * @param compression       value of {@link CommonContext#COMPRESSION_PARAM_NAME}.
+     * @param maxDatagramLength of datagrams to be compressed, i.e. the MTU.
+     * @param batchCapacity     number of datagrams which can be compressed for a single batch send.
+     * @param uncompressedBytes counter for bytes offered for compression.
+     * @param compressedBytes   counter for bytes sent for datagrams offered for compression.
+     * @param compressionTimeNs counter for time spent compressing datagrams.
+     */
+    public DatagramCompressor(
+        final String compression,
+        final int maxDatagramLength,
+        final int batchCapacity,
+        final AtomicCounter uncompressedBytes,
+        final AtomicCounter compressedBytes,
+        final AtomicCounter compressionTimeNs)
+    {
+        this.deflater = new Deflater(compressionLevel(compression), true);
+        this.uncompressedBytes = uncompressedBytes;
+        this.compressedBytes = compressedBytes;
+        this.compressionTimeNs = compressionTimeNs;
+
+        final int capacity = Math.max(1, batchCapacity);
+        compressedByteBuffers = new ByteBuffer[capacity];
+        compressedBuffers = new UnsafeBuffer[capacity];
+        datagrams = new ByteBuffer[capacity];
+        for (int i = 0; i < capacity; i++)
+        {
+            compressedByteBuffers[i] = BufferUtil.allocateDirectAligned(maxDatagramLength, CACHE_LINE_LENGTH);
+            compressedBuffers[i] = new UnsafeBuffer(compressedByteBuffers[i]);
+        }
+    }
+
+    /**
+     * Get the {@link Deflater} compression level for a {@link CommonContext#COMPRESSION_PARAM_NAME} value.
+     *
+     * @param compression value of the channel param.
+     * @return the compression level.
+     * @throws IllegalArgumentException if the compression is not supported.
+     */
+    public static int compressionLevel(final String compression)
+    {
+        switch (compression)
+        {
+            case CommonContext.COMPRESSION_DEFLATE:
+                return Deflater.DEFAULT_COMPRESSION;
+
+            case CommonContext.COMPRESSION_DEFLATE_FAST:
+                return Deflater.BEST_SPEED;
+
+            default:
+                throw new IllegalArgumentException(
+                    "unsupported " + CommonContext.COMPRESSION_PARAM_NAME + "=" + compression);
+        }
+    }
+
+    /**
+     * Compress a datagram. The position of the datagram is left unchanged.
+     *
+     * @param datagram between its position and limit.
+     * @return the compressed datagram or the original datagram if compression would not reduce its length.
+     */
+    public ByteBuffer compress(final ByteBuffer datagram)
+    {
+        return compress(datagram, 0);
+    }
+
+    /**
+     * Compress a batch of datagrams. The positions of the datagrams are left unchanged.
+     *
+     * @param datagrams to compress between their position and limit.
+     * @param count     of datagrams in the batch.
+     * @return an array of the datagrams to send which is reused by the next call.
+     */
+    public ByteBuffer[] compress(final ByteBuffer[] datagrams, final int count)
+    {
+        final ByteBuffer[] compressedDatagrams = this.datagrams;
+        for (int i = 0; i < count; i++)
+        {
+            compressedDatagrams[i] = compress(datagrams[i], i);
+        }
+
+        return compressedDatagrams;
+    }
+
+    /**
+     * Free the native resources of the compressor.
+     */
+    public void close()
+    {
+        deflater.end();
+    }
+
+    private ByteBuffer compress(final ByteBuffer datagram, final int index)
+    {
+        final int length = datagram.remaining();
+        if (length < MIN_COMPRESSION_LENGTH)
+        {
+            return datagram;
+        }
+
+        final long startNs = System.nanoTime();
+        final int position = datagram.position();
+        final ByteBuffer compressedByteBuffer = compressedByteBuffers[index];
+        compressedByteBuffer.limit(length - 1).position(HEADER_LENGTH);
+
+        deflater.setInput(datagram);
+        deflater.finish();
+        deflater.deflate(compressedByteBuffer);
+        final boolean isCompressed = deflater.finished();
+        deflater.reset();
+        datagram.position(position);
+
+        ByteBuffer result = datagram;
+        if (isCompressed)
+        {
+            final int compressedLength = compressedByteBuffer.position();
+            final UnsafeBuffer compressedBuffer = compressedBuffers[index];
+            compressedBuffer.putBytes(0, datagram, position, HEADER_LENGTH);
+            compressedBuffer.putInt(FRAME_LENGTH_FIELD_OFFSET, compressedLength, LITTLE_ENDIAN);
+            compressedBuffer.putByte(FLAGS_FIELD_OFFSET, (byte)COMPRESSED_FLAG);
+            compressedBuffer.putLong(RESERVED_VALUE_OFFSET, length, LITTLE_ENDIAN);
+
+            compressedByteBuffer.limit(compressedLength).position(0);
+            result = compressedByteBuffer;
+        }
+
+        uncompressedBytes.getAndAdd(length);
+        compressedBytes.getAndAdd(result.remaining());
+        compressionTimeNs.getAndAdd(System.nanoTime() - startNs);
+
+        return result;
+    }
+}
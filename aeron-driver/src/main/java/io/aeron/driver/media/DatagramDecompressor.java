@@ -0,0 +1,161 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.media;
+
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.RESERVED_VALUE_OFFSET;
+import static io.aeron.protocol.HeaderFlyweight.FRAME_LENGTH_FIELD_OFFSET;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+
+/**
+ * Inflates data datagrams which have been compressed by a {@link DatagramCompressor} so the frames they contain can
+ * be dispatched as if they had been received uncompressed.
+ * <p>
+ * <b>Note:</b> Not thread safe and expected to be used by the receiver thread only.
+ */
+public final class DatagramDecompressor implements AutoCloseable
+{
+    private final Inflater inflater = new Inflater(true);
+    private final ByteBuffer inflatedByteBuffer;
+    private final UnsafeBuffer inflatedBuffer;
+    private final DataHeaderFlyweight inflatedHeader;
+    private final AtomicCounter decompressionTimeNs;
+    private ByteBuffer sourceByteBuffer;
+    private ByteBuffer sourceView;
+
+    /**
+     * Construct a decompressor for datagrams up to a maximum uncompressed length.
+     *
+     * @param maxDatagramLength   of the uncompressed datagrams.
+     * @param decompressionTimeNs counter for time spent decompressing datagrams.
+     */
+    public DatagramDecompressor(final int maxDatagramLength, final AtomicCounter decompressionTimeNs)
+    {
+        this.decompressionTimeNs = decompressionTimeNs;
+
+        inflatedByteBuffer = BufferUtil.allocateDirectAligned(maxDatagramLength, CACHE_LINE_LENGTH);
+        inflatedBuffer = new UnsafeBuffer(inflatedByteBuffer);
+        inflatedHeader = new DataHeaderFlyweight(inflatedBuffer);
+    }
+
+    /**
+     * Inflate a compressed datagram into {@link #buffer()}.
+     *
+     * @param buffer containing the compressed datagram at index 0.
+     * @param length of the compressed datagram.
+     * @return the length of the inflated datagram or 0 if the datagram is malformed.
+     */
+    public int decompress(final UnsafeBuffer buffer, final int length)
+    {
+        final long uncompressedLength = buffer.getLong(RESERVED_VALUE_OFFSET, LITTLE_ENDIAN);
+        if (length <= HEADER_LENGTH ||
+            buffer.getInt(FRAME_LENGTH_FIELD_OFFSET, LITTLE_ENDIAN) != length ||
+            uncompressedLength < HEADER_LENGTH ||
+            uncompressedLength > inflatedBuffer.capacity())
+        {
+            return 0;
+        }
+
+        final long startNs = System.nanoTime();
+        final ByteBuffer source = sourceView(buffer);
+        final int offset = buffer.wrapAdjustment();
+        source.limit(offset + length).position(offset + HEADER_LENGTH);
+        inflatedByteBuffer.limit((int)uncompressedLength).position(0);
+
+        int inflatedLength = 0;
+        try
+        {
+            inflater.setInput(source);
+            if (inflater.inflate(inflatedByteBuffer) == uncompressedLength && inflater.finished())
+            {
+                inflatedLength = (int)uncompressedLength;
+            }
+        }
+        catch (final DataFormatException ignore)
+        {
+        }
+        finally
+        {
+            inflater.reset();
+        }
+
+        decompressionTimeNs.getAndAdd(System.nanoTime() - startNs);
+
+        return inflatedLength;
+    }
+
+    /**
+     * Buffer containing the last inflated datagram at index 0.
+     *
+     * @return buffer containing the last inflated datagram.
+     */
+    public UnsafeBuffer buffer()
+    {
+        return inflatedBuffer;
+    }
+
+    /**
+     * Header of the first frame of the last inflated datagram.
+     *
+     * @return header of the first frame of the last inflated datagram.
+     */
+    public DataHeaderFlyweight header()
+    {
+        return inflatedHeader;
+    }
+
+    /**
+     * Free the native resources of the decompressor.
+     */
+    public void close()
+    {
+        inflater.end();
+    }
+
+    private ByteBuffer sourceView(final UnsafeBuffer buffer)
+    {
+        ByteBuffer byteBuffer = buffer.byteBuffer();
+        if (null == byteBuffer)
+        {
+            final byte[] byteArray = buffer.byteArray();
+            if (null != sourceByteBuffer && sourceByteBuffer.hasArray() && sourceByteBuffer.array() == byteArray)
+            {
+                return sourceView;
+            }
+
+            byteBuffer = ByteBuffer.wrap(byteArray);
+        }
+        else if (byteBuffer == sourceByteBuffer)
+        {
+            return sourceView;
+        }
+
+        sourceByteBuffer = byteBuffer;
+        sourceView = byteBuffer.duplicate();
+
+        return sourceView;
+    }
+}
@@ -17,10 +17,12 @@ package io.aeron.driver.media;
 
 import io.aeron.CommonContext;
 import io.aeron.ErrorCode;
+import io.aeron.driver.Configuration;
 import io.aeron.driver.DataPacketDispatcher;
 import io.aeron.driver.DriverConductorProxy;
 import io.aeron.driver.MediaDriver;
 import io.aeron.driver.status.SystemCounterDescriptor;
+import io.aeron.exceptions.AeronEvent;
 import io.aeron.exceptions.AeronException;
 import io.aeron.exceptions.ControlProtocolException;
 import io.aeron.protocol.DataHeaderFlyweight;
@@ -34,6 +36,7 @@ import io.aeron.status.ChannelEndpointStatus;
 import io.aeron.status.LocalSocketAddressStatus;
 import org.agrona.BitUtil;
 import org.agrona.CloseHelper;
+import org.agrona.LangUtil;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.collections.Hashing;
 import org.agrona.collections.Int2IntCounterMap;
@@ -49,7 +52,10 @@ import java.net.PortUnreachableException;
 import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 
+import static io.aeron.driver.status.SystemCounterDescriptor.DECOMPRESSION_TIME;
+import static io.aeron.driver.status.SystemCounterDescriptor.INVALID_PACKETS;
 import static io.aeron.driver.status.SystemCounterDescriptor.POSSIBLE_TTL_ASYMMETRY;
+import static io.aeron.driver.status.SystemCounterDescriptor.RECEIVE_ZERO_COPY_OTHER_SOURCE_DATAGRAMS;
 import static io.aeron.driver.status.SystemCounterDescriptor.SHORT_SENDS;
 import static io.aeron.protocol.StatusMessageFlyweight.SEND_SETUP_FLAG;
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
@@ -131,6 +137,9 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
     private final ErrorFlyweight errorFlyweight;
     private final AtomicCounter shortSends;
     private final AtomicCounter possibleTtlAsymmetry;
+    private final AtomicCounter invalidPackets;
+    private final AtomicCounter decompressionTimeNs;
+    private final AtomicCounter otherSourceDatagrams;
     private final AtomicCounter statusIndicator;
     private final Int2IntCounterMap refCountByStreamIdMap = new Int2IntCounterMap(0);
     private final Long2LongCounterMap refCountByStreamIdAndSessionIdMap = new Long2LongCounterMap(0);
@@ -140,10 +149,18 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
     private final Long groupTag;
     private final boolean isChannelReceiveTimestampEnabled;
     private final EpochNanoClock channelReceiveTimestampClock;
+    private final boolean isReceiveZeroCopy;
+    private final ByteBuffer[] directReceiveVectors;
+    private DatagramDecompressor decompressor;
 
     private final long receiverId;
+    private InetSocketAddress connectedSourceAddress;
+    private InetSocketAddress directReceiveSourceAddress;
+    private boolean hasOtherSources;
+    private long sourceCheckDeadlineNs;
     private InetSocketAddress currentControlAddress;
     private AtomicCounter localSocketAddressIndicator;
+    private AtomicCounter budgetExhaustedCounter;
     private int imageRefCount;
 
     /**
@@ -167,8 +184,11 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
 
         shortSends = context.systemCounters().get(SHORT_SENDS);
         possibleTtlAsymmetry = context.systemCounters().get(POSSIBLE_TTL_ASYMMETRY);
+        invalidPackets = context.systemCounters().get(INVALID_PACKETS);
+        decompressionTimeNs = context.systemCounters().get(DECOMPRESSION_TIME);
+        otherSourceDatagrams = context.systemCounters().get(RECEIVE_ZERO_COPY_OTHER_SOURCE_DATAGRAMS);
 
-        final ReceiveChannelEndpointThreadLocals threadLocals = context.receiveChannelEndpointThreadLocals();
+        final ReceiveChannelEndpointThreadLocals threadLocals = context.receiveChannelEndpointThreadLocals(udpChannel);
         smBuffer = threadLocals.statusMessageBuffer();
         statusMessageFlyweight = threadLocals.statusMessageFlyweight();
         nakBuffer = threadLocals.nakBuffer();
@@ -179,7 +199,7 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
         responseSetupHeader = threadLocals.responseSetupHeader();
         errorBuffer = threadLocals.errorBuffer();
         errorFlyweight = threadLocals.errorFlyweight();
-        cachedNanoClock = context.receiverCachedNanoClock();
+        cachedNanoClock = context.receiverCachedNanoClock(udpChannel);
         timeOfLastActivityNs = cachedNanoClock.nanoTime();
         receiverId = threadLocals.nextReceiverId();
 
@@ -190,6 +210,13 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
 
         channelReceiveTimestampClock = context.channelReceiveTimestampClock();
         isChannelReceiveTimestampEnabled = udpChannel.isChannelReceiveTimestampEnabled();
+
+        isReceiveZeroCopy = udpChannel.isReceiveZeroCopy() &&
+            !udpChannel.isMulticast() &&
+            !udpChannel.isManualControlMode() &&
+            !udpChannel.isResponseControlMode() &&
+            !isChannelReceiveTimestampEnabled;
+        directReceiveVectors = isReceiveZeroCopy ? new ByteBuffer[2] : null;
     }
 
     /**
@@ -207,6 +234,28 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
         localSocketAddressIndicator = counter;
     }
 
+    /**
+     * Set the counter for the number of times this endpoint used its full datagram budget in a receiver duty cycle.
+     *
+     * @param counter to be set.
+     * @see io.aeron.driver.status.ReceiveChannelBudgetExhausted
+     */
+    public void budgetExhaustedCounter(final AtomicCounter counter)
+    {
+        budgetExhaustedCounter = counter;
+    }
+
+    /**
+     * Increment the counter for this endpoint using its full datagram budget in a receiver duty cycle, if set.
+     */
+    public void onBudgetExhausted()
+    {
+        if (null != budgetExhaustedCounter)
+        {
+            budgetExhaustedCounter.increment();
+        }
+    }
+
     /**
      * Send contents of {@link java.nio.ByteBuffer} to the remote address.
      *
@@ -321,10 +370,12 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
 
         CloseHelper.close(errorHandler, statusIndicator);
         CloseHelper.close(errorHandler, localSocketAddressIndicator);
+        CloseHelper.close(errorHandler, budgetExhaustedCounter);
         if (null != multiRcvDestination)
         {
             multiRcvDestination.close(errorHandler);
         }
+        CloseHelper.close(errorHandler, decompressor);
     }
 
     /**
@@ -332,7 +383,7 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
      */
     public void possibleTtlAsymmetryEncountered()
     {
-        possibleTtlAsymmetry.incrementRelease();
+        possibleTtlAsymmetry.increment();
     }
 
     /**
@@ -707,6 +758,21 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
         final int length,
         final InetSocketAddress srcAddress,
         final int transportIndex)
+    {
+        if (0 != (header.flags() & DataHeaderFlyweight.COMPRESSED_FLAG))
+        {
+            return onCompressedDataPacket(buffer, length, srcAddress, transportIndex);
+        }
+
+        return dispatchDataPacket(header, buffer, length, srcAddress, transportIndex);
+    }
+
+    private int dispatchDataPacket(
+        final DataHeaderFlyweight header,
+        final UnsafeBuffer buffer,
+        final int length,
+        final InetSocketAddress srcAddress,
+        final int transportIndex)
     {
         if (isChannelReceiveTimestampEnabled && 0 != (header.flags() & DataHeaderFlyweight.BEGIN_FLAG))
         {
@@ -717,6 +783,262 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
         return dispatcher.onDataPacket(this, header, buffer, length, srcAddress, transportIndex);
     }
 
+    private int onCompressedDataPacket(
+        final UnsafeBuffer buffer, final int length, final InetSocketAddress srcAddress, final int transportIndex)
+    {
+        if (null == decompressor)
+        {
+            decompressor = new DatagramDecompressor(Configuration.MAX_UDP_PAYLOAD_LENGTH, decompressionTimeNs);
+        }
+
+        final int inflatedLength = decompressor.decompress(buffer, length);
+        if (0 == inflatedLength)
+        {
+            invalidPackets.increment();
+            return 0;
+        }
+
+        final DataHeaderFlyweight inflatedHeader = decompressor.header();
+        if (0 != (inflatedHeader.flags() & DataHeaderFlyweight.COMPRESSED_FLAG))
+        {
+            invalidPackets.increment();
+            return 0;
+        }
+
+        return dispatchDataPacket(inflatedHeader, decompressor.buffer(), inflatedLength, srcAddress, transportIndex);
+    }
+
+    /**
+     * Is zero-copy receive of in-order data frames directly into the term buffer enabled for this endpoint.
+     *
+     * @return true if zero-copy receive is enabled for this endpoint.
+     * @see CommonContext#RECEIVE_ZERO_COPY_PARAM_NAME
+     */
+    public boolean isReceiveZeroCopy()
+    {
+        return isReceiveZeroCopy;
+    }
+
+    /**
+     * Connect the receive socket to the source of the images when zero-copy receive is enabled so datagrams can be
+     * scattered across the receive buffer and term buffer. The receiver disconnects whenever an image is added or
+     * removed and only connects again while all images of the endpoint share a source. Datagrams from other sources,
+     * such as SETUP from a new or restarted publication, are dropped by the OS while connected, so the socket is
+     * periodically disconnected for a short window to check for other sources. If any are seen then zero-copy receive
+     * is suspended until {@link #disconnectFromSource()}.
+     *
+     * @param srcAddress of the source for the image.
+     * @see Configuration#RECEIVE_ZERO_COPY_SOURCE_CHECK_INTERVAL_NS
+     */
+    public void connectToSource(final InetSocketAddress srcAddress)
+    {
+        if (isReceiveZeroCopy &&
+            null == directReceiveSourceAddress &&
+            !hasOtherSources &&
+            null != srcAddress &&
+            null != receiveDatagramChannel &&
+            connectSocket(srcAddress))
+        {
+            directReceiveSourceAddress = srcAddress;
+            sourceCheckDeadlineNs =
+                cachedNanoClock.nanoTime() + Configuration.RECEIVE_ZERO_COPY_SOURCE_CHECK_INTERVAL_NS;
+        }
+    }
+
+    /**
+     * Disconnect the receive socket from the source so datagrams are accepted from any source again.
+     */
+    public void disconnectFromSource()
+    {
+        directReceiveSourceAddress = null;
+        hasOtherSources = false;
+        disconnectSocket();
+    }
+
+    /**
+     * Source address to which the receive socket is connected for zero-copy receive.
+     *
+     * @return source address to which the receive socket is connected or null if not connected.
+     */
+    public InetSocketAddress connectedSourceAddress()
+    {
+        return connectedSourceAddress;
+    }
+
+    /**
+     * Prepare to receive the next datagram with its payload directly into the term buffer of the image expected to
+     * receive it. This also drives the periodic check for other sources while zero-copy receive is active.
+     *
+     * @return the term buffer positioned for the payload of the next datagram or null if not possible.
+     * @see #receiveDirect(ByteBuffer, ByteBuffer)
+     */
+    public ByteBuffer directReceiveBuffer()
+    {
+        if (null == directReceiveSourceAddress)
+        {
+            return null;
+        }
+
+        final long nowNs = cachedNanoClock.nanoTime();
+        if (null != connectedSourceAddress)
+        {
+            if (nowNs - sourceCheckDeadlineNs < 0)
+            {
+                return dispatcher.directReceiveBuffer();
+            }
+
+            disconnectSocket();
+            sourceCheckDeadlineNs = nowNs + Configuration.RECEIVE_ZERO_COPY_SOURCE_CHECK_WINDOW_NS;
+        }
+        else if (nowNs - sourceCheckDeadlineNs >= 0)
+        {
+            if (!hasOtherSources && connectSocket(directReceiveSourceAddress))
+            {
+                sourceCheckDeadlineNs = nowNs + Configuration.RECEIVE_ZERO_COPY_SOURCE_CHECK_INTERVAL_NS;
+            }
+            else
+            {
+                directReceiveSourceAddress = null;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Check the source of a datagram received while the socket for zero-copy receive is disconnected to check for
+     * other sources. Datagrams from other sources are counted and suspend zero-copy receive so they are not dropped.
+     *
+     * @param srcAddress from which the datagram was received.
+     */
+    public void checkSource(final InetSocketAddress srcAddress)
+    {
+        if (null != directReceiveSourceAddress &&
+            null == connectedSourceAddress &&
+            !directReceiveSourceAddress.equals(srcAddress))
+        {
+            hasOtherSources = true;
+            otherSourceDatagrams.increment();
+        }
+    }
+
+    /**
+     * Receive a datagram from the connected source with its header in the receive buffer and the remainder in the
+     * term buffer provided by {@link #directReceiveBuffer()}.
+     *
+     * @param headerBuffer into which the header will be received.
+     * @param termBuffer   into which the remainder of the datagram will be received.
+     * @return length of the datagram received or 0 if none is available.
+     */
+    public int receiveDirect(final ByteBuffer headerBuffer, final ByteBuffer termBuffer)
+    {
+        final int termPosition = termBuffer.position();
+        headerBuffer.clear().limit(DataHeaderFlyweight.HEADER_LENGTH);
+        directReceiveVectors[0] = headerBuffer;
+        directReceiveVectors[1] = termBuffer;
+
+        long length = 0;
+        try
+        {
+            if (receiveDatagramChannel.isOpen())
+            {
+                length = receiveDatagramChannel.read(directReceiveVectors);
+            }
+        }
+        catch (final PortUnreachableException ignored)
+        {
+        }
+        catch (final Exception ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+        finally
+        {
+            directReceiveVectors[1] = null;
+        }
+
+        return length > 0 ? headerBuffer.position() + termBuffer.position() - termPosition : 0;
+    }
+
+    /**
+     * Is a datagram received via {@link #receiveDirect(ByteBuffer, ByteBuffer)} the expected data packet.
+     *
+     * @param header of the first frame in the datagram.
+     * @param length of the datagram.
+     * @return true if the datagram is the expected data packet and has been received in place.
+     */
+    public boolean isDirectReceivePacket(final DataHeaderFlyweight header, final int length)
+    {
+        return dispatcher.isDirectReceivePacket(header, length);
+    }
+
+    /**
+     * Roll back a datagram received via {@link #receiveDirect(ByteBuffer, ByteBuffer)} which was not the expected
+     * data packet so it is complete in the receive buffer.
+     *
+     * @param buffer into which the header of the datagram was received.
+     * @param length of the datagram.
+     */
+    public void abortDirectReceive(final UnsafeBuffer buffer, final int length)
+    {
+        dispatcher.abortDirectReceive(buffer, length);
+    }
+
+    /**
+     * Callback to handle a data packet which has been received with its payload directly into the term buffer.
+     *
+     * @param header         of the first data frame.
+     * @param buffer         containing the header of the data packet.
+     * @param length         of the data packet.
+     * @param srcAddress     the message came from.
+     * @param transportIndex on which the message was received.
+     * @return number of bytes applied as a result of this action.
+     */
+    public int onDirectDataPacket(
+        final DataHeaderFlyweight header,
+        final UnsafeBuffer buffer,
+        final int length,
+        final InetSocketAddress srcAddress,
+        final int transportIndex)
+    {
+        updateTimeOfLastActivityNs(cachedNanoClock.nanoTime(), transportIndex);
+
+        return dispatcher.onDirectDataPacket(this, header, buffer, length, srcAddress, transportIndex);
+    }
+
+    private boolean connectSocket(final InetSocketAddress srcAddress)
+    {
+        try
+        {
+            receiveDatagramChannel.connect(srcAddress);
+            connectedSourceAddress = srcAddress;
+            return true;
+        }
+        catch (final IOException ex)
+        {
+            errorHandler.onError(new AeronEvent(
+                "failed to connect to source " + srcAddress + ", cause: " + ex, AeronException.Category.WARN));
+            return false;
+        }
+    }
+
+    private void disconnectSocket()
+    {
+        if (null != connectedSourceAddress)
+        {
+            connectedSourceAddress = null;
+            try
+            {
+                receiveDatagramChannel.disconnect();
+            }
+            catch (final IOException ex)
+            {
+                errorHandler.onError(new AeronEvent(
+                    "failed to disconnect from source, cause: " + ex, AeronException.Category.WARN));
+            }
+        }
+    }
+
     /**
      * Callback to handle a received setup frame.
      *
@@ -781,7 +1103,7 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
             .receiverWindowLength(0)
             .receiverId(receiverId)
             .groupTag(groupTag)
-            .flags(SEND_SETUP_FLAG);
+            .flags((short)(SEND_SETUP_FLAG | StatusMessageFlyweight.COMPRESSION_FLAG));
         smBuffer.limit(statusMessageFlyweight.frameLength());
 
         send(smBuffer, statusMessageFlyweight.frameLength(), transportIndex, controlAddress);
@@ -118,7 +118,7 @@ public final class ReceiveDestinationTransport extends ReceiveDestinationTranspo
             receiveChannelEndpoint.socketRcvbufLength(),
             receiveChannelEndpoint.socketSndbufLength());
 
-        this.timeOfLastActivityNs = context.receiverCachedNanoClock().nanoTime();
+        this.timeOfLastActivityNs = context.receiverCachedNanoClock(receiveChannelEndpoint.udpChannel()).nanoTime();
         this.currentControlAddress = udpChannel.hasExplicitControl() ? udpChannel.localControl() : null;
         this.localSocketAddressIndicator = localSocketAddressIndicator;
         this.receiveChannelEndpoint = receiveChannelEndpoint;
@@ -115,11 +115,13 @@ public class SendChannelEndpoint extends UdpChannelTransport
         MultiSndDestination multiSndDestination = null;
         if (udpChannel.isManualControlMode())
         {
-            multiSndDestination = new ManualSndMultiDestination(context.senderCachedNanoClock(), errorHandler);
+            multiSndDestination = new ManualSndMultiDestination(
+                context.senderCachedNanoClock(udpChannel), errorHandler);
         }
         else if (udpChannel.isDynamicControlMode())
         {
-            multiSndDestination = new DynamicSndMultiDestination(context.senderCachedNanoClock(), errorHandler);
+            multiSndDestination = new DynamicSndMultiDestination(
+                context.senderCachedNanoClock(udpChannel), errorHandler);
         }
 
         this.multiSndDestination = multiSndDestination;
@@ -311,6 +313,68 @@ public class SendChannelEndpoint extends UdpChannelTransport
         return bytesSent;
     }
 
+    /**
+     * Send a batch of datagrams, each being the remaining contents of a {@link ByteBuffer}, to the connected address
+     * or to each destination in turn for multi-destination channels.
+     * <p>
+     * Sending stops on the first datagram which could not be sent in full so the batch is always sent in order.
+     *
+     * @param buffers containing the datagrams to send.
+     * @param count   of datagrams in buffers to send.
+     * @return number of datagrams from the start of the batch which were sent in full.
+     */
+    public int send(final ByteBuffer[] buffers, final int count)
+    {
+        int datagramsSent = 0;
+
+        if (isChannelSendTimestampEnabled)
+        {
+            for (int i = 0; i < count; i++)
+            {
+                applyChannelSendTimestamp(buffers[i]);
+            }
+        }
+
+        if (null != sendDatagramChannel)
+        {
+            if (null == multiSndDestination)
+            {
+                try
+                {
+                    if (sendDatagramChannel.isConnected())
+                    {
+                        while (datagramsSent < count)
+                        {
+                            final ByteBuffer buffer = buffers[datagramsSent];
+                            final int bytesToSend = buffer.remaining();
+
+                            sendHook(buffer, connectAddress);
+                            if (bytesToSend != sendDatagramChannel.write(buffer))
+                            {
+                                break;
+                            }
+
+                            datagramsSent++;
+                        }
+                    }
+                }
+                catch (final PortUnreachableException ignore)
+                {
+                }
+                catch (final IOException ex)
+                {
+                    onSendError(ex, connectAddress, errorHandler);
+                }
+            }
+            else
+            {
+                datagramsSent = multiSndDestination.send(sendDatagramChannel, buffers, count, this);
+            }
+        }
+
+        return datagramsSent;
+    }
+
     /**
      * Send contents of a {@link ByteBuffer} to connected address.
      * This is used on the sender side for performance over send(ByteBuffer, SocketAddress).
@@ -389,13 +453,13 @@ public class SendChannelEndpoint extends UdpChannelTransport
         final int sessionId = msg.sessionId();
         final int streamId = msg.streamId();
 
-        statusMessagesReceived.incrementRelease();
+        statusMessagesReceived.increment();
 
         final NetworkPublication publication = publicationBySessionAndStreamId.get(compoundKey(sessionId, streamId));
         if (SEND_SETUP_FLAG != (msg.flags() & SEND_SETUP_FLAG) &&
             null != publication && !publication.isValidStatusMessage(msg))
         {
-            statusMessagesRejected.incrementRelease();
+            statusMessagesRejected.increment();
             return; // drop SM that is out of bounds
         }
 
@@ -437,7 +501,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
         final int sessionId = msg.sessionId();
         final int streamId = msg.streamId();
 
-        errorMessagesReceived.incrementRelease();
+        errorMessagesReceived.increment();
 
         final long destinationRegistrationId = (null != multiSndDestination) ?
             multiSndDestination.findRegistrationId(msg, srcAddress) : Aeron.NULL_VALUE;
@@ -469,7 +533,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
         if (null != publication)
         {
             publication.onNak(msg.termId(), msg.termOffset(), msg.length());
-            nakMessagesReceived.incrementRelease();
+            nakMessagesReceived.increment();
         }
     }
 
@@ -701,6 +765,8 @@ abstract class MultiSndDestination extends MultiSndDestinationRhsPadding
 
     abstract int send(DatagramChannel channel, ByteBuffer buffer, SendChannelEndpoint channelEndpoint, int bytesToSend);
 
+    abstract int send(DatagramChannel channel, ByteBuffer[] buffers, int count, SendChannelEndpoint channelEndpoint);
+
     abstract void onStatusMessage(StatusMessageFlyweight msg, InetSocketAddress address);
 
     void addDestination(final ChannelUri channelUri, final InetSocketAddress address, final long registrationId)
@@ -763,6 +829,36 @@ abstract class MultiSndDestination extends MultiSndDestinationRhsPadding
         return bytesSent;
     }
 
+    static int send(
+        final DatagramChannel datagramChannel,
+        final ByteBuffer[] buffers,
+        final int count,
+        final SendChannelEndpoint channelEndpoint,
+        final InetSocketAddress destination,
+        final ErrorHandler errorHandler)
+    {
+        int datagramsSent = 0;
+        while (datagramsSent < count)
+        {
+            final ByteBuffer buffer = buffers[datagramsSent];
+            final int position = buffer.position();
+            final int bytesToSend = buffer.remaining();
+
+            final int bytesSent = send(
+                datagramChannel, buffer, channelEndpoint, bytesToSend, position, destination, errorHandler);
+            buffer.position(position);
+
+            if (bytesSent < bytesToSend)
+            {
+                break;
+            }
+
+            datagramsSent++;
+        }
+
+        return datagramsSent;
+    }
+
     public long findRegistrationId(final ErrorFlyweight msg, final InetSocketAddress srcAddress)
     {
         return Aeron.NULL_VALUE;
@@ -840,6 +936,38 @@ class ManualSndMultiDestination extends MultiSndDestination
         return result;
     }
 
+    int send(
+        final DatagramChannel channel,
+        final ByteBuffer[] buffers,
+        final int count,
+        final SendChannelEndpoint channelEndpoint)
+    {
+        final int length = destinations.length;
+
+        int startingIndex = roundRobinIndex++;
+        if (startingIndex >= length)
+        {
+            roundRobinIndex = startingIndex = 0;
+        }
+
+        int result = count;
+        for (int i = startingIndex; i < length; i++)
+        {
+            final int datagramsSent = send(
+                channel, buffers, count, channelEndpoint, destinations[i].address, errorHandler);
+            result = Math.min(result, datagramsSent);
+        }
+
+        for (int i = 0; i < startingIndex; i++)
+        {
+            final int datagramsSent = send(
+                channel, buffers, count, channelEndpoint, destinations[i].address, errorHandler);
+            result = Math.min(result, datagramsSent);
+        }
+
+        return result;
+    }
+
     void addDestination(final ChannelUri channelUri, final InetSocketAddress address, final long registrationId)
     {
         final Destination destination = new Destination(
@@ -1041,6 +1169,64 @@ class DynamicSndMultiDestination extends MultiSndDestination
         return result;
     }
 
+    int send(
+        final DatagramChannel channel,
+        final ByteBuffer[] buffers,
+        final int count,
+        final SendChannelEndpoint channelEndpoint)
+    {
+        final long nowNs = nanoClock.nanoTime();
+        final int length = destinations.length;
+        int inactiveDestinationCount = 0;
+
+        int startingIndex = roundRobinIndex++;
+        if (startingIndex >= length)
+        {
+            roundRobinIndex = startingIndex = 0;
+        }
+
+        int result = count;
+
+        for (int i = startingIndex; i < length; i++)
+        {
+            final Destination destination = destinations[i];
+
+            if ((destination.timeOfLastActivityNs + DESTINATION_TIMEOUT) - nowNs >= 0)
+            {
+                final int datagramsSent = send(
+                    channel, buffers, count, channelEndpoint, destination.address, errorHandler);
+                result = Math.min(result, datagramsSent);
+            }
+            else
+            {
+                inactiveDestinationCount++;
+            }
+        }
+
+        for (int i = 0; i < startingIndex; i++)
+        {
+            final Destination destination = destinations[i];
+
+            if ((destination.timeOfLastActivityNs + DESTINATION_TIMEOUT) - nowNs >= 0)
+            {
+                final int datagramsSent = send(
+                    channel, buffers, count, channelEndpoint, destination.address, errorHandler);
+                result = Math.min(result, datagramsSent);
+            }
+            else
+            {
+                inactiveDestinationCount++;
+            }
+        }
+
+        if (inactiveDestinationCount > 0)
+        {
+            removeInactiveDestinations(nowNs);
+        }
+
+        return result;
+    }
+
     private void add(final Destination destination)
     {
         destinations = ArrayUtil.add(destinations, destination);
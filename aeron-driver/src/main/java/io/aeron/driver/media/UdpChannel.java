@@ -72,6 +72,8 @@ public final class UdpChannel
     private final int channelSendTimestampOffset;
     private final Long groupTag;
     private final Long nakDelayNs;
+    private final int affinityGroup;
+    private final boolean isReceiveZeroCopy;
 
     private UdpChannel(final Context context)
     {
@@ -99,6 +101,8 @@ public final class UdpChannel
         channelSendTimestampOffset = context.channelSendTimestampOffset;
         groupTag = context.groupTag;
         nakDelayNs = context.nakDelayNs;
+        affinityGroup = context.affinityGroup;
+        isReceiveZeroCopy = context.isReceiveZeroCopy;
     }
 
     /**
@@ -211,7 +215,9 @@ public final class UdpChannel
                 .socketRcvbufLength(socketRcvbufLength)
                 .socketSndbufLength(socketSndbufLength)
                 .receiverWindowLength(receiverWindowLength)
-                .nakDelayNs(parseOptionalDurationNs(channelUri, NAK_DELAY_PARAM_NAME));
+                .nakDelayNs(parseOptionalDurationNs(channelUri, NAK_DELAY_PARAM_NAME))
+                .affinityGroup(parseAffinityGroup(channelUri))
+                .isReceiveZeroCopy("true".equals(channelUri.get(RECEIVE_ZERO_COPY_PARAM_NAME)));
 
             if (null != tagIdStr)
             {
@@ -415,6 +421,30 @@ public final class UdpChannel
         return SystemUtil.parseDuration(paramName, valueStr);
     }
 
+    /**
+     * Parse the optional affinity group for the channel.
+     *
+     * @param channelUri to read the value from.
+     * @return the affinity group or {@link Aeron#NULL_VALUE} if not set.
+     * @see io.aeron.CommonContext#AFFINITY_GROUP_PARAM_NAME
+     */
+    public static int parseAffinityGroup(final ChannelUri channelUri)
+    {
+        final String valueStr = channelUri.get(AFFINITY_GROUP_PARAM_NAME);
+        if (null == valueStr)
+        {
+            return Aeron.NULL_VALUE;
+        }
+
+        final int affinityGroup = Integer.parseInt(valueStr);
+        if (affinityGroup < 0)
+        {
+            throw new IllegalArgumentException("Invalid " + AFFINITY_GROUP_PARAM_NAME + ": " + affinityGroup);
+        }
+
+        return affinityGroup;
+    }
+
     /**
      * Return a string which is a canonical form of the channel suitable for use as a file or directory
      * name and also as a method of hashing, etc.
@@ -770,6 +800,48 @@ public final class UdpChannel
         return nakDelayNs;
     }
 
+    /**
+     * The explicit affinity group for the channel, if set.
+     *
+     * @return the affinity group or {@link Aeron#NULL_VALUE} if not set.
+     * @see io.aeron.CommonContext#AFFINITY_GROUP_PARAM_NAME
+     */
+    public int affinityGroup()
+    {
+        return affinityGroup;
+    }
+
+    /**
+     * Has zero-copy receive been requested for the channel so in-order data frames from a single source can be
+     * received directly into the term buffer.
+     *
+     * @return true if zero-copy receive has been requested for the channel.
+     * @see io.aeron.CommonContext#RECEIVE_ZERO_COPY_PARAM_NAME
+     */
+    public boolean isReceiveZeroCopy()
+    {
+        return isReceiveZeroCopy;
+    }
+
+    /**
+     * Index of the agent, out of {@code agentCount}, which should service endpoints for this channel. The explicit
+     * affinity group is used if set, otherwise the canonical form of the channel is hashed, so all channels which
+     * share an endpoint map to the same agent.
+     *
+     * @param agentCount number of agents available.
+     * @return index of the agent in the range 0 to {@code agentCount - 1}.
+     */
+    public int agentIndex(final int agentCount)
+    {
+        if (agentCount <= 1)
+        {
+            return 0;
+        }
+
+        final int key = Aeron.NULL_VALUE != affinityGroup ? affinityGroup : canonicalForm.hashCode();
+        return Math.floorMod(key, agentCount);
+    }
+
     /**
      * Does this channel have a tag match to another channel having INADDR_ANY endpoints.
      *
@@ -1108,6 +1180,8 @@ public final class UdpChannel
         int channelSendTimestampOffset;
         Long groupTag = null;
         Long nakDelayNs = null;
+        int affinityGroup = Aeron.NULL_VALUE;
+        boolean isReceiveZeroCopy = false;
 
         Context uriStr(final String uri)
         {
@@ -1258,6 +1332,18 @@ public final class UdpChannel
             return this;
         }
 
+        Context affinityGroup(final int affinityGroup)
+        {
+            this.affinityGroup = affinityGroup;
+            return this;
+        }
+
+        Context isReceiveZeroCopy(final boolean isReceiveZeroCopy)
+        {
+            this.isReceiveZeroCopy = isReceiveZeroCopy;
+            return this;
+        }
+
         public void groupTag(final Long groupTag)
         {
             this.groupTag = groupTag;
@@ -21,6 +21,10 @@ import org.agrona.nio.TransportPoller;
 /**
  * Encapsulates the polling of a number of {@link UdpChannelTransport}s using whatever means provides the
  * lowest latency.
+ * <p>
+ * When the number of registered transports is at or below the iteration threshold then each transport is read
+ * directly in a round-robin busy-poll without going via the {@link java.nio.channels.Selector}, otherwise the
+ * pollers fall back to {@link java.nio.channels.Selector#selectNow(java.util.function.Consumer)}.
  */
 public abstract class UdpTransportPoller extends TransportPoller
 {
@@ -29,14 +33,46 @@ public abstract class UdpTransportPoller extends TransportPoller
      */
     protected final ErrorHandler errorHandler;
 
+    /**
+     * Number of transports at or below which they are read directly rather than via the selector.
+     */
+    protected final int iterationThreshold;
+
+    private int iterationStartIndex;
+
     /**
      * Construct a new {@link TransportPoller} with an {@link ErrorHandler} for logging.
      *
      * @param errorHandler which can be used to log errors and continue.
      */
     public UdpTransportPoller(final ErrorHandler errorHandler)
+    {
+        this(errorHandler, ITERATION_THRESHOLD);
+    }
+
+    /**
+     * Construct a new {@link TransportPoller} with an {@link ErrorHandler} for logging and a threshold for the
+     * number of transports which will be read directly before falling back to the selector.
+     *
+     * @param errorHandler       which can be used to log errors and continue.
+     * @param iterationThreshold number of transports at or below which they are read directly in a busy-poll.
+     * @since 1.52.0
+     */
+    public UdpTransportPoller(final ErrorHandler errorHandler, final int iterationThreshold)
     {
         this.errorHandler = errorHandler;
+        this.iterationThreshold = iterationThreshold;
+    }
+
+    /**
+     * Number of transports at or below which they are read directly rather than via the selector.
+     *
+     * @return number of transports at or below which they are read directly rather than via the selector.
+     * @since 1.52.0
+     */
+    public int iterationThreshold()
+    {
+        return iterationThreshold;
     }
 
     /**
@@ -45,4 +81,23 @@ public abstract class UdpTransportPoller extends TransportPoller
      * @return the number of frames processed.
      */
     public abstract int pollTransports();
+
+    /**
+     * Index of the transport at which the next busy-poll iteration should start so that transports are serviced
+     * in a round-robin fashion.
+     *
+     * @param transportCount number of transports currently registered.
+     * @return index of the transport at which to start the next iteration.
+     */
+    protected final int nextIterationStartIndex(final int transportCount)
+    {
+        int index = iterationStartIndex + 1;
+        if (index >= transportCount)
+        {
+            index = 0;
+        }
+        iterationStartIndex = index;
+
+        return index;
+    }
 }
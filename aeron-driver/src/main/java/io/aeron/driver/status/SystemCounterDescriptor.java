@@ -28,11 +28,15 @@ import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_BYTES_CURRENTLY_MAPPED;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_BYTES_RECEIVED;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_BYTES_SENT;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_CLIENT_TIMEOUTS;
+import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_COMPRESSION_COMPRESSED_BYTES;
+import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_COMPRESSION_TIME;
+import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_COMPRESSION_UNCOMPRESSED_BYTES;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_CONDUCTOR_CYCLE_TIME_THRESHOLD_EXCEEDED;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_CONDUCTOR_MAX_CYCLE_TIME;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_CONDUCTOR_PROXY_FAILS;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_CONTROLLABLE_IDLE_STRATEGY;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_CONTROL_PROTOCOL_VERSION;
+import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_DECOMPRESSION_TIME;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_ERRORS;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_ERROR_FRAMES_RECEIVED;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_ERROR_FRAMES_SENT;
@@ -43,6 +47,10 @@ import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_HEARTBEATS_RECEIVED;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_HEARTBEATS_SENT;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_IMAGES_REJECTED;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_INVALID_PACKETS;
+import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_LOG_BUFFER_MAPPING_MAX_TIME;
+import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_LOG_BUFFER_MAPPING_TOTAL_TIME;
+import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_LOG_BUFFER_POOL_HITS;
+import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_LOG_BUFFER_POOL_MISSES;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_LOSS_GAP_FILLS;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_NAK_MESSAGES_RECEIVED;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_NAK_MESSAGES_SENT;
@@ -51,13 +59,18 @@ import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_NAME_RESOLVER_TIME_THRESH
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_POSSIBLE_TTL_ASYMMETRY;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_PUBLICATIONS_REVOKED;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_PUBLICATION_IMAGES_REVOKED;
+import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_RECEIVER_AVERAGE_BATCH_SIZE;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_RECEIVER_CYCLE_TIME_THRESHOLD_EXCEEDED;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_RECEIVER_MAX_CYCLE_TIME;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_RECEIVER_PROXY_FAILS;
+import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_RECEIVER_TRANSPORT_BUDGET_EXHAUSTED;
+import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_RECEIVER_TRANSPORT_DRAINS;
+import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_RECEIVE_ZERO_COPY_OTHER_SOURCE_DATAGRAMS;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_RESOLUTION_CHANGES;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_RETRANSMITS_SENT;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_RETRANSMITTED_BYTES;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_RETRANSMIT_OVERFLOW;
+import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_SENDER_AVERAGE_BATCH_SIZE;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_SENDER_CYCLE_TIME_THRESHOLD_EXCEEDED;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_SENDER_FLOW_CONTROL_LIMITS;
 import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_SENDER_MAX_CYCLE_TIME;
@@ -345,7 +358,106 @@ public enum SystemCounterDescriptor
      *
      * @since 1.51.0
      */
-    ASYNC_EXECUTOR_PROXY_FAILS(SYSTEM_COUNTER_ID_ASYNC_EXECUTOR_PROXY_FAILS, "Failed offers to AsyncExecutorProxy");
+    ASYNC_EXECUTOR_PROXY_FAILS(SYSTEM_COUNTER_ID_ASYNC_EXECUTOR_PROXY_FAILS, "Failed offers to AsyncExecutorProxy"),
+
+    /**
+     * The average number of datagrams drained from a transport in a single batch by the receiver.
+     *
+     * @since 1.52.0
+     */
+    RECEIVER_AVERAGE_BATCH_SIZE(SYSTEM_COUNTER_ID_RECEIVER_AVERAGE_BATCH_SIZE,
+        "Receiver average datagrams per batch"),
+
+    /**
+     * The average number of datagrams sent in a single batch by network publications on the sender when the sender
+     * batch capacity is greater than one.
+     *
+     * @since 1.52.0
+     */
+    SENDER_AVERAGE_BATCH_SIZE(SYSTEM_COUNTER_ID_SENDER_AVERAGE_BATCH_SIZE, "Sender average datagrams per batch"),
+
+    /**
+     * The number of times the receiver stopped draining a transport in a duty cycle because its datagram budget
+     * was used in full, leaving other transports to be serviced. Each receive channel endpoint also counts this for
+     * itself in a {@link ReceiveChannelBudgetExhausted} counter.
+     *
+     * @since 1.52.0
+     */
+    RECEIVER_TRANSPORT_BUDGET_EXHAUSTED(SYSTEM_COUNTER_ID_RECEIVER_TRANSPORT_BUDGET_EXHAUSTED,
+        "Receiver transport datagram budget exhausted"),
+
+    /**
+     * The number of times the receiver drained one or more datagrams from a transport in a duty cycle.
+     *
+     * @since 1.52.0
+     */
+    RECEIVER_TRANSPORT_DRAINS(SYSTEM_COUNTER_ID_RECEIVER_TRANSPORT_DRAINS, "Receiver transport drains"),
+
+    /**
+     * Max time in nanoseconds taken to create, map, and pre-touch a log buffer.
+     *
+     * @since 1.52.0
+     */
+    LOG_BUFFER_MAPPING_MAX_TIME(SYSTEM_COUNTER_ID_LOG_BUFFER_MAPPING_MAX_TIME, "Log buffer mapping max time in ns"),
+
+    /**
+     * Total time in nanoseconds taken to create, map, and pre-touch log buffers.
+     *
+     * @since 1.52.0
+     */
+    LOG_BUFFER_MAPPING_TOTAL_TIME(SYSTEM_COUNTER_ID_LOG_BUFFER_MAPPING_TOTAL_TIME,
+        "Log buffer mapping total time in ns"),
+
+    /**
+     * Count of log buffers taken from the pool of those created ahead of demand.
+     *
+     * @since 1.52.0
+     */
+    LOG_BUFFER_POOL_HITS(SYSTEM_COUNTER_ID_LOG_BUFFER_POOL_HITS, "Log buffer pool hits"),
+
+    /**
+     * Count of log buffers created because none of the required term length were pooled.
+     *
+     * @since 1.52.0
+     */
+    LOG_BUFFER_POOL_MISSES(SYSTEM_COUNTER_ID_LOG_BUFFER_POOL_MISSES, "Log buffer pool misses"),
+
+    /**
+     * Bytes of data datagrams offered for compression by publications with compression enabled.
+     *
+     * @since 1.52.0
+     */
+    COMPRESSION_UNCOMPRESSED_BYTES(SYSTEM_COUNTER_ID_COMPRESSION_UNCOMPRESSED_BYTES, "Compression uncompressed bytes"),
+
+    /**
+     * Bytes sent for data datagrams offered for compression, which is the compressed length when smaller.
+     *
+     * @since 1.52.0
+     */
+    COMPRESSION_COMPRESSED_BYTES(SYSTEM_COUNTER_ID_COMPRESSION_COMPRESSED_BYTES, "Compression compressed bytes"),
+
+    /**
+     * Total time in nanoseconds spent compressing data datagrams.
+     *
+     * @since 1.52.0
+     */
+    COMPRESSION_TIME(SYSTEM_COUNTER_ID_COMPRESSION_TIME, "Compression total time in ns"),
+
+    /**
+     * Total time in nanoseconds spent decompressing received data datagrams.
+     *
+     * @since 1.52.0
+     */
+    DECOMPRESSION_TIME(SYSTEM_COUNTER_ID_DECOMPRESSION_TIME, "Decompression total time in ns"),
+
+    /**
+     * Datagrams from sources other than the one a zero-copy receive socket is connected to, seen while the socket is
+     * briefly disconnected to check for other sources.
+     *
+     * @since 1.52.0
+     */
+    RECEIVE_ZERO_COPY_OTHER_SOURCE_DATAGRAMS(
+        SYSTEM_COUNTER_ID_RECEIVE_ZERO_COPY_OTHER_SOURCE_DATAGRAMS, "Zero-copy receive datagrams from other sources");
 
     /**
      * All system counters have the same type id, i.e. system counters are the same type. Other types can exist.
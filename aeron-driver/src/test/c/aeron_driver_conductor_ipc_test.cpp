@@ -25,6 +25,81 @@ protected:
     {
         return publication->conductor_fields.subscribable.length;
     }
+
+    size_t putIpcPublicationEntry(size_t offset, int64_t client_id, int64_t correlation_id, int32_t stream_id)
+    {
+        auto *entry = reinterpret_cast<aeron_command_batch_entry_t *>(m_command_buffer + offset);
+        auto *cmd = reinterpret_cast<aeron_publication_command_t *>(
+            m_command_buffer + offset + sizeof(aeron_command_batch_entry_t));
+
+        cmd->correlated.client_id = client_id;
+        cmd->correlated.correlation_id = correlation_id;
+        cmd->stream_id = stream_id;
+        cmd->channel_length = (int32_t)strlen(AERON_IPC_CHANNEL);
+        memcpy(
+            reinterpret_cast<uint8_t *>(cmd) + sizeof(aeron_publication_command_t),
+            AERON_IPC_CHANNEL,
+            (size_t)cmd->channel_length);
+
+        entry->msg_type_id = AERON_COMMAND_ADD_PUBLICATION;
+        entry->length = (int32_t)(sizeof(aeron_publication_command_t) + cmd->channel_length);
+
+        return offset + AERON_ALIGN(
+            sizeof(aeron_command_batch_entry_t) + (size_t)entry->length, AERON_COMMAND_BATCH_ENTRY_ALIGNMENT);
+    }
+
+    size_t putIpcSubscriptionEntry(
+        size_t offset, int32_t msg_type_id, int64_t client_id, int64_t correlation_id, int32_t stream_id)
+    {
+        auto *entry = reinterpret_cast<aeron_command_batch_entry_t *>(m_command_buffer + offset);
+        auto *cmd = reinterpret_cast<aeron_subscription_command_t *>(
+            m_command_buffer + offset + sizeof(aeron_command_batch_entry_t));
+
+        cmd->correlated.client_id = client_id;
+        cmd->correlated.correlation_id = correlation_id;
+        cmd->stream_id = stream_id;
+        cmd->registration_correlation_id = -1;
+        cmd->channel_length = (int32_t)strlen(AERON_IPC_CHANNEL);
+        memcpy(
+            reinterpret_cast<uint8_t *>(cmd) + sizeof(aeron_subscription_command_t),
+            AERON_IPC_CHANNEL,
+            (size_t)cmd->channel_length);
+
+        entry->msg_type_id = msg_type_id;
+        entry->length = (int32_t)(sizeof(aeron_subscription_command_t) + cmd->channel_length);
+
+        return offset + AERON_ALIGN(
+            sizeof(aeron_command_batch_entry_t) + (size_t)entry->length, AERON_COMMAND_BATCH_ENTRY_ALIGNMENT);
+    }
+
+    aeron_command_batch_entry_t *batchEntry(size_t offset)
+    {
+        return reinterpret_cast<aeron_command_batch_entry_t *>(m_command_buffer + offset);
+    }
+
+    int commandBatch(int64_t client_id, int64_t correlation_id, int32_t command_count, size_t length)
+    {
+        auto *cmd = reinterpret_cast<aeron_command_batch_t *>(m_command_buffer);
+
+        cmd->correlated.client_id = client_id;
+        cmd->correlated.correlation_id = correlation_id;
+        cmd->command_count = command_count;
+        cmd->reserved = 0;
+
+        return writeCommand(AERON_COMMAND_BATCH, length);
+    }
+
+    void expectBatchRejected(int64_t batch_id)
+    {
+        doWorkUntilDone();
+
+        EXPECT_EQ(aeron_driver_conductor_num_ipc_publications(&m_conductor.m_conductor), 0u);
+        EXPECT_EQ(aeron_driver_conductor_num_ipc_subscriptions(&m_conductor.m_conductor), 0u);
+
+        EXPECT_CALL(m_mockCallbacks, broadcastToClient(_, _, _)).Times(testing::AnyNumber());
+        EXPECT_CALL(m_mockCallbacks, broadcastToClient(AERON_RESPONSE_ON_ERROR, _, _)).With(IsError(batch_id));
+        readAllBroadcastsFromConductor(mock_broadcast_handler);
+    }
 };
 
 // TODO: Parameterise
@@ -423,3 +498,109 @@ TEST_F(DriverConductorIpcTest, shouldNotAddIpcSubscriptionThenPublicationWithDif
         .Times(0);
     readAllBroadcastsFromConductor(mock_broadcast_handler);
 }
+
+TEST_F(DriverConductorIpcTest, shouldAddIpcPublicationAndSubscriptionFromCommandBatch)
+{
+    int64_t client_id = nextCorrelationId();
+    int64_t batch_id = nextCorrelationId();
+    int64_t pub_id = nextCorrelationId();
+    int64_t sub_id = nextCorrelationId();
+
+    size_t offset = putIpcPublicationEntry(sizeof(aeron_command_batch_t), client_id, pub_id, STREAM_ID_1);
+    offset = putIpcSubscriptionEntry(offset, AERON_COMMAND_ADD_SUBSCRIPTION, client_id, sub_id, STREAM_ID_2);
+    ASSERT_EQ(commandBatch(client_id, batch_id, 2, offset), 0);
+    doWorkUntilDone();
+
+    EXPECT_EQ(aeron_driver_conductor_num_ipc_publications(&m_conductor.m_conductor), 1u);
+    EXPECT_EQ(aeron_driver_conductor_num_ipc_subscriptions(&m_conductor.m_conductor), 1u);
+
+    testing::Sequence sequence;
+    EXPECT_CALL(m_mockCallbacks, broadcastToClient(_, _, _)).Times(testing::AnyNumber());
+    EXPECT_CALL(m_mockCallbacks, broadcastToClient(AERON_RESPONSE_ON_PUBLICATION_READY, _, _))
+        .With(IsPublicationReady(pub_id, testing::Eq(STREAM_ID_1), _))
+        .InSequence(sequence);
+    EXPECT_CALL(m_mockCallbacks, broadcastToClient(AERON_RESPONSE_ON_SUBSCRIPTION_READY, _, _))
+        .With(IsSubscriptionReady(sub_id))
+        .InSequence(sequence);
+    EXPECT_CALL(m_mockCallbacks, broadcastToClient(AERON_RESPONSE_ON_ERROR, _, _)).Times(0);
+    readAllBroadcastsFromConductor(mock_broadcast_handler);
+}
+
+TEST_F(DriverConductorIpcTest, shouldRejectCommandBatchWithUnsupportedCommand)
+{
+    int64_t client_id = nextCorrelationId();
+    int64_t batch_id = nextCorrelationId();
+
+    size_t offset = putIpcPublicationEntry(sizeof(aeron_command_batch_t), client_id, nextCorrelationId(), STREAM_ID_1);
+    offset = putIpcSubscriptionEntry(
+        offset, AERON_COMMAND_REMOVE_SUBSCRIPTION, client_id, nextCorrelationId(), STREAM_ID_2);
+    ASSERT_EQ(commandBatch(client_id, batch_id, 2, offset), 0);
+
+    expectBatchRejected(batch_id);
+}
+
+TEST_F(DriverConductorIpcTest, shouldRejectNestedCommandBatch)
+{
+    int64_t client_id = nextCorrelationId();
+    int64_t batch_id = nextCorrelationId();
+
+    size_t offset = putIpcPublicationEntry(sizeof(aeron_command_batch_t), client_id, nextCorrelationId(), STREAM_ID_1);
+    const size_t nested_offset = offset;
+    offset = putIpcSubscriptionEntry(
+        offset, AERON_COMMAND_ADD_SUBSCRIPTION, client_id, nextCorrelationId(), STREAM_ID_2);
+    batchEntry(nested_offset)->msg_type_id = AERON_COMMAND_BATCH;
+    ASSERT_EQ(commandBatch(client_id, batch_id, 2, offset), 0);
+
+    expectBatchRejected(batch_id);
+}
+
+TEST_F(DriverConductorIpcTest, shouldRejectCommandBatchWithEntryLengthBeyondBatch)
+{
+    int64_t client_id = nextCorrelationId();
+    int64_t batch_id = nextCorrelationId();
+
+    size_t offset = putIpcPublicationEntry(sizeof(aeron_command_batch_t), client_id, nextCorrelationId(), STREAM_ID_1);
+    const size_t last_offset = offset;
+    offset = putIpcSubscriptionEntry(
+        offset, AERON_COMMAND_ADD_SUBSCRIPTION, client_id, nextCorrelationId(), STREAM_ID_2);
+    batchEntry(last_offset)->length = (int32_t)(offset - last_offset);
+    ASSERT_EQ(commandBatch(client_id, batch_id, 2, offset), 0);
+
+    expectBatchRejected(batch_id);
+}
+
+TEST_F(DriverConductorIpcTest, shouldRejectCommandBatchWithNegativeEntryLength)
+{
+    int64_t client_id = nextCorrelationId();
+    int64_t batch_id = nextCorrelationId();
+
+    size_t offset = putIpcPublicationEntry(sizeof(aeron_command_batch_t), client_id, nextCorrelationId(), STREAM_ID_1);
+    batchEntry(sizeof(aeron_command_batch_t))->length = -1;
+    ASSERT_EQ(commandBatch(client_id, batch_id, 1, offset), 0);
+
+    expectBatchRejected(batch_id);
+}
+
+TEST_F(DriverConductorIpcTest, shouldRejectCommandBatchWithTruncatedEntry)
+{
+    int64_t client_id = nextCorrelationId();
+    int64_t batch_id = nextCorrelationId();
+
+    size_t offset = putIpcPublicationEntry(sizeof(aeron_command_batch_t), client_id, nextCorrelationId(), STREAM_ID_1);
+    const size_t last_offset = offset;
+    putIpcSubscriptionEntry(offset, AERON_COMMAND_ADD_SUBSCRIPTION, client_id, nextCorrelationId(), STREAM_ID_2);
+    ASSERT_EQ(commandBatch(client_id, batch_id, 2, last_offset + sizeof(aeron_command_batch_entry_t) - 1), 0);
+
+    expectBatchRejected(batch_id);
+}
+
+TEST_F(DriverConductorIpcTest, shouldRejectCommandBatchWithMoreCommandsThanEntries)
+{
+    int64_t client_id = nextCorrelationId();
+    int64_t batch_id = nextCorrelationId();
+
+    size_t offset = putIpcPublicationEntry(sizeof(aeron_command_batch_t), client_id, nextCorrelationId(), STREAM_ID_1);
+    ASSERT_EQ(commandBatch(client_id, batch_id, 2, offset), 0);
+
+    expectBatchRejected(batch_id);
+}
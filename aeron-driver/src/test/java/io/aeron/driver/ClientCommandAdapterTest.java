@@ -16,8 +16,10 @@
 package io.aeron.driver;
 
 import io.aeron.ErrorCode;
+import io.aeron.command.CommandBatchFlyweight;
 import io.aeron.command.ControlProtocolEvents;
 import io.aeron.command.PublicationMessageFlyweight;
+import io.aeron.command.SubscriptionMessageFlyweight;
 import io.aeron.exceptions.AeronException;
 import io.aeron.exceptions.ControlProtocolException;
 import io.aeron.exceptions.StorageSpaceException;
@@ -37,10 +39,17 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 class ClientCommandAdapterTest
 {
@@ -169,6 +178,67 @@ class ClientCommandAdapterTest
         inOrder.verifyNoMoreInteractions();
     }
 
+    @Test
+    void shouldDispatchCommandBatchUntilClientCommandInProgress()
+    {
+        final long clientId = 9;
+        final String channel = "aeron:ipc";
+        final int length = encodeCommandBatch(clientId, channel, ControlProtocolEvents.ADD_SUBSCRIPTION);
+        when(driverConductor.isClientCommandInProgress()).thenReturn(false, true, false);
+
+        clientCommandAdapter.onMessage(ControlProtocolEvents.COMMAND_BATCH, buffer, 0, length);
+
+        verify(driverConductor).onAddIpcPublication(channel, 10, 2, clientId, false);
+        verify(driverConductor, never()).onAddIpcSubscription(channel, 11, 3, clientId);
+
+        assertEquals(1, clientCommandAdapter.receive());
+
+        verify(driverConductor).onAddIpcSubscription(channel, 11, 3, clientId);
+        verifyNoInteractions(toDriverCommands, errorHandler, clientProxy);
+    }
+
+    @Test
+    void shouldRejectCommandBatchWithUnsupportedCommand()
+    {
+        final long clientId = 9;
+        final String channel = "aeron:ipc";
+        final int length = encodeCommandBatch(clientId, channel, ControlProtocolEvents.REMOVE_SUBSCRIPTION);
+
+        clientCommandAdapter.onMessage(ControlProtocolEvents.COMMAND_BATCH, buffer, 0, length);
+
+        verify(errorHandler).onError(any(ControlProtocolException.class));
+        verify(clientProxy).onError(eq(1L), eq(ErrorCode.MALFORMED_COMMAND), anyString());
+        verify(driverConductor, never()).onAddIpcPublication(channel, 10, 2, clientId, false);
+    }
+
+    private int encodeCommandBatch(final long clientId, final String channel, final int secondMsgTypeId)
+    {
+        final CommandBatchFlyweight commandBatchFlyweight = new CommandBatchFlyweight();
+        final SubscriptionMessageFlyweight subscriptionMsgFlyweight = new SubscriptionMessageFlyweight();
+        commandBatchFlyweight.wrap(buffer, 0).commandCount(2).correlationId(1).clientId(clientId);
+
+        int entryOffset = CommandBatchFlyweight.LENGTH;
+        publicationMsgFlyweight.wrap(buffer, entryOffset + CommandBatchFlyweight.ENTRY_HEADER_LENGTH)
+            .streamId(10)
+            .channel(channel)
+            .clientId(clientId)
+            .correlationId(2);
+        commandBatchFlyweight.entryHeader(
+            entryOffset, ControlProtocolEvents.ADD_PUBLICATION, publicationMsgFlyweight.length());
+        entryOffset += CommandBatchFlyweight.alignedEntryLength(publicationMsgFlyweight.length());
+
+        subscriptionMsgFlyweight.wrap(buffer, entryOffset + CommandBatchFlyweight.ENTRY_HEADER_LENGTH)
+            .registrationCorrelationId(-1)
+            .streamId(11)
+            .channel(channel)
+            .clientId(clientId)
+            .correlationId(3);
+        commandBatchFlyweight.entryHeader(entryOffset, secondMsgTypeId, subscriptionMsgFlyweight.length());
+        entryOffset += CommandBatchFlyweight.alignedEntryLength(subscriptionMsgFlyweight.length());
+
+        return entryOffset;
+    }
+
     private static List<Throwable> noSpaceLeftExceptions()
     {
         return Arrays.asList(
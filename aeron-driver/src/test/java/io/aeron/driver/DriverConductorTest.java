@@ -19,6 +19,10 @@ import io.aeron.Aeron;
 import io.aeron.CommonContext;
 import io.aeron.DriverProxy;
 import io.aeron.ErrorCode;
+import io.aeron.command.CommandBatchFlyweight;
+import io.aeron.command.ControlProtocolEvents;
+import io.aeron.command.PublicationMessageFlyweight;
+import io.aeron.command.SubscriptionMessageFlyweight;
 import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.buffer.TestLogFactory;
 import io.aeron.driver.exceptions.InvalidChannelException;
@@ -1094,6 +1098,68 @@ class DriverConductorTest
             anyLong(), eq(id), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
     }
 
+    @Test
+    void shouldCompleteCommandBatchOfIpcRegistrationsInOneDutyCycle()
+    {
+        final int count = 8;
+        for (int i = 0; i < count; i++)
+        {
+            driverProxy.addPublication(CHANNEL_IPC, STREAM_ID_1 + i);
+        }
+
+        driverConductor.doWork();
+        verify(mockClientProxy, times(1)).onPublicationReady(
+            anyLong(), anyLong(), anyInt(), anyInt(), any(), anyInt(), anyInt(), eq(false));
+
+        for (int i = 1; i < count; i++)
+        {
+            driverConductor.doWork();
+        }
+        verify(mockClientProxy, times(count)).onPublicationReady(
+            anyLong(), anyLong(), anyInt(), anyInt(), any(), anyInt(), anyInt(), eq(false));
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[BUFFER_LENGTH]);
+        final CommandBatchFlyweight commandBatch = new CommandBatchFlyweight();
+        final PublicationMessageFlyweight publicationMessage = new PublicationMessageFlyweight();
+        final SubscriptionMessageFlyweight subscriptionMessage = new SubscriptionMessageFlyweight();
+        final long clientId = toDriverCommands.nextCorrelationId();
+        commandBatch.wrap(buffer, 0)
+            .commandCount(2 * count)
+            .correlationId(toDriverCommands.nextCorrelationId())
+            .clientId(clientId);
+
+        int entryOffset = CommandBatchFlyweight.LENGTH;
+        for (int i = 0; i < count; i++)
+        {
+            publicationMessage.wrap(buffer, entryOffset + CommandBatchFlyweight.ENTRY_HEADER_LENGTH)
+                .streamId(STREAM_ID_2 + i)
+                .channel(CHANNEL_IPC)
+                .clientId(clientId)
+                .correlationId(toDriverCommands.nextCorrelationId());
+            commandBatch.entryHeader(entryOffset, ControlProtocolEvents.ADD_PUBLICATION, publicationMessage.length());
+            entryOffset += CommandBatchFlyweight.alignedEntryLength(publicationMessage.length());
+
+            subscriptionMessage.wrap(buffer, entryOffset + CommandBatchFlyweight.ENTRY_HEADER_LENGTH)
+                .registrationCorrelationId(Aeron.NULL_VALUE)
+                .streamId(STREAM_ID_2 + i)
+                .channel(CHANNEL_IPC)
+                .clientId(clientId)
+                .correlationId(toDriverCommands.nextCorrelationId());
+            commandBatch.entryHeader(entryOffset, ControlProtocolEvents.ADD_SUBSCRIPTION, subscriptionMessage.length());
+            entryOffset += CommandBatchFlyweight.alignedEntryLength(subscriptionMessage.length());
+        }
+
+        assertTrue(toDriverCommands.write(ControlProtocolEvents.COMMAND_BATCH, buffer, 0, entryOffset));
+
+        driverConductor.doWork();
+
+        verify(mockClientProxy, times(2 * count)).onPublicationReady(
+            anyLong(), anyLong(), anyInt(), anyInt(), any(), anyInt(), anyInt(), eq(false));
+        verify(mockClientProxy, times(count)).onSubscriptionReady(anyLong(), anyInt());
+        verify(mockClientProxy, times(count)).onAvailableImage(
+            anyLong(), anyInt(), anyInt(), anyLong(), anyInt(), anyString(), anyString());
+    }
+
     @Test
     void shouldBeAbleToAddIpcPublicationThenSubscription()
     {
@@ -15,9 +15,12 @@
  */
 package io.aeron.driver;
 
+import io.aeron.CommonContext;
 import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.media.SendChannelEndpoint;
 import io.aeron.driver.status.SystemCounters;
+import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.HeaderFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
 import org.agrona.BufferUtil;
 import org.agrona.concurrent.CachedNanoClock;
@@ -33,11 +36,16 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -296,4 +304,111 @@ class NetworkPublicationTest
         assertEquals(initialPosition + 2 * TERM_MIN_LENGTH + 2 * PUBLICATION_WINDOW_LENGTH, publisherLimit.get());
         assertEquals(initialPosition + TERM_MIN_LENGTH + PUBLICATION_WINDOW_LENGTH, publication.cleanPosition);
     }
+
+    @Test
+    void shouldOnlyCompressOnceReceiverAcknowledgesCompression()
+    {
+        final List<Boolean> sentCompressed = captureSentDatagrams();
+        final int frameLength = 1024;
+        appendCompressibleFrame(frameLength);
+        params.compression = CommonContext.COMPRESSION_DEFLATE;
+
+        final NetworkPublication publication = newPublication();
+
+        when(statusMessageFlyweight.flags()).thenReturn(StatusMessageFlyweight.COMPRESSION_FLAG);
+        publication.onStatusMessage(statusMessageFlyweight, inetSocketAddress, driverConductorProxy);
+
+        assertEquals(frameLength, publication.send(0));
+        publication.resend(INITIAL_TERM_ID, 0, frameLength);
+        assertEquals(List.of(true, true), sentCompressed);
+
+        when(statusMessageFlyweight.flags()).thenReturn((short)0);
+        publication.onStatusMessage(statusMessageFlyweight, inetSocketAddress, driverConductorProxy);
+        publication.resend(INITIAL_TERM_ID, 0, frameLength);
+
+        when(statusMessageFlyweight.flags()).thenReturn(StatusMessageFlyweight.COMPRESSION_FLAG);
+        publication.onStatusMessage(statusMessageFlyweight, inetSocketAddress, driverConductorProxy);
+        publication.resend(INITIAL_TERM_ID, 0, frameLength);
+
+        assertEquals(List.of(true, true, false, false), sentCompressed);
+    }
+
+    @Test
+    void shouldNotCompressWhenReceiverDoesNotAcknowledgeCompression()
+    {
+        final List<Boolean> sentCompressed = captureSentDatagrams();
+        final int frameLength = 1024;
+        appendCompressibleFrame(frameLength);
+        params.compression = CommonContext.COMPRESSION_DEFLATE;
+
+        final NetworkPublication publication = newPublication();
+
+        publication.onStatusMessage(statusMessageFlyweight, inetSocketAddress, driverConductorProxy);
+
+        assertEquals(frameLength, publication.send(0));
+        publication.resend(INITIAL_TERM_ID, 0, frameLength);
+        assertEquals(List.of(false, false), sentCompressed);
+    }
+
+    private NetworkPublication newPublication()
+    {
+        when(flowControl.onStatusMessage(any(), any(), anyLong(), anyInt(), anyInt(), anyLong()))
+            .thenReturn((long)PUBLICATION_WINDOW_LENGTH);
+
+        return new NetworkPublication(
+            REGISTRATION_ID,
+            ctx,
+            params,
+            sendChannelEndpoint,
+            rawLog,
+            PUBLICATION_WINDOW_LENGTH,
+            publisherPos,
+            publisherLimit,
+            senderPosition,
+            senderLimit,
+            senderBpe,
+            senderNaksReceived,
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            flowControl,
+            retransmitHandler,
+            NETWORK_PUBLICATION_THREAD_LOCALS,
+            true);
+    }
+
+    private List<Boolean> captureSentDatagrams()
+    {
+        final List<Boolean> sentCompressed = new ArrayList<>();
+        when(sendChannelEndpoint.send(any(ByteBuffer.class))).thenAnswer(
+            (invocation) ->
+            {
+                final ByteBuffer datagram = invocation.getArgument(0);
+                final DataHeaderFlyweight header = new DataHeaderFlyweight(
+                    new UnsafeBuffer(datagram, datagram.position(), datagram.remaining()));
+                sentCompressed.add(0 != (header.flags() & DataHeaderFlyweight.COMPRESSED_FLAG));
+
+                return datagram.remaining();
+            });
+
+        return sentCompressed;
+    }
+
+    private static void appendCompressibleFrame(final int frameLength)
+    {
+        final UnsafeBuffer termBuffer = TERM_BUFFERS[0];
+        termBuffer.setMemory(0, frameLength, (byte)'a');
+
+        final DataHeaderFlyweight dataHeader = new DataHeaderFlyweight(termBuffer);
+        dataHeader
+            .termOffset(0)
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(INITIAL_TERM_ID)
+            .reservedValue(DataHeaderFlyweight.DEFAULT_RESERVE_VALUE)
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+            .frameLength(frameLength);
+    }
 }
@@ -99,6 +99,15 @@ class PublicationParamsTest
         assertTrue(exception.getMessage().contains("must be a number"));
     }
 
+    @Test
+    void shouldRejectCompressionForIpc()
+    {
+        final ChannelUri uri = ChannelUri.parse("aeron:ipc?" + CommonContext.COMPRESSION_PARAM_NAME + "=deflate");
+        final InvalidChannelException exception = assertThrowsExactly(InvalidChannelException.class,
+            () -> PublicationParams.getPublicationParams(uri, ctx, conductor, 42, "IPC"));
+        assertTrue(exception.getMessage().contains("only supported for network publications"));
+    }
+
     @Test
     void shouldSetStreamId()
     {
@@ -71,6 +71,7 @@ import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -635,6 +636,57 @@ class ReceiverTest
         verify(mockImage, never()).removeFromDispatcher();
     }
 
+    @Test
+    void shouldOnlyConnectToSourceForZeroCopyReceiveWhileImagesShareOneSource()
+    {
+        final ReceiveChannelEndpoint zeroCopyEndpoint = mock(ReceiveChannelEndpoint.class);
+        when(zeroCopyEndpoint.isReceiveZeroCopy()).thenReturn(true);
+        when(zeroCopyEndpoint.dispatcher()).thenReturn(mock(DataPacketDispatcher.class));
+
+        final InetSocketAddress otherSenderAddress = new InetSocketAddress("localhost", 40125);
+        final PublicationImage imageOne = mockImage(zeroCopyEndpoint, SESSION_ID, senderAddress);
+        final PublicationImage imageTwo = mockImage(zeroCopyEndpoint, SESSION_ID + 1, senderAddress);
+        final PublicationImage imageThree = mockImage(zeroCopyEndpoint, SESSION_ID + 2, otherSenderAddress);
+
+        receiver.onNewPublicationImage(zeroCopyEndpoint, imageOne);
+        receiver.onNewPublicationImage(zeroCopyEndpoint, imageTwo);
+        verify(zeroCopyEndpoint, times(2)).disconnectFromSource();
+        verify(zeroCopyEndpoint, times(2)).connectToSource(senderAddress);
+
+        receiver.onNewPublicationImage(zeroCopyEndpoint, imageThree);
+        verify(zeroCopyEndpoint, times(3)).disconnectFromSource();
+        verify(zeroCopyEndpoint, times(2)).connectToSource(senderAddress);
+        verify(zeroCopyEndpoint, never()).connectToSource(otherSenderAddress);
+
+        when(imageOne.isConnected(anyLong())).thenReturn(false);
+        receiver.doWork();
+        verify(zeroCopyEndpoint, times(4)).disconnectFromSource();
+        verify(zeroCopyEndpoint, times(2)).connectToSource(senderAddress);
+
+        when(imageTwo.isConnected(anyLong())).thenReturn(false);
+        receiver.doWork();
+        verify(zeroCopyEndpoint, times(5)).disconnectFromSource();
+        verify(zeroCopyEndpoint).connectToSource(otherSenderAddress);
+
+        when(imageThree.isConnected(anyLong())).thenReturn(false);
+        receiver.doWork();
+        verify(zeroCopyEndpoint, times(6)).disconnectFromSource();
+        verify(zeroCopyEndpoint).connectToSource(otherSenderAddress);
+    }
+
+    private static PublicationImage mockImage(
+        final ReceiveChannelEndpoint channelEndpoint, final int sessionId, final InetSocketAddress controlAddress)
+    {
+        final PublicationImage image = mock(PublicationImage.class);
+        when(image.channelEndpoint()).thenReturn(channelEndpoint);
+        when(image.sessionId()).thenReturn(sessionId);
+        when(image.streamId()).thenReturn(STREAM_ID);
+        when(image.controlAddress(0)).thenReturn(controlAddress);
+        when(image.isConnected(anyLong())).thenReturn(true);
+
+        return image;
+    }
+
     private void fillDataFrame(final DataHeaderFlyweight header, final int termOffset)
     {
         header.wrap(dataBuffer);
@@ -23,6 +23,7 @@ import io.aeron.driver.media.SendChannelEndpoint;
 import io.aeron.driver.media.UdpChannel;
 import io.aeron.driver.media.UdpTransportPoller;
 import io.aeron.driver.media.WildcardPortManager;
+import io.aeron.driver.status.SystemCounterDescriptor;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.protocol.DataHeaderFlyweight;
@@ -51,10 +52,12 @@ import java.nio.ByteBuffer;
 import java.nio.channels.DatagramChannel;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -73,6 +76,8 @@ class SelectorAndTransportTest
     private static final UdpChannel SRC_DST =
         UdpChannel.parse("aeron:udp?interface=localhost:" + SRC_PORT + "|endpoint=localhost:" + RCV_PORT);
     private static final UdpChannel RCV_DST = UdpChannel.parse("aeron:udp?endpoint=localhost:" + RCV_PORT);
+    private static final UdpChannel RCV_ZERO_COPY_DST =
+        UdpChannel.parse("aeron:udp?endpoint=localhost:" + RCV_PORT + "|rcv-zero-copy=true");
 
     private final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(256);
     private final UnsafeBuffer buffer = new UnsafeBuffer(byteBuffer);
@@ -92,7 +97,7 @@ class SelectorAndTransportTest
     private final DriverConductorProxy mockDriverConductorProxy = mock(DriverConductorProxy.class);
     private final ErrorHandler errorHandler = mock(ErrorHandler.class);
 
-    private final DataTransportPoller dataTransportPoller = new DataTransportPoller(errorHandler);
+    private DataTransportPoller dataTransportPoller = new DataTransportPoller(errorHandler);
     private final ControlTransportPoller controlTransportPoller = new ControlTransportPoller(
         errorHandler, mockDriverConductorProxy);
     private SendChannelEndpoint sendChannelEndpoint;
@@ -311,6 +316,144 @@ class SelectorAndTransportTest
         assertEquals(1, dataHeadersReceived.get());
     }
 
+    @Test
+    @InterruptAfter(10)
+    void shouldDispatchEachDatagramReceivedInBatch()
+    {
+        final MutableInteger dataHeadersReceived = new MutableInteger(0);
+
+        doAnswer(
+            (invocation) ->
+            {
+                dataHeadersReceived.value++;
+                return null;
+            })
+            .when(mockDispatcher).onDataPacket(
+                any(ReceiveChannelEndpoint.class),
+                any(DataHeaderFlyweight.class),
+                any(UnsafeBuffer.class),
+                anyInt(),
+                any(InetSocketAddress.class),
+                anyInt());
+
+        receiveChannelEndpoint = new ReceiveChannelEndpoint(
+            RCV_DST, mockDispatcher, mockReceiveStatusIndicator, context);
+        sendChannelEndpoint = new SendChannelEndpoint(SRC_DST, mockSendStatusIndicator, context);
+
+        receiveChannelEndpoint.openDatagramChannel(mockReceiveStatusIndicator);
+        dataTransportPoller.registerForRead(receiveChannelEndpoint, receiveChannelEndpoint, 0);
+        sendChannelEndpoint.openDatagramChannel(mockSendStatusIndicator);
+        controlTransportPoller.registerForRead(sendChannelEndpoint);
+
+        encodeDataHeader.wrap(buffer);
+        encodeDataHeader
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+            .frameLength(FRAME_LENGTH);
+        encodeDataHeader
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(TERM_ID);
+
+        processLoop(dataTransportPoller, 5);
+
+        final int datagramCount = Configuration.RECEIVER_IO_VECTOR_CAPACITY_DEFAULT + 1;
+        for (int i = 0; i < datagramCount; i++)
+        {
+            byteBuffer.position(0).limit(FRAME_LENGTH);
+            sendChannelEndpoint.send(byteBuffer);
+        }
+
+        while (dataHeadersReceived.get() < datagramCount)
+        {
+            processLoop(dataTransportPoller, 1);
+        }
+
+        assertEquals(datagramCount, dataHeadersReceived.get());
+    }
+
+    @Test
+    @InterruptAfter(10)
+    void shouldLimitDatagramsDrainedFromTransportToBudget()
+    {
+        final int budget = 2;
+        final AtomicCounter budgetExhausted = mock(AtomicCounter.class);
+        final AtomicCounter endpointBudgetExhausted = mock(AtomicCounter.class);
+        final AtomicCounter transportDrains = mock(AtomicCounter.class);
+        final MutableInteger dataHeadersReceived = new MutableInteger(0);
+
+        dataTransportPoller.close();
+        dataTransportPoller = new DataTransportPoller(
+            errorHandler,
+            Configuration.TRANSPORT_POLLER_ITERATION_THRESHOLD_DEFAULT,
+            Configuration.RECEIVER_IO_VECTOR_CAPACITY_DEFAULT,
+            budget,
+            null,
+            budgetExhausted,
+            transportDrains);
+
+        doAnswer(
+            (invocation) ->
+            {
+                dataHeadersReceived.value++;
+                return null;
+            })
+            .when(mockDispatcher).onDataPacket(
+                any(ReceiveChannelEndpoint.class),
+                any(DataHeaderFlyweight.class),
+                any(UnsafeBuffer.class),
+                anyInt(),
+                any(InetSocketAddress.class),
+                anyInt());
+
+        receiveChannelEndpoint = new ReceiveChannelEndpoint(
+            RCV_DST, mockDispatcher, mockReceiveStatusIndicator, context);
+        receiveChannelEndpoint.budgetExhaustedCounter(endpointBudgetExhausted);
+        sendChannelEndpoint = new SendChannelEndpoint(SRC_DST, mockSendStatusIndicator, context);
+
+        receiveChannelEndpoint.openDatagramChannel(mockReceiveStatusIndicator);
+        dataTransportPoller.registerForRead(receiveChannelEndpoint, receiveChannelEndpoint, 0);
+        sendChannelEndpoint.openDatagramChannel(mockSendStatusIndicator);
+        controlTransportPoller.registerForRead(sendChannelEndpoint);
+
+        encodeDataHeader.wrap(buffer);
+        encodeDataHeader
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+            .frameLength(FRAME_LENGTH);
+        encodeDataHeader
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(TERM_ID);
+
+        final int datagramCount = budget + 1;
+        for (int i = 0; i < datagramCount; i++)
+        {
+            byteBuffer.position(0).limit(FRAME_LENGTH);
+            sendChannelEndpoint.send(byteBuffer);
+        }
+
+        while (dataHeadersReceived.get() < budget)
+        {
+            processLoop(dataTransportPoller, 1);
+        }
+
+        assertEquals(budget, dataHeadersReceived.get());
+        verify(budgetExhausted, times(1)).increment();
+        verify(endpointBudgetExhausted, times(1)).increment();
+
+        while (dataHeadersReceived.get() < datagramCount)
+        {
+            processLoop(dataTransportPoller, 1);
+        }
+
+        assertEquals(datagramCount, dataHeadersReceived.get());
+        verify(budgetExhausted, times(1)).increment();
+        verify(endpointBudgetExhausted, times(1)).increment();
+    }
+
     @Test
     @InterruptAfter(10)
     void shouldHandleSmFrameFromReceiverToSender()
@@ -356,7 +499,144 @@ class SelectorAndTransportTest
             processLoop(controlTransportPoller, 1);
         }
 
-        verify(mockStatusMessagesReceivedCounter, times(1)).incrementRelease();
+        verify(mockStatusMessagesReceivedCounter, times(1)).increment();
+    }
+
+    @Test
+    @InterruptAfter(10)
+    void shouldReceivePayloadDirectlyIntoTermBufferWhenConnectedToSource()
+    {
+        final MutableInteger directPacketsReceived = new MutableInteger(0);
+        final ByteBuffer termBuffer = ByteBuffer.allocateDirect(1024);
+        final int payloadLength = 32;
+        final int frameLength = DataHeaderFlyweight.HEADER_LENGTH + payloadLength;
+
+        when(mockDispatcher.directReceiveBuffer()).thenReturn(termBuffer);
+        when(mockDispatcher.isDirectReceivePacket(any(DataHeaderFlyweight.class), anyInt())).thenReturn(true);
+        doAnswer(
+            (invocation) ->
+            {
+                directPacketsReceived.value++;
+                return frameLength;
+            })
+            .when(mockDispatcher).onDirectDataPacket(
+                any(ReceiveChannelEndpoint.class),
+                any(DataHeaderFlyweight.class),
+                any(UnsafeBuffer.class),
+                anyInt(),
+                any(InetSocketAddress.class),
+                anyInt());
+
+        receiveChannelEndpoint = new ReceiveChannelEndpoint(
+            RCV_ZERO_COPY_DST, mockDispatcher, mockReceiveStatusIndicator, context);
+        sendChannelEndpoint = new SendChannelEndpoint(SRC_DST, mockSendStatusIndicator, context);
+
+        receiveChannelEndpoint.openDatagramChannel(mockReceiveStatusIndicator);
+        dataTransportPoller.registerForRead(receiveChannelEndpoint, receiveChannelEndpoint, 0);
+        sendChannelEndpoint.openDatagramChannel(mockSendStatusIndicator);
+        controlTransportPoller.registerForRead(sendChannelEndpoint);
+
+        receiveChannelEndpoint.connectToSource(rcvRemoteAddress);
+        assertEquals(rcvRemoteAddress, receiveChannelEndpoint.connectedSourceAddress());
+
+        encodeDataFrame(frameLength);
+        for (int i = 0; i < payloadLength; i++)
+        {
+            buffer.putByte(DataHeaderFlyweight.HEADER_LENGTH + i, (byte)i);
+        }
+        byteBuffer.position(0).limit(frameLength);
+
+        sendChannelEndpoint.send(byteBuffer);
+        while (directPacketsReceived.get() < 1)
+        {
+            processLoop(dataTransportPoller, 1);
+        }
+
+        assertEquals(payloadLength, termBuffer.position());
+        for (int i = 0; i < payloadLength; i++)
+        {
+            assertEquals((byte)i, termBuffer.get(i));
+        }
+        verify(mockDispatcher, never()).onDataPacket(
+            any(ReceiveChannelEndpoint.class),
+            any(DataHeaderFlyweight.class),
+            any(UnsafeBuffer.class),
+            anyInt(),
+            any(InetSocketAddress.class),
+            anyInt());
+    }
+
+    @Test
+    @InterruptAfter(10)
+    void shouldCountAndAcceptDatagramsFromOtherSourcesWhenCheckingSourcesForZeroCopyReceive() throws IOException
+    {
+        final MutableInteger dataHeadersReceived = new MutableInteger(0);
+        final AtomicCounter otherSourceDatagrams = mock(AtomicCounter.class);
+        when(mockSystemCounters.get(SystemCounterDescriptor.RECEIVE_ZERO_COPY_OTHER_SOURCE_DATAGRAMS))
+            .thenReturn(otherSourceDatagrams);
+
+        doAnswer(
+            (invocation) ->
+            {
+                dataHeadersReceived.value++;
+                return null;
+            })
+            .when(mockDispatcher).onDataPacket(
+                any(ReceiveChannelEndpoint.class),
+                any(DataHeaderFlyweight.class),
+                any(UnsafeBuffer.class),
+                anyInt(),
+                any(InetSocketAddress.class),
+                anyInt());
+
+        receiveChannelEndpoint = new ReceiveChannelEndpoint(
+            RCV_ZERO_COPY_DST, mockDispatcher, mockReceiveStatusIndicator, context);
+        receiveChannelEndpoint.openDatagramChannel(mockReceiveStatusIndicator);
+        dataTransportPoller.registerForRead(receiveChannelEndpoint, receiveChannelEndpoint, 0);
+
+        receiveChannelEndpoint.connectToSource(rcvRemoteAddress);
+        assertEquals(rcvRemoteAddress, receiveChannelEndpoint.connectedSourceAddress());
+
+        nanoClock.advance(Configuration.RECEIVE_ZERO_COPY_SOURCE_CHECK_INTERVAL_NS);
+        processLoop(dataTransportPoller, 1);
+        assertNull(receiveChannelEndpoint.connectedSourceAddress());
+
+        try (DatagramChannel otherSource = DatagramChannel.open(StandardProtocolFamily.INET))
+        {
+            otherSource.bind(new InetSocketAddress("localhost", 0));
+
+            encodeDataFrame(FRAME_LENGTH);
+            byteBuffer.position(0).limit(FRAME_LENGTH);
+            otherSource.send(byteBuffer, new InetSocketAddress("localhost", RCV_PORT));
+
+            while (dataHeadersReceived.get() < 1)
+            {
+                processLoop(dataTransportPoller, 1);
+            }
+        }
+
+        verify(otherSourceDatagrams, times(1)).increment();
+
+        nanoClock.advance(Configuration.RECEIVE_ZERO_COPY_SOURCE_CHECK_WINDOW_NS);
+        processLoop(dataTransportPoller, 1);
+        assertNull(receiveChannelEndpoint.connectedSourceAddress());
+
+        receiveChannelEndpoint.connectToSource(rcvRemoteAddress);
+        assertNull(receiveChannelEndpoint.connectedSourceAddress());
+    }
+
+    private void encodeDataFrame(final int frameLength)
+    {
+        encodeDataHeader.wrap(buffer);
+        encodeDataHeader
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+            .frameLength(frameLength);
+        encodeDataHeader
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(TERM_ID);
     }
 
     private void processLoop(final UdpTransportPoller transportPoller, final int iterations)
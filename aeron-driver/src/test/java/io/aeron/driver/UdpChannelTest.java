@@ -649,6 +649,47 @@ class UdpChannelTest
         assertEquals(expected, UdpChannel.isMulticastDestinationAddress(ChannelUri.parse(uri)));
     }
 
+    @Test
+    void shouldAssignChannelToAgentByAffinityGroup()
+    {
+        final UdpChannel udpChannel = UdpChannel.parse("aeron:udp?endpoint=localhost:40124|affinity-group=5");
+
+        assertEquals(5, udpChannel.affinityGroup());
+        assertEquals(0, udpChannel.agentIndex(1));
+        assertEquals(1, udpChannel.agentIndex(2));
+        assertEquals(2, udpChannel.agentIndex(3));
+    }
+
+    @Test
+    void shouldAssignChannelWithoutAffinityGroupToAgentConsistently()
+    {
+        final UdpChannel udpChannelOne = UdpChannel.parse("aeron:udp?endpoint=localhost:40124");
+        final UdpChannel udpChannelTwo = UdpChannel.parse("aeron:udp?endpoint=localhost:40124");
+
+        for (int agentCount = 1; agentCount <= 4; agentCount++)
+        {
+            final int agentIndex = udpChannelOne.agentIndex(agentCount);
+            assertThat(agentIndex, allOf(greaterThanOrEqualTo(0), lessThan(agentCount)));
+            assertEquals(agentIndex, udpChannelTwo.agentIndex(agentCount));
+        }
+    }
+
+    @Test
+    void shouldParseReceiveZeroCopy()
+    {
+        assertTrue(UdpChannel.parse("aeron:udp?endpoint=localhost:40124|rcv-zero-copy=true").isReceiveZeroCopy());
+        assertFalse(UdpChannel.parse("aeron:udp?endpoint=localhost:40124|rcv-zero-copy=false").isReceiveZeroCopy());
+        assertFalse(UdpChannel.parse("aeron:udp?endpoint=localhost:40124").isReceiveZeroCopy());
+    }
+
+    @Test
+    void shouldRejectNegativeAffinityGroup()
+    {
+        assertThrows(
+            InvalidChannelException.class,
+            () -> UdpChannel.parse("aeron:udp?endpoint=localhost:40124|affinity-group=-1"));
+    }
+
     private static List<ChannelUri> invalidMulticastAddresses()
     {
         return Arrays.asList(
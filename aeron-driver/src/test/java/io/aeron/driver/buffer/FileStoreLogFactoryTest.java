@@ -23,6 +23,7 @@ import org.agrona.CloseHelper;
 import org.agrona.ErrorHandler;
 import org.agrona.IoUtil;
 import org.agrona.SystemUtil;
+import org.agrona.concurrent.CachedNanoClock;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.junit.jupiter.api.AfterEach;
@@ -41,6 +42,7 @@ import java.util.List;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.PARTITION_COUNT;
 import static io.aeron.logbuffer.LogBufferDescriptor.computeLogLength;
+import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -128,6 +130,149 @@ class FileStoreLogFactoryTest
         assertEquals(0, metaData.getByte(LogBufferDescriptor.LOG_META_DATA_LENGTH - 1));
     }
 
+    @Test
+    void shouldRecordMappingTimeWhenCreatingLogs()
+    {
+        final CachedNanoClock nanoClock = new CachedNanoClock();
+        final AtomicCounter mappingMaxTime = mock(AtomicCounter.class);
+        final AtomicCounter mappingTotalTime = mock(AtomicCounter.class);
+        CloseHelper.close(fileStoreLogFactory);
+        fileStoreLogFactory = new FileStoreLogFactory(
+            DATA_DIR.getAbsolutePath(),
+            PAGE_SIZE,
+            PERFORM_STORAGE_CHECKS,
+            LOW_STORAGE_THRESHOLD,
+            mock(ErrorHandler.class),
+            mockBytesMappedCounter,
+            null,
+            Configuration.LOG_BUFFER_HUGE_PAGE_SIZE_DEFAULT,
+            true,
+            nanoClock,
+            mappingMaxTime,
+            mappingTotalTime,
+            0,
+            null,
+            null);
+
+        rawLog = fileStoreLogFactory.newPublication(CREATION_ID, TERM_BUFFER_LENGTH, true);
+
+        verify(mappingMaxTime).proposeMaxRelease(anyLong());
+        verify(mappingTotalTime).getAndAddRelease(anyLong());
+        assertEquals(0, rawLog.termBuffers()[PARTITION_COUNT - 1].getByte(TERM_BUFFER_LENGTH - 1));
+    }
+
+    @Test
+    void shouldCreateLogsInHugePageSubdirectoryForDataDirectoryAndDeleteOnClose()
+    {
+        final File hugePageDir = new File(SystemUtil.tmpDirName(), "hugePageDirName");
+        final File otherDataDir = new File(SystemUtil.tmpDirName(), "otherDir/dataDirName");
+        final File subdirectory = new File(hugePageDir, FileStoreLogFactory.hugePageSubdirectoryName(DATA_DIR));
+        final File otherSubdirectory =
+            new File(hugePageDir, FileStoreLogFactory.hugePageSubdirectoryName(otherDataDir));
+        assertNotEquals(subdirectory, otherSubdirectory);
+
+        FileStoreLogFactory otherLogFactory = null;
+        RawLog otherLog = null;
+        try
+        {
+            otherLogFactory = newHugePageLogFactory(otherDataDir, hugePageDir);
+            otherLog = otherLogFactory.newPublication(CREATION_ID, TERM_BUFFER_LENGTH, true);
+
+            CloseHelper.close(fileStoreLogFactory);
+            fileStoreLogFactory = newHugePageLogFactory(DATA_DIR, hugePageDir);
+            rawLog = fileStoreLogFactory.newPublication(CREATION_ID, TERM_BUFFER_LENGTH, true);
+
+            final File instanceDir = new File(subdirectory, Long.toString(SystemUtil.getPid()));
+            assertEquals(new File(instanceDir, "publications"), new File(rawLog.fileName()).getParentFile());
+            assertTrue(new File(otherLog.fileName()).exists());
+
+            CloseHelper.close(rawLog);
+            rawLog = null;
+            fileStoreLogFactory.close();
+            fileStoreLogFactory = null;
+
+            assertFalse(subdirectory.exists());
+            assertTrue(new File(otherLog.fileName()).exists());
+
+            otherLog.close();
+            otherLogFactory.close();
+            assertFalse(otherSubdirectory.exists());
+        }
+        finally
+        {
+            CloseHelper.closeAll(otherLog, otherLogFactory);
+            IoUtil.delete(hugePageDir, true);
+        }
+    }
+
+    @Test
+    void shouldTakeLogCreatedAheadOfDemandFromPool()
+    {
+        final AtomicCounter poolHits = mock(AtomicCounter.class);
+        final AtomicCounter poolMisses = mock(AtomicCounter.class);
+        recreateFactoryWithPool(2, poolHits, poolMisses);
+
+        assertEquals(0, fileStoreLogFactory.doWork());
+
+        final RawLog firstLog = fileStoreLogFactory.newPublication(CREATION_ID, TERM_BUFFER_LENGTH, true);
+        verify(poolMisses).incrementRelease();
+        firstLog.close();
+
+        assertEquals(1, fileStoreLogFactory.doWork());
+        assertEquals(1, fileStoreLogFactory.doWork());
+        assertEquals(0, fileStoreLogFactory.doWork());
+
+        final File poolDir = new File(DATA_DIR, "pool");
+        final String[] pooledFiles = poolDir.list();
+        assertNotNull(pooledFiles);
+        assertEquals(2, pooledFiles.length);
+
+        rawLog = fileStoreLogFactory.newImage(CREATION_ID + 1, TERM_BUFFER_LENGTH, true);
+
+        verify(poolHits).incrementRelease();
+        assertNotSame(firstLog, rawLog);
+        assertEquals(new File(new File(DATA_DIR, "images"), (CREATION_ID + 1) + ".logbuffer").getAbsolutePath(),
+            new File(rawLog.fileName()).getAbsolutePath());
+        assertTrue(new File(rawLog.fileName()).exists());
+        assertEquals(TERM_BUFFER_LENGTH, rawLog.termLength());
+        assertEquals(0, rawLog.metaData().getLong(0));
+        assertEquals(1, requireNonNull(poolDir.list()).length);
+
+        final RawLog otherLengthLog = fileStoreLogFactory.newPublication(
+            CREATION_ID + 2, TERM_BUFFER_LENGTH / 2, true);
+        verify(poolMisses, times(2)).incrementRelease();
+        otherLengthLog.close();
+
+        assertEquals(1, fileStoreLogFactory.doWork());
+        assertEquals(0, fileStoreLogFactory.doWork());
+
+        CloseHelper.close(fileStoreLogFactory);
+        assertFalse(poolDir.exists());
+    }
+
+    @Test
+    void shouldNotReturnFreedLogToPool()
+    {
+        final AtomicCounter poolHits = mock(AtomicCounter.class);
+        final AtomicCounter poolMisses = mock(AtomicCounter.class);
+        recreateFactoryWithPool(1, poolHits, poolMisses);
+
+        final RawLog firstLog = fileStoreLogFactory.newPublication(CREATION_ID, TERM_BUFFER_LENGTH, true);
+        final String firstFileName = firstLog.fileName();
+        firstLog.metaData().putLong(0, Long.MAX_VALUE);
+
+        assertTrue(firstLog.free());
+        assertFalse(new File(firstFileName).exists());
+        assertEquals(0, requireNonNull(new File(DATA_DIR, "pool").list()).length);
+
+        assertEquals(1, fileStoreLogFactory.doWork());
+        rawLog = fileStoreLogFactory.newPublication(CREATION_ID + 1, TERM_BUFFER_LENGTH, true);
+
+        verify(poolHits).incrementRelease();
+        assertNotSame(firstLog, rawLog);
+        assertEquals(0, rawLog.metaData().getLong(0));
+    }
+
     @Test
     void shouldThrowInsufficientUsableStorageExceptionIfNotEnoughSpaceOnDisc() throws IOException
     {
@@ -216,6 +361,26 @@ class FileStoreLogFactoryTest
         verifyNoMoreInteractions(errorHandler);
     }
 
+    private FileStoreLogFactory newHugePageLogFactory(final File dataDir, final File hugePageDir)
+    {
+        return new FileStoreLogFactory(
+            dataDir.getAbsolutePath(),
+            PAGE_SIZE,
+            false,
+            LOW_STORAGE_THRESHOLD,
+            mock(ErrorHandler.class),
+            mockBytesMappedCounter,
+            hugePageDir.getAbsolutePath(),
+            PAGE_SIZE,
+            false,
+            null,
+            null,
+            null,
+            0,
+            null,
+            null);
+    }
+
     private static void assertThrowsStorageSpaceException(
         final FileStore fileStore, final int termBufferLength, final long usableSpace, final Executable executable)
     {
@@ -225,4 +390,26 @@ class FileStoreLogFactoryTest
             computeLogLength(termBufferLength, PAGE_SIZE) + " usable=" + usableSpace + " in " + fileStore,
             exception.getMessage());
     }
+
+    private void recreateFactoryWithPool(
+        final int poolCapacity, final AtomicCounter poolHits, final AtomicCounter poolMisses)
+    {
+        CloseHelper.close(fileStoreLogFactory);
+        fileStoreLogFactory = new FileStoreLogFactory(
+            DATA_DIR.getAbsolutePath(),
+            PAGE_SIZE,
+            false,
+            LOW_STORAGE_THRESHOLD,
+            mock(ErrorHandler.class),
+            mockBytesMappedCounter,
+            null,
+            Configuration.LOG_BUFFER_HUGE_PAGE_SIZE_DEFAULT,
+            false,
+            null,
+            null,
+            null,
+            poolCapacity,
+            poolHits,
+            poolMisses);
+    }
 }
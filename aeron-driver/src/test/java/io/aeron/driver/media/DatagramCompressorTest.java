@@ -0,0 +1,187 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.media;
+
+import io.aeron.CommonContext;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class DatagramCompressorTest
+{
+    private static final int MTU_LENGTH = 1408;
+    private static final int FRAME_LENGTH = 352;
+    private static final int SESSION_ID = 7;
+    private static final int STREAM_ID = 1001;
+    private static final int TERM_ID = 3;
+    private static final int TERM_OFFSET = 1024;
+
+    private final AtomicCounter mockCounter = mock(AtomicCounter.class);
+    private final DatagramCompressor compressor = new DatagramCompressor(
+        CommonContext.COMPRESSION_DEFLATE, MTU_LENGTH, 2, mockCounter, mockCounter, mockCounter);
+    private final DatagramDecompressor decompressor = new DatagramDecompressor(MTU_LENGTH, mockCounter);
+    private final ByteBuffer datagram = ByteBuffer.allocateDirect(MTU_LENGTH);
+    private final UnsafeBuffer datagramBuffer = new UnsafeBuffer(datagram);
+
+    @AfterEach
+    void after()
+    {
+        compressor.close();
+        decompressor.close();
+    }
+
+    @Test
+    void shouldRoundTripCompressibleDatagram()
+    {
+        final int length = writeFrames(MTU_LENGTH / FRAME_LENGTH);
+        datagram.limit(length).position(0);
+
+        final ByteBuffer compressed = compressor.compress(datagram);
+
+        assertNotSame(datagram, compressed);
+        assertEquals(0, datagram.position());
+        assertTrue(compressed.remaining() < length);
+
+        final UnsafeBuffer compressedBuffer = new UnsafeBuffer(compressed, 0, compressed.remaining());
+        final DataHeaderFlyweight header = new DataHeaderFlyweight(compressedBuffer);
+        assertEquals(DataHeaderFlyweight.COMPRESSED_FLAG, header.flags());
+        assertEquals(compressed.remaining(), header.frameLength());
+        assertEquals(length, header.reservedValue());
+        assertEquals(SESSION_ID, header.sessionId());
+        assertEquals(STREAM_ID, header.streamId());
+        assertEquals(TERM_ID, header.termId());
+        assertEquals(TERM_OFFSET, header.termOffset());
+
+        assertEquals(length, decompressor.decompress(compressedBuffer, compressed.remaining()));
+        for (int i = 0; i < length; i++)
+        {
+            assertEquals(datagramBuffer.getByte(i), decompressor.buffer().getByte(i), "index=" + i);
+        }
+        assertEquals(DataHeaderFlyweight.BEGIN_AND_END_FLAGS, decompressor.header().flags());
+        assertEquals(TERM_OFFSET, decompressor.header().termOffset());
+    }
+
+    @Test
+    void shouldRoundTripBatchOfDatagrams()
+    {
+        final int length = writeFrames(2);
+        final ByteBuffer first = datagram.duplicate().limit(FRAME_LENGTH).position(0);
+        final ByteBuffer second = datagram.duplicate().limit(length).position(FRAME_LENGTH);
+
+        final ByteBuffer[] compressed = compressor.compress(new ByteBuffer[]{ first, second }, 2);
+
+        final UnsafeBuffer firstBuffer = new UnsafeBuffer(compressed[0], 0, compressed[0].remaining());
+        assertEquals(FRAME_LENGTH, decompressor.decompress(firstBuffer, compressed[0].remaining()));
+        assertEquals(TERM_OFFSET, decompressor.header().termOffset());
+
+        final UnsafeBuffer secondBuffer = new UnsafeBuffer(compressed[1], 0, compressed[1].remaining());
+        assertEquals(FRAME_LENGTH, decompressor.decompress(secondBuffer, compressed[1].remaining()));
+        assertEquals(TERM_OFFSET + FRAME_LENGTH, decompressor.header().termOffset());
+    }
+
+    @Test
+    void shouldNotCompressDatagramWhichDoesNotShrink()
+    {
+        final byte[] random = new byte[MTU_LENGTH];
+        ThreadLocalRandom.current().nextBytes(random);
+        datagramBuffer.putBytes(0, random);
+        final int length = MTU_LENGTH;
+        datagram.limit(length).position(0);
+
+        assertSame(datagram, compressor.compress(datagram));
+        assertEquals(0, datagram.position());
+        assertEquals(length, datagram.limit());
+    }
+
+    @Test
+    void shouldNotCompressShortDatagram()
+    {
+        writeFrames(1);
+        datagram.limit(HEADER_LENGTH).position(0);
+
+        assertSame(datagram, compressor.compress(datagram));
+    }
+
+    @Test
+    void shouldRejectMalformedCompressedDatagram()
+    {
+        final int length = writeFrames(MTU_LENGTH / FRAME_LENGTH);
+        datagram.limit(length).position(0);
+
+        final ByteBuffer compressed = compressor.compress(datagram);
+        final int compressedLength = compressed.remaining();
+        final UnsafeBuffer compressedBuffer = new UnsafeBuffer(compressed, 0, compressedLength);
+
+        assertEquals(0, decompressor.decompress(compressedBuffer, compressedLength - 1));
+
+        new DataHeaderFlyweight(compressedBuffer).reservedValue(MTU_LENGTH + 1);
+        assertEquals(0, decompressor.decompress(compressedBuffer, compressedLength));
+
+        new DataHeaderFlyweight(compressedBuffer).reservedValue(length);
+        compressedBuffer.setMemory(HEADER_LENGTH, compressedLength - HEADER_LENGTH, (byte)0xFF);
+        assertEquals(0, decompressor.decompress(compressedBuffer, compressedLength));
+    }
+
+    @Test
+    void shouldRejectUnsupportedCompression()
+    {
+        assertThrows(IllegalArgumentException.class, () -> DatagramCompressor.compressionLevel("lz4"));
+    }
+
+    private int writeFrames(final int frameCount)
+    {
+        final DataHeaderFlyweight header = new DataHeaderFlyweight();
+        final byte[] payload = new byte[FRAME_LENGTH - HEADER_LENGTH];
+        int offset = 0;
+
+        for (int i = 0; i < frameCount; i++)
+        {
+            header.wrap(datagramBuffer, offset, FRAME_LENGTH);
+            header
+                .sessionId(SESSION_ID)
+                .streamId(STREAM_ID)
+                .termId(TERM_ID)
+                .termOffset(TERM_OFFSET + offset)
+                .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+                .headerType(DataHeaderFlyweight.HDR_TYPE_DATA)
+                .frameLength(FRAME_LENGTH)
+                .version(DataHeaderFlyweight.CURRENT_VERSION);
+
+            for (int j = 0; j < payload.length; j++)
+            {
+                payload[j] = (byte)('a' + (j % 7));
+            }
+
+            datagramBuffer.putBytes(offset + HEADER_LENGTH, payload);
+            offset += FRAME_LENGTH;
+        }
+
+        return offset;
+    }
+}
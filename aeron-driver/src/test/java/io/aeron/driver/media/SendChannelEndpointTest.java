@@ -24,9 +24,13 @@ import org.agrona.concurrent.status.AtomicCounter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
 
 import static io.aeron.driver.media.SendChannelEndpoint.DESTINATION_TIMEOUT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.nullable;
@@ -92,4 +96,36 @@ class SendChannelEndpointTest
         verify(mockConductorProxy, times(1)).reResolveEndpoint(
             anyString(), any(SendChannelEndpoint.class), nullable(InetSocketAddress.class));
     }
+
+    @Test
+    void shouldSendBatchOfDatagramsInOrder() throws IOException
+    {
+        final int datagramCount = 3;
+        try (DatagramChannel receiveChannel = DatagramChannel.open())
+        {
+            receiveChannel.bind(new InetSocketAddress("127.0.0.1", 0));
+            final int port = ((InetSocketAddress)receiveChannel.getLocalAddress()).getPort();
+            final UdpChannel channel = UdpChannel.parse("aeron:udp?endpoint=127.0.0.1:" + port);
+
+            endpoint = new SendChannelEndpoint(channel, mockStatusIndicator, context);
+            endpoint.openDatagramChannel(mockStatusIndicator);
+
+            final ByteBuffer[] buffers = new ByteBuffer[datagramCount];
+            for (int i = 0; i < datagramCount; i++)
+            {
+                buffers[i] = ByteBuffer.allocateDirect(8).putLong(0, i);
+            }
+
+            assertEquals(datagramCount, endpoint.send(buffers, datagramCount));
+
+            final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(64);
+            for (int i = 0; i < datagramCount; i++)
+            {
+                receiveBuffer.clear();
+                receiveChannel.receive(receiveBuffer);
+                assertEquals(8, receiveBuffer.position());
+                assertEquals(i, receiveBuffer.getLong(0));
+            }
+        }
+    }
 }
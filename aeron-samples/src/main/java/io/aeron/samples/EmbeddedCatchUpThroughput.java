@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.ChannelUriStringBuilder;
+import io.aeron.ExclusivePublication;
+import io.aeron.Image;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.CommonContext.IPC_MEDIA;
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.agrona.SystemUtil.getSizeAsInt;
+import static org.agrona.SystemUtil.loadPropertiesFiles;
+
+/**
+ * Throughput test of a subscriber catching up on a backlog in a large term over IPC transport, with and without
+ * {@link Image#prefetchDistance(int)} set, so the benefit of touching ahead of the subscriber can be measured.
+ * <p>
+ * Each iteration fills the publication window while the subscriber is idle and then times draining the backlog.
+ * The term length and prefetch distance can be set with the {@code aeron.sample.catchup.termLength} and
+ * {@code aeron.sample.catchup.prefetchDistance} system properties.
+ */
+public class EmbeddedCatchUpThroughput
+{
+    private static final int ITERATIONS = 10;
+    private static final int MESSAGE_LENGTH = SampleConfiguration.MESSAGE_LENGTH;
+    private static final int FRAGMENT_COUNT_LIMIT = SampleConfiguration.FRAGMENT_COUNT_LIMIT;
+    private static final int STREAM_ID = SampleConfiguration.STREAM_ID;
+    private static final int TERM_LENGTH = getSizeAsInt("aeron.sample.catchup.termLength", 64 * 1024 * 1024);
+    private static final int PREFETCH_DISTANCE = getSizeAsInt("aeron.sample.catchup.prefetchDistance", 64 * 1024);
+
+    /**
+     * Main method for launching the process.
+     *
+     * @param args passed to the process.
+     */
+    public static void main(final String[] args)
+    {
+        loadPropertiesFiles(args);
+
+        final String channel = new ChannelUriStringBuilder().media(IPC_MEDIA).termLength(TERM_LENGTH).build();
+
+        try (MediaDriver mediaDriver = MediaDriver.launch(new MediaDriver.Context()
+                .threadingMode(ThreadingMode.SHARED)
+                .dirDeleteOnStart(true)
+                .dirDeleteOnShutdown(true));
+            Aeron aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(mediaDriver.aeronDirectoryName()));
+            Subscription subscription = aeron.addSubscription(channel, STREAM_ID);
+            ExclusivePublication publication = aeron.addExclusivePublication(channel, STREAM_ID))
+        {
+            while (!subscription.isConnected())
+            {
+                Thread.yield();
+            }
+
+            final Image image = subscription.imageAtIndex(0);
+            final UnsafeBuffer buffer = new UnsafeBuffer(BufferUtil.allocateDirectAligned(
+                MESSAGE_LENGTH, CACHE_LINE_LENGTH));
+
+            System.out.format(
+                "Catch up with messageLength=%d termLength=%d prefetchDistance=%d%n",
+                MESSAGE_LENGTH, TERM_LENGTH, PREFETCH_DISTANCE);
+
+            for (int i = 0; i < ITERATIONS; i++)
+            {
+                final double withoutPrefetch = catchUp(image, publication, buffer, 0);
+                final double withPrefetch = catchUp(image, publication, buffer, PREFETCH_DISTANCE);
+
+                System.out.format(
+                    "Iteration %d: without prefetch %.02f MB/s, with prefetch %.02f MB/s%n",
+                    i, withoutPrefetch, withPrefetch);
+            }
+        }
+    }
+
+    private static double catchUp(
+        final Image image,
+        final ExclusivePublication publication,
+        final UnsafeBuffer buffer,
+        final int prefetchDistance)
+    {
+        while (publication.offer(buffer, 0, MESSAGE_LENGTH) > 0)
+        {
+            // fill the publication window while the subscriber is idle
+        }
+
+        image.prefetchDistance(prefetchDistance);
+
+        final FragmentHandler handler = (b, offset, length, header) -> {};
+        final long startPosition = image.position();
+        final long targetPosition = publication.position();
+        final long startNs = System.nanoTime();
+
+        while (image.position() < targetPosition)
+        {
+            image.poll(handler, FRAGMENT_COUNT_LIMIT);
+        }
+
+        final long durationNs = System.nanoTime() - startNs;
+        final long bytes = image.position() - startPosition;
+
+        return (bytes / (1024.0 * 1024.0)) / ((double)durationNs / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.CommonContext;
+import io.aeron.ConcurrentPublication;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.ShutdownSignalBarrier;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.agrona.SystemUtil.loadPropertiesFiles;
+
+/**
+ * Throughput test using {@link ConcurrentPublication#offer(DirectBuffer, int, int)} from many threads sharing the
+ * same publication over IPC transport.
+ * <p>
+ * The number of publisher threads is set with the {@code aeron.sample.publisher.threads} system property. Run with
+ * {@code -Daeron.publication.offer.combining=true} to compare combining offers against contending on the term tail.
+ */
+public class EmbeddedConcurrentIpcThroughput
+{
+    private static final int PUBLISHER_THREADS = Integer.getInteger("aeron.sample.publisher.threads", 4);
+    private static final int MESSAGE_LENGTH = SampleConfiguration.MESSAGE_LENGTH;
+    private static final int FRAGMENT_COUNT_LIMIT = SampleConfiguration.FRAGMENT_COUNT_LIMIT;
+    private static final String CHANNEL = CommonContext.IPC_CHANNEL;
+    private static final int STREAM_ID = SampleConfiguration.STREAM_ID;
+
+    /**
+     * Main method for launching the process.
+     *
+     * @param args passed to the process.
+     * @throws InterruptedException if the thread is interrupted while waiting on the threads to join.
+     */
+    public static void main(final String[] args) throws InterruptedException
+    {
+        loadPropertiesFiles(args);
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        try (ShutdownSignalBarrier barrier = new ShutdownSignalBarrier(() -> running.set(false));
+            MediaDriver mediaDriver = MediaDriver.launch(new MediaDriver.Context()
+                .threadingMode(ThreadingMode.SHARED).terminationHook(barrier::signalAll));
+            Aeron aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(mediaDriver.aeronDirectoryName()));
+            Subscription subscription = aeron.addSubscription(CHANNEL, STREAM_ID);
+            Publication publication = aeron.addPublication(CHANNEL, STREAM_ID))
+        {
+            System.out.println(
+                "Publisher threads: " + PUBLISHER_THREADS +
+                ", offer combining: " + aeron.context().publicationOfferCombining());
+
+            final ImageRateSubscriber subscriber = new ImageRateSubscriber(FRAGMENT_COUNT_LIMIT, running, subscription);
+            final Thread subscriberThread = new Thread(subscriber);
+            subscriberThread.setName("subscriber");
+            final Thread rateReporterThread = new Thread(new ImageRateReporter(MESSAGE_LENGTH, running, subscriber));
+            rateReporterThread.setName("rate-reporter");
+
+            final Thread[] publisherThreads = new Thread[PUBLISHER_THREADS];
+            for (int i = 0; i < PUBLISHER_THREADS; i++)
+            {
+                publisherThreads[i] = new Thread(new EmbeddedIpcThroughput.Publisher(running, publication));
+                publisherThreads[i].setName("publisher-" + i);
+            }
+
+            rateReporterThread.start();
+            subscriberThread.start();
+            for (final Thread publisherThread : publisherThreads)
+            {
+                publisherThread.start();
+            }
+
+            subscriberThread.join();
+            for (final Thread publisherThread : publisherThreads)
+            {
+                publisherThread.join();
+            }
+            rateReporterThread.join();
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package io.aeron.samples;
 
 import io.aeron.*;
+import io.aeron.logbuffer.FragmentHandler;
 import io.aeron.logbuffer.Header;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.IdleStrategy;
@@ -54,6 +55,7 @@ class ImageRateSubscriberRhsPadding extends ImageRateSubscriberValues
 public final class ImageRateSubscriber extends ImageRateSubscriberRhsPadding implements Runnable
 {
     private final int fragmentLimit;
+    private final boolean isBatched;
     private final AtomicBoolean running;
     private final Subscription subscription;
 
@@ -65,8 +67,23 @@ public final class ImageRateSubscriber extends ImageRateSubscriberRhsPadding imp
      * @param subscription  to pick up the {@link Image} with.
      */
     public ImageRateSubscriber(final int fragmentLimit, final AtomicBoolean running, final Subscription subscription)
+    {
+        this(fragmentLimit, running, subscription, false);
+    }
+
+    /**
+     * Construct the rate subscriber over a {@link Subscription}.
+     *
+     * @param fragmentLimit per poll operation.
+     * @param running       atomic flag to indicate if it should keep running.
+     * @param subscription  to pick up the {@link Image} with.
+     * @param isBatched     true if messages are published with a {@link BatchingPublication} and need to be unpacked.
+     */
+    public ImageRateSubscriber(
+        final int fragmentLimit, final AtomicBoolean running, final Subscription subscription, final boolean isBatched)
     {
         this.fragmentLimit = fragmentLimit;
+        this.isBatched = isBatched;
         this.running = running;
         this.subscription = subscription;
     }
@@ -92,7 +109,9 @@ public final class ImageRateSubscriber extends ImageRateSubscriberRhsPadding imp
         }
 
         final Image image = subscription.images().get(0);
-        final ImageFragmentAssembler fragmentAssembler = new ImageFragmentAssembler(this::onFragment);
+        final FragmentHandler fragmentHandler = isBatched ?
+            new DebatchingFragmentHandler(this::onFragment) : this::onFragment;
+        final ImageFragmentAssembler fragmentAssembler = new ImageFragmentAssembler(fragmentHandler);
         final IdleStrategy idleStrategy = SampleConfiguration.newIdleStrategy();
         final int fragmentLimit = this.fragmentLimit;
 
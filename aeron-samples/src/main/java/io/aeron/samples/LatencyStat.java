@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.status.LatencyReport;
+import io.aeron.status.LatencyReportReader;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.io.File;
+import java.nio.MappedByteBuffer;
+
+import static io.aeron.CommonContext.AERON_DIR_PROP_DEFAULT;
+import static io.aeron.CommonContext.AERON_DIR_PROP_NAME;
+import static java.lang.System.getProperty;
+
+/**
+ * Application that prints the end-to-end latency by stream recorded to {@link LatencyReport}s to {@link System#out}.
+ * <p>
+ * The report files to read can be passed as arguments, otherwise all latency reports in the Aeron directory are read.
+ */
+public class LatencyStat
+{
+    /**
+     * Main method for launching the process.
+     *
+     * @param args passed to the process.
+     */
+    public static void main(final String[] args)
+    {
+        final File[] reportFiles;
+        if (args.length > 0)
+        {
+            reportFiles = new File[args.length];
+            for (int i = 0; i < args.length; i++)
+            {
+                reportFiles[i] = new File(args[i]);
+            }
+        }
+        else
+        {
+            final String aeronDirectoryName = getProperty(AERON_DIR_PROP_NAME, AERON_DIR_PROP_DEFAULT);
+            reportFiles = new File(aeronDirectoryName).listFiles(
+                (dir, name) -> name.startsWith(LatencyReport.LATENCY_REPORT_FILE_PREFIX) &&
+                name.endsWith(LatencyReport.LATENCY_REPORT_FILE_SUFFIX));
+        }
+
+        if (null == reportFiles || 0 == reportFiles.length)
+        {
+            System.err.print("No latency reports found");
+            System.exit(1);
+        }
+
+        System.out.println(LatencyReportReader.LATENCY_REPORT_CSV_HEADER);
+        int entriesRead = 0;
+        for (final File reportFile : reportFiles)
+        {
+            final MappedByteBuffer mappedByteBuffer = SamplesUtil.mapExistingFileReadOnly(reportFile);
+            try
+            {
+                entriesRead += LatencyReportReader.read(
+                    new UnsafeBuffer(mappedByteBuffer), LatencyReportReader.defaultEntryConsumer(System.out));
+            }
+            finally
+            {
+                IoUtil.unmap(mappedByteBuffer);
+            }
+        }
+        System.out.println(entriesRead + " latency entries");
+    }
+}
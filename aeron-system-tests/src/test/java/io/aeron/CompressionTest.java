@@ -0,0 +1,154 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.exceptions.RegistrationException;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.test.EventLogExtension;
+import io.aeron.test.InterruptAfter;
+import io.aeron.test.InterruptingTestCallback;
+import io.aeron.test.SystemTestWatcher;
+import io.aeron.test.Tests;
+import io.aeron.test.driver.TestMediaDriver;
+import org.agrona.CloseHelper;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+
+import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_COMPRESSION_COMPRESSED_BYTES;
+import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_COMPRESSION_UNCOMPRESSED_BYTES;
+import static io.aeron.AeronCounters.SYSTEM_COUNTER_ID_RETRANSMITS_SENT;
+import static io.aeron.SystemTests.verifyLossOccurredForStream;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith({ EventLogExtension.class, InterruptingTestCallback.class })
+class CompressionTest
+{
+    private static final int STREAM_ID = 1001;
+    private static final int MESSAGE_LENGTH = 1000;
+    private static final int MESSAGE_COUNT = 1000;
+    private static final String SUBSCRIPTION_CHANNEL = "aeron:udp?endpoint=localhost:24325";
+    private static final String PUBLICATION_CHANNEL = SUBSCRIPTION_CHANNEL + "|compression=deflate";
+
+    @RegisterExtension
+    final SystemTestWatcher watcher = new SystemTestWatcher();
+
+    private final MediaDriver.Context driverContext = new MediaDriver.Context()
+        .publicationTermBufferLength(64 * 1024)
+        .aeronDirectoryName(CommonContext.generateRandomDirName())
+        .threadingMode(ThreadingMode.SHARED);
+
+    private TestMediaDriver driver;
+    private Aeron aeron;
+
+    private void launch()
+    {
+        TestMediaDriver.notSupportedOnCMediaDriver("compression");
+
+        driver = TestMediaDriver.launch(driverContext, watcher);
+        watcher.dataCollector().add(driver.context().aeronDirectory());
+        aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(driverContext.aeronDirectoryName()));
+    }
+
+    @AfterEach
+    void after()
+    {
+        CloseHelper.closeAll(aeron, driver);
+    }
+
+    @Test
+    @InterruptAfter(20)
+    void shouldReceiveCompressedMessagesInOrderWithRetransmits() throws IOException
+    {
+        TestMediaDriver.enableRandomLoss(driverContext, 0.1, 0xcafebabeL, true, false);
+        launch();
+
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[MESSAGE_LENGTH]);
+        srcBuffer.setMemory(0, MESSAGE_LENGTH, (byte)'a');
+        final MutableInteger receivedCount = new MutableInteger();
+        final FragmentHandler handler = (buffer, offset, length, header) ->
+        {
+            assertEquals(MESSAGE_LENGTH, length);
+            assertEquals(receivedCount.get(), buffer.getInt(offset));
+            for (int i = SIZE_OF_INT; i < length; i++)
+            {
+                assertEquals((byte)'a', buffer.getByte(offset + i));
+            }
+            receivedCount.increment();
+        };
+
+        try (Subscription subscription = aeron.addSubscription(SUBSCRIPTION_CHANNEL, STREAM_ID);
+            Publication publication = aeron.addPublication(PUBLICATION_CHANNEL, STREAM_ID))
+        {
+            Tests.awaitConnected(publication);
+            Tests.awaitConnected(subscription);
+
+            for (int i = 0; i < MESSAGE_COUNT; i++)
+            {
+                srcBuffer.putInt(0, i);
+                while (publication.offer(srcBuffer) < 0)
+                {
+                    Tests.yield();
+                    subscription.poll(handler, 10);
+                }
+
+                subscription.poll(handler, 10);
+            }
+
+            while (receivedCount.get() < MESSAGE_COUNT)
+            {
+                if (0 == subscription.poll(handler, 10))
+                {
+                    Tests.yield();
+                }
+            }
+        }
+
+        final CountersReader counters = aeron.countersReader();
+        final long compressedBytes = counters.getCounterValue(SYSTEM_COUNTER_ID_COMPRESSION_COMPRESSED_BYTES);
+        final long uncompressedBytes = counters.getCounterValue(SYSTEM_COUNTER_ID_COMPRESSION_UNCOMPRESSED_BYTES);
+
+        assertThat(compressedBytes, greaterThan(0L));
+        assertThat(compressedBytes, lessThan(uncompressedBytes));
+        assertThat(counters.getCounterValue(SYSTEM_COUNTER_ID_RETRANSMITS_SENT), greaterThan(0L));
+        verifyLossOccurredForStream(driverContext.aeronDirectoryName(), STREAM_ID);
+    }
+
+    @Test
+    @InterruptAfter(10)
+    void shouldRejectCompressionOnIpcPublicationsAndSubscriptions()
+    {
+        launch();
+
+        assertThrows(
+            RegistrationException.class, () -> aeron.addPublication("aeron:ipc?compression=deflate", STREAM_ID));
+        assertThrows(
+            RegistrationException.class, () -> aeron.addSubscription(PUBLICATION_CHANNEL, STREAM_ID));
+    }
+}
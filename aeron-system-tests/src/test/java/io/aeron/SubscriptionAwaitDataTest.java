@@ -0,0 +1,146 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.BufferClaim;
+import io.aeron.test.EventLogExtension;
+import io.aeron.test.InterruptAfter;
+import io.aeron.test.InterruptingTestCallback;
+import io.aeron.test.SystemTestWatcher;
+import io.aeron.test.Tests;
+import io.aeron.test.driver.TestMediaDriver;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith({ EventLogExtension.class, InterruptingTestCallback.class })
+class SubscriptionAwaitDataTest
+{
+    private static final int STREAM_ID = 1001;
+    private static final long AWAIT_TIMEOUT_NS = TimeUnit.SECONDS.toNanos(60);
+    private static final long MAX_WAKEUP_NS = TimeUnit.SECONDS.toNanos(5);
+
+    @RegisterExtension
+    final SystemTestWatcher watcher = new SystemTestWatcher();
+
+    private final MediaDriver.Context driverContext = new MediaDriver.Context()
+        .aeronDirectoryName(CommonContext.generateRandomDirName())
+        .threadingMode(ThreadingMode.SHARED);
+
+    private final UnsafeBuffer buffer = new UnsafeBuffer(new byte[64]);
+    private TestMediaDriver driver;
+    private Aeron aeron;
+
+    @BeforeEach
+    void before()
+    {
+        driver = TestMediaDriver.launch(driverContext, watcher);
+        watcher.dataCollector().add(driver.context().aeronDirectory());
+        aeron = Aeron.connect(new Aeron.Context()
+            .aeronDirectoryName(driverContext.aeronDirectoryName())
+            .ipcDataSignal(true));
+    }
+
+    @AfterEach
+    void after()
+    {
+        CloseHelper.closeAll(aeron, driver);
+    }
+
+    @Test
+    @InterruptAfter(20)
+    void shouldWakeSubscriberAwaitingDataWhenPublicationOffers() throws InterruptedException
+    {
+        try (Subscription subscription = aeron.addSubscription(CommonContext.IPC_CHANNEL, STREAM_ID);
+            Publication publication = aeron.addPublication(CommonContext.IPC_CHANNEL, STREAM_ID))
+        {
+            final long elapsedNs = awaitDataWhile(subscription, () ->
+            {
+                while (publication.offer(buffer, 0, buffer.capacity()) < 0)
+                {
+                    Tests.yield();
+                }
+            });
+
+            assertThat(elapsedNs, lessThan(MAX_WAKEUP_NS));
+        }
+
+        assertFalse(IpcDataSignal.isRegistered(driverContext.aeronDirectoryName(), STREAM_ID));
+    }
+
+    @Test
+    @InterruptAfter(20)
+    void shouldWakeSubscriberAwaitingDataWhenBufferClaimIsCommitted() throws InterruptedException
+    {
+        try (Subscription subscription = aeron.addSubscription(CommonContext.IPC_CHANNEL, STREAM_ID);
+            ExclusivePublication publication = aeron.addExclusivePublication(CommonContext.IPC_CHANNEL, STREAM_ID))
+        {
+            final BufferClaim bufferClaim = new BufferClaim();
+            final long elapsedNs = awaitDataWhile(subscription, () ->
+            {
+                while (publication.tryClaim(buffer.capacity(), bufferClaim) < 0)
+                {
+                    Tests.yield();
+                }
+                bufferClaim.commit();
+            });
+
+            assertThat(elapsedNs, lessThan(MAX_WAKEUP_NS));
+        }
+
+        assertFalse(IpcDataSignal.isRegistered(driverContext.aeronDirectoryName(), STREAM_ID));
+    }
+
+    private long awaitDataWhile(final Subscription subscription, final Runnable publisher)
+        throws InterruptedException
+    {
+        Tests.awaitConnected(subscription);
+        assertTrue(IpcDataSignal.isRegistered(driverContext.aeronDirectoryName(), STREAM_ID));
+
+        final AtomicLong elapsedNs = new AtomicLong();
+        final Thread waiter = new Thread(() ->
+        {
+            final long startNs = System.nanoTime();
+            subscription.awaitData(AWAIT_TIMEOUT_NS);
+            elapsedNs.set(System.nanoTime() - startNs);
+        });
+        waiter.start();
+
+        while (0 == subscription.dataSignal.waiterCount())
+        {
+            Tests.yield();
+        }
+
+        publisher.run();
+        waiter.join();
+
+        return elapsedNs.get();
+    }
+}
@@ -31,6 +31,7 @@ import io.aeron.archive.status.RecordingPos;
 import io.aeron.driver.MediaDriver;
 import io.aeron.driver.ThreadingMode;
 import io.aeron.logbuffer.LogBufferDescriptor;
+import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.test.EventLogExtension;
 import io.aeron.test.InterruptAfter;
 import io.aeron.test.InterruptingTestCallback;
@@ -104,6 +105,7 @@ class ArchiveTruncateRecordingTest
             .aeronDirectoryName(driverCtx.aeronDirectoryName())
             .archiveDir(tempDir.resolve("archive-test").toFile())
             .segmentFileLength(LogBufferDescriptor.TERM_MIN_LENGTH * 2)
+            .replaySegmentMappingBudget(LogBufferDescriptor.TERM_MIN_LENGTH * 16)
             .threadingMode(ArchiveThreadingMode.SHARED)
             .recordChecksum(checksum)
             .replayChecksum(checksum)
@@ -422,6 +424,87 @@ class ArchiveTruncateRecordingTest
         }
     }
 
+    @Test
+    @InterruptAfter(10)
+    void shouldTruncateWithinSegmentWhileReplayHasSegmentMapped() throws IOException
+    {
+        final String channel = "aeron:ipc?term-length=64k";
+        final int streamId = 3333;
+        final int frameLength = 1024;
+        final int messageLength = frameLength - DataHeaderFlyweight.HEADER_LENGTH;
+        final int segmentFileLength = archive.context().segmentFileLength();
+        final long recordingId;
+        final long truncatePosition;
+
+        try (ExclusivePublication publication = aeronArchive.addRecordedExclusivePublication(channel, streamId))
+        {
+            final CountersReader counters = aeron.countersReader();
+            final int counterId =
+                Tests.awaitRecordingCounterId(counters, publication.sessionId(), aeronArchive.archiveId());
+            recordingId = RecordingPos.getRecordingId(counters, counterId);
+
+            final UnsafeBuffer data = new UnsafeBuffer(new byte[messageLength]);
+            ThreadLocalRandom.current().nextBytes(data.byteArray());
+            for (int i = 0; i < 300; i++)
+            {
+                while (publication.offer(data, 0, messageLength) < 0)
+                {
+                    Tests.yield();
+                }
+            }
+
+            final long stopPosition = publication.position();
+            truncatePosition = segmentFileLength + (frameLength * 22L);
+            assertTrue(truncatePosition < stopPosition);
+
+            while (stopPosition != aeronArchive.getRecordingPosition(recordingId))
+            {
+                Tests.yield();
+            }
+
+            recordingSignalConsumer.reset();
+            aeronArchive.stopRecording(publication);
+            awaitSignal(aeronArchive, recordingSignalConsumer, recordingId, RecordingSignal.STOP);
+        }
+
+        try (Subscription replay = aeronArchive.replay(recordingId, 0, AeronArchive.REPLAY_ALL_AND_STOP, channel, 1))
+        {
+            while (!replay.isConnected())
+            {
+                Tests.yield();
+            }
+
+            recordingSignalConsumer.reset();
+            aeronArchive.truncateRecording(recordingId, truncatePosition);
+            awaitSignal(aeronArchive, recordingSignalConsumer, recordingId, RecordingSignal.DELETE);
+        }
+
+        assertEquals(0, archive.context().replaySessionCounter().get());
+        assertEquals(truncatePosition, aeronArchive.getStopPosition(recordingId));
+
+        final Path archiveDir = archive.context().archiveDir().toPath();
+        final ArrayList<String> segmentFiles = Catalog.listSegmentFiles(archiveDir.toFile(), recordingId);
+        segmentFiles.sort(Comparator.naturalOrder());
+        assertEquals(asList(recordingId + "-0.rec", recordingId + "-" + segmentFileLength + ".rec"), segmentFiles);
+        final Path erasedSegmentFile = archiveDir.resolve(segmentFileName(recordingId, segmentFileLength));
+        assertEquals(segmentFileLength, Files.size(erasedSegmentFile));
+
+        final long[] replayedBytes = new long[1];
+        try (Subscription replay = aeronArchive.replay(recordingId, 0, truncatePosition, channel, 2))
+        {
+            while (replayedBytes[0] < truncatePosition)
+            {
+                if (0 == replay.poll((buffer, offset, length, header) -> replayedBytes[0] += frameLength, 10))
+                {
+                    Tests.yield();
+                }
+            }
+        }
+
+        assertEquals(truncatePosition, replayedBytes[0]);
+        verifyRecording(recordingId);
+    }
+
     private void sendMessages(
         final ExclusivePublication publication,
         final Subscription subscription,
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2014-2025 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.Aeron;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.test.EventLogExtension;
+import io.aeron.test.InterruptAfter;
+import io.aeron.test.InterruptingTestCallback;
+import io.aeron.test.SystemTestWatcher;
+import io.aeron.test.Tests;
+import io.aeron.test.driver.TestMediaDriver;
+import org.agrona.CloseHelper;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith({ EventLogExtension.class, InterruptingTestCallback.class })
+class ShardedThreadingModeTest
+{
+    private static final int STREAM_ID = 1001;
+    private static final int MESSAGE_COUNT = 100;
+
+    @RegisterExtension
+    final SystemTestWatcher systemTestWatcher = new SystemTestWatcher();
+
+    private final UnsafeBuffer buffer = new UnsafeBuffer(new byte[64]);
+    private TestMediaDriver driver;
+    private Aeron aeron;
+
+    @BeforeEach
+    void before(@TempDir final Path tempDir)
+    {
+        TestMediaDriver.notSupportedOnCMediaDriver("DEDICATED_SHARDED threading mode");
+
+        final MediaDriver.Context context = new MediaDriver.Context()
+            .aeronDirectoryName(tempDir.toAbsolutePath().toString())
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true)
+            .threadingMode(ThreadingMode.DEDICATED_SHARDED)
+            .senderAgentCount(3)
+            .receiverAgentCount(3);
+        driver = TestMediaDriver.launch(context, systemTestWatcher);
+        systemTestWatcher.dataCollector().add(driver.context().aeronDirectory());
+
+        aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(context.aeronDirectoryName()));
+    }
+
+    @AfterEach
+    void after()
+    {
+        CloseHelper.closeAll(aeron, driver);
+    }
+
+    @Test
+    @InterruptAfter(20)
+    void shouldExchangeMessagesOnChannelsServicedByDifferentAgents()
+    {
+        final Publication[] publications = new Publication[3];
+        final Subscription[] subscriptions = new Subscription[3];
+        for (int i = 0; i < publications.length; i++)
+        {
+            final String channel = "aeron:udp?endpoint=localhost:" + (24325 + i) + "|affinity-group=" + i;
+            subscriptions[i] = aeron.addSubscription(channel, STREAM_ID);
+            publications[i] = aeron.addPublication(channel, STREAM_ID);
+        }
+
+        for (int i = 0; i < publications.length; i++)
+        {
+            Tests.awaitConnected(publications[i]);
+            Tests.awaitConnected(subscriptions[i]);
+        }
+
+        for (int i = 0; i < publications.length; i++)
+        {
+            sendAndReceive(publications[i], subscriptions[i]);
+        }
+    }
+
+    @Test
+    @InterruptAfter(20)
+    void shouldServicePublicationsWithDifferentAffinityGroupsOnTheSameEndpoint()
+    {
+        final String channel = "aeron:udp?endpoint=localhost:24330";
+        final Subscription subscriptionOne = aeron.addSubscription(channel, STREAM_ID);
+        final Subscription subscriptionTwo = aeron.addSubscription(channel, STREAM_ID + 1);
+        final Publication publicationOne = aeron.addPublication(channel + "|affinity-group=1", STREAM_ID);
+        final Publication publicationTwo = aeron.addPublication(channel + "|affinity-group=2", STREAM_ID + 1);
+
+        Tests.awaitConnected(publicationOne);
+        Tests.awaitConnected(publicationTwo);
+        Tests.awaitConnected(subscriptionOne);
+        Tests.awaitConnected(subscriptionTwo);
+
+        sendAndReceive(publicationOne, subscriptionOne);
+        sendAndReceive(publicationTwo, subscriptionTwo);
+    }
+
+    private void sendAndReceive(final Publication publication, final Subscription subscription)
+    {
+        final MutableInteger received = new MutableInteger();
+        final FragmentHandler handler = (msg, offset, length, header) ->
+        {
+            assertEquals(received.get(), msg.getInt(offset));
+            received.increment();
+        };
+
+        for (int i = 0; i < MESSAGE_COUNT; i++)
+        {
+            buffer.putInt(0, i);
+            while (publication.offer(buffer, 0, buffer.capacity()) < 0)
+            {
+                Tests.yield();
+            }
+        }
+
+        while (received.get() < MESSAGE_COUNT)
+        {
+            if (0 == subscription.poll(handler, 10))
+            {
+                Tests.yield();
+            }
+        }
+    }
+}